@@ -27,6 +27,40 @@ tasks.test {
     enabled = false
 }
 
+// JMH benchmarks for socket, resonance, damage-payload and tooltip hot paths.
+// Run with `./gradlew jmh` (optionally `-Pjmh.include=<regex>`); results land in build/reports/jmh.
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.compileOnlyConfigurationName].extendsFrom(configurations.compileOnly.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.compileOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks and reports ops/s plus allocation rate (gc profiler)."
+    dependsOn(tasks.named(jmh.classesTaskName))
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+    args(
+        (findProperty("jmh.include") as String?) ?: ".*",
+        "-prof", "gc",
+        "-rf", "json",
+        "-rff", resultFile.get().asFile.absolutePath
+    )
+}
+
 tasks.processResources {
     exclude("**/*.json.a")
 }
@@ -0,0 +1,79 @@
+package irai.mod.reforge.Common;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageCause;
+
+import irai.mod.reforge.Socket.Essence;
+
+/**
+ * Elemental damage carried on a hit: the typed {@code double[]} path every elemental hit takes,
+ * and decoding of the legacy string payload, which only hits built by other mods still need.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ElementDamageBenchmarks {
+
+    @Param({"FIRE:12.5", "FIRE:12.5;ICE:4.0;LIGHTNING:7.25", "FIRE:1.0;ICE:2.0;LIGHTNING:3.0;LIFE:4.0;VOID:5.0;WATER:6.0"})
+    public String payload;
+
+    private double[] elementDamage;
+
+    @Setup
+    public void setUp() {
+        elementDamage = new double[Essence.Type.values().length];
+        for (Map.Entry<Essence.Type, Double> entry : WeaponElementalDamageUtils.decodeElementDamage(payload).entrySet()) {
+            elementDamage[entry.getKey().ordinal()] = entry.getValue();
+        }
+    }
+
+    /**
+     * Weapon and affinity systems each add onto one hit and readers total it and pick the
+     * strongest element; the legacy key is encoded once at the inspect edge.
+     */
+    @Benchmark
+    public Essence.Type addThenReadTyped() {
+        Damage damage = new Damage(Damage.NULL_SOURCE, DamageCause.PHYSICAL, 10f);
+        WeaponElementalDamageUtils.addElementDamage(damage, elementDamage);
+        WeaponElementalDamageUtils.addElementDamage(damage, elementDamage);
+        double[] carried = WeaponElementalDamageUtils.getElementDamage(damage);
+        Essence.Type strongest = WeaponElementalDamageUtils.totalElementDamage(carried) > 0.0d
+                ? WeaponElementalDamageUtils.strongestElement(carried)
+                : null;
+        WeaponElementalDamageUtils.publishLegacyElementDamage(damage);
+        return strongest;
+    }
+
+    @Benchmark
+    public double totalElementDamage() {
+        return WeaponElementalDamageUtils.totalElementDamage(elementDamage);
+    }
+
+    @Benchmark
+    public Essence.Type strongestElement() {
+        return WeaponElementalDamageUtils.strongestElement(elementDamage);
+    }
+
+    @Benchmark
+    public Map<Essence.Type, Double> decodeElementDamage() {
+        return WeaponElementalDamageUtils.decodeElementDamage(payload);
+    }
+}
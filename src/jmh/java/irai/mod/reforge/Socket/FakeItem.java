@@ -0,0 +1,17 @@
+package irai.mod.reforge.Socket;
+
+/**
+ * Stand-in for an {@code ItemStack} whose classification is known up front.
+ * Weapon/armor checks on a real stack go through the asset registry, which is not
+ * loaded outside a running server.
+ */
+record FakeItem(String itemId, boolean weapon, boolean armor) {
+
+    static FakeItem weapon(String itemId) {
+        return new FakeItem(itemId, true, false);
+    }
+
+    static FakeItem armor(String itemId) {
+        return new FakeItem(itemId, false, true);
+    }
+}
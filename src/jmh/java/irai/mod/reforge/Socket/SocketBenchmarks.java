@@ -0,0 +1,70 @@
+package irai.mod.reforge.Socket;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+
+/**
+ * Socket and resonance hot paths: tier calculation, resonance matching and the
+ * full metadata write done by {@link SocketManager#withSocketData}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SocketBenchmarks {
+
+    /** Socket layouts: mixed run, one long run, and a layout broken by an empty slot. */
+    @Param({"Fire,Fire,Ice,Ice", "Fire,Fire,Fire,Fire,Fire", "Lightning,,Lightning,Void"})
+    public String layout;
+
+    private SocketData socketData;
+    private FakeItem weapon;
+    private ItemStack stack;
+
+    @Setup
+    public void setUp() {
+        String[] essences = layout.split(",", -1);
+        socketData = new SocketData(essences.length);
+        for (int i = 0; i < essences.length; i++) {
+            socketData.addSocket();
+            if (!essences[i].isEmpty()) {
+                socketData.getSockets().get(i).setEssenceId(SocketManager.buildEssenceId(essences[i], false));
+            }
+        }
+        weapon = FakeItem.weapon("Weapon_Sword_Iron");
+        // Without loaded assets the stack classifies as neither weapon nor armor, so this
+        // measures the encoding and metadata writes rather than resonance matching.
+        stack = new ItemStack(weapon.itemId(), 1);
+    }
+
+    @Benchmark
+    public Map<Essence.Type, Integer> calculateConsecutiveTiers() {
+        return SocketManager.calculateConsecutiveTiers(socketData);
+    }
+
+    @Benchmark
+    public ResonanceSystem.ResonanceResult evaluateResonance() {
+        return ResonanceSystem.evaluate(socketData, weapon.weapon(), weapon.armor(), weapon.itemId());
+    }
+
+    @Benchmark
+    public ItemStack withSocketData() {
+        return SocketManager.withSocketData(stack, socketData);
+    }
+}
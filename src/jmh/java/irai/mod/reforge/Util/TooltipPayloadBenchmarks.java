@@ -0,0 +1,48 @@
+package irai.mod.reforge.Util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uncached native tooltip build from serialized item metadata.
+ * Runs without an ItemStack: the builder reads everything it needs from the metadata.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TooltipPayloadBenchmarks {
+
+    private static final String SOCKETED_WEAPON = "{"
+            + "\"" + MetadataKeys.REFINEMENT_LEVEL + "\": 2, "
+            + "\"" + MetadataKeys.SOCKET_MAX + "\": 4, "
+            + "\"" + MetadataKeys.SOCKET_VALUES + "\": [\"Essence_Fire\", \"Essence_Fire\", \"Essence_Ice\", \"\"], "
+            + "\"" + MetadataKeys.ESSENCE_EFFECTS + "\": [\"FIRE\", \"ICE\"], "
+            + "\"" + MetadataKeys.ESSENCE_TIER_MAP + "\": [\"2\", \"1\"], "
+            + "\"" + MetadataKeys.ESSENCE_BONUS_STATS + "\": [\"DAMAGE\"], "
+            + "\"" + MetadataKeys.ESSENCE_BONUS_FLAT + "\": [\"3.0\"], "
+            + "\"" + MetadataKeys.ESSENCE_BONUS_PERCENT + "\": [\"0.05\"]"
+            + "}";
+    private static final String REFINED_ONLY = "{\"" + MetadataKeys.REFINEMENT_LEVEL + "\": 1}";
+
+    @Param({"socketed", "refined"})
+    public String item;
+
+    @Benchmark
+    public Object buildTooltipPayload() {
+        String metadata = "socketed".equals(item) ? SOCKETED_WEAPON : REFINED_ONLY;
+        return DynamicTooltipUtils.buildTooltipPayload(null, "Weapon_Sword_Iron", metadata, "en-US");
+    }
+}
@@ -62,6 +62,16 @@ public class DamageNumberConfig implements ConfigDefaultInjector {
                             (cfg, v) -> cfg.cullingBypassAmount = v,
                             cfg -> cfg.cullingBypassAmount
                     ).add()
+                    .append(
+                            new KeyedCodec<>("COALESCING_ENABLED", BOOLEAN),
+                            (cfg, v) -> cfg.coalescingEnabled = v,
+                            cfg -> cfg.coalescingEnabled
+                    ).add()
+                    .append(
+                            new KeyedCodec<>("COALESCING_WINDOW_MS", INTEGER),
+                            (cfg, v) -> cfg.coalescingWindowMs = v,
+                            cfg -> cfg.coalescingWindowMs
+                    ).add()
                     .build();
 
     private String[] defaultsEntries = new String[] {
@@ -120,6 +130,9 @@ public class DamageNumberConfig implements ConfigDefaultInjector {
     private int cullingWindowMs = 500;
     private int cullingMaxPerTarget = 6;
     private double cullingBypassAmount = 75.0d;
+    // Merge same-kind hits on one target within the window into a single number.
+    private boolean coalescingEnabled = false;
+    private int coalescingWindowMs = 150;
 
     public String[] getDefaultsEntries() { return defaultsEntries; }
     public String[] getKindEntries() { return kindEntries; }
@@ -129,6 +142,8 @@ public class DamageNumberConfig implements ConfigDefaultInjector {
     public int getCullingWindowMs() { return cullingWindowMs; }
     public int getCullingMaxPerTarget() { return cullingMaxPerTarget; }
     public double getCullingBypassAmount() { return cullingBypassAmount; }
+    public boolean isCoalescingEnabled() { return coalescingEnabled; }
+    public int getCoalescingWindowMs() { return coalescingWindowMs; }
 
     public void setDefaultsEntries(String[] v) { this.defaultsEntries = v; }
     public void setKindEntries(String[] v) { this.kindEntries = v; }
@@ -138,6 +153,8 @@ public class DamageNumberConfig implements ConfigDefaultInjector {
     public void setCullingWindowMs(int v) { this.cullingWindowMs = v; }
     public void setCullingMaxPerTarget(int v) { this.cullingMaxPerTarget = v; }
     public void setCullingBypassAmount(double v) { this.cullingBypassAmount = v; }
+    public void setCoalescingEnabled(boolean v) { this.coalescingEnabled = v; }
+    public void setCoalescingWindowMs(int v) { this.coalescingWindowMs = v; }
 
     @Override
     public boolean injectMissingDefaults() {
@@ -175,6 +192,8 @@ public class DamageNumberConfig implements ConfigDefaultInjector {
         this.cullingWindowMs = defaults.cullingWindowMs;
         this.cullingMaxPerTarget = defaults.cullingMaxPerTarget;
         this.cullingBypassAmount = defaults.cullingBypassAmount;
+        this.coalescingEnabled = defaults.coalescingEnabled;
+        this.coalescingWindowMs = defaults.coalescingWindowMs;
     }
 }
 
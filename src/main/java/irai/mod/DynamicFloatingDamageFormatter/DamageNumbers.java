@@ -70,7 +70,12 @@ public final class DamageNumbers {
     }
 
     private static final String KIND_FLAT = "FLAT";
+    private static final String COLOR_CLOSE = "</color>";
+    private static final int CACHED_AMOUNT_LIMIT = 1024;
+    private static final String[] CACHED_AMOUNTS = new String[CACHED_AMOUNT_LIMIT];
+    private static final ThreadLocal<StringBuilder> FORMAT_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
     private static final Map<String, KindStyle> KINDS = new ConcurrentHashMap<>();
+    private static final Map<String, CompiledKind> COMPILED = new ConcurrentHashMap<>();
     private static final Map<String, String> ALIASES = new ConcurrentHashMap<>();
     private static final Map<String, AtomicBoolean> ALT_TOGGLES = new ConcurrentHashMap<>();
     private static final Map<Damage, Ref<EntityStore>> DAMAGE_TARGETS =
@@ -78,6 +83,9 @@ public final class DamageNumbers {
     private static volatile Defaults defaults = Defaults.defaultValues();
 
     static {
+        for (int i = 0; i < CACHED_AMOUNT_LIMIT; i++) {
+            CACHED_AMOUNTS[i] = Integer.toString(i);
+        }
         // Ensure baseline FLAT kind exists even before config load.
         registerKind(new KindStyle(KIND_FLAT, "", null, null, null, "{amount}", null, null, null,
                 null, null, null, null, false, Boolean.FALSE, null, null, null, null));
@@ -175,6 +183,7 @@ public final class DamageNumbers {
         defaults = nextDefaults;
 
         KINDS.clear();
+        COMPILED.clear();
         ALIASES.clear();
         ALT_TOGGLES.clear();
 
@@ -201,6 +210,7 @@ public final class DamageNumbers {
         }
         String id = normalizeKindId(style.id());
         KINDS.put(id, style);
+        COMPILED.put(id, CompiledKind.compile(style, defaults));
         if (style.uiComponentAltId() != null && !style.uiComponentAltId().isBlank()) {
             ALT_TOGGLES.put(id, new AtomicBoolean(false));
         }
@@ -251,35 +261,32 @@ public final class DamageNumbers {
     }
 
     public static String format(double amount, String kindId) {
-        KindStyle style = getKindStyle(kindId);
-        FormatStyle fmtStyle = style.styleOverride() != null ? style.styleOverride() : defaults.style();
-        boolean includeLabel = style.labelByDefault() != null ? style.labelByDefault() : defaults.labelByDefault();
-        return format(amount, style, fmtStyle, includeLabel);
+        CompiledKind kind = compiled(getKindStyle(kindId));
+        KindStyle style = kind.style;
+        FormatStyle fmtStyle = style.styleOverride() != null ? style.styleOverride() : kind.defaults.style();
+        boolean includeLabel = style.labelByDefault() != null ? style.labelByDefault() : kind.defaults.labelByDefault();
+        return render(amount, kind, fmtStyle, includeLabel);
     }
 
     public static String formatAmountOnly(double amount, String kindId) {
-        KindStyle style = getKindStyle(kindId);
-        return formatAmount(amount, style);
+        CompiledKind kind = compiled(getKindStyle(kindId));
+        if (!Double.isFinite(amount)) {
+            return "0";
+        }
+        double adjusted = kind.clampToMin(amount);
+        return kind.rounding == Rounding.NONE
+                ? formatDecimal(adjusted, kind.precision)
+                : wholeAmountText(roundWhole(adjusted, kind.rounding));
     }
 
     public static String format(double amount, String kindId, FormatStyle formatStyle, boolean includeLabel) {
-        KindStyle style = getKindStyle(kindId);
-        FormatStyle fmtStyle = formatStyle != null ? formatStyle : defaults.style();
-        return format(amount, style, fmtStyle, includeLabel);
+        CompiledKind kind = compiled(getKindStyle(kindId));
+        FormatStyle fmtStyle = formatStyle != null ? formatStyle : kind.defaults.style();
+        return render(amount, kind, fmtStyle, includeLabel);
     }
 
     public static String format(double amount, KindStyle style, FormatStyle formatStyle, boolean includeLabel) {
-        KindStyle resolved = style != null ? style : getKindStyle(KIND_FLAT);
-        String amountText = formatAmount(amount, resolved);
-        String label = includeLabel ? defaultString(resolved.label()) : "";
-        String icon = defaultString(resolved.icon());
-        String iconBg = defaultString(resolved.iconBg());
-        String iconOverlay = defaultString(resolved.iconOverlay());
-        String format = resolved.format() != null && !resolved.format().isBlank()
-                ? resolved.format()
-                : defaults.format();
-        String text = applyTemplate(format, icon, iconBg, iconOverlay, label, amountText, resolved.id());
-        return wrap(text, resolved.colorHex(), formatStyle);
+        return render(amount, compiled(style), formatStyle, includeLabel);
     }
 
     public static String resolveUiComponentId(String kindId, boolean toggleAlt) {
@@ -555,89 +562,176 @@ public final class DamageNumbers {
         registerAlias(alias, kind);
     }
 
-    private static String formatAmount(double amount, KindStyle style) {
-        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
-            return "0";
-        }
+    /** The compiled form of {@code style}, reusing the one built at registration while it is current. */
+    private static CompiledKind compiled(KindStyle style) {
+        KindStyle resolved = style != null ? style : getKindStyle(KIND_FLAT);
         Defaults cfg = defaults;
-        Rounding rounding = style.rounding() != null ? style.rounding() : cfg.rounding();
-        int precision = style.precision() != null ? style.precision() : cfg.precision();
-        double min = style.minAmount() != null ? style.minAmount() : cfg.minAmount();
-        double adjusted = amount;
-        if (min > 0.0d && adjusted > 0.0d && adjusted < min) {
-            adjusted = min;
-        }
-        switch (rounding) {
-            case FLOOR -> {
-                long floored = (long) Math.floor(adjusted);
-                return Long.toString(floored == 0L && adjusted > 0.0d ? 1L : floored);
-            }
-            case CEIL -> {
-                long ceil = (long) Math.ceil(adjusted);
-                return Long.toString(ceil == 0L && adjusted > 0.0d ? 1L : ceil);
+        String key = resolved.id() == null || resolved.id().isBlank() ? null : normalizeKindId(resolved.id());
+        CompiledKind kind = key == null ? null : COMPILED.get(key);
+        if (kind != null && kind.style == resolved && kind.defaults == cfg) {
+            return kind;
+        }
+        kind = CompiledKind.compile(resolved, cfg);
+        if (key != null && KINDS.get(key) == resolved) {
+            COMPILED.put(key, kind);
+        }
+        return kind;
+    }
+
+    private static String render(double amount, CompiledKind kind, FormatStyle formatStyle, boolean includeLabel) {
+        String[] segments = includeLabel ? kind.labelledSegments : kind.plainSegments;
+        String colorOpen = kind.colorOpen(formatStyle);
+        StringBuilder out = FORMAT_BUFFER.get();
+        out.setLength(0);
+        if (colorOpen != null) {
+            out.append(colorOpen);
+        }
+        out.append(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            appendAmount(out, amount, kind);
+            out.append(segments[i]);
+        }
+        if (colorOpen != null) {
+            out.append(COLOR_CLOSE);
+        }
+        return out.toString();
+    }
+
+    private static void appendAmount(StringBuilder out, double amount, CompiledKind kind) {
+        if (!Double.isFinite(amount)) {
+            out.append('0');
+            return;
+        }
+        double adjusted = kind.clampToMin(amount);
+        if (kind.rounding == Rounding.NONE) {
+            out.append(formatDecimal(adjusted, kind.precision));
+            return;
+        }
+        long whole = roundWhole(adjusted, kind.rounding);
+        if (whole >= 0L && whole < CACHED_AMOUNT_LIMIT) {
+            out.append(CACHED_AMOUNTS[(int) whole]);
+        } else {
+            out.append(whole);
+        }
+    }
+
+    private static long roundWhole(double adjusted, Rounding rounding) {
+        long whole = switch (rounding) {
+            case FLOOR -> (long) Math.floor(adjusted);
+            case CEIL -> (long) Math.ceil(adjusted);
+            default -> Math.round(adjusted);
+        };
+        return whole == 0L && adjusted > 0.0d ? 1L : whole;
+    }
+
+    private static String wholeAmountText(long whole) {
+        return whole >= 0L && whole < CACHED_AMOUNT_LIMIT ? CACHED_AMOUNTS[(int) whole] : Long.toString(whole);
+    }
+
+    private static String formatDecimal(double adjusted, int precision) {
+        BigDecimal bd = BigDecimal.valueOf(adjusted);
+        bd = bd.setScale(Math.max(0, precision), RoundingMode.HALF_UP);
+        String text = bd.stripTrailingZeros().toPlainString();
+        if ("0".equals(text) && adjusted > 0.0d) {
+            return "1";
+        }
+        return text;
+    }
+
+    /**
+     * A {@link KindStyle} resolved against the {@link Defaults} it was built with: the format is
+     * split at each {amount} into literal segments with every other placeholder filled in,
+     * spaces collapsed and the ends trimmed, so only the amount is appended per number.
+     */
+    private static final class CompiledKind {
+        private final KindStyle style;
+        private final Defaults defaults;
+        private final String[] labelledSegments;
+        private final String[] plainSegments;
+        private final String messageColorOpen;
+        private final String tooltipColorOpen;
+        private final Rounding rounding;
+        private final int precision;
+        private final double minAmount;
+
+        private CompiledKind(KindStyle style, Defaults defaults) {
+            this.style = style;
+            this.defaults = defaults;
+            String format = style.format() != null && !style.format().isBlank() ? style.format() : defaults.format();
+            this.labelledSegments = compileSegments(style, format, defaultString(style.label()));
+            this.plainSegments = compileSegments(style, format, "");
+            String colorHex = style.colorHex();
+            if (colorHex == null || colorHex.isBlank()) {
+                this.messageColorOpen = null;
+                this.tooltipColorOpen = null;
+            } else {
+                String hex = normalizeHex(colorHex);
+                this.messageColorOpen = "<color=" + hex + ">";
+                this.tooltipColorOpen = "<color is=\"" + hex + "\">";
             }
-            case NONE -> {
-                BigDecimal bd = BigDecimal.valueOf(adjusted);
-                bd = bd.setScale(Math.max(0, precision), RoundingMode.HALF_UP);
-                String text = bd.stripTrailingZeros().toPlainString();
-                if ("0".equals(text) && adjusted > 0.0d) {
-                    return "1";
-                }
-                return text;
+            this.rounding = style.rounding() != null ? style.rounding() : defaults.rounding();
+            this.precision = style.precision() != null ? style.precision() : defaults.precision();
+            this.minAmount = style.minAmount() != null ? style.minAmount() : defaults.minAmount();
+        }
+
+        private static CompiledKind compile(KindStyle style, Defaults defaults) {
+            return new CompiledKind(style, defaults);
+        }
+
+        private String colorOpen(FormatStyle formatStyle) {
+            if (formatStyle == null || formatStyle == FormatStyle.PLAIN) {
+                return null;
             }
-            case ROUND -> {
-                long rounded = Math.round(adjusted);
-                if (rounded == 0L && adjusted > 0.0d) {
-                    rounded = 1L;
-                }
-                return Long.toString(rounded);
+            return formatStyle == FormatStyle.TOOLTIP ? tooltipColorOpen : messageColorOpen;
+        }
+
+        private double clampToMin(double amount) {
+            return minAmount > 0.0d && amount > 0.0d && amount < minAmount ? minAmount : amount;
+        }
+
+        private static String[] compileSegments(KindStyle style, String format, String label) {
+            if (format == null || format.isBlank()) {
+                return label.isBlank() ? new String[] {"", ""} : new String[] {trimLeading(label + " "), ""};
             }
-            default -> {
-                long rounded = Math.round(adjusted);
-                if (rounded == 0L && adjusted > 0.0d) {
-                    rounded = 1L;
-                }
-                return Long.toString(rounded);
+            String resolved = format
+                    .replace("{iconBg}", defaultString(style.iconBg()))
+                    .replace("{iconOverlay}", defaultString(style.iconOverlay()))
+                    .replace("{icon}", defaultString(style.icon()))
+                    .replace("{label}", label);
+            String[] segments = resolved.split("\\{amount\\}", -1);
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = collapseSpaces(segments[i].replace("{kind}", defaultString(style.id())));
             }
+            // Amounts never contain whitespace, so trimming the outer segments trims the whole text.
+            segments[0] = trimLeading(segments[0]);
+            segments[segments.length - 1] = trimTrailing(segments[segments.length - 1]);
+            return segments;
         }
-    }
 
-    private static String applyTemplate(String format,
-                                        String icon,
-                                        String iconBg,
-                                        String iconOverlay,
-                                        String label,
-                                        String amountText,
-                                        String kindId) {
-        if (format == null || format.isBlank()) {
-            String text = (label == null || label.isBlank()) ? amountText : (label + " " + amountText);
-            return text.trim();
-        }
-        String resolved = format
-                .replace("{iconBg}", defaultString(iconBg))
-                .replace("{iconOverlay}", defaultString(iconOverlay))
-                .replace("{icon}", defaultString(icon))
-                .replace("{label}", defaultString(label))
-                .replace("{amount}", defaultString(amountText))
-                .replace("{kind}", defaultString(kindId));
-        // Collapse multiple spaces.
-        String compact = resolved.replace("  ", " ");
-        while (!Objects.equals(compact, resolved)) {
-            resolved = compact;
-            compact = resolved.replace("  ", " ");
-        }
-        return resolved.trim();
-    }
-
-    private static String wrap(String text, String colorHex, FormatStyle style) {
-        if (style == null || style == FormatStyle.PLAIN || colorHex == null || colorHex.isBlank()) {
+        private static String collapseSpaces(String text) {
+            String compact = text.replace("  ", " ");
+            while (!Objects.equals(compact, text)) {
+                text = compact;
+                compact = text.replace("  ", " ");
+            }
             return text;
         }
-        String hex = normalizeHex(colorHex);
-        if (style == FormatStyle.TOOLTIP) {
-            return "<color is=\"" + hex + "\">" + text + "</color>";
+
+        private static String trimLeading(String text) {
+            int start = 0;
+            while (start < text.length() && text.charAt(start) <= ' ') {
+                start++;
+            }
+            return text.substring(start);
+        }
+
+        private static String trimTrailing(String text) {
+            int end = text.length();
+            while (end > 0 && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            return text.substring(0, end);
         }
-        return "<color=" + hex + ">" + text + "</color>";
     }
 
     private static String normalizeHex(String colorHex) {
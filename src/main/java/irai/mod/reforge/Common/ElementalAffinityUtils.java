@@ -5,6 +5,7 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
@@ -17,6 +18,9 @@ import irai.mod.reforge.Socket.Essence;
 
 /**
  * Shared elemental matchup helpers for essence-derived affinity damage.
+ *
+ * The rules for an NPC role are evaluated once into an {@link AffinityProfile} and cached
+ * by role name until the next {@link #setConfig}.
  */
 @SuppressWarnings("removal")
 public final class ElementalAffinityUtils {
@@ -36,6 +40,8 @@ public final class ElementalAffinityUtils {
     private static volatile List<AffinityRule> customAffinityRules = List.of();
     private static volatile List<MultiplierRule> multiplierRules = List.of();
     private static volatile List<ShieldRule> shieldRules = List.of();
+    private static volatile Map<String, AffinityProfile> profilesByRole = new ConcurrentHashMap<>();
+    private static final Essence.Type[] TYPES = Essence.Type.values();
 
     static {
         setConfig(new ElementalAffinityConfig());
@@ -57,6 +63,7 @@ public final class ElementalAffinityUtils {
         customAffinityRules = parseAffinityRules(safeConfig.getCustomRoleAffinities());
         multiplierRules = parseMultiplierRules(safeConfig.getElementMultipliers());
         shieldRules = parseShieldRules(safeConfig.getElementShields());
+        profilesByRole = new ConcurrentHashMap<>();
     }
 
     public static Essence.Type resolveTargetAffinity(Store<EntityStore> store, Ref<EntityStore> targetRef) {
@@ -74,9 +81,7 @@ public final class ElementalAffinityUtils {
         if (!enabled || npc == null) {
             return null;
         }
-        TargetDescriptor descriptor = describe(npc);
-        Essence.Type customType = resolveAffinity(descriptor, customAffinityRules);
-        return customType != null ? customType : resolveAffinity(descriptor, affinityRules);
+        return profile(npc).affinity();
     }
 
     public static double effectivenessMultiplier(Essence.Type attackType, Store<EntityStore> store, Ref<EntityStore> targetRef) {
@@ -87,19 +92,18 @@ public final class ElementalAffinityUtils {
         if (npc == null) {
             return DEFAULT_NEUTRAL_MULTIPLIER;
         }
-        TargetDescriptor descriptor = describe(npc);
-        Double explicitMultiplier = resolveExplicitMultiplier(descriptor, attackType);
-        if (explicitMultiplier != null) {
-            return explicitMultiplier;
-        }
-        return effectivenessMultiplier(attackType, resolveNpcAffinity(npc));
+        return profile(npc).multipliers()[attackType.ordinal()];
     }
 
     public static Map<Essence.Type, Double> resolveElementMultipliers(Store<EntityStore> store,
                                                                       Ref<EntityStore> targetRef) {
         Map<Essence.Type, Double> resolved = new EnumMap<>(Essence.Type.class);
-        for (Essence.Type type : Essence.Type.values()) {
-            resolved.put(type, effectivenessMultiplier(type, store, targetRef));
+        NPCEntity npc = !enabled || store == null || targetRef == null || NPCEntity.getComponentType() == null
+                ? null
+                : store.getComponent(targetRef, NPCEntity.getComponentType());
+        double[] multipliers = npc == null ? null : profile(npc).multipliers();
+        for (Essence.Type type : TYPES) {
+            resolved.put(type, multipliers == null ? DEFAULT_NEUTRAL_MULTIPLIER : multipliers[type.ordinal()]);
         }
         return resolved;
     }
@@ -117,8 +121,7 @@ public final class ElementalAffinityUtils {
         if (npc == null) {
             return null;
         }
-        TargetDescriptor descriptor = describe(npc);
-        return resolveExplicitShield(descriptor);
+        return profile(npc).shield();
     }
 
     public static double shieldedHpDamageMultiplier() {
@@ -168,6 +171,37 @@ public final class ElementalAffinityUtils {
         };
     }
 
+    /** The compiled profile for the NPC's role; NPCs without a role name are compiled per call. */
+    private static AffinityProfile profile(NPCEntity npc) {
+        Map<String, AffinityProfile> cache = profilesByRole;
+        String roleName = npc.getRoleName();
+        if (roleName == null || roleName.isBlank()) {
+            return compileProfile(npc);
+        }
+        AffinityProfile profile = cache.get(roleName);
+        if (profile == null) {
+            profile = compileProfile(npc);
+            cache.putIfAbsent(roleName, profile);
+        }
+        return profile;
+    }
+
+    private static AffinityProfile compileProfile(NPCEntity npc) {
+        TargetDescriptor descriptor = describe(npc);
+        Essence.Type affinity = resolveAffinity(descriptor, customAffinityRules);
+        if (affinity == null) {
+            affinity = resolveAffinity(descriptor, affinityRules);
+        }
+        double[] multipliers = new double[TYPES.length];
+        for (Essence.Type type : TYPES) {
+            Double explicitMultiplier = resolveExplicitMultiplier(descriptor, type);
+            multipliers[type.ordinal()] = explicitMultiplier != null
+                    ? explicitMultiplier
+                    : effectivenessMultiplier(type, affinity);
+        }
+        return new AffinityProfile(affinity, multipliers, resolveExplicitShield(descriptor));
+    }
+
     private static TargetDescriptor describe(NPCEntity npc) {
         Role role = npc.getRole();
         List<String> exactIds = new ArrayList<>();
@@ -412,6 +446,9 @@ public final class ElementalAffinityUtils {
 
     private record TargetDescriptor(List<String> exactIds, String combined) {}
 
+    /** Rule results for one role; {@code multipliers} is indexed by attack type ordinal and never written. */
+    private record AffinityProfile(Essence.Type affinity, double[] multipliers, ElementShieldProfile shield) {}
+
     private record ParsedRuleTarget(RuleMode mode, String key, String value) {}
 
     private record AffinityRule(RuleMode mode, String key, Essence.Type type) {
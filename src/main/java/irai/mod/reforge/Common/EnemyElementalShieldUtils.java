@@ -6,20 +6,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import com.hypixel.hytale.codec.Codec;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.server.core.entity.entities.Player;
-import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.meta.MetaKey;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.npc.entities.NPCEntity;
 
-import irai.mod.reforge.Entity.Events.EquipmentRefineEST;
-import irai.mod.reforge.Interactions.ReforgeEquip;
+import irai.mod.reforge.Entity.Events.CombatContext;
 import irai.mod.reforge.Lore.LoreDamageUtils;
-import irai.mod.reforge.Socket.Essence;
 import irai.mod.reforge.Socket.ResonanceSystem;
-import irai.mod.reforge.Socket.SocketData;
-import irai.mod.reforge.Socket.SocketManager;
 
 /**
  * Runtime-only enemy elemental shield pools. Shields absorb elemental payload damage before HP.
@@ -55,9 +49,8 @@ public final class EnemyElementalShieldUtils {
         if (store == null || targetRef == null || damage == null || damage.getAmount() <= 0f) {
             return 0.0d;
         }
-        NPCEntity npc = NPCEntity.getComponentType() == null
-                ? null
-                : store.getComponent(targetRef, NPCEntity.getComponentType());
+        CombatContext combat = CombatContext.of(store, targetRef, damage);
+        NPCEntity npc = combat.targetNpc();
         if (npc == null) {
             return 0.0d;
         }
@@ -85,7 +78,7 @@ public final class EnemyElementalShieldUtils {
         double processed = safeDouble(damage.getIfPresentMetaObject(META_SHIELD_PROCESSED_ELEMENTAL_DAMAGE));
         double newElementalDamage = Math.max(0.0d, totalElementalDamage - processed);
         boolean hasNewElementalDamage = newElementalDamage > 0.0001d;
-        boolean hasShieldSunder = hasShieldSunder(store, damage);
+        boolean hasShieldSunder = combat.weaponResonance() == ResonanceSystem.ResonanceType.SHIELD_SUNDER;
         if (shieldActiveBeforeHit && newElementalDamage > 0.0001d) {
             absorbed = Math.min(state.current, newElementalDamage);
             state.current = Math.max(0.0d, state.current - absorbed);
@@ -254,46 +247,7 @@ public final class EnemyElementalShieldUtils {
     }
 
     private static double totalElementalDamage(Damage damage) {
-        Map<Essence.Type, Double> elementDamage = WeaponElementalDamageUtils.decodeElementDamage(
-                damage.getIfPresentMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE));
-        double total = 0.0d;
-        for (Double value : elementDamage.values()) {
-            if (value != null && value > 0.0d) {
-                total += value;
-            }
-        }
-        return total;
-    }
-
-    private static boolean hasShieldSunder(Store<EntityStore> store, Damage damage) {
-        if (store == null || damage == null) {
-            return false;
-        }
-        Damage.Source source = damage.getSource();
-        if (!(source instanceof Damage.EntitySource entitySource)) {
-            return false;
-        }
-        Player attacker = store.getComponent(entitySource.getRef(), Player.getComponentType());
-        if (attacker == null) {
-            return false;
-        }
-        ItemStack weapon = PlayerInventoryUtils.findFirstInHotbar(attacker, ReforgeEquip::isWeapon);
-        if (weapon == null || weapon.isEmpty()) {
-            return false;
-        }
-        try {
-            SocketData socketData = SocketManager.getSocketData(weapon);
-            if (socketData != null) {
-                ResonanceSystem.ResonanceResult result = SocketManager.evaluateAllowedResonance(weapon, socketData);
-                if (result != null && result.active() && result.type() == ResonanceSystem.ResonanceType.SHIELD_SUNDER) {
-                    return true;
-                }
-            }
-        } catch (Throwable ignored) {
-            // Fall back to persisted metadata below.
-        }
-        String rawType = SocketManager.getResonanceType(weapon);
-        return rawType != null && rawType.equalsIgnoreCase(ResonanceSystem.ResonanceType.SHIELD_SUNDER.name());
+        return WeaponElementalDamageUtils.totalElementDamage(WeaponElementalDamageUtils.getElementDamage(damage));
     }
 
     private static void cleanupIfDead(Store<EntityStore> store, Ref<EntityStore> targetRef, String key) {
@@ -0,0 +1,42 @@
+package irai.mod.reforge.Common;
+
+import com.hypixel.hytale.component.Archetype;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Builds player-only archetype queries for ticking systems.
+ *
+ * Systems call this from {@code getQuery()}, which runs at registration time after the
+ * core component types exist. If any type is still unresolved the query degrades to
+ * {@link Query#any()} and the system's own null checks filter non-players as before.
+ */
+public final class PlayerQueryUtils {
+
+    private PlayerQueryUtils() {}
+
+    @SafeVarargs
+    public static Query<EntityStore> playersWith(ComponentType<EntityStore, ?>... required) {
+        ComponentType<EntityStore, Player> playerType = Player.getComponentType();
+        if (playerType == null) {
+            return Query.any();
+        }
+        int extra = required == null ? 0 : required.length;
+        @SuppressWarnings("unchecked")
+        ComponentType<EntityStore, ?>[] types = new ComponentType[extra + 1];
+        types[0] = playerType;
+        for (int i = 0; i < extra; i++) {
+            if (required[i] == null) {
+                return Query.any();
+            }
+            types[i + 1] = required[i];
+        }
+        try {
+            return Archetype.of(types);
+        } catch (Throwable ignored) {
+            return Query.any();
+        }
+    }
+}
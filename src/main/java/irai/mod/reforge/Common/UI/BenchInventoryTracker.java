@@ -0,0 +1,149 @@
+package irai.mod.reforge.Common.UI;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hypixel.hytale.server.core.event.events.ecs.InventoryChangeEvent;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+import com.hypixel.hytale.server.core.inventory.transaction.Transaction;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * Per-player bench rows kept in step with inventory change events.
+ *
+ * The first {@link #rows} call for a player scans every slot; after that only slots named by
+ * an {@link InventoryChangeEvent} are read again, and a row is rebuilt only when the slot
+ * holds a different stack. Sessions live until {@link #forget} is called.
+ */
+public final class BenchInventoryTracker<R> {
+
+    @FunctionalInterface
+    public interface RowFactory<R> {
+        /** Builds the row for a non-empty stack, or returns null when the bench ignores it. */
+        R create(int containerIndex, short slot, ItemStack stack);
+    }
+
+    private final Map<PlayerRef, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the rows of {@code containers} in container then slot order, refreshing only the
+     * slots that changed since the previous call. {@code factory} builds the rows that need it.
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> rows(PlayerRef playerRef, RowFactory<R> factory, ItemContainer... containers) {
+        Session session = sessions.computeIfAbsent(playerRef, ignored -> new Session());
+        synchronized (session) {
+            session.bind(containers);
+            List<R> rows = new ArrayList<>();
+            for (int c = 0; c < containers.length; c++) {
+                session.refresh(c, factory);
+                Object[] containerRows = session.rows[c];
+                for (Object row : containerRows) {
+                    if (row != null) {
+                        rows.add((R) row);
+                    }
+                }
+            }
+            return rows;
+        }
+    }
+
+    public void onInventoryChange(InventoryChangeEvent event) {
+        if (sessions.isEmpty() || event == null || event.getItemContainer() == null) {
+            return;
+        }
+        Transaction transaction = event.getTransaction();
+        if (transaction != null && !transaction.succeeded()) {
+            return;
+        }
+        ItemContainer container = event.getItemContainer();
+        for (Session session : sessions.values()) {
+            synchronized (session) {
+                session.markChanged(container, transaction);
+            }
+        }
+    }
+
+    /**
+     * Re-reads every slot of the player's session on the next {@link #rows} call. Rows whose
+     * stack did not change are kept, so this costs a slot walk but no rebuilds.
+     */
+    public void invalidate(PlayerRef playerRef) {
+        Session session = playerRef == null ? null : sessions.get(playerRef);
+        if (session != null) {
+            synchronized (session) {
+                for (int c = 0; c < session.dirty.length; c++) {
+                    session.dirty[c].set(0, session.stacks[c].length);
+                }
+            }
+        }
+    }
+
+    public void forget(PlayerRef playerRef) {
+        if (playerRef != null) {
+            sessions.remove(playerRef);
+        }
+    }
+
+    private static final class Session {
+        private ItemContainer[] containers = new ItemContainer[0];
+        private ItemStack[][] stacks = new ItemStack[0][];
+        private Object[][] rows = new Object[0][];
+        private BitSet[] dirty = new BitSet[0];
+
+        /** Resets any container that is new or changed size since the last call. */
+        private void bind(ItemContainer[] current) {
+            if (containers.length != current.length) {
+                containers = new ItemContainer[current.length];
+                stacks = new ItemStack[current.length][];
+                rows = new Object[current.length][];
+                dirty = new BitSet[current.length];
+            }
+            for (int c = 0; c < current.length; c++) {
+                int capacity = current[c] == null ? 0 : current[c].getCapacity();
+                if (containers[c] != current[c] || stacks[c] == null || stacks[c].length != capacity) {
+                    containers[c] = current[c];
+                    stacks[c] = new ItemStack[capacity];
+                    rows[c] = new Object[capacity];
+                    dirty[c] = new BitSet(capacity);
+                    dirty[c].set(0, capacity);
+                }
+            }
+        }
+
+        private void refresh(int c, RowFactory<?> factory) {
+            BitSet changed = dirty[c];
+            for (int slot = changed.nextSetBit(0); slot >= 0; slot = changed.nextSetBit(slot + 1)) {
+                ItemStack stack = containers[c].getItemStack((short) slot);
+                if (stack == stacks[c][slot]) {
+                    continue;
+                }
+                stacks[c][slot] = stack;
+                rows[c][slot] = stack == null || stack.isEmpty() ? null : factory.create(c, (short) slot, stack);
+            }
+            changed.clear();
+        }
+
+        private void markChanged(ItemContainer container, Transaction transaction) {
+            for (int c = 0; c < containers.length; c++) {
+                if (containers[c] != container) {
+                    continue;
+                }
+                int capacity = stacks[c].length;
+                if (transaction == null) {
+                    dirty[c].set(0, capacity);
+                    continue;
+                }
+                for (short slot = 0; slot < capacity; slot++) {
+                    if (transaction.wasSlotModified(slot)) {
+                        dirty[c].set(slot);
+                    }
+                }
+            }
+        }
+    }
+}
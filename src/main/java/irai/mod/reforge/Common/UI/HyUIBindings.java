@@ -0,0 +1,241 @@
+package irai.mod.reforge.Common.UI;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import com.hypixel.hytale.protocol.packets.interface_.CustomPageLifetime;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+/**
+ * HyUI page-builder API resolved once into method handles.
+ *
+ * {@link #initialize()} binds every call the benches make; if any of them is missing the
+ * whole integration reports unavailable instead of failing per page. Accessors on event,
+ * context and element-builder objects are looked up once per runtime class.
+ */
+public final class HyUIBindings {
+    public static final String PAGE_BUILDER_CLASS = "au.ellie.hyui.builders.PageBuilder";
+    public static final String PLUGIN_CLASS = "au.ellie.hyui.HyUIPlugin";
+    public static final String EVENT_BINDING_CLASS = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
+    private static final String STORE_CLASS = "com.hypixel.hytale.component.Store";
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+    private static final MethodHandle MISSING = MethodHandles.constant(Object.class, null);
+
+    private static volatile boolean initialized;
+    private static volatile boolean available;
+
+    private static MethodHandle pageForPlayer;
+    private static MethodHandle fromHtml;
+    private static MethodHandle addEventListener;
+    private static MethodHandle enablePersistentElementEdits;
+    private static MethodHandle enableAsyncImageLoading;
+    private static MethodHandle withLifetime;
+    private static MethodHandle onDismiss;
+    private static MethodHandle open;
+    private static Object activating;
+    private static Object valueChanged;
+    private static Object validating;
+
+    private static final ClassValue<Map<String, MethodHandle>> MEMBERS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private HyUIBindings() {}
+
+    /** Resolves the HyUI API once; later calls return the first result. */
+    public static synchronized boolean initialize() {
+        if (initialized) {
+            return available;
+        }
+        initialized = true;
+        try {
+            Class.forName(PLUGIN_CLASS);
+            Class<?> pageBuilder = Class.forName(PAGE_BUILDER_CLASS);
+            Class<?> eventBinding = Class.forName(EVENT_BINDING_CLASS);
+            pageForPlayer = LOOKUP.unreflect(pageBuilder.getMethod("pageForPlayer", PlayerRef.class));
+            fromHtml = LOOKUP.unreflect(pageBuilder.getMethod("fromHtml", String.class));
+            addEventListener = LOOKUP.unreflect(pageBuilder.getMethod("addEventListener", String.class, eventBinding, BiConsumer.class));
+            enablePersistentElementEdits = LOOKUP.unreflect(pageBuilder.getMethod("enablePersistentElementEdits", boolean.class));
+            enableAsyncImageLoading = LOOKUP.unreflect(pageBuilder.getMethod("enableAsyncImageLoading", boolean.class));
+            withLifetime = LOOKUP.unreflect(pageBuilder.getMethod("withLifetime", CustomPageLifetime.class));
+            onDismiss = LOOKUP.unreflect(pageBuilder.getMethod("onDismiss", BiConsumer.class));
+            open = LOOKUP.unreflect(pageBuilder.getMethod("open", Class.forName(STORE_CLASS)));
+            activating = eventBinding.getField("Activating").get(null);
+            valueChanged = eventBinding.getField("ValueChanged").get(null);
+            validating = eventBinding.getField("Validating").get(null);
+            available = true;
+        } catch (ClassNotFoundException e) {
+            available = false;
+        } catch (Throwable t) {
+            available = false;
+            System.err.println("[SocketReforge] HyUI API mismatch, custom UIs disabled: " + t);
+        }
+        return available;
+    }
+
+    public static boolean isAvailable() {
+        return available;
+    }
+
+    public static Object pageForPlayer(PlayerRef playerRef) throws Exception {
+        return call(pageForPlayer, playerRef);
+    }
+
+    public static Object fromHtml(Object pageBuilder, String html) throws Exception {
+        return call(fromHtml, pageBuilder, html);
+    }
+
+    public static Object addEventListener(Object pageBuilder, String elementId, Object binding,
+                                          BiConsumer<Object, Object> listener) throws Exception {
+        return call(addEventListener, pageBuilder, elementId, binding, listener);
+    }
+
+    public static Object enablePersistentElementEdits(Object pageBuilder, boolean enabled) throws Exception {
+        return call(enablePersistentElementEdits, pageBuilder, enabled);
+    }
+
+    public static Object enableAsyncImageLoading(Object pageBuilder, boolean enabled) throws Exception {
+        return call(enableAsyncImageLoading, pageBuilder, enabled);
+    }
+
+    public static Object withLifetime(Object pageBuilder, CustomPageLifetime lifetime) throws Exception {
+        return call(withLifetime, pageBuilder, lifetime);
+    }
+
+    public static Object onDismiss(Object pageBuilder, BiConsumer<Object, Object> listener) throws Exception {
+        return call(onDismiss, pageBuilder, listener);
+    }
+
+    public static Object open(Object pageBuilder, Object store) throws Exception {
+        return call(open, pageBuilder, store);
+    }
+
+    public static Object activating() {
+        return activating;
+    }
+
+    public static Object valueChanged() {
+        return valueChanged;
+    }
+
+    public static Object validating() {
+        return validating;
+    }
+
+    /** {@code event.getValue()}; throws {@link NoSuchMethodException} when the event has none. */
+    public static Object eventValue(Object event) throws Exception {
+        return invokeMember(event, "getValue");
+    }
+
+    /** {@code ctx.getValue(key)} unwrapped from its Optional, or null. */
+    public static Object contextValue(Object ctx, String key) throws Exception {
+        Object optObj = invokeMember(ctx, "getValue", String.class, key);
+        if (!(optObj instanceof Optional<?> optional) || optional.isEmpty()) {
+            return null;
+        }
+        return optional.get();
+    }
+
+    /**
+     * Invokes the public no-arg method {@code name} on {@code target}. The handle is cached
+     * per runtime class; throws {@link NoSuchMethodException} when the class lacks it.
+     */
+    public static Object invokeMember(Object target, String name) throws Exception {
+        return call(member(target, name, null), target);
+    }
+
+    /** Single-argument variant of {@link #invokeMember(Object, String)}. */
+    public static Object invokeMember(Object target, String name, Class<?> paramType, Object arg) throws Exception {
+        return call(member(target, name, paramType), target, arg);
+    }
+
+    /** Two-argument variant of {@link #invokeMember(Object, String)}. */
+    public static Object invokeMember(Object target, String name, Class<?> firstType, Object first,
+                                      Class<?> secondType, Object second) throws Exception {
+        Class<?> type = target.getClass();
+        String key = name + '(' + firstType.getName() + ',' + secondType.getName() + ')';
+        MethodHandle handle = MEMBERS.get(type).computeIfAbsent(key,
+                ignored -> unreflectOrMissing(type, name, firstType, secondType));
+        return call(checked(handle, type, name), target, first, second);
+    }
+
+    private static MethodHandle member(Object target, String name, Class<?> paramType) throws NoSuchMethodException {
+        Class<?> type = target.getClass();
+        String key = paramType == null ? name : name + '(' + paramType.getName() + ')';
+        MethodHandle handle = MEMBERS.get(type).computeIfAbsent(key, ignored -> paramType == null
+                ? unreflectOrMissing(type, name)
+                : unreflectOrMissing(type, name, paramType));
+        return checked(handle, type, name);
+    }
+
+    private static MethodHandle checked(MethodHandle handle, Class<?> type, String name) throws NoSuchMethodException {
+        if (handle == MISSING) {
+            throw new NoSuchMethodException(type.getName() + "." + name);
+        }
+        return handle;
+    }
+
+    private static MethodHandle unreflectOrMissing(Class<?> type, String name, Class<?>... paramTypes) {
+        try {
+            Method method = type.getMethod(name, paramTypes);
+            return LOOKUP.unreflect(method);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return MISSING;
+        }
+    }
+
+    private static Object call(MethodHandle handle, Object a) throws Exception {
+        try {
+            return require(handle).invoke(a);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static Object call(MethodHandle handle, Object a, Object b) throws Exception {
+        try {
+            return require(handle).invoke(a, b);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static Object call(MethodHandle handle, Object a, Object b, Object c) throws Exception {
+        try {
+            return require(handle).invoke(a, b, c);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static Object call(MethodHandle handle, Object a, Object b, Object c, Object d) throws Exception {
+        try {
+            return require(handle).invoke(a, b, c, d);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static MethodHandle require(MethodHandle handle) {
+        if (handle == null) {
+            throw new IllegalStateException("HyUI is not available");
+        }
+        return handle;
+    }
+
+    private static Exception rethrow(Throwable t) {
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return t instanceof Exception e ? e : new IllegalStateException(t);
+    }
+}
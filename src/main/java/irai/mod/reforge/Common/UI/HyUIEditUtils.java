@@ -1,6 +1,5 @@
 package irai.mod.reforge.Common.UI;
 
-import java.lang.reflect.Method;
 import java.util.function.Consumer;
 
 /**
@@ -40,7 +39,7 @@ public final class HyUIEditUtils {
             return;
         }
         try {
-            ctxObj.getClass().getMethod("updatePage", boolean.class).invoke(ctxObj, rebuild);
+            HyUIBindings.invokeMember(ctxObj, "updatePage", boolean.class, rebuild);
         } catch (Exception ignored) {
         }
     }
@@ -50,8 +49,7 @@ public final class HyUIEditUtils {
             return;
         }
         try {
-            Method editById = ctxObj.getClass().getMethod("editById", String.class, Consumer.class);
-            editById.invoke(ctxObj, id, editor);
+            HyUIBindings.invokeMember(ctxObj, "editById", String.class, id, Consumer.class, editor);
         } catch (Exception ignored) {
         }
     }
@@ -61,7 +59,7 @@ public final class HyUIEditUtils {
             return;
         }
         try {
-            target.getClass().getMethod(methodName, valueType).invoke(target, value);
+            HyUIBindings.invokeMember(target, methodName, valueType, value);
         } catch (Exception ignored) {
         }
     }
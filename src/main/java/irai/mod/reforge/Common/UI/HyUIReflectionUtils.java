@@ -1,9 +1,7 @@
 package irai.mod.reforge.Common.UI;
 
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
@@ -14,16 +12,14 @@ public final class HyUIReflectionUtils {
 
     private HyUIReflectionUtils() {}
 
-    public static boolean detectHyUi(String pageBuilderClassName, String pluginClassName, String uiName) {
-        try {
-            Class.forName(pageBuilderClassName);
-            Class.forName(pluginClassName);
+    /** Resolves the HyUI bindings (once, shared by every page) and logs the result for {@code uiName}. */
+    public static boolean detectHyUi(String uiName) {
+        if (HyUIBindings.initialize()) {
             System.out.println("[SocketReforge] " + uiName + ": HyUI loaded.");
             return true;
-        } catch (ClassNotFoundException e) {
-            System.out.println("[SocketReforge] " + uiName + ": HyUI unavailable.");
-            return false;
         }
+        System.out.println("[SocketReforge] " + uiName + ": HyUI unavailable.");
+        return false;
     }
 
     public static String extractEventValue(Object eventObj) {
@@ -31,8 +27,7 @@ public final class HyUIReflectionUtils {
             return null;
         }
         try {
-            Method getValue = eventObj.getClass().getMethod("getValue");
-            Object value = getValue.invoke(eventObj);
+            Object value = HyUIBindings.eventValue(eventObj);
             return value != null ? value.toString() : null;
         } catch (Exception e) {
             return eventObj.toString();
@@ -45,12 +40,7 @@ public final class HyUIReflectionUtils {
         }
         for (String key : keys) {
             try {
-                Method getValue = ctxObj.getClass().getMethod("getValue", String.class);
-                Object optObj = getValue.invoke(ctxObj, key);
-                if (!(optObj instanceof Optional<?> optional) || optional.isEmpty()) {
-                    continue;
-                }
-                Object value = optional.get();
+                Object value = HyUIBindings.contextValue(ctxObj, key);
                 if (value != null) {
                     return value.toString();
                 }
@@ -61,10 +51,8 @@ public final class HyUIReflectionUtils {
     }
 
     public static Object getStore(PlayerRef playerRef) throws Exception {
-        Method getReference = playerRef.getClass().getMethod("getReference");
-        Object ref = getReference.invoke(playerRef);
-        Method getStore = ref.getClass().getMethod("getStore");
-        return getStore.invoke(ref);
+        Object ref = HyUIBindings.invokeMember(playerRef, "getReference");
+        return HyUIBindings.invokeMember(ref, "getStore");
     }
 
     public static <T> T resolveIndexSelection(List<T> entries, String value) {
@@ -88,7 +76,7 @@ public final class HyUIReflectionUtils {
             return;
         }
         try {
-            page.getClass().getMethod("close").invoke(page);
+            HyUIBindings.invokeMember(page, "close");
         } catch (Exception ignored) {
         }
     }
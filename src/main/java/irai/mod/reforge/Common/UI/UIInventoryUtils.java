@@ -4,6 +4,8 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 
+import irai.mod.reforge.Util.DynamicTooltipUtils;
+
 /**
  * Shared helpers for hotbar/storage inventory operations used by bench UIs.
  */
@@ -35,6 +37,7 @@ public final class UIInventoryUtils {
             return false;
         }
         container.setItemStackForSlot(slot, stack);
+        DynamicTooltipUtils.markSlotDirty(player, container, slot);
         return true;
     }
 
@@ -0,0 +1,155 @@
+package irai.mod.reforge.Common.UI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import irai.mod.reforge.Util.LangLoader;
+
+/**
+ * HTML template parsed once into literal, {@code {{ui.key}}} token and {@code {{name}}} slot
+ * segments.
+ *
+ * Token text is resolved once per language and reused until the language files reload, so a
+ * render is a single append pass instead of a replace per slot plus a token regex scan.
+ */
+public final class UITemplate {
+    private static final byte LITERAL = 0;
+    private static final byte TOKEN = 1;
+    private static final byte SLOT = 2;
+
+    private final byte[] kinds;
+    private final String[] parts;
+    private final String[] rawParts;
+    private final int literalLength;
+    private final Map<String, ResolvedTokens> tokensByLanguage = new ConcurrentHashMap<>();
+
+    private UITemplate(byte[] kinds, String[] parts, String[] rawParts, int literalLength) {
+        this.kinds = kinds;
+        this.parts = parts;
+        this.rawParts = rawParts;
+        this.literalLength = literalLength;
+    }
+
+    public static UITemplate compile(String html) {
+        String source = html == null ? "" : html;
+        List<Byte> kinds = new ArrayList<>();
+        List<String> parts = new ArrayList<>();
+        List<String> rawParts = new ArrayList<>();
+        int literalLength = 0;
+        int literalStart = 0;
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                break;
+            }
+            String name = source.substring(open + 2, close).trim();
+            byte kind = classify(name);
+            if (kind == LITERAL) {
+                pos = open + 2;
+                continue;
+            }
+            if (open > literalStart) {
+                kinds.add(LITERAL);
+                parts.add(source.substring(literalStart, open));
+                rawParts.add(null);
+                literalLength += open - literalStart;
+            }
+            kinds.add(kind);
+            parts.add(name);
+            rawParts.add(source.substring(open, close + 2));
+            pos = close + 2;
+            literalStart = pos;
+        }
+        if (literalStart < source.length()) {
+            kinds.add(LITERAL);
+            parts.add(source.substring(literalStart));
+            rawParts.add(null);
+            literalLength += source.length() - literalStart;
+        }
+
+        byte[] kindArray = new byte[kinds.size()];
+        for (int i = 0; i < kindArray.length; i++) {
+            kindArray[i] = kinds.get(i);
+        }
+        return new UITemplate(kindArray, parts.toArray(new String[0]), rawParts.toArray(new String[0]), literalLength);
+    }
+
+    /** Renders with only {@code {{ui.key}}} tokens resolved; slots stay as written. */
+    public String render(Object player) {
+        return render(player, Map.of());
+    }
+
+    /**
+     * Renders for the player's language. Slots without a value are kept as written, and slot
+     * values may themselves carry {@code {{ui.key}}} tokens.
+     */
+    public String render(Object player, Map<String, String> values) {
+        String[] tokens = resolvedTokens(LangLoader.getPlayerLanguage(player));
+        int capacity = literalLength;
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == TOKEN) {
+                capacity += tokens[i].length();
+            } else if (kinds[i] == SLOT) {
+                String value = values.get(parts[i]);
+                capacity += value != null ? value.length() : rawParts[i].length();
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(capacity);
+        boolean nestedTokens = false;
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case TOKEN -> sb.append(tokens[i]);
+                case SLOT -> {
+                    String value = values.get(parts[i]);
+                    if (value == null) {
+                        sb.append(rawParts[i]);
+                    } else {
+                        sb.append(value);
+                        nestedTokens |= value.contains("{{");
+                    }
+                }
+                default -> sb.append(parts[i]);
+            }
+        }
+        String html = sb.toString();
+        return nestedTokens ? LangLoader.replaceUiTokens(player, html) : html;
+    }
+
+    private String[] resolvedTokens(String language) {
+        int generation = LangLoader.getReloadGeneration();
+        ResolvedTokens cached = tokensByLanguage.get(language);
+        if (cached != null && cached.generation == generation) {
+            return cached.values;
+        }
+        String[] values = new String[kinds.length];
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == TOKEN) {
+                values[i] = LangLoader.getTranslationForLanguage(parts[i], language);
+            }
+        }
+        tokensByLanguage.put(language, new ResolvedTokens(generation, values));
+        return values;
+    }
+
+    private static byte classify(String name) {
+        if (name.isEmpty() || name.indexOf('{') >= 0 || name.indexOf('}') >= 0) {
+            return LITERAL;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (Character.isWhitespace(name.charAt(i))) {
+                return LITERAL;
+            }
+        }
+        return name.startsWith("ui.") && name.length() > 3 ? TOKEN : SLOT;
+    }
+
+    private record ResolvedTokens(int generation, String[] values) {}
+}
@@ -14,6 +14,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class UITemplateUtils {
 
     private static final Map<String, String> TEMPLATE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, UITemplate> COMPILED_TEMPLATE_CACHE = new ConcurrentHashMap<>();
     private static final Map<String, Boolean> CUSTOM_UI_ASSET_EXISTS_CACHE = new ConcurrentHashMap<>();
 
     private UITemplateUtils() {}
@@ -25,6 +26,15 @@ public final class UITemplateUtils {
         return TEMPLATE_CACHE.computeIfAbsent(templatePath, pathKey -> loadTemplateUncached(ownerClass, pathKey, missingHtml, uiName));
     }
 
+    /** Loads and compiles a template once; see {@link UITemplate}. */
+    public static UITemplate loadCompiledTemplate(Class<?> ownerClass, String templatePath, String missingHtml, String uiName) {
+        if (templatePath == null || templatePath.isBlank()) {
+            return UITemplate.compile(missingHtml);
+        }
+        return COMPILED_TEMPLATE_CACHE.computeIfAbsent(templatePath,
+                pathKey -> UITemplate.compile(loadTemplate(ownerClass, pathKey, missingHtml, uiName)));
+    }
+
     private static String loadTemplateUncached(Class<?> ownerClass, String templatePath, String missingHtml, String uiName) {
         String fileSystemPath = "src/main/resources/" + templatePath;
         try {
@@ -8,8 +8,10 @@ import java.util.Map;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import irai.mod.reforge.Entity.Events.EquipmentRefineEST;
 import irai.mod.reforge.Socket.Essence;
 import irai.mod.reforge.Socket.EssenceRegistry;
 import irai.mod.reforge.Socket.Socket;
@@ -22,6 +24,7 @@ import irai.mod.reforge.Socket.SocketManager;
 public final class WeaponElementalDamageUtils {
     public static final double DAMAGE_RATE_PER_SOCKET_WEIGHT = 0.05d;
     public static final double GREATER_WEIGHT = 1.5d;
+    private static final Essence.Type[] TYPES = Essence.Type.values();
 
     private WeaponElementalDamageUtils() {}
 
@@ -37,7 +40,7 @@ public final class WeaponElementalDamageUtils {
             return List.of();
         }
 
-        Map<Essence.Type, Double> weights = new EnumMap<>(Essence.Type.class);
+        double[] weights = new double[TYPES.length];
         for (Socket socket : socketData.getSockets()) {
             if (socket == null || socket.isEmpty() || socket.isBroken()) {
                 continue;
@@ -54,8 +57,8 @@ public final class WeaponElementalDamageUtils {
         }
 
         List<ElementDamage> result = new ArrayList<>();
-        for (Essence.Type type : Essence.Type.values()) {
-            double weight = weights.getOrDefault(type, 0.0d);
+        for (Essence.Type type : TYPES) {
+            double weight = weights[type.ordinal()];
             if (weight <= 0.0d) {
                 continue;
             }
@@ -96,7 +99,7 @@ public final class WeaponElementalDamageUtils {
         double strongestDelta = 0.0d;
         double strongestComponentDamage = 0.0d;
         float totalDelta = 0f;
-        Map<Essence.Type, Double> adjustedElementDamage = new EnumMap<>(Essence.Type.class);
+        double[] adjustedElementDamage = new double[TYPES.length];
 
         for (ElementDamage elementDamage : elementDamages) {
             double effectivenessMultiplier = ElementalAffinityUtils.effectivenessMultiplier(
@@ -106,9 +109,7 @@ public final class WeaponElementalDamageUtils {
             double matchupDelta = effectivenessMultiplier - ElementalAffinityUtils.DEFAULT_NEUTRAL_MULTIPLIER;
             double elementDelta = elementDamage.damage() * matchupDelta;
             double adjustedComponentDamage = elementDamage.damage() + elementDelta;
-            adjustedElementDamage.put(
-                    elementDamage.type(),
-                    adjustedElementDamage.getOrDefault(elementDamage.type(), 0.0d) + adjustedComponentDamage);
+            adjustedElementDamage[elementDamage.type().ordinal()] += adjustedComponentDamage;
             totalDelta += (float) elementDelta;
             if (elementDamage.socketWeight() > strongestWeight
                     || (elementDamage.socketWeight() == strongestWeight
@@ -122,8 +123,7 @@ public final class WeaponElementalDamageUtils {
             }
         }
 
-        String elementDamagePayload = encodeElementDamage(adjustedElementDamage);
-        if (strongestType == null || elementDamagePayload.isBlank()) {
+        if (strongestType == null || !hasElementDamage(adjustedElementDamage)) {
             return AffinityDamage.none();
         }
         return new AffinityDamage(
@@ -133,14 +133,144 @@ public final class WeaponElementalDamageUtils {
                 targetType,
                 strongestMultiplier,
                 totalDelta,
-                elementDamagePayload);
+                adjustedElementDamage);
     }
 
-    private static void addWeight(Map<Essence.Type, Double> weights, Essence.Type type, double socketWeight) {
+    private static void addWeight(double[] weights, Essence.Type type, double socketWeight) {
         if (weights == null || type == null || socketWeight <= 0.0d) {
             return;
         }
-        weights.put(type, weights.getOrDefault(type, 0.0d) + socketWeight);
+        weights[type.ordinal()] += socketWeight;
+    }
+
+    /**
+     * Per-element weapon damage carried by a hit, indexed by {@link Essence.Type#ordinal()}, or
+     * null when there is none. A legacy string payload set by another mod is decoded once and
+     * moved to the typed key.
+     */
+    public static double[] getElementDamage(Damage damage) {
+        if (damage == null) {
+            return null;
+        }
+        double[] elementDamage = damage.getIfPresentMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENT_DAMAGE_VALUES);
+        if (elementDamage != null && elementDamage.length == TYPES.length) {
+            return elementDamage;
+        }
+        String legacy = damage.getIfPresentMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE);
+        if (legacy == null || legacy.isBlank()) {
+            return null;
+        }
+        elementDamage = decodeElementDamageValues(legacy);
+        damage.putMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENT_DAMAGE_VALUES, elementDamage);
+        return elementDamage;
+    }
+
+    /** Replaces the hit's element damage; the array is kept, not copied. */
+    public static void setElementDamage(Damage damage, double[] elementDamage) {
+        if (damage == null || !hasElementDamage(elementDamage)) {
+            return;
+        }
+        damage.putMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENT_DAMAGE_VALUES, elementDamage);
+    }
+
+    /** Adds {@code elementDamage} onto whatever the hit already carries. */
+    public static void addElementDamage(Damage damage, double[] elementDamage) {
+        if (damage == null || !hasElementDamage(elementDamage)) {
+            return;
+        }
+        double[] existing = getElementDamage(damage);
+        if (existing == null) {
+            existing = elementDamage.clone();
+            damage.putMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENT_DAMAGE_VALUES, existing);
+        } else {
+            for (int i = 0; i < TYPES.length; i++) {
+                if (elementDamage[i] > 0.0001d) {
+                    existing[i] += elementDamage[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Mirrors the hit's final typed payload into the legacy string key for other mods. Runs once
+     * per hit from the inspect group, after every filter system has added its share.
+     */
+    public static void publishLegacyElementDamage(Damage damage) {
+        if (damage == null) {
+            return;
+        }
+        double[] elementDamage = damage.getIfPresentMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENT_DAMAGE_VALUES);
+        if (hasElementDamage(elementDamage)) {
+            damage.putMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE, encodeElementDamage(elementDamage));
+        }
+    }
+
+    public static boolean hasElementDamage(double[] elementDamage) {
+        if (elementDamage == null || elementDamage.length != TYPES.length) {
+            return false;
+        }
+        for (double value : elementDamage) {
+            if (value > 0.0001d) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static double totalElementDamage(double[] elementDamage) {
+        if (elementDamage == null) {
+            return 0.0d;
+        }
+        double total = 0.0d;
+        for (double value : elementDamage) {
+            if (value > 0.0d) {
+                total += value;
+            }
+        }
+        return total;
+    }
+
+    /** The element dealing the most damage, or null when none does. */
+    public static Essence.Type strongestElement(double[] elementDamage) {
+        if (elementDamage == null || elementDamage.length != TYPES.length) {
+            return null;
+        }
+        Essence.Type strongestType = null;
+        double strongestDamage = 0.0d;
+        for (int i = 0; i < TYPES.length; i++) {
+            if (elementDamage[i] > strongestDamage) {
+                strongestDamage = elementDamage[i];
+                strongestType = TYPES[i];
+            }
+        }
+        return strongestType;
+    }
+
+    /** Legacy {@code TYPE:damage;...} form of a typed payload, for logs and external mods. */
+    public static String encodeElementDamage(double[] elementDamage) {
+        if (elementDamage == null || elementDamage.length != TYPES.length) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Essence.Type type : TYPES) {
+            double damage = elementDamage[type.ordinal()];
+            if (damage <= 0.0001d) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(';');
+            }
+            sb.append(type.name()).append(':').append(Double.toString(damage));
+        }
+        return sb.toString();
+    }
+
+    private static double[] decodeElementDamageValues(String payload) {
+        double[] values = new double[TYPES.length];
+        for (Map.Entry<Essence.Type, Double> entry : decodeElementDamage(payload).entrySet()) {
+            values[entry.getKey().ordinal()] += entry.getValue();
+        }
+        return values;
     }
 
     public static String encodeElementDamage(Map<Essence.Type, Double> elementDamage) {
@@ -187,25 +317,6 @@ public final class WeaponElementalDamageUtils {
         return result;
     }
 
-    public static String mergeElementDamagePayload(String first, String second) {
-        Map<Essence.Type, Double> merged = new EnumMap<>(Essence.Type.class);
-        mergeElementDamage(merged, decodeElementDamage(first));
-        mergeElementDamage(merged, decodeElementDamage(second));
-        return encodeElementDamage(merged);
-    }
-
-    private static void mergeElementDamage(Map<Essence.Type, Double> target, Map<Essence.Type, Double> source) {
-        if (target == null || source == null || source.isEmpty()) {
-            return;
-        }
-        for (Map.Entry<Essence.Type, Double> entry : source.entrySet()) {
-            if (entry.getKey() == null || entry.getValue() == null || entry.getValue() <= 0.0001d) {
-                continue;
-            }
-            target.put(entry.getKey(), target.getOrDefault(entry.getKey(), 0.0d) + entry.getValue());
-        }
-    }
-
     public record ElementDamage(Essence.Type type, double socketWeight, double rate, double damage) {}
 
     public record AffinityDamage(
@@ -215,10 +326,10 @@ public final class WeaponElementalDamageUtils {
             Essence.Type targetType,
             double effectivenessMultiplier,
             float damageDelta,
-            String elementDamagePayload) {
+            double[] elementDamage) {
         public static AffinityDamage none() {
             return new AffinityDamage(null, 0.0d, 0.0d, null,
-                    ElementalAffinityUtils.DEFAULT_NEUTRAL_MULTIPLIER, 0f, "");
+                    ElementalAffinityUtils.DEFAULT_NEUTRAL_MULTIPLIER, 0f, null);
         }
     }
 }
@@ -73,6 +73,11 @@ public class SocketConfig implements ConfigDefaultInjector {
                     (cfg, v) -> cfg.weaponAffinityAppearancePatchingEnabled = Boolean.TRUE.equals(v),
                     SocketConfig::isWeaponAffinityAppearancePatchingEnabled
             ).add()
+            .append(
+                    new KeyedCodec<>("COMPACT_SOCKET_METADATA_ENABLED", BOOLEAN),
+                    (cfg, v) -> cfg.compactSocketMetadataEnabled = Boolean.TRUE.equals(v),
+                    SocketConfig::isCompactSocketMetadataEnabled
+            ).add()
             .append(
                     new KeyedCodec<>("RESONANCE_CLASS_MAPPINGS", STRING_ARRAY),
                     (cfg, v) -> cfg.resonanceClassMappings = v == null ? new String[0] : v,
@@ -123,6 +128,9 @@ public class SocketConfig implements ConfigDefaultInjector {
     // Opt-in because this exports model/item appearance overrides at startup.
     private Boolean weaponAffinityAppearancePatchingEnabled;
 
+    // Opt-in: store socket layout and stat bonuses as one packed INT_ARRAY instead of string arrays.
+    private Boolean compactSocketMetadataEnabled;
+
     /**
      * Optional resonance scope overrides.
      * Format examples:
@@ -199,6 +207,9 @@ public class SocketConfig implements ConfigDefaultInjector {
     public boolean isWeaponAffinityAppearancePatchingEnabled() {
         return Boolean.TRUE.equals(weaponAffinityAppearancePatchingEnabled);
     }
+    public boolean isCompactSocketMetadataEnabled() {
+        return Boolean.TRUE.equals(compactSocketMetadataEnabled);
+    }
     public String[] getResonanceClassMappings() {
         return resonanceClassMappings == null ? new String[0] : resonanceClassMappings;
     }
@@ -222,6 +233,9 @@ public class SocketConfig implements ConfigDefaultInjector {
     public void setWeaponAffinityAppearancePatchingEnabled(boolean v) {
         weaponAffinityAppearancePatchingEnabled = v;
     }
+    public void setCompactSocketMetadataEnabled(boolean v) {
+        compactSocketMetadataEnabled = v;
+    }
     public void setResonanceClassMappings(String[] v) {
         resonanceClassMappings = v == null ? new String[0] : v;
     }
@@ -243,6 +257,7 @@ public class SocketConfig implements ConfigDefaultInjector {
         this.bonusSocketChance = defaults.bonusSocketChance;
         this.maxReduceChance = defaults.maxReduceChance;
         this.weaponAffinityAppearancePatchingEnabled = Boolean.FALSE;
+        this.compactSocketMetadataEnabled = Boolean.FALSE;
         this.resonanceClassMappings = defaults.resonanceClassMappings.clone();
         this.resonanceWeaponClassHints = defaults.resonanceWeaponClassHints.clone();
         this.clockworkAmmoItemHints = defaults.clockworkAmmoItemHints.clone();
@@ -270,6 +285,11 @@ public class SocketConfig implements ConfigDefaultInjector {
             changed = true;
         }
 
+        if (compactSocketMetadataEnabled == null) {
+            compactSocketMetadataEnabled = Boolean.FALSE;
+            changed = true;
+        }
+
         if (resonanceClassMappings == null) {
             resonanceClassMappings = defaults.resonanceClassMappings.clone();
             changed = true;
@@ -0,0 +1,67 @@
+package irai.mod.reforge.Entity.Events;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.ecs.InventoryChangeEvent;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import irai.mod.reforge.Common.PlayerQueryUtils;
+
+/**
+ * Invalidates a player's cached {@link ArmorBonusSnapshot} when their armor container changes.
+ *
+ * <p>Equipping, unequipping and durability writes all replace the stack in the armor slot,
+ * which raises {@code InventoryChangeEvent} for that container. Broken-state transitions ride
+ * on the same write, so durability thresholds are covered without polling.
+ */
+public final class ArmorBonusInventoryChangeEST
+        extends EntityEventSystem<EntityStore, InventoryChangeEvent> {
+
+    public ArmorBonusInventoryChangeEST() {
+        super(InventoryChangeEvent.class);
+    }
+
+    private volatile Query<EntityStore> query;
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        Query<EntityStore> cached = query;
+        if (cached == null) {
+            cached = PlayerQueryUtils.playersWith();
+            query = cached;
+        }
+        return cached;
+    }
+
+    @Override
+    public void handle(int index,
+                       ArchetypeChunk<EntityStore> chunk,
+                       Store<EntityStore> store,
+                       CommandBuffer<EntityStore> commandBuffer,
+                       InventoryChangeEvent event) {
+        if (store == null || chunk == null || event == null || event.getItemContainer() == null) {
+            return;
+        }
+        Player player = chunk.getComponent(index, Player.getComponentType());
+        if (player == null) {
+            return;
+        }
+        Inventory inventory = player.getInventory();
+        if (inventory == null) {
+            return;
+        }
+        try {
+            if (inventory.getArmor() != event.getItemContainer()) {
+                return;
+            }
+        } catch (Exception ignored) {
+            return;
+        }
+        SocketArmorBonusHelper.markDirty(player.getUuid());
+    }
+}
@@ -0,0 +1,62 @@
+package irai.mod.reforge.Entity.Events;
+
+import irai.mod.reforge.Socket.EssenceEffect;
+
+/**
+ * Immutable per-player totals of equipped armor socket bonuses.
+ * Values are already durability-scaled and balanced, indexed by {@code StatType.ordinal()}.
+ * Built and cached by {@link SocketArmorBonusHelper}.
+ */
+public final class ArmorBonusSnapshot {
+
+    public static final ArmorBonusSnapshot EMPTY = new ArmorBonusSnapshot(
+            new double[EssenceEffect.StatType.values().length],
+            new double[EssenceEffect.StatType.values().length],
+            new double[EssenceEffect.StatType.values().length],
+            0,
+            0L);
+
+    private final double[] flat;
+    private final double[] percent;
+    private final double[] unbalancedFlat;
+    private final int armorCount;
+    private final long computedAtMillis;
+    private final SocketStatSystem.DefensiveBonuses defensiveBonuses;
+
+    ArmorBonusSnapshot(double[] flat, double[] percent, double[] unbalancedFlat, int armorCount, long computedAtMillis) {
+        this.flat = flat;
+        this.percent = percent;
+        this.unbalancedFlat = unbalancedFlat;
+        this.armorCount = armorCount;
+        this.computedAtMillis = computedAtMillis;
+        this.defensiveBonuses = new SocketStatSystem.DefensiveBonuses(
+                getPercent(EssenceEffect.StatType.DEFENSE),
+                getPercent(EssenceEffect.StatType.EVASION),
+                getPercent(EssenceEffect.StatType.BLOCK_CHANCE));
+    }
+
+    public double getFlat(EssenceEffect.StatType stat) {
+        return stat == null ? 0.0 : flat[stat.ordinal()];
+    }
+
+    public double getPercent(EssenceEffect.StatType stat) {
+        return stat == null ? 0.0 : percent[stat.ordinal()];
+    }
+
+    /** Durability-scaled flat total before balancing caps (used for flat damage reduction). */
+    public double getUnbalancedFlat(EssenceEffect.StatType stat) {
+        return stat == null ? 0.0 : unbalancedFlat[stat.ordinal()];
+    }
+
+    public int getArmorCount() {
+        return armorCount;
+    }
+
+    public long getComputedAtMillis() {
+        return computedAtMillis;
+    }
+
+    public SocketStatSystem.DefensiveBonuses getDefensiveBonuses() {
+        return defensiveBonuses;
+    }
+}
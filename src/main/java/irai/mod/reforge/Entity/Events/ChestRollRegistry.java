@@ -0,0 +1,415 @@
+package irai.mod.reforge.Entity.Events;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Which world-loot chests have already been rolled, kept per world and per region.
+ *
+ * Chest positions are packed into longs and held in open-addressed sets. A region
+ * ({@code 512 x 512} blocks) is read from its own small binary file the first time one of its
+ * chests is touched, written back when it changes, and dropped after it has been idle for
+ * {@link #IDLE_EVICT_MS}, so memory tracks the area players are actually exploring.
+ * Per-player rolls (Loot4Everyone chests) live next to the shared ones in the same region.
+ */
+final class ChestRollRegistry {
+    private static final int FILE_VERSION = 1;
+    private static final int REGION_SHIFT = 9;
+    private static final long IDLE_EVICT_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final long SWEEP_SECONDS = 60L;
+
+    private static final Map<String, Map<Long, Region>> WORLDS = new ConcurrentHashMap<>();
+    private static volatile File rootFolder;
+    private static ScheduledExecutorService sweeper;
+
+    private ChestRollRegistry() {}
+
+    static synchronized void initialize(File dataFolder) {
+        if (dataFolder == null) {
+            dataFolder = new File(".");
+        }
+        rootFolder = new File(dataFolder, "chest_rolls");
+        if (sweeper == null) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "SocketReforge-ChestRolls");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sweeper.scheduleWithFixedDelay(() -> sweep(System.currentTimeMillis() - IDLE_EVICT_MS),
+                    SWEEP_SECONDS, SWEEP_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /** Writes every changed region and drops them all. */
+    static synchronized void shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+        sweep(Long.MAX_VALUE);
+    }
+
+    /** {@code playerId} selects the per-player roll state; null means the shared one. */
+    static boolean isRolled(String worldId, int x, int y, int z, UUID playerId) {
+        long pos = packPosition(x, y, z);
+        while (true) {
+            Region region = region(worldId, x, z);
+            synchronized (region) {
+                if (!region.evicted) {
+                    region.touch();
+                    LongOpenSet set = region.rolled(playerId, false);
+                    return set != null && set.contains(pos);
+                }
+            }
+        }
+    }
+
+    /** Returns true when the chest was not yet marked as rolled. */
+    static boolean markRolled(String worldId, int x, int y, int z, UUID playerId) {
+        long pos = packPosition(x, y, z);
+        while (true) {
+            Region region = region(worldId, x, z);
+            synchronized (region) {
+                if (!region.evicted) {
+                    region.touch();
+                    boolean added = region.rolled(playerId, true).add(pos);
+                    region.dirty |= added;
+                    return added;
+                }
+            }
+        }
+    }
+
+    /** Returns true the first time a skip is reported for this chest since its region loaded. */
+    static boolean markSkipLogged(String worldId, int x, int y, int z, UUID playerId) {
+        long pos = packPosition(x, y, z);
+        while (true) {
+            Region region = region(worldId, x, z);
+            synchronized (region) {
+                if (!region.evicted) {
+                    region.touch();
+                    return region.skipLogged(playerId, true).add(pos);
+                }
+            }
+        }
+    }
+
+    static void clearSkipLogged(String worldId, int x, int y, int z, UUID playerId) {
+        long pos = packPosition(x, y, z);
+        while (true) {
+            Region region = region(worldId, x, z);
+            synchronized (region) {
+                if (!region.evicted) {
+                    LongOpenSet set = region.skipLogged(playerId, false);
+                    if (set != null) {
+                        set.remove(pos);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Forgets the shared roll and the roll of {@code playerId} (if given) for one chest. */
+    static void reset(String worldId, int x, int y, int z, UUID playerId) {
+        long pos = packPosition(x, y, z);
+        while (true) {
+            Region region = region(worldId, x, z);
+            synchronized (region) {
+                if (region.evicted) {
+                    continue;
+                }
+                region.touch();
+                region.dirty |= region.rolled.remove(pos);
+                region.skipLogged.remove(pos);
+                if (playerId != null) {
+                    LongOpenSet rolled = region.rolled(playerId, false);
+                    if (rolled != null) {
+                        region.dirty |= rolled.remove(pos);
+                    }
+                    LongOpenSet logged = region.skipLogged(playerId, false);
+                    if (logged != null) {
+                        logged.remove(pos);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /** Saves changed regions and evicts those last used before {@code idleBefore}. */
+    private static void sweep(long idleBefore) {
+        for (Map<Long, Region> regions : WORLDS.values()) {
+            for (Map.Entry<Long, Region> entry : regions.entrySet()) {
+                Region region = entry.getValue();
+                synchronized (region) {
+                    if (region.dirty) {
+                        region.save();
+                    }
+                    if (region.lastAccess < idleBefore) {
+                        region.evicted = true;
+                        regions.remove(entry.getKey(), region);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Region region(String worldId, int x, int z) {
+        String world = worldId == null || worldId.isBlank() ? "unknown" : worldId;
+        int regionX = x >> REGION_SHIFT;
+        int regionZ = z >> REGION_SHIFT;
+        long key = ((long) regionX << 32) | (regionZ & 0xFFFFFFFFL);
+        return WORLDS.computeIfAbsent(world, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, ignored -> Region.load(regionFile(world, regionX, regionZ)));
+    }
+
+    private static File regionFile(String worldId, int regionX, int regionZ) {
+        File root = rootFolder;
+        if (root == null) {
+            return null;
+        }
+        String folder = worldId.replaceAll("[^A-Za-z0-9_.-]", "_");
+        return new File(new File(root, folder), "r." + regionX + "." + regionZ + ".bin");
+    }
+
+    /**
+     * 26 bits of x, 26 bits of z and 11 bits of y, with the top bit set so that no position
+     * packs to the empty-slot marker.
+     */
+    static long packPosition(int x, int y, int z) {
+        return Long.MIN_VALUE
+                | ((long) (y & 0x7FF) << 52)
+                | ((long) (z & 0x3FFFFFF) << 26)
+                | (x & 0x3FFFFFFL);
+    }
+
+    private static final class Region {
+        private final File file;
+        private final LongOpenSet rolled = new LongOpenSet();
+        private final Map<UUID, LongOpenSet> rolledByPlayer = new HashMap<>();
+        private final LongOpenSet skipLogged = new LongOpenSet();
+        private final Map<UUID, LongOpenSet> skipLoggedByPlayer = new HashMap<>();
+        private long lastAccess = System.currentTimeMillis();
+        private boolean dirty;
+        private boolean evicted;
+
+        private Region(File file) {
+            this.file = file;
+        }
+
+        private void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+
+        private LongOpenSet rolled(UUID playerId, boolean create) {
+            if (playerId == null) {
+                return rolled;
+            }
+            return create ? rolledByPlayer.computeIfAbsent(playerId, ignored -> new LongOpenSet())
+                    : rolledByPlayer.get(playerId);
+        }
+
+        private LongOpenSet skipLogged(UUID playerId, boolean create) {
+            if (playerId == null) {
+                return skipLogged;
+            }
+            return create ? skipLoggedByPlayer.computeIfAbsent(playerId, ignored -> new LongOpenSet())
+                    : skipLoggedByPlayer.get(playerId);
+        }
+
+        private static Region load(File file) {
+            Region region = new Region(file);
+            if (file == null || !file.isFile()) {
+                return region;
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                if (in.readInt() != FILE_VERSION) {
+                    return region;
+                }
+                readPositions(in, region.rolled);
+                int players = in.readInt();
+                for (int i = 0; i < players; i++) {
+                    UUID playerId = new UUID(in.readLong(), in.readLong());
+                    readPositions(in, region.rolled(playerId, true));
+                }
+            } catch (IOException e) {
+                System.err.println("[SocketReforge] Failed to read chest roll region " + file + ": " + e.getMessage());
+            }
+            return region;
+        }
+
+        private void save() {
+            dirty = false;
+            if (file == null) {
+                return;
+            }
+            try {
+                List<Map.Entry<UUID, LongOpenSet>> players = new ArrayList<>();
+                for (Map.Entry<UUID, LongOpenSet> entry : rolledByPlayer.entrySet()) {
+                    if (entry.getValue().size() > 0) {
+                        players.add(entry);
+                    }
+                }
+                if (rolled.size() == 0 && players.isEmpty()) {
+                    Files.deleteIfExists(file.toPath());
+                    return;
+                }
+                File parent = file.getParentFile();
+                if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                    throw new IOException("cannot create " + parent);
+                }
+                File temp = new File(parent, file.getName() + ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                    out.writeInt(FILE_VERSION);
+                    writePositions(out, rolled);
+                    out.writeInt(players.size());
+                    for (Map.Entry<UUID, LongOpenSet> entry : players) {
+                        out.writeLong(entry.getKey().getMostSignificantBits());
+                        out.writeLong(entry.getKey().getLeastSignificantBits());
+                        writePositions(out, entry.getValue());
+                    }
+                }
+                try {
+                    Files.move(temp.toPath(), file.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                dirty = true;
+                System.err.println("[SocketReforge] Failed to save chest roll region " + file + ": " + e.getMessage());
+            }
+        }
+
+        private static void readPositions(DataInputStream in, LongOpenSet target) throws IOException {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                target.add(in.readLong());
+            }
+        }
+
+        private static void writePositions(DataOutputStream out, LongOpenSet source) throws IOException {
+            long[] positions = source.toArray();
+            out.writeInt(positions.length);
+            for (long position : positions) {
+                out.writeLong(position);
+            }
+        }
+    }
+
+    /** Open-addressed set of non-zero longs with linear probing and backward-shift removal. */
+    private static final class LongOpenSet {
+        private long[] keys = new long[16];
+        private int mask = 15;
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(long key) {
+            for (int slot = (int) mix(key) & mask; ; slot = (slot + 1) & mask) {
+                long stored = keys[slot];
+                if (stored == key) {
+                    return true;
+                }
+                if (stored == 0L) {
+                    return false;
+                }
+            }
+        }
+
+        boolean add(long key) {
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != 0L) {
+                if (keys[slot] == key) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                rehash(keys.length << 1);
+            }
+            return true;
+        }
+
+        boolean remove(long key) {
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != key) {
+                if (keys[slot] == 0L) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            size--;
+            while (true) {
+                int last = slot;
+                long current;
+                while (true) {
+                    slot = (slot + 1) & mask;
+                    current = keys[slot];
+                    if (current == 0L) {
+                        keys[last] = 0L;
+                        return true;
+                    }
+                    int home = (int) mix(current) & mask;
+                    if (last <= slot ? last >= home || home > slot : last >= home && home > slot) {
+                        break;
+                    }
+                }
+                keys[last] = current;
+            }
+        }
+
+        long[] toArray() {
+            long[] result = new long[size];
+            int i = 0;
+            for (long key : keys) {
+                if (key != 0L) {
+                    result[i++] = key;
+                }
+            }
+            return result;
+        }
+
+        private void rehash(int capacity) {
+            long[] old = keys;
+            keys = new long[capacity];
+            mask = capacity - 1;
+            for (long key : old) {
+                if (key != 0L) {
+                    int slot = (int) mix(key) & mask;
+                    while (keys[slot] != 0L) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = key;
+                }
+            }
+        }
+
+        private static long mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 32);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package irai.mod.reforge.Entity.Events;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.meta.MetaKey;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.npc.entities.NPCEntity;
+
+import irai.mod.reforge.Common.ElementalAffinityUtils;
+import irai.mod.reforge.Common.PlayerInventoryUtils;
+import irai.mod.reforge.Interactions.ReforgeEquip;
+import irai.mod.reforge.Socket.Essence;
+import irai.mod.reforge.Socket.ResonanceSystem;
+import irai.mod.reforge.Socket.SocketManager;
+import irai.mod.reforge.Socket.SocketView;
+
+/**
+ * Attacker and defender lookups for one {@link Damage}, shared by every damage system.
+ *
+ * The first system to ask attaches the context to the damage as a meta object; each value is
+ * resolved on first use and then reused, so a hit resolves the attacker, the held weapon,
+ * equipped armor, socket views and NPC affinity once however many systems read them.
+ * Nothing here depends on the damage amount, which systems keep changing.
+ */
+@SuppressWarnings("removal")
+public final class CombatContext {
+    private static final MetaKey<CombatContext> META_COMBAT_CONTEXT =
+            Damage.META_REGISTRY.registerMetaObject(d -> null);
+
+    private final Store<EntityStore> store;
+    private final Ref<EntityStore> attackerRef;
+    private final Ref<EntityStore> targetRef;
+
+    private boolean attackerResolved;
+    private Player attacker;
+    private boolean defenderResolved;
+    private Player defender;
+    private boolean targetNpcResolved;
+    private NPCEntity targetNpc;
+    private boolean weaponResolved;
+    private ItemStack weapon;
+    private boolean weaponViewResolved;
+    private SocketView weaponView;
+    private ResonanceSystem.ResonanceType weaponResonance;
+    private List<ItemStack> attackerArmor;
+    private List<ItemStack> defenderArmor;
+    private EnumSet<ResonanceSystem.ResonanceType> defenderArmorResonances;
+    private boolean targetAffinityResolved;
+    private Essence.Type targetAffinity;
+    private boolean attackerAffinityResolved;
+    private Essence.Type attackerAffinity;
+
+    private CombatContext(Store<EntityStore> store, Ref<EntityStore> attackerRef, Ref<EntityStore> targetRef) {
+        this.store = store;
+        this.attackerRef = attackerRef;
+        this.targetRef = targetRef;
+    }
+
+    /** Returns the context attached to {@code damage}, attaching a new one on first use. */
+    public static CombatContext of(Store<EntityStore> store, Ref<EntityStore> targetRef, Damage damage) {
+        CombatContext context = damage.getIfPresentMetaObject(META_COMBAT_CONTEXT);
+        if (context != null && context.store == store && context.targetRef == targetRef) {
+            return context;
+        }
+        Ref<EntityStore> attackerRef = damage.getSource() instanceof Damage.EntitySource entitySource
+                ? entitySource.getRef()
+                : null;
+        context = new CombatContext(store, attackerRef, targetRef);
+        damage.putMetaObject(META_COMBAT_CONTEXT, context);
+        return context;
+    }
+
+    public Ref<EntityStore> attackerRef() {
+        return attackerRef;
+    }
+
+    public Ref<EntityStore> targetRef() {
+        return targetRef;
+    }
+
+    public Player attacker() {
+        if (!attackerResolved) {
+            attackerResolved = true;
+            attacker = player(attackerRef);
+        }
+        return attacker;
+    }
+
+    public Player defender() {
+        if (!defenderResolved) {
+            defenderResolved = true;
+            defender = player(targetRef);
+        }
+        return defender;
+    }
+
+    public NPCEntity targetNpc() {
+        if (!targetNpcResolved) {
+            targetNpcResolved = true;
+            if (store != null && targetRef != null && NPCEntity.getComponentType() != null) {
+                targetNpc = store.getComponent(targetRef, NPCEntity.getComponentType());
+            }
+        }
+        return targetNpc;
+    }
+
+    /** The attacker's hotbar weapon, or null when the attacker is not a player holding one. */
+    public ItemStack weapon() {
+        if (!weaponResolved) {
+            weaponResolved = true;
+            Player player = attacker();
+            weapon = player == null ? null : PlayerInventoryUtils.findFirstInHotbar(player, ReforgeEquip::isWeapon);
+        }
+        return weapon;
+    }
+
+    public SocketView weaponView() {
+        if (!weaponViewResolved) {
+            weaponViewResolved = true;
+            ItemStack item = weapon();
+            weaponView = item == null || item.isEmpty() ? null : SocketManager.getSocketView(item);
+        }
+        return weaponView;
+    }
+
+    /** Active resonance of the weapon, falling back to the stored metadata for legacy items. */
+    public ResonanceSystem.ResonanceType weaponResonance() {
+        if (weaponResonance == null) {
+            ItemStack item = weapon();
+            weaponResonance = item == null || item.isEmpty()
+                    ? ResonanceSystem.ResonanceType.NONE
+                    : resonanceOf(item, weaponView());
+        }
+        return weaponResonance;
+    }
+
+    public List<ItemStack> attackerArmor() {
+        if (attackerArmor == null) {
+            attackerArmor = equippedArmor(attacker());
+        }
+        return attackerArmor;
+    }
+
+    public List<ItemStack> defenderArmor() {
+        if (defenderArmor == null) {
+            defenderArmor = equippedArmor(defender());
+        }
+        return defenderArmor;
+    }
+
+    public boolean defenderArmorHasResonance(ResonanceSystem.ResonanceType type) {
+        if (defenderArmorResonances == null) {
+            EnumSet<ResonanceSystem.ResonanceType> found = EnumSet.noneOf(ResonanceSystem.ResonanceType.class);
+            for (ItemStack armor : defenderArmor()) {
+                if (armor != null && !armor.isEmpty()) {
+                    found.add(resonanceOf(armor, SocketManager.getSocketView(armor)));
+                }
+            }
+            found.remove(ResonanceSystem.ResonanceType.NONE);
+            defenderArmorResonances = found;
+        }
+        return type != null && defenderArmorResonances.contains(type);
+    }
+
+    /** Elemental affinity of the target when it is an NPC. */
+    public Essence.Type targetAffinity() {
+        if (!targetAffinityResolved) {
+            targetAffinityResolved = true;
+            targetAffinity = ElementalAffinityUtils.resolveTargetAffinity(store, targetRef);
+        }
+        return targetAffinity;
+    }
+
+    /** Elemental affinity of the attacker when it is an NPC. */
+    public Essence.Type attackerAffinity() {
+        if (!attackerAffinityResolved) {
+            attackerAffinityResolved = true;
+            attackerAffinity = ElementalAffinityUtils.resolveTargetAffinity(store, attackerRef);
+        }
+        return attackerAffinity;
+    }
+
+    private Player player(Ref<EntityStore> ref) {
+        if (store == null || ref == null) {
+            return null;
+        }
+        try {
+            return store.getComponent(ref, Player.getComponentType());
+        } catch (IllegalStateException ignored) {
+            return null;
+        }
+    }
+
+    private static List<ItemStack> equippedArmor(Player player) {
+        return player == null ? List.of() : PlayerInventoryUtils.getEquippedArmor(player, ReforgeEquip::isArmor);
+    }
+
+    private static ResonanceSystem.ResonanceType resonanceOf(ItemStack item, SocketView view) {
+        if (view != null && view.getResonanceType() != null
+                && view.getResonanceType() != ResonanceSystem.ResonanceType.NONE) {
+            return view.getResonanceType();
+        }
+        String raw = SocketManager.getResonanceType(item);
+        if (raw == null || raw.isBlank()) {
+            return ResonanceSystem.ResonanceType.NONE;
+        }
+        try {
+            return ResonanceSystem.ResonanceType.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ignored) {
+            return ResonanceSystem.ResonanceType.NONE;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package irai.mod.reforge.Entity.Events;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Per-target floating damage state for {@link DamageNumberEST}: the culling window and any
+ * coalesced hits waiting to be shown.
+ *
+ * Entries are keyed by the target ref and threaded on an expiry list ordered by last use, so
+ * stale targets are dropped from the head a few at a time instead of by a periodic full scan.
+ * Each entry keeps the times of its recent numbers in a small ring, giving a sliding window.
+ */
+final class DamageNumberCullStore {
+    private static final long ENTRY_TTL_MS = 10_000L;
+
+    enum Coalesce {
+        /** Show the hit now; it opened a new window. */
+        SHOW,
+        /** Merged into a window whose flush is already scheduled. */
+        MERGED,
+        /** First hit merged into the window; the caller schedules the flush. */
+        MERGED_FIRST
+    }
+
+    record Pending(float amount, String kindId) {}
+
+    private final Map<Ref<EntityStore>, Entry> entries = new HashMap<>();
+    private Entry oldest;
+    private Entry newest;
+
+    /** True when the target already showed {@code maxPerTarget} numbers within {@code windowMs}. */
+    synchronized boolean cull(Ref<EntityStore> targetRef, long now, int windowMs, int maxPerTarget) {
+        Entry entry = touch(targetRef, now);
+        if (entry.hits == null || entry.hits.length != maxPerTarget) {
+            entry.hits = new long[maxPerTarget];
+            entry.hitHead = 0;
+            entry.hitCount = 0;
+        }
+        long[] hits = entry.hits;
+        while (entry.hitCount > 0 && now - hits[entry.hitHead] >= windowMs) {
+            entry.hitHead = (entry.hitHead + 1) % hits.length;
+            entry.hitCount--;
+        }
+        if (entry.hitCount >= hits.length) {
+            return true;
+        }
+        hits[(entry.hitHead + entry.hitCount) % hits.length] = now;
+        entry.hitCount++;
+        return false;
+    }
+
+    /**
+     * Adds a hit to the target's open window when it has the same kind. Hits keep merging until
+     * the pending total is taken, so a late flush never drops damage.
+     */
+    synchronized Coalesce coalesce(Ref<EntityStore> targetRef, String kindId, float amount, long now, int windowMs) {
+        Entry entry = touch(targetRef, now);
+        boolean sameKind = Objects.equals(entry.windowKindId, kindId);
+        if (sameKind && (now < entry.windowEndMs || entry.pendingAmount > 0f)) {
+            boolean first = entry.pendingAmount <= 0f;
+            entry.pendingAmount += amount;
+            return first ? Coalesce.MERGED_FIRST : Coalesce.MERGED;
+        }
+        if (entry.pendingAmount <= 0f) {
+            entry.windowKindId = kindId;
+            entry.windowEndMs = now + windowMs;
+        }
+        return Coalesce.SHOW;
+    }
+
+    /** Removes and returns the merged hits for the target, closing its window; null when none are waiting. */
+    synchronized Pending takePending(Ref<EntityStore> targetRef) {
+        Entry entry = entries.get(targetRef);
+        if (entry == null) {
+            return null;
+        }
+        float amount = entry.pendingAmount;
+        entry.pendingAmount = 0f;
+        entry.windowEndMs = 0L;
+        return amount > 0f ? new Pending(amount, entry.windowKindId) : null;
+    }
+
+    /** Forgets every target, including coalesced hits that were never shown. */
+    synchronized void clear() {
+        entries.clear();
+        oldest = null;
+        newest = null;
+    }
+
+    private Entry touch(Ref<EntityStore> targetRef, long now) {
+        expire(now);
+        Entry entry = entries.get(targetRef);
+        if (entry == null) {
+            entry = new Entry(targetRef);
+            entries.put(targetRef, entry);
+        } else if (entry != newest) {
+            unlink(entry);
+        } else {
+            entry.lastTouchedMs = now;
+            return entry;
+        }
+        entry.lastTouchedMs = now;
+        entry.prev = newest;
+        if (newest != null) {
+            newest.next = entry;
+        } else {
+            oldest = entry;
+        }
+        newest = entry;
+        return entry;
+    }
+
+    private void expire(long now) {
+        while (oldest != null && now - oldest.lastTouchedMs > ENTRY_TTL_MS) {
+            Entry entry = oldest;
+            unlink(entry);
+            entries.remove(entry.targetRef);
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            oldest = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        } else {
+            newest = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private static final class Entry {
+        private final Ref<EntityStore> targetRef;
+        private Entry prev;
+        private Entry next;
+        private long lastTouchedMs;
+        private long[] hits;
+        private int hitHead;
+        private int hitCount;
+        private String windowKindId;
+        private long windowEndMs;
+        private float pendingAmount;
+
+        private Entry(Ref<EntityStore> targetRef) {
+            this.targetRef = targetRef;
+        }
+    }
+}
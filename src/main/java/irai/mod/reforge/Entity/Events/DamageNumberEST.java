@@ -4,9 +4,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Iterator;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import com.hypixel.hytale.assetstore.map.IndexedLookupTableAssetMap;
@@ -54,6 +55,7 @@ import irai.mod.DynamicFloatingDamageFormatter.DamageNumbers;
 import irai.mod.reforge.Common.EnemyElementalShieldUtils;
 import irai.mod.reforge.Common.WeaponElementalDamageUtils;
 import irai.mod.reforge.Lore.LoreTargetingUtils;
+import irai.mod.reforge.Lore.LoreWorldTasks;
 import irai.mod.reforge.Socket.Essence;
 import irai.mod.reforge.UI.EnemyAffinityHudUI;
 
@@ -74,14 +76,15 @@ public class DamageNumberEST extends DamageEventSystem {
     private static final HytaleLogger LOGGER = HytaleLogger.get("SocketReforge.DamageNumber");
     private static final HytaleLogger ROOT_LOGGER = HytaleLogger.getLogger();
     private static final Level DEBUG_LOG_LEVEL = Level.WARNING;
-    private static final long CULL_BUCKET_TTL_MS = 10_000L;
     private static volatile boolean customCombatTextEnabled = true;
     private static volatile boolean cullingEnabled = true;
     private static volatile int cullingWindowMs = 500;
     private static volatile int cullingMaxPerTarget = 6;
     private static volatile double cullingBypassAmount = 75.0d;
-    private static volatile long lastCullCleanupMs = 0L;
-    private static final ConcurrentHashMap<String, CullBucket> cullBuckets = new ConcurrentHashMap<>();
+    private static volatile boolean coalescingEnabled = false;
+    private static volatile int coalescingWindowMs = 150;
+    private static final DamageNumberCullStore cullStore = new DamageNumberCullStore();
+    private static ScheduledExecutorService coalesceExecutor;
 
     static {
         try {
@@ -137,12 +140,16 @@ public class DamageNumberEST extends DamageEventSystem {
             cullingWindowMs = 500;
             cullingMaxPerTarget = 6;
             cullingBypassAmount = 75.0d;
+            coalescingEnabled = false;
+            coalescingWindowMs = 150;
             return;
         }
         cullingEnabled = config.isCullingEnabled();
         cullingWindowMs = Math.max(50, config.getCullingWindowMs());
         cullingMaxPerTarget = Math.max(0, config.getCullingMaxPerTarget());
         cullingBypassAmount = Math.max(0.0d, config.getCullingBypassAmount());
+        coalescingEnabled = config.isCoalescingEnabled();
+        coalescingWindowMs = Math.max(20, config.getCoalescingWindowMs());
     }
 
     public static void resetCombatTextComponentsForAllViewers() {
@@ -178,6 +185,8 @@ public class DamageNumberEST extends DamageEventSystem {
                        Store<EntityStore> store,
                        CommandBuffer<EntityStore> commandBuffer,
                        Damage damage) {
+        // Filtering is done by now, so this is the single point where the legacy key is encoded.
+        WeaponElementalDamageUtils.publishLegacyElementDamage(damage);
         if (!customCombatTextEnabled) {
             return;
         }
@@ -232,12 +241,17 @@ public class DamageNumberEST extends DamageEventSystem {
             debug("[DamageNumberEST] visibleComponentType is null");
         }
         String kindId = resolveKind(damage);
-        EnemyAffinityHudUI.showDamage(store, attackerRef, targetRef, damage.getAmount(), kindId, (float) shieldDamage, shieldActiveHit);
+        EnemyAffinityHudUI.showDamage(store, CombatContext.of(store, targetRef, damage),
+                damage.getAmount(), kindId, (float) shieldDamage, shieldActiveHit);
         float displayAmount = resolveDisplayAmount(damage.getAmount(), shieldDamage, shieldActiveHit);
         if (displayAmount <= 0f) {
             debug("[DamageNumberEST] skip combat text for guarded zero display");
             return;
         }
+        if (coalesceFloatingDamage(store, targetRef, displayAmount, kindId)) {
+            debug("[DamageNumberEST] coalesced floating damage for target=" + targetRef);
+            return;
+        }
         if (shouldCullFloatingDamage(targetRef, displayAmount)) {
             debug("[DamageNumberEST] culled floating damage for target=" + targetRef);
             return;
@@ -807,8 +821,8 @@ public class DamageNumberEST extends DamageEventSystem {
         if (resolved != null && !resolved.isBlank() && !"FLAT".equalsIgnoreCase(resolved)) {
             return resolved;
         }
-        Essence.Type strongestElement = strongestElementFromPayload(
-                damage == null ? null : damage.getIfPresentMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE));
+        Essence.Type strongestElement = WeaponElementalDamageUtils.strongestElement(
+                WeaponElementalDamageUtils.getElementDamage(damage));
         return strongestElement == null ? resolved : kindIdForElement(strongestElement);
     }
 
@@ -822,22 +836,6 @@ public class DamageNumberEST extends DamageEventSystem {
         return Math.max(0f, hpDamage);
     }
 
-    private static Essence.Type strongestElementFromPayload(String payload) {
-        Map<Essence.Type, Double> elementDamage = WeaponElementalDamageUtils.decodeElementDamage(payload);
-        Essence.Type strongestType = null;
-        double strongestDamage = 0.0d;
-        for (Map.Entry<Essence.Type, Double> entry : elementDamage.entrySet()) {
-            if (entry.getKey() == null || entry.getValue() == null) {
-                continue;
-            }
-            if (entry.getValue() > strongestDamage) {
-                strongestDamage = entry.getValue();
-                strongestType = entry.getKey();
-            }
-        }
-        return strongestType;
-    }
-
     private static String kindIdForElement(Essence.Type type) {
         return switch (type) {
             case FIRE -> "BURN";
@@ -899,9 +897,19 @@ public class DamageNumberEST extends DamageEventSystem {
         if (store == null || targetRef == null || amount <= 0f) {
             return;
         }
+        if (coalesceFloatingDamage(store, targetRef, amount, kindId)) {
+            return;
+        }
         if (shouldCullFloatingDamage(targetRef, amount)) {
             return;
         }
+        emitCombatTextDirect(store, targetRef, amount, kindId);
+    }
+
+    private static void emitCombatTextDirect(Store<EntityStore> store,
+                                             Ref<EntityStore> targetRef,
+                                             float amount,
+                                             String kindId) {
         ComponentType<EntityStore, Visible> visibleType;
         ComponentType<EntityStore, UIComponentList> uiType;
         try {
@@ -1113,49 +1121,62 @@ public class DamageNumberEST extends DamageEventSystem {
         if (cullingBypassAmount > 0.0d && amount >= cullingBypassAmount) {
             return false;
         }
-        long now = System.currentTimeMillis();
-        cleanupCullBuckets(now);
-        String key = String.valueOf(targetRef);
-        CullBucket bucket = cullBuckets.computeIfAbsent(key, ignored -> new CullBucket(now));
-        synchronized (bucket) {
-            if (now - bucket.windowStartMs >= cullingWindowMs) {
-                bucket.windowStartMs = now;
-                bucket.count = 0;
-                bucket.lastTouchedMs = now;
-            }
-            bucket.lastTouchedMs = now;
-            if (bucket.count < cullingMaxPerTarget) {
-                bucket.count++;
-                return false;
-            }
-            return true;
+        return cullStore.cull(targetRef, System.currentTimeMillis(), cullingWindowMs, cullingMaxPerTarget);
+    }
+
+    /**
+     * Folds the hit into the target's open coalescing window. The first hit of a window shows
+     * immediately; later hits of the same kind are summed and shown as one number when it closes.
+     */
+    private static boolean coalesceFloatingDamage(Store<EntityStore> store,
+                                                  Ref<EntityStore> targetRef,
+                                                  float amount,
+                                                  String kindId) {
+        if (!coalescingEnabled || store == null || targetRef == null) {
+            return false;
         }
+        int windowMs = coalescingWindowMs;
+        DamageNumberCullStore.Coalesce result =
+                cullStore.coalesce(targetRef, kindId, amount, System.currentTimeMillis(), windowMs);
+        if (result == DamageNumberCullStore.Coalesce.MERGED_FIRST) {
+            getCoalesceExecutor().schedule(() -> {
+                if (!LoreWorldTasks.queue(store, () -> flushCoalescedDamage(store, targetRef))) {
+                    cullStore.takePending(targetRef);
+                }
+            }, windowMs, TimeUnit.MILLISECONDS);
+        }
+        return result != DamageNumberCullStore.Coalesce.SHOW;
     }
 
-    private static void cleanupCullBuckets(long now) {
-        if (now - lastCullCleanupMs < CULL_BUCKET_TTL_MS) {
+    private static void flushCoalescedDamage(Store<EntityStore> store, Ref<EntityStore> targetRef) {
+        DamageNumberCullStore.Pending pending = cullStore.takePending(targetRef);
+        if (pending == null || !customCombatTextEnabled || !targetRef.isValid()) {
             return;
         }
-        lastCullCleanupMs = now;
-        Iterator<Map.Entry<String, CullBucket>> iterator = cullBuckets.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, CullBucket> entry = iterator.next();
-            CullBucket bucket = entry.getValue();
-            if (bucket == null || now - bucket.lastTouchedMs > CULL_BUCKET_TTL_MS) {
-                iterator.remove();
-            }
+        if (shouldCullFloatingDamage(targetRef, pending.amount())) {
+            return;
         }
+        emitCombatTextDirect(store, targetRef, pending.amount(), pending.kindId());
     }
 
-    private static final class CullBucket {
-        private long windowStartMs;
-        private long lastTouchedMs;
-        private int count;
+    /** Stops the coalescing flush thread and drops any hits still waiting to be shown. */
+    public static synchronized void shutdown() {
+        if (coalesceExecutor != null) {
+            coalesceExecutor.shutdownNow();
+            coalesceExecutor = null;
+        }
+        cullStore.clear();
+    }
 
-        private CullBucket(long now) {
-            this.windowStartMs = now;
-            this.lastTouchedMs = now;
+    private static synchronized ScheduledExecutorService getCoalesceExecutor() {
+        if (coalesceExecutor == null) {
+            coalesceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "SocketReforge-DamageNumbers");
+                thread.setDaemon(true);
+                return thread;
+            });
         }
+        return coalesceExecutor;
     }
 
     private static EntityViewer[] resolveViewers(CommandBuffer<EntityStore> commandBuffer,
@@ -1,7 +1,6 @@
 package irai.mod.reforge.Entity.Events;
 
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 import com.hypixel.hytale.codec.Codec;
@@ -24,15 +23,12 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import irai.mod.reforge.Config.RefinementConfig;
 import irai.mod.reforge.Common.EquipmentDurabilityPenaltyUtils;
-import irai.mod.reforge.Common.PlayerInventoryUtils;
 import irai.mod.reforge.Common.WeaponElementalDamageUtils;
 import irai.mod.reforge.Interactions.ReforgeEquip;
 import irai.mod.reforge.Socket.Essence;
-import irai.mod.reforge.Socket.EssenceRegistry;
 import irai.mod.reforge.Socket.EssenceEffect;
-import irai.mod.reforge.Socket.Socket;
-import irai.mod.reforge.Socket.SocketData;
 import irai.mod.reforge.Socket.SocketManager;
+import irai.mod.reforge.Socket.SocketView;
 import irai.mod.reforge.Lore.LoreDamageUtils;
 import irai.mod.reforge.Lore.LoreProcHandler;
 import irai.mod.reforge.Util.DamageNumberFormatter;
@@ -48,9 +44,17 @@ public class EquipmentRefineEST extends DamageEventSystem {
     public static final MetaKey<Boolean> META_SKIP_REFORGE =
             Damage.META_REGISTRY.registerMetaObject(d -> Boolean.FALSE, false,
                     "socketreforge:skip_reforge", Codec.BOOLEAN);
+    /**
+     * Legacy {@code TYPE:damage;...} payload kept for other mods: read when a hit arrives without
+     * the typed key, and written once from the final typed values when the hit is inspected.
+     */
     public static final MetaKey<String> META_WEAPON_ELEMENTAL_DAMAGE =
             Damage.META_REGISTRY.registerMetaObject(d -> "", false,
                     "socketreforge:weapon_elemental_damage", Codec.STRING);
+    /** Per-element weapon damage indexed by {@code Essence.Type} ordinal. */
+    public static final MetaKey<double[]> META_WEAPON_ELEMENT_DAMAGE_VALUES =
+            Damage.META_REGISTRY.registerMetaObject(d -> new double[0], false,
+                    "socketreforge:weapon_element_damage_values", Codec.DOUBLE_ARRAY);
 
     // Refinement config - will be injected from plugin
     private RefinementConfig refinementConfig;
@@ -134,25 +138,28 @@ public class EquipmentRefineEST extends DamageEventSystem {
         LoreProcHandler.enforceSignatureEnergyLock(store, attackerRef);
         LoreDamageUtils.traceSignatureEnergy(store, attackerRef, targetRef, "EquipmentRefineEST.before");
         boolean skipRefine = loreDamage || Boolean.TRUE.equals(damage.getIfPresentMetaObject(META_SKIP_REFORGE));
+        CombatContext combat = CombatContext.of(store, targetRef, damage);
 
         // ── Attacker weapon bonus (damage multiplier) ─────────────────────────
         if (!skipRefine) {
-            Player attacker = store.getComponent(attackerRef, Player.getComponentType());
+            Player attacker = combat.attacker();
             if (attacker != null) {
-                ItemStack weapon = findWeaponInHotbar(attacker);
+                ItemStack weapon = combat.weapon();
                 if (weapon != null && ReforgeEquip.isWeapon(weapon)) {
                     float baseDamage = damage.getAmount();
                     int upgradeLevel = ReforgeEquip.getLevelFromItem(weapon);
                     int clampedLevel = clampLevel(upgradeLevel);
                     double refinementMultiplier = getDamageMultiplier(clampedLevel);
                     double softcoreMultiplier = ReforgeEquip.getSoftcoreStatMultiplier(weapon);
-                    double socketMultiplier = calculateSocketDamageBonus(weapon);
-                    double socketFlat = calculateSocketFlatDamage(weapon);
-                    double attackSpeedPercent = calculateSocketAttackSpeedPercent(weapon);
+                    // Decode the weapon's sockets once for every socket-derived stat below.
+                    SocketView weaponView = combat.weaponView();
+                    double socketMultiplier = calculateSocketDamageBonus(weaponView);
+                    double socketFlat = calculateSocketFlatDamage(weaponView);
+                    double attackSpeedPercent = calculateSocketAttackSpeedPercent(weaponView);
                     double partsMultiplier = getPartsDamageMultiplier(weapon);
-                    int voidTier = getRawEssenceTier(weapon, Essence.Type.VOID);
-                    double critChancePercent = calculateSocketCritChancePercent(weapon);
-                    double critDamagePercent = calculateSocketCritDamagePercent(weapon);
+                    int voidTier = getRawEssenceTier(weaponView, Essence.Type.VOID);
+                    double critChancePercent = calculateSocketCritChancePercent(weaponView);
+                    double critDamagePercent = calculateSocketCritDamagePercent(weaponView);
 
                     float newDamage = (float) ((baseDamage
                             * refinementMultiplier
@@ -173,7 +180,7 @@ public class EquipmentRefineEST extends DamageEventSystem {
                         newDamage = (float) (newDamage * (1.0 + (critDamagePercent / 100.0)));
                     }
 
-                    int equippedVoidEssenceCount = countEquippedVoidEssences(attacker, weapon);
+                    int equippedVoidEssenceCount = countEquippedVoidEssences(combat.attackerArmor(), weaponView);
                     float bloodPactDamage = applyVoidTierFiveBloodPact(store, attackerRef, voidTier, equippedVoidEssenceCount);
                     if (bloodPactDamage > 0f) {
                         newDamage += bloodPactDamage;
@@ -181,9 +188,7 @@ public class EquipmentRefineEST extends DamageEventSystem {
 
                     WeaponElementalDamageUtils.AffinityDamage affinityDamage =
                             WeaponElementalDamageUtils.calculateAffinityDamage(weapon, newDamage, store, targetRef);
-                    if (affinityDamage.elementDamagePayload() != null && !affinityDamage.elementDamagePayload().isBlank()) {
-                        damage.putMetaObject(META_WEAPON_ELEMENTAL_DAMAGE, affinityDamage.elementDamagePayload());
-                    }
+                    WeaponElementalDamageUtils.setElementDamage(damage, affinityDamage.elementDamage());
                     if (affinityDamage.type() != null && Math.abs(affinityDamage.damageDelta()) > 0.0001f) {
                         newDamage = Math.max(0f, newDamage + affinityDamage.damageDelta());
                         markAffinityDamageKind(damage, affinityDamage.type());
@@ -226,19 +231,14 @@ public class EquipmentRefineEST extends DamageEventSystem {
 
         // ── Defender armor bonus (defense / damage reduction) ─────────────────
         if (skipRefine && !isPhysicalBleedLoreDamage(damage)) {
-            Player attacker = store.getComponent(attackerRef, Player.getComponentType());
+            Player attacker = combat.attacker();
             if (attacker != null) {
-                ItemStack weapon = findWeaponInHotbar(attacker);
+                ItemStack weapon = combat.weapon();
                 if (weapon != null && ReforgeEquip.isWeapon(weapon)) {
                     float newDamage = damage.getAmount();
                     WeaponElementalDamageUtils.AffinityDamage affinityDamage =
                             WeaponElementalDamageUtils.calculateAffinityDamage(weapon, newDamage, store, targetRef);
-                    if (affinityDamage.elementDamagePayload() != null && !affinityDamage.elementDamagePayload().isBlank()) {
-                        damage.putMetaObject(META_WEAPON_ELEMENTAL_DAMAGE,
-                                WeaponElementalDamageUtils.mergeElementDamagePayload(
-                                        damage.getIfPresentMetaObject(META_WEAPON_ELEMENTAL_DAMAGE),
-                                        affinityDamage.elementDamagePayload()));
-                    }
+                    WeaponElementalDamageUtils.addElementDamage(damage, affinityDamage.elementDamage());
                     if (affinityDamage.type() != null && Math.abs(affinityDamage.damageDelta()) > 0.0001f) {
                         newDamage = Math.max(0f, newDamage + affinityDamage.damageDelta());
                         markAffinityDamageKind(damage, affinityDamage.type());
@@ -252,9 +252,9 @@ public class EquipmentRefineEST extends DamageEventSystem {
             }
         }
 
-        Player defender = store.getComponent(targetRef, Player.getComponentType());
+        Player defender = combat.defender();
         if (defender != null) {
-            List<ItemStack> armorPieces = getAllEquippedArmor(defender);
+            List<ItemStack> armorPieces = combat.defenderArmor();
             if (!armorPieces.isEmpty()) {
                 double avgDefenseMultiplier = calculateAverageDefenseMultiplier(defender, armorPieces);
 
@@ -277,22 +277,6 @@ public class EquipmentRefineEST extends DamageEventSystem {
         LoreDamageUtils.traceSignatureEnergy(store, attackerRef, targetRef, "EquipmentRefineEST.after");
     }
 
-    /**
-     * Looks in the player's hotbar for the currently held weapon.
-     */
-    private ItemStack findWeaponInHotbar(Player player) {
-        return PlayerInventoryUtils.findFirstInHotbar(player, ReforgeEquip::isWeapon);
-    }
-
-    /**
-     * Gets all equipped armor pieces from the player's armor equipment slots only.
-     * Does NOT check inventory - only actual equipped armor.
-     * Returns a list of armor ItemStacks.
-     */
-    private List<ItemStack> getAllEquippedArmor(Player player) {
-        return PlayerInventoryUtils.getEquippedArmor(player, ReforgeEquip::isArmor);
-    }
-
     /**
      * Calculates the average defense multiplier from all equipped armor pieces.
      */
@@ -344,33 +328,33 @@ public class EquipmentRefineEST extends DamageEventSystem {
     }
 
     /**
-     * Reads socket percentage damage bonus from weapon metadata (with fallback).
+     * Reads socket percentage damage bonus from the decoded weapon view (with fallback).
      */
-    private double calculateSocketDamageBonus(ItemStack weapon) {
-        SocketData socketData = SocketManager.getSocketData(weapon);
-        if (socketData == null || socketData.getMaxSockets() == 0) {
+    private double calculateSocketDamageBonus(SocketView view) {
+        if (view == null || view.getMaxSockets() == 0) {
             return 1.0;
         }
-        double[] bonuses = SocketManager.getStoredStatBonus(weapon, EssenceEffect.StatType.DAMAGE);
-        if (bonuses[0] == 0.0 && bonuses[1] == 0.0) {
-            bonuses = SocketManager.calculateTieredBonus(socketData, EssenceEffect.StatType.DAMAGE, true);
+        double flat = view.getFlat(EssenceEffect.StatType.DAMAGE);
+        double percent = view.getPercent(EssenceEffect.StatType.DAMAGE);
+        if (flat == 0.0 && percent == 0.0) {
+            percent = view.getBasePercent(EssenceEffect.StatType.DAMAGE);
         }
-        return 1.0 + (bonuses[1] / 100.0);
+        return 1.0 + (percent / 100.0);
     }
 
     /**
-     * Reads socket flat damage bonus from weapon metadata (with fallback).
+     * Reads socket flat damage bonus from the decoded weapon view (with fallback).
      */
-    private double calculateSocketFlatDamage(ItemStack weapon) {
-        SocketData socketData = SocketManager.getSocketData(weapon);
-        if (socketData == null || socketData.getMaxSockets() == 0) {
+    private double calculateSocketFlatDamage(SocketView view) {
+        if (view == null || view.getMaxSockets() == 0) {
             return 0.0;
         }
-        double[] bonuses = SocketManager.getStoredStatBonus(weapon, EssenceEffect.StatType.DAMAGE);
-        if (bonuses[0] == 0.0 && bonuses[1] == 0.0) {
-            bonuses = SocketManager.calculateTieredBonus(socketData, EssenceEffect.StatType.DAMAGE, true);
+        double flat = view.getFlat(EssenceEffect.StatType.DAMAGE);
+        double percent = view.getPercent(EssenceEffect.StatType.DAMAGE);
+        if (flat == 0.0 && percent == 0.0) {
+            flat = view.getBaseFlat(EssenceEffect.StatType.DAMAGE);
         }
-        return bonuses[0];
+        return flat;
     }
 
     private void markAffinityDamageKind(Damage damage, Essence.Type type) {
@@ -395,12 +379,12 @@ public class EquipmentRefineEST extends DamageEventSystem {
      * Deterministic attack speed from Lightning tier.
      * Tier scaling: +1% per tier (T1..T5 => 1..5%).
      */
-    private double calculateSocketAttackSpeedPercent(ItemStack weapon) {
-        double[] stored = SocketManager.getStoredStatBonus(weapon, EssenceEffect.StatType.ATTACK_SPEED);
-        if (stored[1] > 0.0) {
-            return Math.max(0.0, Math.min(100.0, stored[1]));
+    private double calculateSocketAttackSpeedPercent(SocketView view) {
+        double stored = view != null ? view.getPercent(EssenceEffect.StatType.ATTACK_SPEED) : 0.0;
+        if (stored > 0.0) {
+            return Math.max(0.0, Math.min(100.0, stored));
         }
-        int lightningTier = getEssenceTier(weapon, Essence.Type.LIGHTNING);
+        int lightningTier = getEssenceTier(view, Essence.Type.LIGHTNING);
         return Math.max(0.0, Math.min(100.0, lightningTier));
     }
 
@@ -408,12 +392,12 @@ public class EquipmentRefineEST extends DamageEventSystem {
      * Deterministic crit chance from Lightning tier.
      * Tier scaling: +1% per tier (T1..T5 => 1..5%).
      */
-    private double calculateSocketCritChancePercent(ItemStack weapon) {
-        double[] stored = SocketManager.getStoredStatBonus(weapon, EssenceEffect.StatType.CRIT_CHANCE);
-        if (stored[1] > 0.0) {
-            return Math.max(0.0, Math.min(100.0, stored[1]));
+    private double calculateSocketCritChancePercent(SocketView view) {
+        double stored = view != null ? view.getPercent(EssenceEffect.StatType.CRIT_CHANCE) : 0.0;
+        if (stored > 0.0) {
+            return Math.max(0.0, Math.min(100.0, stored));
         }
-        int lightningTier = getEssenceTier(weapon, Essence.Type.LIGHTNING);
+        int lightningTier = getEssenceTier(view, Essence.Type.LIGHTNING);
         return Math.max(0.0, Math.min(100.0, lightningTier));
     }
 
@@ -421,33 +405,23 @@ public class EquipmentRefineEST extends DamageEventSystem {
      * Deterministic crit damage from Void tier.
      * Tier scaling: +5% per tier (T1..T5 => 5..25%).
      */
-    private double calculateSocketCritDamagePercent(ItemStack weapon) {
-        double[] stored = SocketManager.getStoredStatBonus(weapon, EssenceEffect.StatType.CRIT_DAMAGE);
-        if (stored[1] > 0.0) {
-            return Math.max(0.0, Math.min(200.0, stored[1]));
+    private double calculateSocketCritDamagePercent(SocketView view) {
+        double stored = view != null ? view.getPercent(EssenceEffect.StatType.CRIT_DAMAGE) : 0.0;
+        if (stored > 0.0) {
+            return Math.max(0.0, Math.min(200.0, stored));
         }
-        int voidTier = getEssenceTier(weapon, Essence.Type.VOID);
+        int voidTier = getEssenceTier(view, Essence.Type.VOID);
         return Math.max(0.0, Math.min(25.0, voidTier * 5.0));
     }
 
-    private int getEssenceTier(ItemStack weapon, Essence.Type type) {
-        if (weapon == null || weapon.isEmpty() || type == null) return 0;
-        SocketData socketData = SocketManager.getSocketData(weapon);
-        if (socketData == null || socketData.getMaxSockets() == 0) return 0;
-        Map<Essence.Type, Integer> tierMap = SocketManager.calculateConsecutiveTiers(socketData);
-        Integer tier = tierMap.get(type);
-        if (tier == null) return 0;
-        return Math.max(0, Math.min(5, tier));
+    private int getEssenceTier(SocketView view, Essence.Type type) {
+        if (view == null || view.getMaxSockets() == 0 || type == null) return 0;
+        return view.getTier(type);
     }
 
-    private int getRawEssenceTier(ItemStack weapon, Essence.Type type) {
-        if (weapon == null || weapon.isEmpty() || type == null) return 0;
-        SocketData socketData = SocketManager.getSocketData(weapon);
-        if (socketData == null || socketData.getMaxSockets() == 0) return 0;
-        Map<Essence.Type, Integer> tierMap = SocketManager.calculateRawConsecutiveTiers(socketData);
-        Integer tier = tierMap.get(type);
-        if (tier == null) return 0;
-        return Math.max(0, Math.min(5, tier));
+    private int getRawEssenceTier(SocketView view, Essence.Type type) {
+        if (view == null || view.getMaxSockets() == 0 || type == null) return 0;
+        return view.getRawTier(type);
     }
 
     /**
@@ -499,40 +473,15 @@ public class EquipmentRefineEST extends DamageEventSystem {
         return hpCost;
     }
 
-    private int countEquippedVoidEssences(Player attacker, ItemStack weapon) {
-        int total = countVoidEssences(weapon);
-        if (attacker == null) {
-            return total;
-        }
-        for (ItemStack armor : getAllEquippedArmor(attacker)) {
-            total += countVoidEssences(armor);
-        }
-        return total;
-    }
-
-    private int countVoidEssences(ItemStack item) {
-        if (item == null || item.isEmpty()) {
-            return 0;
-        }
-        SocketData socketData = SocketManager.getSocketData(item);
-        if (socketData == null || socketData.getSockets().isEmpty()) {
-            return 0;
-        }
-        int count = 0;
-        for (Socket socket : socketData.getSockets()) {
-            if (socket == null || socket.isBroken() || socket.isLocked()) {
-                continue;
-            }
-            String essenceId = socket.getEssenceId();
-            if (essenceId == null || essenceId.isBlank()) {
-                continue;
-            }
-            Essence essence = EssenceRegistry.get().getById(essenceId);
-            if (essence != null && essence.getType() == Essence.Type.VOID) {
-                count++;
+    private int countEquippedVoidEssences(List<ItemStack> attackerArmor, SocketView weaponView) {
+        int total = weaponView != null ? weaponView.getEssenceCount(Essence.Type.VOID) : 0;
+        for (ItemStack armor : attackerArmor) {
+            SocketView armorView = SocketManager.getSocketView(armor);
+            if (armorView != null) {
+                total += armorView.getEssenceCount(Essence.Type.VOID);
             }
         }
-        return count;
+        return total;
     }
 
     private int getHealthStatIndex(EntityStatMap statMap) {
@@ -14,6 +14,7 @@ import com.hypixel.hytale.server.core.modules.entitystats.modifier.Modifier;
 import com.hypixel.hytale.server.core.modules.entitystats.modifier.StaticModifier;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import irai.mod.reforge.Common.PlayerQueryUtils;
 import irai.mod.reforge.Socket.EssenceEffect;
 
 /**
@@ -23,14 +24,22 @@ public class LifeHealthSystem extends EntityTickingSystem<EntityStore> implement
 
     private static final String HEALTH_BONUS_MODIFIER_ID = "socket_reforge.armor.health_bonus";
 
+    private volatile Query<EntityStore> query;
+
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        Query<EntityStore> cached = query;
+        if (cached == null) {
+            cached = PlayerQueryUtils.playersWith(EntityStatMap.getComponentType());
+            query = cached;
+        }
+        return cached;
     }
 
     @Override
     public boolean isParallel(int from, int to) {
-        return false;
+        // Per-player work only touches that player's own components and concurrent caches.
+        return EntityTickingSystem.maybeUseParallel(from, to);
     }
 
     @Override
@@ -40,8 +49,8 @@ public class LifeHealthSystem extends EntityTickingSystem<EntityStore> implement
                      Store<EntityStore> store,
                      CommandBuffer<EntityStore> commandBuffer) {
         try {
-            Player player = store.getComponent(chunk.getReferenceTo(index), Player.getComponentType());
-            EntityStatMap statMap = store.getComponent(chunk.getReferenceTo(index), EntityStatMap.getComponentType());
+            Player player = chunk.getComponent(index, Player.getComponentType());
+            EntityStatMap statMap = chunk.getComponent(index, EntityStatMap.getComponentType());
             if (player == null || statMap == null) return;
             int healthStatIndex = getHealthStatIndex(statMap);
             if (healthStatIndex < 0) return;
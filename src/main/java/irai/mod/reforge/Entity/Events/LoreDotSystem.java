@@ -0,0 +1,22 @@
+package irai.mod.reforge.Entity.Events;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import irai.mod.reforge.Lore.LoreDotEngine;
+
+/**
+ * Runs the due damage- and heal-over-time ticks of each world once per world tick.
+ */
+public class LoreDotSystem extends TickingSystem<EntityStore> {
+
+    @Override
+    public void tick(float time, int systemIndex, Store<EntityStore> store) {
+        try {
+            LoreDotEngine.poll(store);
+        } catch (Throwable t) {
+            System.err.println("[SocketReforge] LoreDotSystem tick error: " + t.getMessage());
+        }
+    }
+}
@@ -75,8 +75,9 @@ public final class LoreEffectEST extends DamageEventSystem {
         LoreProcHandler.enforceSignatureEnergyLock(store, attackerRef);
         LoreDamageUtils.traceSignatureEnergy(store, attackerRef, targetRef, "LoreEffectEST.before");
 
-        Player attacker = attackerRef == null ? null : store.getComponent(attackerRef, Player.getComponentType());
-        Player defender = targetRef == null ? null : store.getComponent(targetRef, Player.getComponentType());
+        CombatContext combat = CombatContext.of(store, targetRef, damage);
+        Player attacker = combat.attacker();
+        Player defender = combat.defender();
 
         if (attacker != null && targetRef != null) {
             LoreProcHandler.tryApplyFrozenShatter(store, attackerRef, targetRef, damage);
@@ -102,12 +103,12 @@ public final class LoreEffectEST extends DamageEventSystem {
         if (ctx == null || !ctx.isValid()) {
             return;
         }
-        ItemStack weapon = LoreHeldItemUpdateManager.resolveHeldItem(attacker, ctx);
+        ItemStack weapon = ctx.getItemStack();
         if (weapon == null || weapon.isEmpty() || !LoreSocketManager.isEquipment(weapon)) {
             return;
         }
 
-        LoreSocketData data = LoreSocketManager.getLoreSocketData(weapon);
+        LoreSocketData data = LoreHeldItemUpdateManager.resolveHeldLoreData(attacker, ctx);
         if (data == null) {
             return;
         }
@@ -149,8 +150,7 @@ public final class LoreEffectEST extends DamageEventSystem {
         applyElementalAffinityToAddedDamage(store, defenderRef, weapon, damage, beforeLoreProcDamage);
 
         if (changed) {
-            ItemStack updated = LoreSocketManager.withLoreSocketData(weapon, data);
-            LoreHeldItemUpdateManager.applyOrQueue(store, attackerRef, attacker, ctx, updated);
+            LoreHeldItemUpdateManager.markChanged(store, attackerRef, attacker, ctx, data);
         }
     }
 
@@ -171,12 +171,12 @@ public final class LoreEffectEST extends DamageEventSystem {
         if (ctx == null || !ctx.isValid()) {
             return;
         }
-        ItemStack weapon = LoreHeldItemUpdateManager.resolveHeldItem(defender, ctx);
+        ItemStack weapon = ctx.getItemStack();
         if (weapon == null || weapon.isEmpty() || !LoreSocketManager.isEquipment(weapon)) {
             return;
         }
 
-        LoreSocketData data = LoreSocketManager.getLoreSocketData(weapon);
+        LoreSocketData data = LoreHeldItemUpdateManager.resolveHeldLoreData(defender, ctx);
         if (data == null) {
             return;
         }
@@ -214,8 +214,7 @@ public final class LoreEffectEST extends DamageEventSystem {
         }
 
         if (changed) {
-            ItemStack updated = LoreSocketManager.withLoreSocketData(weapon, data);
-            LoreHeldItemUpdateManager.applyOrQueue(store, defenderRef, defender, ctx, updated);
+            LoreHeldItemUpdateManager.markChanged(store, defenderRef, defender, ctx, data);
         }
     }
 
@@ -314,12 +313,7 @@ public final class LoreEffectEST extends DamageEventSystem {
         }
         WeaponElementalDamageUtils.AffinityDamage affinityDamage =
                 WeaponElementalDamageUtils.calculateAffinityDamage(weapon, addedDamage, store, defenderRef);
-        if (affinityDamage.elementDamagePayload() != null && !affinityDamage.elementDamagePayload().isBlank()) {
-            damage.putMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE,
-                    WeaponElementalDamageUtils.mergeElementDamagePayload(
-                            damage.getIfPresentMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE),
-                            affinityDamage.elementDamagePayload()));
-        }
+        WeaponElementalDamageUtils.addElementDamage(damage, affinityDamage.elementDamage());
         if (affinityDamage.type() != null && Math.abs(affinityDamage.damageDelta()) > 0.0001f) {
             damage.setAmount(Math.max(0f, damage.getAmount() + affinityDamage.damageDelta()));
             markAffinityDamageKind(damage, affinityDamage.type());
@@ -24,11 +24,13 @@ import irai.mod.reforge.Lore.LoreAbsorptionStore;
 import irai.mod.reforge.Lore.LoreAbility;
 import irai.mod.reforge.Lore.LoreAbilityRegistry;
 import irai.mod.reforge.Lore.LoreEffectType;
+import irai.mod.reforge.Lore.LoreEntityStatus;
 import irai.mod.reforge.Lore.LoreGemRegistry;
 import irai.mod.reforge.Lore.LoreHeldItemUpdateManager;
 import irai.mod.reforge.Lore.LoreProcHandler;
 import irai.mod.reforge.Lore.LoreSocketData;
 import irai.mod.reforge.Lore.LoreSocketManager;
+import irai.mod.reforge.Lore.LoreTimerWheel;
 import irai.mod.reforge.Lore.LoreTrigger;
 
 /**
@@ -82,6 +84,9 @@ public final class LoreKillEST extends DeathSystems.OnDeathSystem {
         if (ref == null || deathComponent == null || store == null) {
             return;
         }
+        // Drop pending DoT ticks and hits aimed at (or driven by) the dead entity.
+        LoreTimerWheel.cancel(ref);
+        LoreEntityStatus.remove(ref);
         Damage deathInfo = deathComponent.getDeathInfo();
         if (deathInfo == null) {
             return;
@@ -106,12 +111,12 @@ public final class LoreKillEST extends DeathSystems.OnDeathSystem {
         if (ctx == null || !ctx.isValid()) {
             return;
         }
-        ItemStack weapon = LoreHeldItemUpdateManager.resolveHeldItem(attacker, ctx);
+        ItemStack weapon = ctx.getItemStack();
         if (weapon == null || weapon.isEmpty() || !LoreSocketManager.isEquipment(weapon)) {
             return;
         }
 
-        LoreSocketData data = LoreSocketManager.getLoreSocketData(weapon);
+        LoreSocketData data = LoreHeldItemUpdateManager.resolveHeldLoreData(attacker, ctx);
         if (data == null) {
             return;
         }
@@ -147,8 +152,7 @@ public final class LoreKillEST extends DeathSystems.OnDeathSystem {
         }
 
         if (changed) {
-            ItemStack updated = LoreSocketManager.withLoreSocketData(weapon, data);
-            LoreHeldItemUpdateManager.applyOrQueue(store, attackerRef, attacker, ctx, updated);
+            LoreHeldItemUpdateManager.markChanged(store, attackerRef, attacker, ctx, data);
         }
     }
 
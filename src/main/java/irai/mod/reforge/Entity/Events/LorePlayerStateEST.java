@@ -35,6 +35,7 @@ import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import com.hypixel.hytale.server.npc.role.Role;
 
 import irai.mod.reforge.Common.PlayerInventoryUtils;
+import irai.mod.reforge.Common.PlayerQueryUtils;
 import irai.mod.reforge.Lore.LoreGemRegistry;
 import irai.mod.reforge.Lore.LoreHeldItemUpdateManager;
 import irai.mod.reforge.Lore.LoreProcHandler;
@@ -87,6 +88,7 @@ public final class LorePlayerStateEST extends EntityTickingSystem<EntityStore> {
     private static volatile Query<EntityStore> npcQuery;
 
     private static final ConcurrentMap<UUID, PlayerState> STATES = new ConcurrentHashMap<>();
+    private volatile Query<EntityStore> query;
 
     private static final class PlayerState {
         boolean sprinting;
@@ -107,11 +109,19 @@ public final class LorePlayerStateEST extends EntityTickingSystem<EntityStore> {
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        Query<EntityStore> cached = query;
+        if (cached == null) {
+            // Player only: held-item flushes must run even when movement or effect
+            // components are missing, and the tick already null-checks both.
+            cached = PlayerQueryUtils.playersWith();
+            query = cached;
+        }
+        return cached;
     }
 
     @Override
     public boolean isParallel(int from, int to) {
+        // Lore triggers can damage, heal and rewrite items on other entities.
         return false;
     }
 
@@ -123,7 +133,7 @@ public final class LorePlayerStateEST extends EntityTickingSystem<EntityStore> {
                      CommandBuffer<EntityStore> commandBuffer) {
         try {
             Ref<EntityStore> ref = chunk.getReferenceTo(index);
-            Player player = store.getComponent(ref, Player.getComponentType());
+            Player player = chunk.getComponent(index, Player.getComponentType());
             if (player == null) {
                 return;
             }
@@ -135,7 +145,7 @@ public final class LorePlayerStateEST extends EntityTickingSystem<EntityStore> {
             LoreHeldItemUpdateManager.flushPending(store, ref, player);
 
             MovementStatesComponent movementComponent =
-                    store.getComponent(ref, MovementStatesComponent.getComponentType());
+                    chunk.getComponent(index, MovementStatesComponent.getComponentType());
             MovementStates movement = movementComponent == null ? null : movementComponent.getMovementStates();
 
             boolean sprinting = movement != null && movement.sprinting;
@@ -161,7 +171,7 @@ public final class LorePlayerStateEST extends EntityTickingSystem<EntityStore> {
             }
 
             EffectControllerComponent effectController =
-                    store.getComponent(ref, EffectControllerComponent.getComponentType());
+                    chunk.getComponent(index, EffectControllerComponent.getComponentType());
             int[] currentEffects = effectController == null ? new int[0] : safeEffectIndexes(effectController);
             boolean statusApplied = hasNewEffects(state.effectIndexes, currentEffects);
             boolean potionEffectApplied = statusApplied && hasPotionEffect(currentEffects, state.effectIndexes);
@@ -171,7 +181,7 @@ public final class LorePlayerStateEST extends EntityTickingSystem<EntityStore> {
             String heldItemId = "";
             int heldQty = 0;
             if (heldCtx != null && heldCtx.isValid()) {
-                ItemStack held = LoreHeldItemUpdateManager.resolveHeldItem(player, heldCtx);
+                ItemStack held = heldCtx.getItemStack();
                 heldItemId = held == null ? "" : safeString(held.getItemId());
                 heldQty = held == null ? 0 : Math.max(0, held.getQuantity());
             }
@@ -218,21 +228,16 @@ public final class LorePlayerStateEST extends EntityTickingSystem<EntityStore> {
 
         PlayerInventoryUtils.HeldItemContext ctx = PlayerInventoryUtils.getHeldItemContext(player);
         if (ctx != null && ctx.isValid()) {
-            ItemStack weapon = LoreHeldItemUpdateManager.resolveHeldItem(player, ctx);
+            ItemStack weapon = ctx.getItemStack();
             if (weapon != null && !weapon.isEmpty() && LoreSocketManager.isEquipment(weapon)) {
-                LoreSocketData data = LoreSocketManager.getLoreSocketData(weapon);
+                LoreSocketData data = LoreHeldItemUpdateManager.resolveHeldLoreData(player, ctx);
                 if (data != null) {
                     entries.add(ItemEntry.held(ctx, data));
                     boolean changed = LoreSocketManager.syncSocketColors(weapon, data);
                     changed |= LoreProcHandler.applyLoreSockets(store, player, playerRef, null,
                             null, data, trigger, true, used, procState);
                     if (changed) {
-                        LoreHeldItemUpdateManager.applyOrQueue(
-                                store,
-                                playerRef,
-                                player,
-                                ctx,
-                                LoreSocketManager.withLoreSocketData(weapon, data));
+                        LoreHeldItemUpdateManager.markChanged(store, playerRef, player, ctx, data);
                     }
                 }
             }
@@ -775,15 +780,7 @@ public final class LorePlayerStateEST extends EntityTickingSystem<EntityStore> {
                 return;
             }
             if (heldContext != null && heldContext.isValid()) {
-                ItemStack current = LoreHeldItemUpdateManager.resolveHeldItem(player, heldContext);
-                if (current != null && !current.isEmpty()) {
-                    LoreHeldItemUpdateManager.applyOrQueue(
-                            store,
-                            playerRef,
-                            player,
-                            heldContext,
-                            LoreSocketManager.withLoreSocketData(current, data));
-                }
+                LoreHeldItemUpdateManager.markChanged(store, playerRef, player, heldContext, data);
                 return;
             }
             if (armorContainer != null && armorSlot >= 0) {
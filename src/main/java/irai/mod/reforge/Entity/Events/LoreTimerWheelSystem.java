@@ -0,0 +1,25 @@
+package irai.mod.reforge.Entity.Events;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import irai.mod.reforge.Lore.LoreEntityStatus;
+import irai.mod.reforge.Lore.LoreTimerWheel;
+
+/**
+ * Advances the lore timer wheel of each world once per world tick and sweeps a slice of
+ * stale lore status records.
+ */
+public class LoreTimerWheelSystem extends TickingSystem<EntityStore> {
+
+    @Override
+    public void tick(float time, int systemIndex, Store<EntityStore> store) {
+        try {
+            LoreTimerWheel.poll(store);
+            LoreEntityStatus.sweep(store, System.currentTimeMillis());
+        } catch (Throwable t) {
+            System.err.println("[SocketReforge] LoreTimerWheelSystem tick error: " + t.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package irai.mod.reforge.Entity.Events;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import irai.mod.reforge.Common.PlayerQueryUtils;
+import irai.mod.reforge.Util.DynamicTooltipUtils;
+
+/**
+ * Drains queued native tooltip refreshes a few slots per tick.
+ *
+ * Each world gets a shared slot budget (refilled to {@link #SLOTS_PER_TICK} at the start of
+ * every world tick), and a single player takes at most {@link #MAX_SLOTS_PER_PLAYER} per tick, so a server-wide
+ * refresh after a config reload is spread across ticks instead of rebuilding every
+ * inventory slot at once.
+ */
+public class NativeTooltipRefreshSystem extends EntityTickingSystem<EntityStore> {
+
+    private static final int SLOTS_PER_TICK = 32;
+    private static final int MAX_SLOTS_PER_PLAYER = 12;
+
+    private final Map<Store<EntityStore>, SlotBudget> budgets = Collections.synchronizedMap(new WeakHashMap<>());
+    private volatile Query<EntityStore> query;
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        Query<EntityStore> cached = query;
+        if (cached == null) {
+            cached = PlayerQueryUtils.playersWith();
+            query = cached;
+        }
+        return cached;
+    }
+
+    @Override
+    public void tick(float time, int systemIndex, Store<EntityStore> store) {
+        budgets.computeIfAbsent(store, ignored -> new SlotBudget()).refill();
+        super.tick(time, systemIndex, store);
+    }
+
+    @Override
+    public void tick(float time,
+                     int index,
+                     ArchetypeChunk<EntityStore> chunk,
+                     Store<EntityStore> store,
+                     CommandBuffer<EntityStore> commandBuffer) {
+        try {
+            Player player = chunk.getComponent(index, Player.getComponentType());
+            if (player == null || !DynamicTooltipUtils.hasPendingTooltipRefresh(player)) {
+                return;
+            }
+            SlotBudget budget = budgets.computeIfAbsent(store, ignored -> new SlotBudget());
+            int granted = budget.take(MAX_SLOTS_PER_PLAYER);
+            if (granted <= 0) {
+                return;
+            }
+            int used = DynamicTooltipUtils.drainPendingTooltipRefresh(player, granted);
+            budget.refund(granted - used);
+        } catch (Throwable t) {
+            System.err.println("[SocketReforge] NativeTooltipRefreshSystem tick error: " + t.getMessage());
+            t.printStackTrace();
+        }
+    }
+
+    /** Slots left in the current world tick; touched only from that world's thread. */
+    private static final class SlotBudget {
+        private int available = SLOTS_PER_TICK;
+
+        private void refill() {
+            available = SLOTS_PER_TICK;
+        }
+
+        private int take(int max) {
+            int granted = Math.min(max, available);
+            available -= granted;
+            return granted;
+        }
+
+        private void refund(int unused) {
+            if (unused > 0) {
+                available = Math.min(SLOTS_PER_TICK, available + unused);
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import com.hypixel.hytale.server.core.inventory.container.filter.SlotFilter;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import irai.mod.reforge.Common.ItemTypeUtils;
+import irai.mod.reforge.Common.PlayerQueryUtils;
 
 /**
  * Salvage bench compatibility:
@@ -87,9 +88,16 @@ public class SalvageMetadataCompatEST extends EntityTickingSystem<EntityStore> {
         }
     }
 
+    private volatile Query<EntityStore> query;
+
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        Query<EntityStore> cached = query;
+        if (cached == null) {
+            cached = PlayerQueryUtils.playersWith();
+            query = cached;
+        }
+        return cached;
     }
 
     @Override
@@ -103,7 +111,7 @@ public class SalvageMetadataCompatEST extends EntityTickingSystem<EntityStore> {
                      ArchetypeChunk<EntityStore> chunk,
                      Store<EntityStore> store,
                      CommandBuffer<EntityStore> commandBuffer) {
-        Player player = store.getComponent(chunk.getReferenceTo(index), Player.getComponentType());
+        Player player = chunk.getComponent(index, Player.getComponentType());
         if (player == null || player.getWindowManager() == null) {
             return;
         }
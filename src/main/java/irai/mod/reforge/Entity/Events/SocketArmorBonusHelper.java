@@ -1,6 +1,9 @@
 package irai.mod.reforge.Entity.Events;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
@@ -10,10 +13,15 @@ import irai.mod.reforge.Common.PlayerInventoryUtils;
 import irai.mod.reforge.Interactions.ReforgeEquip;
 import irai.mod.reforge.Socket.EssenceEffect;
 import irai.mod.reforge.Socket.SocketManager;
+import irai.mod.reforge.Socket.SocketView;
 
 /**
  * Aggregates socket bonuses from equipped armor and applies global balancing.
  * Balancing is tuned for 4 equipped armor pieces.
+ *
+ * Totals are kept as one {@link ArmorBonusSnapshot} per player and rebuilt only when
+ * the armor container changes (see {@link ArmorBonusInventoryChangeEST}) or the
+ * snapshot ages out, so ticking systems read them without walking equipment.
  */
 public final class SocketArmorBonusHelper {
 
@@ -34,32 +42,83 @@ public final class SocketArmorBonusHelper {
     private static final double EVASION_CAP = 25.0;
     private static final double SLOW_CAP = 30.0;
 
+    // Safety net for changes that do not raise an armor InventoryChangeEvent
+    // (world gameplay config swaps, broken-penalty edits).
+    private static final long SNAPSHOT_MAX_AGE_MS = 5000L;
+
+    private static final EssenceEffect.StatType[] STAT_TYPES = EssenceEffect.StatType.values();
+    private static final Map<UUID, ArmorBonusSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
     public static List<ItemStack> getEquippedArmor(Player player) {
         return PlayerInventoryUtils.getEquippedArmor(player, ReforgeEquip::isArmor);
     }
 
     public static double getScaledFlatBonus(Player player, EssenceEffect.StatType stat) {
-        double total = 0.0;
-        for (ItemStack armor : getEquippedArmor(player)) {
-            total += EquipmentDurabilityPenaltyUtils.scaleBonus(
-                    SocketManager.getStoredStatBonus(armor, stat)[0],
-                    player,
-                    armor,
-                    EquipmentDurabilityPenaltyUtils.BrokenKind.ARMOR);
-        }
-        return applyBalance(stat, total);
+        return getSnapshot(player).getFlat(stat);
     }
 
     public static double getScaledPercentBonus(Player player, EssenceEffect.StatType stat) {
-        double total = 0.0;
-        for (ItemStack armor : getEquippedArmor(player)) {
-            total += EquipmentDurabilityPenaltyUtils.scaleBonus(
-                    SocketManager.getStoredStatBonus(armor, stat)[1],
-                    player,
-                    armor,
-                    EquipmentDurabilityPenaltyUtils.BrokenKind.ARMOR);
+        return getSnapshot(player).getPercent(stat);
+    }
+
+    /**
+     * Returns the cached armor bonus totals for a player, rebuilding them if dirty or stale.
+     */
+    public static ArmorBonusSnapshot getSnapshot(Player player) {
+        if (player == null) {
+            return ArmorBonusSnapshot.EMPTY;
+        }
+        UUID uuid = player.getUuid();
+        if (uuid == null) {
+            return computeSnapshot(player);
+        }
+        ArmorBonusSnapshot cached = SNAPSHOTS.get(uuid);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.getComputedAtMillis() < SNAPSHOT_MAX_AGE_MS) {
+            return cached;
+        }
+        ArmorBonusSnapshot fresh = computeSnapshot(player);
+        SNAPSHOTS.put(uuid, fresh);
+        return fresh;
+    }
+
+    /** Marks a player's armor totals dirty so the next read rebuilds them. */
+    public static void markDirty(UUID playerUuid) {
+        if (playerUuid != null) {
+            SNAPSHOTS.remove(playerUuid);
+        }
+    }
+
+    /** Drops every cached snapshot, e.g. after socket config reload. */
+    public static void invalidateAll() {
+        SNAPSHOTS.clear();
+    }
+
+    private static ArmorBonusSnapshot computeSnapshot(Player player) {
+        double[] flat = new double[STAT_TYPES.length];
+        double[] percent = new double[STAT_TYPES.length];
+        List<ItemStack> armorPieces = getEquippedArmor(player);
+        for (ItemStack armor : armorPieces) {
+            SocketView view = SocketManager.getSocketView(armor);
+            double durabilityScale = EquipmentDurabilityPenaltyUtils.armorMultiplier(player, armor);
+            for (EssenceEffect.StatType stat : STAT_TYPES) {
+                if (view != null) {
+                    flat[stat.ordinal()] += view.getFlat(stat) * durabilityScale;
+                    percent[stat.ordinal()] += view.getPercent(stat) * durabilityScale;
+                } else {
+                    // No parseable sockets: fall back to the bonuses persisted in item metadata.
+                    double[] stored = SocketManager.getStoredStatBonus(armor, stat);
+                    flat[stat.ordinal()] += stored[0] * durabilityScale;
+                    percent[stat.ordinal()] += stored[1] * durabilityScale;
+                }
+            }
+        }
+        double[] unbalancedFlat = flat.clone();
+        for (EssenceEffect.StatType stat : STAT_TYPES) {
+            flat[stat.ordinal()] = applyBalance(stat, flat[stat.ordinal()]);
+            percent[stat.ordinal()] = applyBalance(stat, percent[stat.ordinal()]);
         }
-        return applyBalance(stat, total);
+        return new ArmorBonusSnapshot(flat, percent, unbalancedFlat, armorPieces.size(), System.currentTimeMillis());
     }
 
     private static double applyBalance(EssenceEffect.StatType stat, double raw) {
@@ -35,8 +35,6 @@ import com.hypixel.hytale.server.npc.entities.NPCEntity;
 import irai.mod.DynamicFloatingDamageFormatter.DamageNumberMeta;
 import irai.mod.reforge.Config.SFXConfig;
 import irai.mod.reforge.Common.ArmorAffinityResistanceUtils;
-import irai.mod.reforge.Common.EquipmentDurabilityPenaltyUtils;
-import irai.mod.reforge.Common.ElementalAffinityUtils;
 import irai.mod.reforge.Common.PlayerInventoryUtils;
 import irai.mod.reforge.Common.WeaponElementalDamageUtils;
 import irai.mod.reforge.Interactions.ReforgeEquip;
@@ -48,6 +46,7 @@ import irai.mod.reforge.Socket.EssenceEffect;
 import irai.mod.reforge.Socket.ResonanceSystem;
 import irai.mod.reforge.Socket.SocketData;
 import irai.mod.reforge.Socket.SocketManager;
+import irai.mod.reforge.Socket.SocketView;
 import irai.mod.reforge.Util.DamageNumberFormatter;
 
 /**
@@ -152,31 +151,32 @@ public class SocketEffectEST extends DamageEventSystem {
             Ref<EntityStore> attackerRef = entitySource.getRef();
             LoreProcHandler.enforceSignatureEnergyLock(store, attackerRef);
             LoreDamageUtils.traceSignatureEnergy(store, attackerRef, targetRef, "SocketEffectEST.before");
+            CombatContext combat = CombatContext.of(store, targetRef, damage);
             Player attackerPlayer = null;
             ItemStack attackerWeapon = null;
             ResonanceSystem.ResonanceType attackerResonanceType = ResonanceSystem.ResonanceType.NONE;
 
             // Apply attacker socket bonuses (damage increase)
-            Player attacker = store.getComponent(attackerRef, Player.getComponentType());
+            Player attacker = combat.attacker();
             attackerPlayer = attacker;
             if (attacker != null) {
                 applyFreezePenaltyIfPresent(attacker, damage);
-                ItemStack weapon = findWeaponInHotbar(attacker);
+                ItemStack weapon = combat.weapon();
                 if (weapon != null && ReforgeEquip.isWeapon(weapon)) {
                     attackerWeapon = weapon;
-                    attackerResonanceType = resolveResonanceType(weapon);
+                    attackerResonanceType = combat.weaponResonance();
                     // NOTE: attacker damage (refine + sockets) is applied in EquipmentRefineEST
                     // to avoid multi-system write races on Damage amount.
                 }
             }
 
             // Apply defender socket bonuses (damage reduction from armor sockets)
-            Player defenderPlayer = store.getComponent(targetRef, Player.getComponentType());
+            Player defenderPlayer = combat.defender();
             if (defenderPlayer != null) {
                 // Apply Ice Freeze effect on hit if attacker has Max Tier Ice Essence.
                 // This is independent of defender armor and is applied as a short debuff.
                 if (attacker != null) {
-                    applyIceFreezeOnHit(attacker, defenderPlayer);
+                    applyIceFreezeOnHit(attacker, defenderPlayer, combat.weapon(), combat.weaponView());
                 }
 
                 boolean blurActive = LoreStatusTracker.isBlurActive(defenderPlayer.getUuid());
@@ -185,14 +185,14 @@ public class SocketEffectEST extends DamageEventSystem {
                     return;
                 }
 
-                List<ItemStack> armorPieces = getAllEquippedArmor(defenderPlayer);
+                List<ItemStack> armorPieces = combat.defenderArmor();
                 if (!armorPieces.isEmpty()) {
                     SocketStatSystem.DefensiveBonuses defensiveBonuses = SocketStatSystem.getDefensiveBonuses(defenderPlayer);
 
                     // Evasion is a full dodge chance from armor sockets.
                     double evasionChance = Math.max(0.0, Math.min(100.0, defensiveBonuses.evasionPercent()));
                     if (evasionChance > 0 && ThreadLocalRandom.current().nextDouble(100.0) < evasionChance) {
-                        applyShockDodgeOnEvasion(store, defenderPlayer, attacker, attackerRef, armorPieces, damage.getAmount());
+                        applyShockDodgeOnEvasion(store, defenderPlayer, attacker, attackerRef, combat, damage.getAmount());
                         damage.setAmount(0f);
                         return;
                     }
@@ -205,19 +205,19 @@ public class SocketEffectEST extends DamageEventSystem {
                     }
 
                     double defenseMultiplier = 1.0 + (defensiveBonuses.defensePercent() / 100.0);
-                    double flatReduction = calculateSocketFlatDefense(defenderPlayer, armorPieces);
+                    double flatReduction = calculateSocketFlatDefense(defenderPlayer);
                     double slowPercent = 0.0;
                     // ICE armor slow is enemy-only: it should penalize the attacker, never the defender.
                     if (attacker != null && !isSamePlayer(attacker, defenderPlayer)) {
                         slowPercent = SocketArmorBonusHelper.getScaledPercentBonus(defenderPlayer, EssenceEffect.StatType.MOVEMENT_SPEED);
                         slowPercent = Math.max(0.0, Math.min(ICE_SLOW_DAMAGE_PENALTY_CAP, slowPercent));
                     }
-                    Map<Essence.Type, Double> incomingWeaponElementDamage = WeaponElementalDamageUtils.decodeElementDamage(
-                            damage.getIfPresentMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE));
-                    boolean hasIncomingWeaponElementDamage = hasAnyIncomingElementDamage(incomingWeaponElementDamage);
+                    double[] incomingWeaponElementDamage = WeaponElementalDamageUtils.getElementDamage(damage);
+                    boolean hasIncomingWeaponElementDamage =
+                            WeaponElementalDamageUtils.hasElementDamage(incomingWeaponElementDamage);
                     Essence.Type incomingAffinityType = hasIncomingWeaponElementDamage
                             ? null
-                            : ElementalAffinityUtils.resolveTargetAffinity(store, attackerRef);
+                            : combat.attackerAffinity();
                     if (incomingAffinityType != null) {
                         markAffinityDamageKind(damage, incomingAffinityType);
                     }
@@ -260,7 +260,7 @@ public class SocketEffectEST extends DamageEventSystem {
                         if (DEBUG_DAMAGE_LOG && (affinityDefensePercent > 0.0d || hasIncomingWeaponElementDamage)) {
                             System.out.println("[SocketReforge][ARMOR_AFFINITY] defender=" + defenderPlayer.getUuid()
                                     + " incoming=" + incomingAffinityType
-                                    + " weaponElements=" + incomingWeaponElementDamage
+                                    + " weaponElements=" + WeaponElementalDamageUtils.encodeElementDamage(incomingWeaponElementDamage)
                                     + " resistPercent=" + affinityDefensePercent
                                     + " multiplier=" + affinityDefenseMultiplier
                                     + " final=" + reducedDamage);
@@ -268,9 +268,9 @@ public class SocketEffectEST extends DamageEventSystem {
                     }
 
                     // Apply Fire Burn effect on hit if Fire Essence is Max Tier
-                    applyFireBurnOnHit(store, defenderPlayer, attackerRef, damage.getAmount());
+                    applyFireBurnOnHit(store, defenderPlayer, armorPieces, attackerRef, damage.getAmount());
 
-                    applyArmorResonanceOnHit(store, defenderPlayer, targetRef, attacker, attackerRef, armorPieces, damage);
+                    applyArmorResonanceOnHit(store, defenderPlayer, targetRef, attacker, attackerRef, combat, damage);
                 }
 
                 if (blurActive && attackerRef != null && !attackerRef.equals(targetRef) && beforeDefenderSocketDamage > 0f) {
@@ -311,39 +311,6 @@ public class SocketEffectEST extends DamageEventSystem {
         }
     }
 
-    private ResonanceSystem.ResonanceType parseResonanceType(String raw) {
-        if (raw == null || raw.isBlank()) {
-            return ResonanceSystem.ResonanceType.NONE;
-        }
-        try {
-            return ResonanceSystem.ResonanceType.valueOf(raw.trim().toUpperCase(Locale.ROOT));
-        } catch (IllegalArgumentException ignored) {
-            return ResonanceSystem.ResonanceType.NONE;
-        }
-    }
-
-    /**
-     * Resolves resonance from live socket layout first, then falls back to stored metadata.
-     * This keeps ECS behavior resilient when legacy items are missing resonance metadata.
-     */
-    private ResonanceSystem.ResonanceType resolveResonanceType(ItemStack item) {
-        if (item == null || item.isEmpty()) {
-            return ResonanceSystem.ResonanceType.NONE;
-        }
-        try {
-            SocketData socketData = SocketManager.getSocketData(item);
-            if (socketData != null) {
-                ResonanceSystem.ResonanceResult result = SocketManager.evaluateAllowedResonance(item, socketData);
-                if (result != null && result.active() && result.type() != null) {
-                    return result.type();
-                }
-            }
-        } catch (Throwable ignored) {
-            // Fall through to metadata-based resolution.
-        }
-        return parseResonanceType(SocketManager.getResonanceType(item));
-    }
-
     private void applyWeaponResonanceOnHit(Store<EntityStore> store,
                                            CommandBuffer<EntityStore> commandBuffer,
                                            Player attacker,
@@ -491,17 +458,17 @@ public class SocketEffectEST extends DamageEventSystem {
                                           Ref<EntityStore> defenderRef,
                                           Player attacker,
                                           Ref<EntityStore> attackerRef,
-                                          List<ItemStack> armorPieces,
+                                          CombatContext combat,
                                           Damage damage) {
-        if (store == null || defender == null || defenderRef == null || armorPieces == null || armorPieces.isEmpty() || damage == null) {
+        if (store == null || defender == null || defenderRef == null || combat == null || combat.defenderArmor().isEmpty() || damage == null) {
             return;
         }
 
-        boolean hasFrostNova = hasArmorResonance(armorPieces, ResonanceSystem.ResonanceType.FROST_NOVA_ON_HIT);
-        boolean hasThornsShock = hasArmorResonance(armorPieces, ResonanceSystem.ResonanceType.THORNS_SHOCK);
-        boolean hasCheatDeath = hasArmorResonance(armorPieces, ResonanceSystem.ResonanceType.CHEAT_DEATH);
-        boolean hasHealSurge = hasArmorResonance(armorPieces, ResonanceSystem.ResonanceType.HEAL_SURGE);
-        boolean hasAuraBurn = hasArmorResonance(armorPieces, ResonanceSystem.ResonanceType.AURA_BURN);
+        boolean hasFrostNova = combat.defenderArmorHasResonance(ResonanceSystem.ResonanceType.FROST_NOVA_ON_HIT);
+        boolean hasThornsShock = combat.defenderArmorHasResonance(ResonanceSystem.ResonanceType.THORNS_SHOCK);
+        boolean hasCheatDeath = combat.defenderArmorHasResonance(ResonanceSystem.ResonanceType.CHEAT_DEATH);
+        boolean hasHealSurge = combat.defenderArmorHasResonance(ResonanceSystem.ResonanceType.HEAL_SURGE);
+        boolean hasAuraBurn = combat.defenderArmorHasResonance(ResonanceSystem.ResonanceType.AURA_BURN);
 
         if (hasCheatDeath && applyCheatDeath(store, defenderRef, defender, damage)) {
             tryApplyVisualEffect(store, defenderRef, SHIELD_EFFECT_IDS);
@@ -550,15 +517,15 @@ public class SocketEffectEST extends DamageEventSystem {
                                           Player defender,
                                           Player attacker,
                                           Ref<EntityStore> attackerRef,
-                                          List<ItemStack> armorPieces,
+                                          CombatContext combat,
                                           float incomingDamage) {
-        if (store == null || defender == null || attacker == null || attackerRef == null || armorPieces == null || armorPieces.isEmpty()) {
+        if (store == null || defender == null || attacker == null || attackerRef == null || combat == null) {
             return;
         }
         if (isSamePlayer(attacker, defender)) {
             return;
         }
-        if (!hasArmorResonance(armorPieces, ResonanceSystem.ResonanceType.SHOCK_DODGE)) {
+        if (!combat.defenderArmorHasResonance(ResonanceSystem.ResonanceType.SHOCK_DODGE)) {
             return;
         }
         if (isResonanceOnCooldown(defender.getUuid(), "a_shock_dodge")) {
@@ -589,19 +556,6 @@ public class SocketEffectEST extends DamageEventSystem {
         }
     }
 
-    private boolean hasArmorResonance(List<ItemStack> armorPieces, ResonanceSystem.ResonanceType expected) {
-        if (armorPieces == null || armorPieces.isEmpty() || expected == null) {
-            return false;
-        }
-        for (ItemStack armor : armorPieces) {
-            ResonanceSystem.ResonanceType found = resolveResonanceType(armor);
-            if (found == expected) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private boolean applyCheatDeath(Store<EntityStore> store,
                                     Ref<EntityStore> defenderRef,
                                     Player defender,
@@ -766,6 +720,7 @@ public class SocketEffectEST extends DamageEventSystem {
      */
     private void applyFireBurnOnHit(Store<EntityStore> store,
                                     Player defender,
+                                    List<ItemStack> armorPieces,
                                     Ref<EntityStore> attackerRef,
                                     float finalIncomingDamage) {
         if (store == null || defender == null || attackerRef == null || finalIncomingDamage <= 0f) {
@@ -773,17 +728,12 @@ public class SocketEffectEST extends DamageEventSystem {
         }
 
         // Check if defender has armor with Fire Essence Tier 5
-        List<ItemStack> armorPieces = getAllEquippedArmor(defender);
         boolean hasFireTierFive = false;
         for (ItemStack armor : armorPieces) {
-            SocketData socketData = SocketManager.getSocketData(armor);
-            if (socketData != null && socketData.getMaxSockets() > 0) {
-                Map<Essence.Type, Integer> tierMap = SocketManager.calculateConsecutiveTiers(socketData);
-                Integer fireTier = tierMap.get(Essence.Type.FIRE);
-                if (fireTier != null && fireTier >= 5) {
-                    hasFireTierFive = true;
-                    break;
-                }
+            SocketView armorView = SocketManager.getSocketView(armor);
+            if (armorView != null && armorView.getMaxSockets() > 0 && armorView.getTier(Essence.Type.FIRE) >= 5) {
+                hasFireTierFive = true;
+                break;
             }
         }
         if (!hasFireTierFive) {
@@ -797,7 +747,7 @@ public class SocketEffectEST extends DamageEventSystem {
     /**
      * Applies Freeze effect to defender if attacker has Max Tier Ice Essence.
      */
-    private void applyIceFreezeOnHit(Player attacker, Player defender) {
+    private void applyIceFreezeOnHit(Player attacker, Player defender, ItemStack weapon, SocketView weaponView) {
         if (attacker == null || defender == null) {
             return;
         }
@@ -806,21 +756,15 @@ public class SocketEffectEST extends DamageEventSystem {
         }
 
         // Check if attacker has weapon with Ice Essence Tier 5
-        ItemStack weapon = findWeaponInHotbar(attacker);
         if (weapon == null || weapon.isEmpty() || !ReforgeEquip.isWeapon(weapon)) {
             return;
         }
 
-        SocketData socketData = SocketManager.getSocketData(weapon);
-        if (socketData != null && socketData.getMaxSockets() > 0) {
-             Map<Essence.Type, Integer> tierMap = SocketManager.calculateConsecutiveTiers(socketData);
-             Integer iceTier = tierMap.get(Essence.Type.ICE);
-             if (iceTier != null && iceTier >= 5) {
-                 UUID defenderUuid = defender.getUuid();
-                 if (defenderUuid != null) {
-                     FROZEN_UNTIL.put(defenderUuid, System.currentTimeMillis() + FREEZE_DURATION_MILLIS);
-                 }
-             }
+        if (weaponView != null && weaponView.getMaxSockets() > 0 && weaponView.getTier(Essence.Type.ICE) >= 5) {
+            UUID defenderUuid = defender.getUuid();
+            if (defenderUuid != null) {
+                FROZEN_UNTIL.put(defenderUuid, System.currentTimeMillis() + FREEZE_DURATION_MILLIS);
+            }
         }
     }
 
@@ -876,12 +820,7 @@ public class SocketEffectEST extends DamageEventSystem {
         }
         WeaponElementalDamageUtils.AffinityDamage affinityDamage =
                 WeaponElementalDamageUtils.calculateAffinityDamage(weapon, addedDamage, store, targetRef);
-        if (affinityDamage.elementDamagePayload() != null && !affinityDamage.elementDamagePayload().isBlank()) {
-            damage.putMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE,
-                    WeaponElementalDamageUtils.mergeElementDamagePayload(
-                            damage.getIfPresentMetaObject(EquipmentRefineEST.META_WEAPON_ELEMENTAL_DAMAGE),
-                            affinityDamage.elementDamagePayload()));
-        }
+        WeaponElementalDamageUtils.addElementDamage(damage, affinityDamage.elementDamage());
         if (affinityDamage.type() != null && Math.abs(affinityDamage.damageDelta()) > 0.0001f) {
             damage.setAmount(Math.max(0f, damage.getAmount() + affinityDamage.damageDelta()));
             markAffinityDamageKind(damage, affinityDamage.type());
@@ -961,47 +900,24 @@ public class SocketEffectEST extends DamageEventSystem {
     /**
      * Calculates the total flat defense reduction from socketed armor essences using tier-based calculation.
      */
-    private double calculateSocketFlatDefense(Player player, List<ItemStack> armorPieces) {
-        double totalReduction = 0;
-
-        for (ItemStack armor : armorPieces) {
-            double[] bonuses = SocketManager.getStoredStatBonus(armor, EssenceEffect.StatType.DEFENSE);
-            totalReduction += EquipmentDurabilityPenaltyUtils.scaleBonus(
-                    bonuses[0],
-                    player,
-                    armor,
-                    EquipmentDurabilityPenaltyUtils.BrokenKind.ARMOR);
-        }
-
-        return totalReduction;
-    }
-
-    private boolean hasAnyIncomingElementDamage(Map<Essence.Type, Double> incomingElementDamage) {
-        if (incomingElementDamage == null || incomingElementDamage.isEmpty()) {
-            return false;
-        }
-        for (double value : incomingElementDamage.values()) {
-            if (value > 0.0001d) {
-                return true;
-            }
-        }
-        return false;
+    private double calculateSocketFlatDefense(Player player) {
+        return SocketArmorBonusHelper.getSnapshot(player).getUnbalancedFlat(EssenceEffect.StatType.DEFENSE);
     }
 
     private double calculateIncomingWeaponElementalReduction(
             Player defender,
             List<ItemStack> armorPieces,
-            Map<Essence.Type, Double> incomingElementDamage,
+            double[] incomingElementDamage,
             double genericScale) {
         if (armorPieces == null || armorPieces.isEmpty()
-                || incomingElementDamage == null || incomingElementDamage.isEmpty()
+                || incomingElementDamage == null
                 || genericScale <= 0.0001d) {
             return 0.0d;
         }
 
         double totalReduction = 0.0d;
         for (Essence.Type incomingType : Essence.Type.values()) {
-            double elementDamage = incomingElementDamage.getOrDefault(incomingType, 0.0d);
+            double elementDamage = incomingElementDamage[incomingType.ordinal()];
             if (elementDamage <= 0.0001d) {
                 continue;
             }
@@ -1384,13 +1300,6 @@ public class SocketEffectEST extends DamageEventSystem {
         System.out.println("[SocketReforge][STORM] " + message);
     }
 
-    /**
-     * Looks in the player's hotbar for the currently held weapon.
-     */
-    private ItemStack findWeaponInHotbar(Player player) {
-        return PlayerInventoryUtils.findFirstInHotbar(player, ReforgeEquip::isWeapon);
-    }
-
     /**
      * Gets all equipped armor pieces from the player.
      */
@@ -1,9 +1,5 @@
 package irai.mod.reforge.Entity.Events;
 
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Store;
@@ -12,26 +8,33 @@ import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
-import irai.mod.reforge.Socket.EssenceEffect;
+import irai.mod.reforge.Common.PlayerQueryUtils;
 
 /**
  * Tracks balanced defensive armor socket bonuses for each player while equipped.
- * This provides a central source for EVASION/DEFENSE/BLOCK_CHANCE values.
+ * This provides a central source for EVASION/DEFENSE/BLOCK_CHANCE values, backed by
+ * the shared {@link ArmorBonusSnapshot}.
  */
 public class SocketStatSystem extends EntityTickingSystem<EntityStore> {
 
     public record DefensiveBonuses(double defensePercent, double evasionPercent, double blockChancePercent) {}
 
-    private static final Map<UUID, DefensiveBonuses> DEFENSIVE_CACHE = new ConcurrentHashMap<>();
+    private volatile Query<EntityStore> query;
 
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        Query<EntityStore> cached = query;
+        if (cached == null) {
+            cached = PlayerQueryUtils.playersWith();
+            query = cached;
+        }
+        return cached;
     }
 
     @Override
     public boolean isParallel(int from, int to) {
-        return false;
+        // Per-player work only touches that player's own components and concurrent caches.
+        return EntityTickingSystem.maybeUseParallel(from, to);
     }
 
     @Override
@@ -41,17 +44,11 @@ public class SocketStatSystem extends EntityTickingSystem<EntityStore> {
                      Store<EntityStore> store,
                      CommandBuffer<EntityStore> commandBuffer) {
         try {
-            Player player = store.getComponent(chunk.getReferenceTo(index), Player.getComponentType());
+            Player player = chunk.getComponent(index, Player.getComponentType());
             if (player == null) return;
 
-            double defense = SocketArmorBonusHelper.getScaledPercentBonus(player, EssenceEffect.StatType.DEFENSE);
-            double evasion = SocketArmorBonusHelper.getScaledPercentBonus(player, EssenceEffect.StatType.EVASION);
-            double blockChance = SocketArmorBonusHelper.getScaledPercentBonus(player, EssenceEffect.StatType.BLOCK_CHANCE);
-
-            UUID uuid = player.getUuid();
-            if (uuid != null) {
-                DEFENSIVE_CACHE.put(uuid, new DefensiveBonuses(defense, evasion, blockChance));
-            }
+            // Keeps the shared armor snapshot warm; this is a map read unless the armor changed.
+            SocketArmorBonusHelper.getSnapshot(player);
         } catch (Throwable t) {
             System.err.println("[SocketReforge] SocketStatSystem tick error: " + t.getMessage());
             t.printStackTrace();
@@ -60,28 +57,8 @@ public class SocketStatSystem extends EntityTickingSystem<EntityStore> {
 
     public static DefensiveBonuses getDefensiveBonuses(Player player) {
         if (player == null) return new DefensiveBonuses(0.0, 0.0, 0.0);
-        UUID uuid = player.getUuid();
-        if (uuid == null) {
-            return computeLiveDefensiveBonuses(player);
-        }
-
-        DefensiveBonuses cached = DEFENSIVE_CACHE.get(uuid);
-        if (cached != null) {
-            return cached;
-        }
-
-        // Fallback for first-hit / stale-cache scenarios:
-        // compute directly from equipped armor so defensive effects (especially evasion)
-        // still apply even before the ticking system refreshes this player.
-        DefensiveBonuses live = computeLiveDefensiveBonuses(player);
-        DEFENSIVE_CACHE.put(uuid, live);
-        return live;
-    }
-
-    private static DefensiveBonuses computeLiveDefensiveBonuses(Player player) {
-        double defense = SocketArmorBonusHelper.getScaledPercentBonus(player, EssenceEffect.StatType.DEFENSE);
-        double evasion = SocketArmorBonusHelper.getScaledPercentBonus(player, EssenceEffect.StatType.EVASION);
-        double blockChance = SocketArmorBonusHelper.getScaledPercentBonus(player, EssenceEffect.StatType.BLOCK_CHANCE);
-        return new DefensiveBonuses(defense, evasion, blockChance);
+        // The snapshot is rebuilt on demand, so first hits before any tick still see
+        // live armor values (especially evasion).
+        return SocketArmorBonusHelper.getSnapshot(player).getDefensiveBonuses();
     }
 }
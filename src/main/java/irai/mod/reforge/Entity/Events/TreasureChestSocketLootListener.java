@@ -1,11 +1,12 @@
 package irai.mod.reforge.Entity.Events;
 
+import java.io.File;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.logging.Logger;
 
 import com.hypixel.hytale.builtin.adventure.objectives.events.TreasureChestOpeningEvent;
@@ -35,8 +36,6 @@ import irai.mod.reforge.Util.DynamicTooltipUtils;
 @SuppressWarnings("removal")
 public final class TreasureChestSocketLootListener {
     private static final Logger LOGGER = Logger.getLogger("SocketReforge.WorldLoot");
-    private static final Set<String> ROLLED_CHESTS = ConcurrentHashMap.newKeySet();
-    private static final Set<String> LOGGED_SKIPPED_CHESTS = ConcurrentHashMap.newKeySet();
     private static final boolean DEBUG_LOOT = Boolean.parseBoolean(
             System.getProperty("socketreforge.debug.chestloot", "false"));
     private static volatile List<LootInjectionUtils.LootInjectionRule> chestLootInjectionRules = List.of(
@@ -60,6 +59,16 @@ public final class TreasureChestSocketLootListener {
     };
     private TreasureChestSocketLootListener() {}
 
+    /** Points the persistent chest-roll registry at {@code dataFolder}. */
+    public static void initialize(File dataFolder) {
+        ChestRollRegistry.initialize(dataFolder);
+    }
+
+    /** Writes out pending chest-roll state. */
+    public static void shutdown() {
+        ChestRollRegistry.shutdown();
+    }
+
     public static void onTreasureChestOpening(TreasureChestOpeningEvent event) {
         if (event == null || event.getStore() == null || event.getPlayerRef() == null) {
             return;
@@ -113,12 +122,7 @@ public final class TreasureChestSocketLootListener {
         if (player == null || player.getWorld() == null) {
             return;
         }
-        String chestKey = chestKey(player, x, y, z);
-        ROLLED_CHESTS.remove(chestKey);
-        LOGGED_SKIPPED_CHESTS.remove(chestKey);
-        String playerChestKey = playerChestKey(player, chestKey);
-        ROLLED_CHESTS.remove(playerChestKey);
-        LOGGED_SKIPPED_CHESTS.remove(playerChestKey);
+        ChestRollRegistry.reset(worldId(player), x, y, z, rollOwner(player, true));
         if (isMainWorld(player)) {
             clearChestCustomFlag(player, x, y, z);
         }
@@ -154,9 +158,13 @@ public final class TreasureChestSocketLootListener {
             }
 
             String chestKey = chestKey(player, containerBlockWindow);
-            String rollStateKey = resolveRollStateKey(player, chestKey, loot4EveryoneChest);
-            if (ROLLED_CHESTS.contains(rollStateKey)) {
-                if (LOGGED_SKIPPED_CHESTS.add(rollStateKey)) {
+            String worldId = worldId(player);
+            int x = containerBlockWindow.getX();
+            int y = containerBlockWindow.getY();
+            int z = containerBlockWindow.getZ();
+            UUID rollOwner = rollOwner(player, loot4EveryoneChest);
+            if (ChestRollRegistry.isRolled(worldId, x, y, z, rollOwner)) {
+                if (ChestRollRegistry.markSkipLogged(worldId, x, y, z, rollOwner)) {
                     log("Chest already rolled: chest=" + chestKey
                             + ", blockId=" + blockId
                             + ", source=" + source
@@ -175,7 +183,7 @@ public final class TreasureChestSocketLootListener {
             // This avoids repeatedly scanning empty (not-yet-generated) containers while
             // preventing later player-deposited equipment from being treated as world loot.
             if (result.nonEmptyLootCount > 0) {
-                if (ROLLED_CHESTS.add(rollStateKey)) {
+                if (ChestRollRegistry.markRolled(worldId, x, y, z, rollOwner)) {
                     if (!loot4EveryoneChest) {
                         markChestRolled(player, containerBlockWindow);
                     }
@@ -189,7 +197,7 @@ public final class TreasureChestSocketLootListener {
                             + ", injectedLoot=" + result.injectedCount
                             + ", foundLoot=[" + result.foundLoot + "]");
                 }
-                LOGGED_SKIPPED_CHESTS.remove(rollStateKey);
+                ChestRollRegistry.clearSkipLogged(worldId, x, y, z, rollOwner);
             }
             changed += result.changedCount;
         }
@@ -641,8 +649,12 @@ public final class TreasureChestSocketLootListener {
     }
 
     private static String chestKey(Player player, int x, int y, int z) {
+        return worldId(player) + "|" + x + "|" + y + "|" + z;
+    }
+
+    private static String worldId(Player player) {
         if (player == null || player.getWorld() == null) {
-            return "unknown|" + x + "|" + y + "|" + z;
+            return "unknown";
         }
         String worldId = player.getWorld().getName();
         WorldConfig config = player.getWorld().getWorldConfig();
@@ -652,7 +664,7 @@ public final class TreasureChestSocketLootListener {
         if (worldId == null || worldId.isBlank()) {
             worldId = "unknown";
         }
-        return worldId + "|" + x + "|" + y + "|" + z;
+        return worldId;
     }
 
     private static void clearChestCustomFlag(Player player, int x, int y, int z) {
@@ -699,30 +711,19 @@ public final class TreasureChestSocketLootListener {
         }
     }
 
-    private static String resolveRollStateKey(Player player, String chestKey, boolean perPlayer) {
-        if (!perPlayer) {
-            return chestKey;
-        }
-        return playerChestKey(player, chestKey);
-    }
-
-    private static String playerChestKey(Player player, String chestKey) {
-        if (chestKey == null || chestKey.isBlank()) {
-            chestKey = "unknown|0|0|0";
-        }
-        if (player == null) {
-            return chestKey + "|player=unknown";
+    /** The player whose roll state applies, or null for chests rolled once for everyone. */
+    private static UUID rollOwner(Player player, boolean perPlayer) {
+        if (!perPlayer || player == null) {
+            return null;
         }
-        String playerId = "unknown";
         try {
-            java.util.UUID uuid = player.getUuid();
+            UUID uuid = player.getUuid();
             if (uuid != null) {
-                playerId = uuid.toString();
+                return uuid;
             }
         } catch (Throwable ignored) {
-            playerId = "ref@" + Integer.toHexString(System.identityHashCode(player));
         }
-        return chestKey + "|player=" + playerId;
+        return new UUID(0L, 0L);
     }
 
     private static boolean isLoot4EveryoneChest(Player player, ContainerBlockWindow window) {
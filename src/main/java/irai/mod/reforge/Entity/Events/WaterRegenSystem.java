@@ -11,6 +11,7 @@ import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
 import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import irai.mod.reforge.Common.PlayerQueryUtils;
 import irai.mod.reforge.Socket.EssenceEffect;
 
 /**
@@ -18,14 +19,22 @@ import irai.mod.reforge.Socket.EssenceEffect;
  */
 public class WaterRegenSystem extends EntityTickingSystem<EntityStore> {
 
+    private volatile Query<EntityStore> query;
+
     @Override
     public Query<EntityStore> getQuery() {
-        return Query.any();
+        Query<EntityStore> cached = query;
+        if (cached == null) {
+            cached = PlayerQueryUtils.playersWith(EntityStatMap.getComponentType());
+            query = cached;
+        }
+        return cached;
     }
 
     @Override
     public boolean isParallel(int from, int to) {
-        return false;
+        // Per-player work only touches that player's own components and concurrent caches.
+        return EntityTickingSystem.maybeUseParallel(from, to);
     }
 
     @Override
@@ -35,8 +44,8 @@ public class WaterRegenSystem extends EntityTickingSystem<EntityStore> {
                      Store<EntityStore> store,
                      CommandBuffer<EntityStore> commandBuffer) {
         try {
-            Player player = store.getComponent(chunk.getReferenceTo(index), Player.getComponentType());
-            EntityStatMap statMap = store.getComponent(chunk.getReferenceTo(index), EntityStatMap.getComponentType());
+            Player player = chunk.getComponent(index, Player.getComponentType());
+            EntityStatMap statMap = chunk.getComponent(index, EntityStatMap.getComponentType());
             if (player == null || statMap == null || time <= 0f) return;
 
             int healthStatIndex = getHealthStatIndex(statMap);
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.nio.file.Files;
@@ -21,6 +22,9 @@ import irai.mod.reforge.Lore.LoreGemRegistry;
  */
 public final class LoreAbilityRegistry {
     private static final Map<String, LoreAbility> EXPLICIT = new ConcurrentHashMap<>();
+    private static final Map<String, ResolvedAbility> RESOLVED = new ConcurrentHashMap<>();
+    private static final int RESOLVED_CACHE_LIMIT = 4096;
+    private static final AtomicInteger GENERATION = new AtomicInteger();
     private static volatile LoreMappingConfig config = new LoreMappingConfig();
 
     private static final LoreTrigger[] PROCEDURAL_TRIGGERS = new LoreTrigger[] {
@@ -206,22 +210,54 @@ public final class LoreAbilityRegistry {
 
     public static void reload() {
         EXPLICIT.clear();
-        String[] entries = config == null ? null : config.getAbilityEntries();
-        if (entries == null || entries.length == 0) {
-            return;
-        }
-        for (String raw : entries) {
-            LoreAbility ability = parseEntry(raw);
-            if (ability != null && ability.getSpiritId() != null && !ability.getSpiritId().isBlank()) {
-                EXPLICIT.put(LoreIds.normalizeSpiritId(ability.getSpiritId()), ability);
+        try {
+            String[] entries = config == null ? null : config.getAbilityEntries();
+            if (entries == null || entries.length == 0) {
+                return;
             }
+            for (String raw : entries) {
+                LoreAbility ability = parseEntry(raw);
+                if (ability != null && ability.getSpiritId() != null && !ability.getSpiritId().isBlank()) {
+                    EXPLICIT.put(LoreIds.normalizeSpiritId(ability.getSpiritId()), ability);
+                }
+            }
+        } finally {
+            invalidateResolved();
         }
     }
 
+    /**
+     * Drops memoized abilities. Called on reload and whenever the NPC spirit pools that
+     * decide NPC-mapped vs procedural abilities are rebuilt.
+     */
+    static void invalidateResolved() {
+        GENERATION.incrementAndGet();
+        RESOLVED.clear();
+    }
+
+    /**
+     * Resolves the ability for a spirit, memoized per spirit id until the next reload.
+     * Abilities are immutable, so the cached instance is shared across hits and sockets.
+     */
     public static LoreAbility getAbility(String spiritId) {
         if (spiritId == null || spiritId.isBlank()) {
             return null;
         }
+        int current = GENERATION.get();
+        ResolvedAbility cached = RESOLVED.get(spiritId);
+        if (cached != null && cached.generation == current) {
+            return cached.ability;
+        }
+        LoreAbility ability = resolveAbility(spiritId);
+        if (RESOLVED.size() >= RESOLVED_CACHE_LIMIT) {
+            RESOLVED.clear();
+        }
+        // Stamped with the generation read before resolving, so a result racing a reload is never reused.
+        RESOLVED.put(spiritId, new ResolvedAbility(current, ability));
+        return ability;
+    }
+
+    private static LoreAbility resolveAbility(String spiritId) {
         LoreAbility explicit = EXPLICIT.get(LoreIds.normalizeSpiritId(spiritId));
         if (explicit != null) {
             return explicit;
@@ -649,6 +685,8 @@ public final class LoreAbilityRegistry {
         };
     }
 
+    private record ResolvedAbility(int generation, LoreAbility ability) {}
+
     private static final class SpiritHp {
         private final String spiritId;
         private final int hp;
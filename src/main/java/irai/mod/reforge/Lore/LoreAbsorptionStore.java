@@ -3,21 +3,51 @@ package irai.mod.reforge.Lore;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Persistent store of absorbed lore spirits per player.
+ *
+ * The properties file is a snapshot; each absorb after it is appended as one
+ * {@code uuid,spiritId} line to a journal by a background writer, which syncs once per
+ * batch. The journal is folded back into the snapshot on shutdown or once it grows past
+ * {@link #COMPACT_THRESHOLD} lines. Loading replays the snapshot and then the journal.
  */
 public final class LoreAbsorptionStore {
+    private static final int COMPACT_THRESHOLD = 4096;
+
     private static final Map<UUID, Set<String>> ABSORBED = new ConcurrentHashMap<>();
+    private static final Queue<String> PENDING = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean FLUSH_QUEUED = new AtomicBoolean();
     private static File storeFile;
+    private static File journalFile;
+    private static ExecutorService writer;
+    // Writer-thread state
+    private static FileChannel journal;
+    private static int journalLines;
 
     private LoreAbsorptionStore() {}
 
@@ -26,7 +56,15 @@ public final class LoreAbsorptionStore {
             dataFolder = new File(".");
         }
         storeFile = new File(dataFolder, "lore_absorbed.properties");
+        journalFile = new File(dataFolder, "lore_absorbed.journal");
         load();
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "SocketReforge-LoreAbsorption");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
     }
 
     public static boolean isAbsorbed(UUID playerId, String spiritId) {
@@ -56,16 +94,142 @@ public final class LoreAbsorptionStore {
             return false;
         }
         String normalized = LoreIds.normalizeSpiritId(spiritId);
-        Set<String> set = ABSORBED.computeIfAbsent(playerId, ignored -> new LinkedHashSet<>());
-        boolean added = set.add(normalized);
+        boolean added = spiritsOf(playerId).add(normalized);
         if (added) {
-            save();
+            PENDING.add(playerId + "," + normalized + "\n");
+            queueFlush();
         }
         return added;
     }
 
+    /** Writes out pending absorbs, folds the journal into the snapshot and stops the writer. */
+    public static void shutdown() {
+        ExecutorService current = writer;
+        if (current == null) {
+            return;
+        }
+        writer = null;
+        current.execute(() -> {
+            drainPending();
+            compact();
+            closeJournal();
+        });
+        current.shutdown();
+        try {
+            if (!current.awaitTermination(5, TimeUnit.SECONDS)) {
+                System.err.println("[SocketReforge] Lore absorption store did not finish writing before shutdown.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Set<String> spiritsOf(UUID playerId) {
+        return ABSORBED.computeIfAbsent(playerId, ignored -> Collections.synchronizedSet(new LinkedHashSet<>()));
+    }
+
+    private static void queueFlush() {
+        ExecutorService current = writer;
+        if (current == null || !FLUSH_QUEUED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            current.execute(() -> {
+                FLUSH_QUEUED.set(false);
+                drainPending();
+                if (journalLines >= COMPACT_THRESHOLD) {
+                    compact();
+                }
+            });
+        } catch (Exception e) {
+            FLUSH_QUEUED.set(false);
+        }
+    }
+
+    private static void drainPending() {
+        if (PENDING.isEmpty() || journalFile == null) {
+            return;
+        }
+        StringBuilder batch = new StringBuilder();
+        int lines = 0;
+        String line;
+        while ((line = PENDING.poll()) != null) {
+            batch.append(line);
+            lines++;
+        }
+        try {
+            if (journal == null) {
+                journal = new FileOutputStream(journalFile, true).getChannel();
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+            journalLines += lines;
+        } catch (IOException e) {
+            System.err.println("[SocketReforge] Failed to append lore absorption journal: " + e.getMessage());
+            closeJournal();
+        }
+    }
+
+    /** Rewrites the snapshot from memory and truncates the journal. Runs on the writer thread. */
+    private static void compact() {
+        if (storeFile == null || journalFile == null) {
+            return;
+        }
+        Properties props = new Properties();
+        for (Map.Entry<UUID, Set<String>> entry : ABSORBED.entrySet()) {
+            Set<String> spirits = entry.getValue();
+            String joined;
+            synchronized (spirits) {
+                joined = String.join(",", spirits);
+            }
+            if (!joined.isEmpty()) {
+                props.setProperty(entry.getKey().toString(), joined);
+            }
+        }
+        File temp = new File(storeFile.getParentFile(), storeFile.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            props.store(out, "Lore absorbed spirits");
+            out.getFD().sync();
+        } catch (IOException e) {
+            System.err.println("[SocketReforge] Failed to write lore absorption snapshot: " + e.getMessage());
+            return;
+        }
+        try {
+            try {
+                Files.move(temp.toPath(), storeFile.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), storeFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            closeJournal();
+            Files.deleteIfExists(journalFile.toPath());
+            journalLines = 0;
+        } catch (IOException e) {
+            System.err.println("[SocketReforge] Failed to compact lore absorption journal: " + e.getMessage());
+        }
+    }
+
+    private static void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException ignored) {
+        }
+        journal = null;
+    }
+
     private static void load() {
         ABSORBED.clear();
+        loadSnapshot();
+        journalLines = replayJournal();
+    }
+
+    private static void loadSnapshot() {
         if (storeFile == null || !storeFile.exists()) {
             return;
         }
@@ -79,7 +243,7 @@ public final class LoreAbsorptionStore {
             try {
                 UUID playerId = UUID.fromString(key);
                 String value = props.getProperty(key, "");
-                Set<String> spirits = new LinkedHashSet<>();
+                List<String> spirits = new ArrayList<>();
                 if (value != null && !value.isBlank()) {
                     Arrays.stream(value.split(","))
                             .map(String::trim)
@@ -88,7 +252,7 @@ public final class LoreAbsorptionStore {
                             .forEach(spirits::add);
                 }
                 if (!spirits.isEmpty()) {
-                    ABSORBED.put(playerId, spirits);
+                    spiritsOf(playerId).addAll(spirits);
                 }
             } catch (IllegalArgumentException ignored) {
                 // Skip invalid UUID keys.
@@ -96,26 +260,59 @@ public final class LoreAbsorptionStore {
         }
     }
 
-    private static synchronized void save() {
-        if (storeFile == null) {
-            return;
+    /**
+     * Replays complete journal lines. A trailing line without its newline is a torn append from
+     * a crash; it is ignored and cut off so the next append starts on a fresh line.
+     */
+    private static int replayJournal() {
+        if (journalFile == null || !journalFile.exists()) {
+            return 0;
         }
-        Properties props = new Properties();
-        for (Map.Entry<UUID, Set<String>> entry : ABSORBED.entrySet()) {
-            UUID playerId = entry.getKey();
-            Set<String> spirits = entry.getValue();
-            if (playerId == null || spirits == null || spirits.isEmpty()) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(journalFile.toPath());
+        } catch (IOException e) {
+            System.err.println("[SocketReforge] Failed to replay lore absorption journal: " + e.getMessage());
+            return 0;
+        }
+        int complete = bytes.length;
+        while (complete > 0 && bytes[complete - 1] != '\n') {
+            complete--;
+        }
+        boolean torn = complete < bytes.length;
+        boolean trimmed = !torn || truncateJournal(complete);
+        int lines = 0;
+        String text = new String(bytes, 0, complete, StandardCharsets.UTF_8);
+        for (String line : text.split("\n")) {
+            int comma = line.indexOf(',');
+            if (comma <= 0 || comma == line.length() - 1) {
                 continue;
             }
-            String joined = String.join(",", spirits);
-            props.setProperty(playerId.toString(), joined);
+            try {
+                UUID playerId = UUID.fromString(line.substring(0, comma).trim());
+                spiritsOf(playerId).add(LoreIds.normalizeSpiritId(line.substring(comma + 1).trim()));
+                lines++;
+            } catch (IllegalArgumentException ignored) {
+                // Skip an invalid line.
+            }
         }
-        try (FileOutputStream out = new FileOutputStream(storeFile)) {
-            props.store(out, "Lore absorbed spirits");
-        } catch (Exception ignored) {
-            // Best-effort persistence.
+        if (!trimmed) {
+            // Could not cut the fragment off; fold everything into the snapshot and drop the journal instead.
+            journalLines = lines;
+            compact();
+            return journalLines;
         }
+        return lines;
     }
 
-    // normalization centralized in LoreIds
+    private static boolean truncateJournal(long length) {
+        try (FileChannel channel = FileChannel.open(journalFile.toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+            channel.force(false);
+            return true;
+        } catch (IOException e) {
+            System.err.println("[SocketReforge] Failed to trim torn lore absorption journal line: " + e.getMessage());
+            return false;
+        }
+    }
 }
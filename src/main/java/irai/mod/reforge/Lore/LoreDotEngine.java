@@ -0,0 +1,390 @@
+package irai.mod.reforge.Lore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Per-world table of active damage- and heal-over-time effects.
+ *
+ * Rows are stored column-wise and keyed by (target, kind); re-applying a kind to the same
+ * target replaces its row. The world tick polls the table and, when something is due, runs
+ * every due tick of every row in one pass on the world thread, so tick cost follows the
+ * number of active effects rather than the number of scheduled callbacks.
+ */
+public final class LoreDotEngine {
+
+    public enum Kind {
+        BLEED,
+        BURN,
+        POISON,
+        DRAIN,
+        HEAL
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final Map<Store<EntityStore>, Table> TABLES = new ConcurrentHashMap<>();
+
+    private LoreDotEngine() {}
+
+    /**
+     * Starts (or replaces) the {@code kind} effect on {@code targetRef}.
+     *
+     * Tick {@code i} lands at {@code now + i * intervalMs} and deals
+     * {@code baseAmount * max(0, 1 + rampPerTick * i)}, capped at {@code capPerTick} when positive.
+     * The row stays active until {@code now + durationMs}. A positive {@code radiusSq} makes each
+     * tick require the target to stay within that range of the source.
+     *
+     * @return the expiry timestamp, or 0 when the effect was not started
+     */
+    public static long start(Store<EntityStore> store,
+                             Kind kind,
+                             Ref<EntityStore> sourceRef,
+                             Ref<EntityStore> targetRef,
+                             int ticks,
+                             long intervalMs,
+                             long durationMs,
+                             float baseAmount,
+                             float rampPerTick,
+                             float capPerTick,
+                             int stacks,
+                             int feedTier,
+                             double radiusSq) {
+        if (store == null || kind == null || targetRef == null || ticks <= 0 || baseAmount <= 0f
+                || store.isShutdown()) {
+            return 0L;
+        }
+        Table table = TABLES.get(store);
+        if (table == null) {
+            TABLES.keySet().removeIf(Store::isShutdown);
+            table = TABLES.computeIfAbsent(store, ignored -> new Table());
+        }
+        long now = System.currentTimeMillis();
+        long until = now + Math.max(0L, durationMs);
+        table.put(kind, sourceRef, targetRef, ticks, Math.max(1L, intervalMs), now, until,
+                baseAmount, rampPerTick, capPerTick, stacks, feedTier, radiusSq);
+        return until;
+    }
+
+    /** Expiry timestamp of the active {@code kind} effect on {@code targetRef}, or 0 when none. */
+    public static long untilOf(Ref<EntityStore> targetRef, Kind kind) {
+        Table table = tableOf(targetRef);
+        return table == null ? 0L : table.until(targetRef, kind, System.currentTimeMillis());
+    }
+
+    public static boolean isActive(Ref<EntityStore> targetRef, Kind kind) {
+        return untilOf(targetRef, kind) > 0L;
+    }
+
+    /** Stack count of the active {@code kind} effect on {@code targetRef}, or 0 when none. */
+    public static int stacksOf(Ref<EntityStore> targetRef, Kind kind) {
+        Table table = tableOf(targetRef);
+        return table == null ? 0 : table.stacks(targetRef, kind, System.currentTimeMillis());
+    }
+
+    public static int activeCount(Store<EntityStore> store) {
+        Table table = store == null ? null : TABLES.get(store);
+        return table == null ? 0 : table.size();
+    }
+
+    /**
+     * Called from the world tick: queues one pass over the table of {@code store} when a tick or
+     * an expiry is due. Cheap when nothing is due.
+     */
+    public static void poll(Store<EntityStore> store) {
+        if (store == null) {
+            return;
+        }
+        Table table = TABLES.get(store);
+        if (table == null) {
+            return;
+        }
+        if (store.isShutdown()) {
+            TABLES.remove(store, table);
+            return;
+        }
+        if (!table.claimPass(System.currentTimeMillis())) {
+            return;
+        }
+        if (!LoreWorldTasks.queueBatch(store, () -> runPass(store, table))) {
+            table.releasePass();
+        }
+    }
+
+    private static Table tableOf(Ref<EntityStore> targetRef) {
+        if (targetRef == null) {
+            return null;
+        }
+        Store<EntityStore> store = targetRef.getStore();
+        return store == null ? null : TABLES.get(store);
+    }
+
+    private static void runPass(Store<EntityStore> store, Table table) {
+        Pass pass = table.collectDue(System.currentTimeMillis());
+        for (int i = 0; i < pass.tickCount; i++) {
+            Kind kind = KINDS[pass.kinds[i]];
+            Ref<EntityStore> targetRef = pass.targets.get(i);
+            boolean keep;
+            try {
+                keep = LoreProcHandler.applyDotTick(store, kind, pass.sources.get(i), targetRef,
+                        pass.amounts[i], pass.feedTiers[i], pass.radiusSq[i]);
+            } catch (Throwable t) {
+                System.err.println("[SocketReforge] Lore DoT tick failed: " + t.getMessage());
+                keep = true;
+            }
+            if (!keep) {
+                table.remove(targetRef, kind, pass.untils[i]);
+            }
+        }
+        for (int i = 0; i < pass.expired.size(); i++) {
+            try {
+                LoreProcHandler.onDotExpired(store, KINDS[pass.expiredKinds[i]], pass.expired.get(i));
+            } catch (Throwable t) {
+                System.err.println("[SocketReforge] Lore DoT expiry failed: " + t.getMessage());
+            }
+        }
+    }
+
+    /** Due ticks and expiries copied out of the table so callbacks may start new effects. */
+    private static final class Pass {
+        private int tickCount;
+        private byte[] kinds = new byte[16];
+        private float[] amounts = new float[16];
+        private int[] feedTiers = new int[16];
+        private double[] radiusSq = new double[16];
+        private long[] untils = new long[16];
+        private final List<Ref<EntityStore>> targets = new ArrayList<>();
+        private final List<Ref<EntityStore>> sources = new ArrayList<>();
+        private final List<Ref<EntityStore>> expired = new ArrayList<>();
+        private byte[] expiredKinds = new byte[4];
+
+        private void addTick(byte kind, Ref<EntityStore> source, Ref<EntityStore> target,
+                             float amount, int feedTier, double range, long until) {
+            if (tickCount == kinds.length) {
+                int grown = tickCount * 2;
+                kinds = Arrays.copyOf(kinds, grown);
+                amounts = Arrays.copyOf(amounts, grown);
+                feedTiers = Arrays.copyOf(feedTiers, grown);
+                radiusSq = Arrays.copyOf(radiusSq, grown);
+                untils = Arrays.copyOf(untils, grown);
+            }
+            kinds[tickCount] = kind;
+            amounts[tickCount] = amount;
+            feedTiers[tickCount] = feedTier;
+            radiusSq[tickCount] = range;
+            untils[tickCount] = until;
+            sources.add(source);
+            targets.add(target);
+            tickCount++;
+        }
+
+        private void addExpired(byte kind, Ref<EntityStore> target) {
+            int index = expired.size();
+            if (index == expiredKinds.length) {
+                expiredKinds = Arrays.copyOf(expiredKinds, index * 2);
+            }
+            expiredKinds[index] = kind;
+            expired.add(target);
+        }
+    }
+
+    private static final class Table {
+        private int size;
+        @SuppressWarnings("unchecked")
+        private Ref<EntityStore>[] targets = new Ref[16];
+        @SuppressWarnings("unchecked")
+        private Ref<EntityStore>[] sources = new Ref[16];
+        private byte[] kinds = new byte[16];
+        private float[] baseAmounts = new float[16];
+        private float[] ramps = new float[16];
+        private float[] caps = new float[16];
+        private int[] tickIndex = new int[16];
+        private int[] tickTotal = new int[16];
+        private int[] stacks = new int[16];
+        private int[] feedTiers = new int[16];
+        private long[] intervals = new long[16];
+        private long[] nextTickAt = new long[16];
+        private long[] untils = new long[16];
+        private double[] radiusSq = new double[16];
+        /** Row index + 1 per kind for each target; 0 means no row. */
+        private final Map<Ref<EntityStore>, int[]> rowsByTarget = new HashMap<>();
+        private long nextDueAt = Long.MAX_VALUE;
+        private boolean passQueued;
+
+        private synchronized void put(Kind kind, Ref<EntityStore> source, Ref<EntityStore> target,
+                                      int ticks, long interval, long now, long until,
+                                      float base, float ramp, float cap, int stackCount, int feedTier,
+                                      double range) {
+            int[] rows = rowsByTarget.computeIfAbsent(target, ignored -> new int[KINDS.length]);
+            int row = rows[kind.ordinal()] - 1;
+            if (row < 0) {
+                ensureCapacity(size + 1);
+                row = size++;
+                rows[kind.ordinal()] = row + 1;
+            }
+            targets[row] = target;
+            sources[row] = source;
+            kinds[row] = (byte) kind.ordinal();
+            baseAmounts[row] = base;
+            ramps[row] = ramp;
+            caps[row] = cap;
+            tickIndex[row] = 0;
+            tickTotal[row] = ticks;
+            stacks[row] = stackCount;
+            feedTiers[row] = feedTier;
+            intervals[row] = interval;
+            nextTickAt[row] = now;
+            untils[row] = until;
+            radiusSq[row] = range;
+            nextDueAt = Math.min(nextDueAt, now);
+        }
+
+        private int rowOf(Ref<EntityStore> target, Kind kind) {
+            int[] rows = rowsByTarget.get(target);
+            return rows == null ? -1 : rows[kind.ordinal()] - 1;
+        }
+
+        private synchronized long until(Ref<EntityStore> target, Kind kind, long now) {
+            int row = rowOf(target, kind);
+            return row >= 0 && untils[row] > now ? untils[row] : 0L;
+        }
+
+        private synchronized int stacks(Ref<EntityStore> target, Kind kind, long now) {
+            int row = rowOf(target, kind);
+            return row >= 0 && untils[row] > now ? stacks[row] : 0;
+        }
+
+        /** Removes the row, but only if it is still the one expiring at {@code expectedUntil}. */
+        private synchronized void remove(Ref<EntityStore> target, Kind kind, long expectedUntil) {
+            int row = rowOf(target, kind);
+            if (row < 0 || untils[row] != expectedUntil) {
+                return;
+            }
+            removeRow(row);
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        /** True when a pass is due and none is queued yet; the caller must then queue one. */
+        private synchronized boolean claimPass(long now) {
+            if (passQueued || size == 0 || now < nextDueAt) {
+                return false;
+            }
+            passQueued = true;
+            return true;
+        }
+
+        private synchronized void releasePass() {
+            passQueued = false;
+        }
+
+        private synchronized Pass collectDue(long now) {
+            passQueued = false;
+            Pass pass = new Pass();
+            long earliest = Long.MAX_VALUE;
+            int row = 0;
+            while (row < size) {
+                long until = untils[row];
+                while (tickIndex[row] < tickTotal[row] && nextTickAt[row] <= now && nextTickAt[row] <= until) {
+                    int i = tickIndex[row]++;
+                    float amount = baseAmounts[row] * Math.max(0.0f, 1.0f + (ramps[row] * i));
+                    if (caps[row] > 0f) {
+                        amount = Math.min(amount, caps[row]);
+                    }
+                    if (amount > 0f) {
+                        pass.addTick(kinds[row], sources[row], targets[row], amount, feedTiers[row],
+                                radiusSq[row], until);
+                    }
+                    nextTickAt[row] += intervals[row];
+                }
+                if (now >= until) {
+                    pass.addExpired(kinds[row], targets[row]);
+                    removeRow(row);
+                    continue;
+                }
+                long due = tickIndex[row] < tickTotal[row] ? Math.min(nextTickAt[row], until) : until;
+                earliest = Math.min(earliest, due);
+                row++;
+            }
+            nextDueAt = earliest;
+            return pass;
+        }
+
+        private void removeRow(int row) {
+            Ref<EntityStore> target = targets[row];
+            int[] rows = rowsByTarget.get(target);
+            if (rows != null) {
+                rows[kinds[row]] = 0;
+                if (isEmpty(rows)) {
+                    rowsByTarget.remove(target);
+                }
+            }
+            int last = --size;
+            if (row != last) {
+                moveRow(last, row);
+                int[] movedRows = rowsByTarget.get(targets[row]);
+                if (movedRows != null) {
+                    movedRows[kinds[row]] = row + 1;
+                }
+            }
+            targets[last] = null;
+            sources[last] = null;
+        }
+
+        private void moveRow(int from, int to) {
+            targets[to] = targets[from];
+            sources[to] = sources[from];
+            kinds[to] = kinds[from];
+            baseAmounts[to] = baseAmounts[from];
+            ramps[to] = ramps[from];
+            caps[to] = caps[from];
+            tickIndex[to] = tickIndex[from];
+            tickTotal[to] = tickTotal[from];
+            stacks[to] = stacks[from];
+            feedTiers[to] = feedTiers[from];
+            intervals[to] = intervals[from];
+            nextTickAt[to] = nextTickAt[from];
+            untils[to] = untils[from];
+            radiusSq[to] = radiusSq[from];
+        }
+
+        private void ensureCapacity(int needed) {
+            if (needed <= targets.length) {
+                return;
+            }
+            int grown = Math.max(needed, targets.length * 2);
+            targets = Arrays.copyOf(targets, grown);
+            sources = Arrays.copyOf(sources, grown);
+            kinds = Arrays.copyOf(kinds, grown);
+            baseAmounts = Arrays.copyOf(baseAmounts, grown);
+            ramps = Arrays.copyOf(ramps, grown);
+            caps = Arrays.copyOf(caps, grown);
+            tickIndex = Arrays.copyOf(tickIndex, grown);
+            tickTotal = Arrays.copyOf(tickTotal, grown);
+            stacks = Arrays.copyOf(stacks, grown);
+            feedTiers = Arrays.copyOf(feedTiers, grown);
+            intervals = Arrays.copyOf(intervals, grown);
+            nextTickAt = Arrays.copyOf(nextTickAt, grown);
+            untils = Arrays.copyOf(untils, grown);
+            radiusSq = Arrays.copyOf(radiusSq, grown);
+        }
+
+        private static boolean isEmpty(int[] rows) {
+            for (int row : rows) {
+                if (row != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package irai.mod.reforge.Lore;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Packed lore status for one entity: timed status deadlines and the boss-counter
+ * bookkeeping per ailment.
+ *
+ * One record per entity replaces the per-status maps, so a proc does a single lookup and
+ * then reads fields. Records are dropped when the entity dies, and a time-sliced sweep
+ * removes records whose entity unloaded or whose state has gone idle.
+ */
+public final class LoreEntityStatus {
+    static final int BLEED = 0;
+    static final int BURN = 1;
+    static final int POISON = 2;
+    static final int FREEZE = 3;
+    static final int STUN = 4;
+    static final int DRAIN = 5;
+    static final int SHOCK = 6;
+    static final int SLOW = 7;
+    static final int WEAKNESS = 8;
+    static final int BLIND = 9;
+    static final int ROOT = 10;
+    static final int FEAR = 11;
+    private static final int AILMENT_COUNT = 12;
+
+    private static final int SWEEP_BUDGET = 32;
+    /** Expired deadlines are kept this long so their pending expiry tasks still see them. */
+    private static final long IDLE_GRACE_MS = 5000L;
+
+    private static final Map<Ref<EntityStore>, LoreEntityStatus> RECORDS = new ConcurrentHashMap<>();
+    private static final Object SWEEP_LOCK = new Object();
+    private static Iterator<Map.Entry<Ref<EntityStore>, LoreEntityStatus>> sweepCursor;
+
+    long frozenUntil;
+    long stunUntil;
+    long burnVfxUntil;
+    long poisonVfxUntil;
+    final int[] bossBlocked = new int[AILMENT_COUNT];
+    final int[] bossRequired = new int[AILMENT_COUNT];
+    final int[] bossStage = new int[AILMENT_COUNT];
+
+    private LoreEntityStatus() {}
+
+    /** Returns the slot for a boss-counter ailment key, or -1 when the key is not tracked. */
+    static int ailmentIndex(String ailmentKey) {
+        if (ailmentKey == null) {
+            return -1;
+        }
+        return switch (ailmentKey) {
+            case "bleed" -> BLEED;
+            case "burn" -> BURN;
+            case "poison" -> POISON;
+            case "freeze" -> FREEZE;
+            case "stun" -> STUN;
+            case "drain" -> DRAIN;
+            case "shock" -> SHOCK;
+            case "slow" -> SLOW;
+            case "weakness" -> WEAKNESS;
+            case "blind" -> BLIND;
+            case "root" -> ROOT;
+            case "fear" -> FEAR;
+            default -> -1;
+        };
+    }
+
+    static LoreEntityStatus get(Ref<EntityStore> ref) {
+        return ref == null ? null : RECORDS.get(ref);
+    }
+
+    static LoreEntityStatus getOrCreate(Ref<EntityStore> ref) {
+        if (ref == null) {
+            return null;
+        }
+        LoreEntityStatus status = RECORDS.get(ref);
+        return status != null ? status : RECORDS.computeIfAbsent(ref, ignored -> new LoreEntityStatus());
+    }
+
+    public static void remove(Ref<EntityStore> ref) {
+        if (ref != null) {
+            RECORDS.remove(ref);
+        }
+    }
+
+    public static int size() {
+        return RECORDS.size();
+    }
+
+    /**
+     * Checks the next {@link #SWEEP_BUDGET} records and drops those whose entity is gone,
+     * or, for entities of {@code store}, whose state has gone idle. Called from the world
+     * tick, so a record is only judged idle on the thread that mutates it.
+     */
+    public static void sweep(Store<EntityStore> store, long now) {
+        if (store == null || RECORDS.isEmpty()) {
+            return;
+        }
+        synchronized (SWEEP_LOCK) {
+            for (int checked = 0; checked < SWEEP_BUDGET; checked++) {
+                if (sweepCursor == null || !sweepCursor.hasNext()) {
+                    sweepCursor = RECORDS.entrySet().iterator();
+                    if (!sweepCursor.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<Ref<EntityStore>, LoreEntityStatus> entry = sweepCursor.next();
+                Ref<EntityStore> ref = entry.getKey();
+                if (!ref.isValid() || (ref.getStore() == store && entry.getValue().isIdle(now))) {
+                    RECORDS.remove(ref, entry.getValue());
+                }
+            }
+        }
+    }
+
+    /** Deadline of the timed burn or poison visual. */
+    long visualUntil(int ailment) {
+        return ailment == POISON ? poisonVfxUntil : burnVfxUntil;
+    }
+
+    void setVisualUntil(int ailment, long until) {
+        if (ailment == POISON) {
+            poisonVfxUntil = until;
+        } else {
+            burnVfxUntil = until;
+        }
+    }
+
+    private boolean isIdle(long now) {
+        long latest = Math.max(Math.max(frozenUntil, stunUntil), Math.max(burnVfxUntil, poisonVfxUntil));
+        if (latest + IDLE_GRACE_MS > now) {
+            return false;
+        }
+        for (int i = 0; i < AILMENT_COUNT; i++) {
+            if (bossBlocked[i] != 0 || bossRequired[i] != 0 || bossStage[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
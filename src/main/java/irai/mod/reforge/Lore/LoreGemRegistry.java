@@ -517,6 +517,8 @@ public final class LoreGemRegistry {
         globalSpiritSet = freezeSet(allRoles);
         globalSpiritByKey = buildSpiritKeyMap(allRoles);
         spiritColorMap = buildSpiritColorMap(allRoles, knownColors);
+        // Spawnable spirits resolve to NPC-mapped abilities; drop abilities resolved against the old pools.
+        LoreAbilityRegistry.invalidateResolved();
     }
 
     private static List<String> extractRoleIds(RoleSpawnParameters[] params) {
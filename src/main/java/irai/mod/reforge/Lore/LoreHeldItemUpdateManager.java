@@ -22,11 +22,17 @@ import irai.mod.reforge.Common.PlayerInventoryUtils;
  * Buffers lore metadata updates for held items so we do not replace the live
  * in-hand stack while the player is actively using it. Replacing the held
  * stack can reset ranged weapon state such as auto-fire chains or loaded ammo.
+ *
+ * The buffered {@link LoreSocketData} doubles as a write-behind accumulator:
+ * procs mutate it in place through {@link #resolveHeldLoreData} and
+ * {@link #markChanged}, and it is written to item metadata only on a cadence,
+ * after a level-up, when the slot changes, or on disconnect.
  */
 public final class LoreHeldItemUpdateManager {
     private static final Map<UUID, PendingHeldItemUpdate> PENDING = new ConcurrentHashMap<>();
     private static final Map<UUID, Long> RECENT_BLOCKING_UNTIL = new ConcurrentHashMap<>();
     private static final long INTERACTION_BUFFER_GRACE_MS = 900L;
+    private static final long FLUSH_INTERVAL_MS = 15_000L;
 
     private LoreHeldItemUpdateManager() {}
 
@@ -45,6 +51,22 @@ public final class LoreHeldItemUpdateManager {
         return LoreSocketManager.withLoreSocketData(current, copyData(pending.data));
     }
 
+    /**
+     * Returns the lore data of the held item without rebuilding the stack: the buffered
+     * accumulator when one exists for this slot, otherwise a fresh parse of the stack.
+     * Callers may mutate the result and report it through {@link #markChanged}.
+     */
+    public static LoreSocketData resolveHeldLoreData(Player player, PlayerInventoryUtils.HeldItemContext ctx) {
+        if (ctx == null || !ctx.isValid()) {
+            return null;
+        }
+        PendingHeldItemUpdate pending = getPending(player, ctx);
+        if (pending != null && pending.data != null) {
+            return pending.data;
+        }
+        return LoreSocketManager.getLoreSocketData(ctx.getItemStack());
+    }
+
     public static void applyOrQueue(Store<EntityStore> store,
                                     Ref<EntityStore> playerRef,
                                     Player player,
@@ -65,12 +87,30 @@ public final class LoreHeldItemUpdateManager {
             PENDING.remove(playerId);
             return;
         }
+        accumulate(playerId, player, ctx, data);
+    }
 
-        PENDING.put(playerId, new PendingHeldItemUpdate(
-                ctx.getSectionId(),
-                ctx.getSlot(),
-                safeItemId(ctx.getItemStack()),
-                copyData(data)));
+    /**
+     * Records a change to {@code data}, as returned by {@link #resolveHeldLoreData}, without
+     * touching the item. The change is coalesced with earlier procs on the same slot.
+     */
+    public static void markChanged(Store<EntityStore> store,
+                                   Ref<EntityStore> playerRef,
+                                   Player player,
+                                   PlayerInventoryUtils.HeldItemContext ctx,
+                                   LoreSocketData data) {
+        if (player == null || ctx == null || !ctx.isValid() || data == null) {
+            return;
+        }
+        UUID playerId = player.getUuid();
+        if (playerId == null) {
+            ItemStack current = ctx.getItemStack();
+            if (current != null && !current.isEmpty()) {
+                applyImmediately(player, ctx, LoreSocketManager.withLoreSocketData(current, data));
+            }
+            return;
+        }
+        accumulate(playerId, player, ctx, data);
     }
 
     public static void flushPending(Store<EntityStore> store,
@@ -87,24 +127,39 @@ public final class LoreHeldItemUpdateManager {
         if (pending == null || pending.data == null) {
             return;
         }
-        if (hasBlockingActiveInteraction(store, playerRef)) {
-            return;
-        }
 
         PlayerInventoryUtils.HeldItemContext currentCtx = PlayerInventoryUtils.getHeldItemContext(player);
         if (matches(pending, currentCtx)) {
-            // Keep the metadata buffered while this exact item is still in hand.
-            // Writing the stack back into the active slot can reset internal
-            // ranged-weapon state even when the lore change is only XP.
+            // Keep the metadata buffered while this exact item is still in hand and
+            // only write it back once the player is idle, since writing the active
+            // slot can reset internal ranged-weapon state even for XP-only changes.
+            if (!pending.dirty) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            if (!pending.levelChanged && now < pending.flushDueAt) {
+                return;
+            }
+            if (hasBlockingActiveInteraction(store, playerRef)) {
+                return;
+            }
+            if (writePending(player, pending)) {
+                pending.markFlushed();
+            } else {
+                PENDING.remove(playerId, pending);
+            }
             return;
         }
 
-        if (writePending(player, pending)) {
-            PENDING.remove(playerId);
+        if (!pending.dirty) {
+            PENDING.remove(playerId, pending);
             return;
         }
-
-        PENDING.remove(playerId);
+        if (hasBlockingActiveInteraction(store, playerRef)) {
+            return;
+        }
+        writePending(player, pending);
+        PENDING.remove(playerId, pending);
     }
 
     public static void flushPendingOnDisconnect(PlayerRef playerRef) {
@@ -116,7 +171,8 @@ public final class LoreHeldItemUpdateManager {
             return;
         }
         PendingHeldItemUpdate pending = PENDING.get(playerId);
-        if (pending == null || pending.data == null) {
+        if (pending == null || pending.data == null || !pending.dirty) {
+            PENDING.remove(playerId);
             RECENT_BLOCKING_UNTIL.remove(playerId);
             return;
         }
@@ -165,6 +221,32 @@ public final class LoreHeldItemUpdateManager {
         return matches(pending, ctx) ? pending : null;
     }
 
+    private static void accumulate(UUID playerId,
+                                   Player player,
+                                   PlayerInventoryUtils.HeldItemContext ctx,
+                                   LoreSocketData data) {
+        PendingHeldItemUpdate pending = PENDING.get(playerId);
+        if (matches(pending, ctx)) {
+            if (pending.data != data) {
+                pending.data = data;
+            }
+            pending.markDirty(data);
+            return;
+        }
+        if (pending != null && pending.dirty) {
+            // The player switched slots; persist the previous item before tracking the new one.
+            writePending(player, pending);
+        }
+        PendingHeldItemUpdate created = new PendingHeldItemUpdate(
+                ctx.getSectionId(),
+                ctx.getSlot(),
+                safeItemId(ctx.getItemStack()),
+                data,
+                levelsOf(LoreSocketManager.getLoreSocketData(ctx.getItemStack())));
+        created.markDirty(data);
+        PENDING.put(playerId, created);
+    }
+
     private static boolean matches(PendingHeldItemUpdate pending, PlayerInventoryUtils.HeldItemContext ctx) {
         if (pending == null || ctx == null) {
             return false;
@@ -339,6 +421,31 @@ public final class LoreHeldItemUpdateManager {
         return copy;
     }
 
+    private static int[] levelsOf(LoreSocketData data) {
+        if (data == null) {
+            return new int[0];
+        }
+        int[] levels = new int[data.getSocketCount()];
+        for (int i = 0; i < levels.length; i++) {
+            LoreSocketData.LoreSocket socket = data.getSocket(i);
+            levels[i] = socket == null ? 0 : socket.getLevel();
+        }
+        return levels;
+    }
+
+    private static boolean levelsDiffer(int[] levels, LoreSocketData data) {
+        if (data == null || levels.length != data.getSocketCount()) {
+            return true;
+        }
+        for (int i = 0; i < levels.length; i++) {
+            LoreSocketData.LoreSocket socket = data.getSocket(i);
+            if (levels[i] != (socket == null ? 0 : socket.getLevel())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static ItemContainer resolveContainer(Player player, int sectionId) {
         if (player == null || player.getInventory() == null) {
             return null;
@@ -382,20 +489,43 @@ public final class LoreHeldItemUpdateManager {
         return left.trim().equalsIgnoreCase(right.trim());
     }
 
+    /** Buffered lore data for one held slot; only touched from the owning world thread. */
     private static final class PendingHeldItemUpdate {
         private final int sectionId;
         private final short slot;
         private final String baseItemId;
-        private final LoreSocketData data;
+        private LoreSocketData data;
+        private int[] flushedLevels;
+        private boolean dirty;
+        private boolean levelChanged;
+        private long flushDueAt;
 
         private PendingHeldItemUpdate(int sectionId,
                                       short slot,
                                       String baseItemId,
-                                      LoreSocketData data) {
+                                      LoreSocketData data,
+                                      int[] flushedLevels) {
             this.sectionId = sectionId;
             this.slot = slot;
             this.baseItemId = baseItemId == null ? "" : baseItemId;
             this.data = data;
+            this.flushedLevels = flushedLevels;
+        }
+
+        private void markDirty(LoreSocketData current) {
+            if (!dirty) {
+                dirty = true;
+                flushDueAt = System.currentTimeMillis() + FLUSH_INTERVAL_MS;
+            }
+            if (!levelChanged && levelsDiffer(flushedLevels, current)) {
+                levelChanged = true;
+            }
+        }
+
+        private void markFlushed() {
+            dirty = false;
+            levelChanged = false;
+            flushedLevels = levelsOf(data);
         }
     }
 }
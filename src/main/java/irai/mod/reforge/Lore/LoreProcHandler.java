@@ -12,9 +12,6 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ThreadLocalRandom;
 
 import com.hypixel.hytale.component.CommandBuffer;
@@ -90,22 +87,6 @@ public final class LoreProcHandler {
     private static final Map<String, Long> READY_NOTIFICATION_AT = new ConcurrentHashMap<>();
     private static final long READY_NOTIFICATION_MIN_COOLDOWN_MS = 1500L;
     private static final Map<String, Set<Ref<EntityStore>>> WOLF_SUMMONS = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> FROZEN_UNTIL = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> HEAL_HOT_UNTIL = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> BLEED_DOT_UNTIL = new ConcurrentHashMap<>();
-    private static final Map<String, Map<Ref<EntityStore>, Integer>> STATUS_BOSS_BLOCKED_APPLICATIONS =
-            new ConcurrentHashMap<>();
-    private static final Map<String, Map<Ref<EntityStore>, Integer>> STATUS_BOSS_REQUIRED_APPLICATIONS =
-            new ConcurrentHashMap<>();
-    private static final Map<String, Map<Ref<EntityStore>, Integer>> STATUS_BOSS_REAPPLY_STAGE =
-            new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> BURN_DOT_UNTIL = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> POISON_DOT_UNTIL = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Integer> POISON_DOT_STACKS = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> DRAIN_DOT_UNTIL = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> STUN_UNTIL = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> BURN_VFX_UNTIL = new ConcurrentHashMap<>();
-    private static final Map<Ref<EntityStore>, Long> POISON_VFX_UNTIL = new ConcurrentHashMap<>();
     private static final Map<String, ProjectileConfig> STAFF_PROJECTILE_CONFIGS = new ConcurrentHashMap<>();
     private static final Set<String> STAFF_PROJECTILE_MISSES = ConcurrentHashMap.newKeySet();
     private static final Map<UUID, Long> ABILITY1_ACTIVE_UNTIL = new ConcurrentHashMap<>();
@@ -192,12 +173,6 @@ public final class LoreProcHandler {
     private static final int FINALE_MAX_STACKS = 6;
     private static final long FINALE_MARK_CHECK_MS = 300L;
     private static final long CHARGE_ATTACK_HIT_DELAY_MS = 550L;
-    private static final ScheduledExecutorService OMNISLASH_SCHEDULER =
-            Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread thread = new Thread(r, "Lore-Omnislash");
-                thread.setDaemon(true);
-                return thread;
-            });
     private static final String[] LORE_SFX_DEFAULT = {"SFX_Unarmed_Swing"};
     private static final String[] LORE_SFX_BURN = {"SFX_Mace_T1_Impact"};
     private static final String[] LORE_SFX_FREEZE = {"SFX_Ice_Break"};
@@ -213,9 +188,6 @@ public final class LoreProcHandler {
     private static final String[] LORE_SFX_HASTE = {"SFX_Weapon_Charge_Swing"};
     private static final String[] LORE_SFX_BLUR = {"SFX_Weapon_Charge_Swing"};
     private static final String[] LORE_SFX_SHIELD = {"SFX_Weapon_Charge_Swing"};
-    static {
-        LoreVisuals.setScheduler(OMNISLASH_SCHEDULER);
-    }
     private static VelocityConfig buildSwordLungeConfig() {
         VelocityConfig config = new VelocityConfig();
         try {
@@ -767,6 +739,22 @@ public final class LoreProcHandler {
 
     private LoreProcHandler() {}
 
+    /** Drops the per-player combat state kept for {@code playerId}; called when the player disconnects. */
+    public static void clearPlayerState(UUID playerId) {
+        if (playerId == null) {
+            return;
+        }
+        ABILITY1_ACTIVE_UNTIL.remove(playerId);
+        WHIRLWIND_ACTIVE_UNTIL.remove(playerId);
+        WHIRLWIND_SWING_INDEX.remove(playerId);
+        GROUNDSLAM_CONTEXTS.remove(playerId);
+        SIGNATURE_ENERGY_LOCKS.remove(playerId);
+        String markKey = playerId.toString();
+        CAUSTIC_FINALE_MARKS.remove(markKey);
+        SHRAPNEL_FINALE_MARKS.remove(markKey);
+        BURN_FINALE_MARKS.remove(markKey);
+    }
+
     public static boolean applyLoreSockets(Store<EntityStore> store,
                                            Player self,
                                            Ref<EntityStore> selfRef,
@@ -1056,7 +1044,7 @@ public final class LoreProcHandler {
                 queue.poll();
             }
             executeBatchInline(batch);
-            scheduleNextBatch(batch.playerId, batch.durationMs);
+            scheduleNextBatch(batch.store, batch.playerId, batch.durationMs);
             return;
         }
         // If we couldn't execute immediately (ability1 active), strip event context.
@@ -1066,15 +1054,25 @@ public final class LoreProcHandler {
                 queue.addFirst(batch.withoutEventContext());
             }
         }
-        scheduleProcessQueue(batch.playerId, LORE_QUEUE_RETRY_MS);
+        scheduleProcessQueue(batch.store, batch.playerId, LORE_QUEUE_RETRY_MS);
     }
 
-    private static void scheduleProcessQueue(UUID playerId, long delayMs) {
+    private static void scheduleProcessQueue(Store<EntityStore> store, UUID playerId, long delayMs) {
         if (playerId == null) {
             return;
         }
         long delay = Math.max(1L, delayMs);
-        OMNISLASH_SCHEDULER.schedule(() -> processLoreQueue(playerId), delay, TimeUnit.MILLISECONDS);
+        if (!LoreTimerWheel.schedule(store, null, delay, () -> processLoreQueue(playerId))) {
+            // World is gone; let the next enqueue restart the queue.
+            LORE_PROC_RUNNING.remove(playerId);
+        }
+    }
+
+    private static Store<EntityStore> peekQueueStore(Deque<LoreProcBatch> queue) {
+        synchronized (queue) {
+            LoreProcBatch next = queue.peek();
+            return next == null ? null : next.store;
+        }
     }
 
     private static void processLoreQueue(UUID playerId) {
@@ -1100,7 +1098,7 @@ public final class LoreProcHandler {
             synchronized (queue) {
                 queue.poll();
             }
-            scheduleProcessQueue(playerId, LORE_QUEUE_RETRY_MS);
+            scheduleProcessQueue(peekQueueStore(queue), playerId, LORE_QUEUE_RETRY_MS);
             return;
         }
         Store<EntityStore> store = batch.store;
@@ -1108,23 +1106,22 @@ public final class LoreProcHandler {
             synchronized (queue) {
                 queue.poll();
             }
-            scheduleProcessQueue(playerId, LORE_QUEUE_RETRY_MS);
+            scheduleProcessQueue(peekQueueStore(queue), playerId, LORE_QUEUE_RETRY_MS);
             return;
         }
         if (isAbility1Active(store, batch.selfRef)) {
-            scheduleProcessQueue(playerId, LORE_QUEUE_RETRY_MS);
+            scheduleProcessQueue(store, playerId, LORE_QUEUE_RETRY_MS);
             return;
         }
         synchronized (queue) {
             queue.poll();
         }
         executeBatchQueued(batch);
-        scheduleNextBatch(playerId, batch.durationMs);
+        scheduleNextBatch(store, playerId, batch.durationMs);
     }
 
-    private static void scheduleNextBatch(UUID playerId, long durationMs) {
-        long delay = Math.max(LORE_QUEUE_MIN_DELAY_MS, durationMs);
-        OMNISLASH_SCHEDULER.schedule(() -> processLoreQueue(playerId), delay, TimeUnit.MILLISECONDS);
+    private static void scheduleNextBatch(Store<EntityStore> store, UUID playerId, long durationMs) {
+        scheduleProcessQueue(store, playerId, Math.max(LORE_QUEUE_MIN_DELAY_MS, durationMs));
     }
 
     private static void executeBatchInline(LoreProcBatch batch) {
@@ -2251,15 +2248,11 @@ public final class LoreProcHandler {
             for (int j = 0; j < 4; j++) {
                 long delay = baseDelay + (j * WHIRLWIND_SPIN_BURST_MS);
                 if (slashFallback) {
-                    OMNISLASH_SCHEDULER.schedule(
-                            () -> queueWhirlwindSlashBurst(store, attackerRef, defenderRef, particleId),
-                            delay,
-                            TimeUnit.MILLISECONDS);
+                    LoreTimerWheel.schedule(store, attackerRef, delay,
+                            () -> queueWhirlwindSlashBurst(store, attackerRef, defenderRef, particleId));
                 } else {
-                    OMNISLASH_SCHEDULER.schedule(
-                            () -> queueWhirlwindSpinBurst(store, attackerRef, particleId),
-                            delay,
-                            TimeUnit.MILLISECONDS);
+                    LoreTimerWheel.schedule(store, attackerRef, delay,
+                            () -> queueWhirlwindSpinBurst(store, attackerRef, particleId));
                 }
             }
         }
@@ -2276,10 +2269,8 @@ public final class LoreProcHandler {
         int cycles = (int) Math.max(1, Math.ceil((double) safeDuration / (double) WHIRLWIND_TICK_MS));
         for (int i = 0; i < cycles; i++) {
             long delay = i * WHIRLWIND_TICK_MS;
-            OMNISLASH_SCHEDULER.schedule(
-                    () -> queueWhirlwindAnimation(store, attackerRef),
-                    delay,
-                    TimeUnit.MILLISECONDS);
+            LoreTimerWheel.schedule(store, attackerRef, delay,
+                    () -> queueWhirlwindAnimation(store, attackerRef));
         }
     }
 
@@ -2316,10 +2307,8 @@ public final class LoreProcHandler {
             return;
         }
         long delay = Math.max(200L, durationMs + 100L);
-        OMNISLASH_SCHEDULER.schedule(
-                () -> queueWhirlwindCleanup(store, attackerRef),
-                delay,
-                TimeUnit.MILLISECONDS);
+        LoreTimerWheel.schedule(store, null, delay,
+                () -> queueWhirlwindCleanup(store, attackerRef));
     }
 
     private static void queueWhirlwindCleanup(Store<EntityStore> store,
@@ -2603,10 +2592,8 @@ public final class LoreProcHandler {
         int ticks = (int) Math.max(1, Math.ceil((double) durationMs / (double) WHIRLWIND_TICK_MS));
         for (int i = 0; i < ticks; i++) {
             long delay = i * WHIRLWIND_TICK_MS;
-            OMNISLASH_SCHEDULER.schedule(
-                    () -> queueWhirlwindDamageTick(store, attackerRef, perTarget, radius, baseResult.skipRefine, feedTier),
-                    delay,
-                    TimeUnit.MILLISECONDS);
+            LoreTimerWheel.schedule(store, attackerRef, delay,
+                    () -> queueWhirlwindDamageTick(store, attackerRef, perTarget, radius, baseResult.skipRefine, feedTier));
         }
     }
 
@@ -2776,10 +2763,8 @@ public final class LoreProcHandler {
         if (store == null || attackerRef == null || statIndex < 0 || originalEnergy < 0f) {
             return;
         }
-        OMNISLASH_SCHEDULER.schedule(
-                () -> queueSignatureEnergyRestore(store, attackerRef, statIndex, originalEnergy),
-                SIGNATURE_RESTORE_DELAY_MS,
-                TimeUnit.MILLISECONDS
+        LoreTimerWheel.schedule(store, null, SIGNATURE_RESTORE_DELAY_MS,
+                () -> queueSignatureEnergyRestore(store, attackerRef, statIndex, originalEnergy)
         );
     }
 
@@ -3015,15 +3000,11 @@ public final class LoreProcHandler {
         if (snapshot.value <= 0.01f) {
             return;
         }
-        OMNISLASH_SCHEDULER.schedule(
-                () -> queueSignatureEnergyTrace(store, attackerRef, snapshot, "trace1"),
-                SIGNATURE_TRACE_DELAY_MS,
-                TimeUnit.MILLISECONDS
+        LoreTimerWheel.schedule(store, attackerRef, SIGNATURE_TRACE_DELAY_MS,
+                () -> queueSignatureEnergyTrace(store, attackerRef, snapshot, "trace1")
         );
-        OMNISLASH_SCHEDULER.schedule(
-                () -> queueSignatureEnergyTrace(store, attackerRef, snapshot, "trace2"),
-                SIGNATURE_TRACE_DELAY_2_MS,
-                TimeUnit.MILLISECONDS
+        LoreTimerWheel.schedule(store, attackerRef, SIGNATURE_TRACE_DELAY_2_MS,
+                () -> queueSignatureEnergyTrace(store, attackerRef, snapshot, "trace2")
         );
     }
 
@@ -3127,10 +3108,8 @@ public final class LoreProcHandler {
         int ticks = (int) Math.ceil(remaining / (double) SIGNATURE_LOCK_TICK_MS);
         for (int i = 0; i <= ticks; i++) {
             long delay = i * SIGNATURE_LOCK_TICK_MS;
-            OMNISLASH_SCHEDULER.schedule(
-                    () -> queueSignatureEnergyLockTick(store, attackerRef, playerId),
-                    delay,
-                    TimeUnit.MILLISECONDS
+            LoreTimerWheel.schedule(store, attackerRef, delay,
+                    () -> queueSignatureEnergyLockTick(store, attackerRef, playerId)
             );
         }
     }
@@ -3183,10 +3162,8 @@ public final class LoreProcHandler {
         if (store == null || attackerRef == null || snapshot == null) {
             return;
         }
-        OMNISLASH_SCHEDULER.schedule(
-                () -> queueSignatureEnergyVerify(store, attackerRef, snapshot),
-                SIGNATURE_VERIFY_DELAY_MS,
-                TimeUnit.MILLISECONDS
+        LoreTimerWheel.schedule(store, attackerRef, SIGNATURE_VERIFY_DELAY_MS,
+                () -> queueSignatureEnergyVerify(store, attackerRef, snapshot)
         );
     }
 
@@ -3337,10 +3314,8 @@ public final class LoreProcHandler {
         }
         long delay = Math.max(1L, readyAt - System.currentTimeMillis());
         long finalReadyAt = readyAt;
-        OMNISLASH_SCHEDULER.schedule(
-                () -> queueReadyNotification(store, playerRef, playerId, spiritId, ability, feedTier, finalReadyAt),
-                delay,
-                TimeUnit.MILLISECONDS
+        LoreTimerWheel.schedule(store, null, delay,
+                () -> queueReadyNotification(store, playerRef, playerId, spiritId, ability, feedTier, finalReadyAt)
         );
     }
 
@@ -3378,10 +3353,8 @@ public final class LoreProcHandler {
         if (cooldownUntil != null && now < cooldownUntil) {
             long delay = Math.max(1L, cooldownUntil - now);
             READY_NOTIFICATION_AT.put(key, cooldownUntil);
-            OMNISLASH_SCHEDULER.schedule(
-                    () -> queueReadyNotification(store, playerRef, playerId, spiritId, ability, feedTier, cooldownUntil),
-                    delay,
-                    TimeUnit.MILLISECONDS
+            LoreTimerWheel.schedule(store, null, delay,
+                    () -> queueReadyNotification(store, playerRef, playerId, spiritId, ability, feedTier, cooldownUntil)
             );
             return;
         }
@@ -4078,7 +4051,7 @@ public final class LoreProcHandler {
         }
         for (int i = 0; i < sequence.totalHits; i++) {
             long delay = i * OMNISLASH_HIT_DELAY_MS;
-            OMNISLASH_SCHEDULER.schedule(() -> queueOmnislashHit(sequence), delay, TimeUnit.MILLISECONDS);
+            LoreTimerWheel.schedule(sequence.store, sequence.attackerRef, delay, () -> queueOmnislashHit(sequence));
         }
     }
 
@@ -4161,9 +4134,8 @@ public final class LoreProcHandler {
         for (int i = 0; i < hits; i++) {
             long delay = i * spacing;
             int hitIndex = i;
-            OMNISLASH_SCHEDULER.schedule(() -> queueSingleTargetHit(store, attackerRef, targetRef, perHit, hitIndex,
-                            skipRefine, particleId, hits, finalMultiplier, rampPerHit, feedTier),
-                    delay, TimeUnit.MILLISECONDS);
+            LoreTimerWheel.schedule(store, targetRef, delay, () -> queueSingleTargetHit(store, attackerRef, targetRef, perHit, hitIndex,
+                            skipRefine, particleId, hits, finalMultiplier, rampPerHit, feedTier));
         }
     }
 
@@ -4201,8 +4173,7 @@ public final class LoreProcHandler {
         long spacing = Math.max(0L, delayMs);
         for (int i = 0; i < hits; i++) {
             long delay = i * spacing;
-            OMNISLASH_SCHEDULER.schedule(() -> queueTrailParticleSpawn(store, sourceRef, particleId),
-                    delay, TimeUnit.MILLISECONDS);
+            LoreTimerWheel.schedule(store, sourceRef, delay, () -> queueTrailParticleSpawn(store, sourceRef, particleId));
         }
     }
 
@@ -4305,9 +4276,8 @@ public final class LoreProcHandler {
         for (int i = 0; i < hits; i++) {
             long delay = i * spacing;
             int hitIndex = i;
-            OMNISLASH_SCHEDULER.schedule(() -> queueChargeAttackHit(store, attackerRef, targetRef, perHit, hitIndex,
-                            feedTier),
-                    delay, TimeUnit.MILLISECONDS);
+            LoreTimerWheel.schedule(store, targetRef, delay, () -> queueChargeAttackHit(store, attackerRef, targetRef, perHit, hitIndex,
+                            feedTier));
         }
     }
 
@@ -5092,20 +5062,9 @@ public final class LoreProcHandler {
         keys.add(trimmed);
     }
 
-    private static boolean isBleedActive(Ref<EntityStore> targetRef) {
-        if (targetRef == null) {
-            return false;
-        }
-        Long until = BLEED_DOT_UNTIL.get(targetRef);
-        return until != null && until > System.currentTimeMillis();
-    }
-
-    private static boolean isTimedStatusActive(Map<Ref<EntityStore>, Long> untilMap, Ref<EntityStore> targetRef) {
-        if (untilMap == null || targetRef == null) {
-            return false;
-        }
-        Long until = untilMap.get(targetRef);
-        return until != null && until > System.currentTimeMillis();
+    private static boolean isStunActive(Ref<EntityStore> targetRef) {
+        LoreEntityStatus status = LoreEntityStatus.get(targetRef);
+        return status != null && status.stunUntil > System.currentTimeMillis();
     }
 
     private static boolean isBossCounterNpc(Store<EntityStore> store,
@@ -5127,10 +5086,11 @@ public final class LoreProcHandler {
         return config.isStatusBossCounterNpc("*", ailmentKey);
     }
 
-    private static Map<Ref<EntityStore>, Integer> getStatusBossCounterMap(
-            Map<String, Map<Ref<EntityStore>, Integer>> state,
-            String ailmentKey) {
-        return state.computeIfAbsent(ailmentKey, ignored -> new ConcurrentHashMap<>());
+    private static LoreEntityStatus getBossCounterStatus(Ref<EntityStore> targetRef, int slot, boolean create) {
+        if (slot < 0) {
+            return null;
+        }
+        return create ? LoreEntityStatus.getOrCreate(targetRef) : LoreEntityStatus.get(targetRef);
     }
 
     private static boolean canAttemptBossCounterAilment(Store<EntityStore> store,
@@ -5143,8 +5103,9 @@ public final class LoreProcHandler {
         if (required <= 0) {
             return true;
         }
-        int blocked = getStatusBossCounterMap(STATUS_BOSS_BLOCKED_APPLICATIONS, ailmentKey)
-                .getOrDefault(targetRef, 0);
+        int slot = LoreEntityStatus.ailmentIndex(ailmentKey);
+        LoreEntityStatus status = getBossCounterStatus(targetRef, slot, false);
+        int blocked = status == null ? 0 : status.bossBlocked[slot];
         return blocked >= required;
     }
 
@@ -5172,7 +5133,11 @@ public final class LoreProcHandler {
         if (!isBossCounterNpc(store, targetRef, ailmentKey)) {
             return;
         }
-        getStatusBossCounterMap(STATUS_BOSS_BLOCKED_APPLICATIONS, ailmentKey).merge(targetRef, 1, Integer::sum);
+        int slot = LoreEntityStatus.ailmentIndex(ailmentKey);
+        LoreEntityStatus status = getBossCounterStatus(targetRef, slot, true);
+        if (status != null) {
+            status.bossBlocked[slot]++;
+        }
     }
 
     private static void onBossCounterAilmentApplied(Store<EntityStore> store,
@@ -5184,14 +5149,15 @@ public final class LoreProcHandler {
         LoreConfig config = LoreSocketManager.getConfig();
         int step = config == null ? 5 : config.getStatusBossReapplyStep(ailmentKey);
         String pattern = config == null ? "LINEAR" : config.getStatusBossReapplyPattern(ailmentKey);
-        Map<Ref<EntityStore>, Integer> stageMap = getStatusBossCounterMap(STATUS_BOSS_REAPPLY_STAGE, ailmentKey);
-        Map<Ref<EntityStore>, Integer> requiredMap = getStatusBossCounterMap(STATUS_BOSS_REQUIRED_APPLICATIONS, ailmentKey);
-        Map<Ref<EntityStore>, Integer> blockedMap = getStatusBossCounterMap(STATUS_BOSS_BLOCKED_APPLICATIONS, ailmentKey);
-        int stage = stageMap.getOrDefault(targetRef, 0) + 1;
-        int nextRequired = computeBleedBossRequiredApplications(Math.max(1, step), stage, pattern);
-        stageMap.put(targetRef, stage);
-        requiredMap.put(targetRef, nextRequired);
-        blockedMap.put(targetRef, 0);
+        int slot = LoreEntityStatus.ailmentIndex(ailmentKey);
+        LoreEntityStatus status = getBossCounterStatus(targetRef, slot, true);
+        if (status == null) {
+            return;
+        }
+        int stage = status.bossStage[slot] + 1;
+        status.bossStage[slot] = stage;
+        status.bossRequired[slot] = computeBleedBossRequiredApplications(Math.max(1, step), stage, pattern);
+        status.bossBlocked[slot] = 0;
     }
 
     private static boolean canApplyBossCounterAilment(Store<EntityStore> store,
@@ -5224,12 +5190,12 @@ public final class LoreProcHandler {
             return false;
         }
         return switch (ailmentKey) {
-            case "bleed" -> isBleedActive(targetRef);
-            case "burn" -> isTimedStatusActive(BURN_DOT_UNTIL, targetRef);
-            case "poison" -> isTimedStatusActive(POISON_DOT_UNTIL, targetRef);
+            case "bleed" -> LoreDotEngine.isActive(targetRef, LoreDotEngine.Kind.BLEED);
+            case "burn" -> LoreDotEngine.isActive(targetRef, LoreDotEngine.Kind.BURN);
+            case "poison" -> LoreDotEngine.isActive(targetRef, LoreDotEngine.Kind.POISON);
             case "freeze" -> isFrozenActive(store, targetRef);
-            case "stun" -> isTimedStatusActive(STUN_UNTIL, targetRef);
-            case "drain" -> isTimedStatusActive(DRAIN_DOT_UNTIL, targetRef);
+            case "stun" -> isStunActive(targetRef);
+            case "drain" -> LoreDotEngine.isActive(targetRef, LoreDotEngine.Kind.DRAIN);
             default -> false;
         };
     }
@@ -5264,8 +5230,9 @@ public final class LoreProcHandler {
     private static int getScaledBossCounterRequiredApplications(Store<EntityStore> store,
                                                                 Ref<EntityStore> targetRef,
                                                                 String ailmentKey) {
-        int baseRequired = getStatusBossCounterMap(STATUS_BOSS_REQUIRED_APPLICATIONS, ailmentKey)
-                .getOrDefault(targetRef, 0);
+        int slot = LoreEntityStatus.ailmentIndex(ailmentKey);
+        LoreEntityStatus status = getBossCounterStatus(targetRef, slot, false);
+        int baseRequired = status == null ? 0 : status.bossRequired[slot];
         if (baseRequired <= 0) {
             return 0;
         }
@@ -5298,29 +5265,14 @@ public final class LoreProcHandler {
     }
 
     private static void clearBossCounterAilmentState(Ref<EntityStore> targetRef, String ailmentKey) {
-        if (targetRef == null) {
+        int slot = LoreEntityStatus.ailmentIndex(ailmentKey);
+        LoreEntityStatus status = getBossCounterStatus(targetRef, slot, false);
+        if (status == null) {
             return;
         }
-        Map<Ref<EntityStore>, Integer> blockedMap = STATUS_BOSS_BLOCKED_APPLICATIONS.get(ailmentKey);
-        if (blockedMap != null) {
-            blockedMap.remove(targetRef);
-        }
-        Map<Ref<EntityStore>, Integer> requiredMap = STATUS_BOSS_REQUIRED_APPLICATIONS.get(ailmentKey);
-        if (requiredMap != null) {
-            requiredMap.remove(targetRef);
-        }
-        Map<Ref<EntityStore>, Integer> stageMap = STATUS_BOSS_REAPPLY_STAGE.get(ailmentKey);
-        if (stageMap != null) {
-            stageMap.remove(targetRef);
-        }
-    }
-
-    private static void clearBleedState(Ref<EntityStore> targetRef) {
-        if (targetRef == null) {
-            return;
-        }
-        BLEED_DOT_UNTIL.remove(targetRef);
-        clearBossCounterAilmentState(targetRef, "bleed");
+        status.bossBlocked[slot] = 0;
+        status.bossRequired[slot] = 0;
+        status.bossStage[slot] = 0;
     }
 
     private static boolean tryApplyBossCounterVisualStatus(Store<EntityStore> store,
@@ -5346,7 +5298,7 @@ public final class LoreProcHandler {
             return;
         }
         long until = System.currentTimeMillis() + durationMs;
-        STUN_UNTIL.put(targetRef, until);
+        LoreEntityStatus.getOrCreate(targetRef).stunUntil = until;
         scheduleStunExpiry(targetRef, until, durationMs);
         LoreVisuals.tryApplyTimedVisualEffectOverride(store, targetRef, durationMs, STUN_EFFECT_IDS);
     }
@@ -5355,18 +5307,18 @@ public final class LoreProcHandler {
         if (targetRef == null || delayMs <= 0L) {
             return;
         }
-        OMNISLASH_SCHEDULER.schedule(() -> expireStun(targetRef, expectedUntil), delayMs, TimeUnit.MILLISECONDS);
+        LoreTimerWheel.schedule(targetRef.getStore(), null, delayMs, () -> expireStun(targetRef, expectedUntil));
     }
 
     private static void expireStun(Ref<EntityStore> targetRef, long expectedUntil) {
         if (targetRef == null) {
             return;
         }
-        Long current = STUN_UNTIL.get(targetRef);
-        if (current == null || current > expectedUntil) {
+        LoreEntityStatus status = LoreEntityStatus.get(targetRef);
+        if (status == null || status.stunUntil == 0L || status.stunUntil > expectedUntil) {
             return;
         }
-        STUN_UNTIL.remove(targetRef);
+        status.stunUntil = 0L;
     }
 
     private static void applyFrozenForDuration(Store<EntityStore> store, Ref<EntityStore> targetRef, long durationMs) {
@@ -5374,11 +5326,11 @@ public final class LoreProcHandler {
             return;
         }
         long until = System.currentTimeMillis() + durationMs;
-        FROZEN_UNTIL.merge(targetRef, until, Math::max);
+        LoreEntityStatus status = LoreEntityStatus.getOrCreate(targetRef);
+        status.frozenUntil = Math.max(status.frozenUntil, until);
         queueFrozenApply(store, targetRef, until);
         queueFrozenVisualEffect(store, targetRef, durationMs);
-        OMNISLASH_SCHEDULER.schedule(() -> queueFrozenRemoval(store, targetRef, until),
-                durationMs, TimeUnit.MILLISECONDS);
+        LoreTimerWheel.schedule(store, null, durationMs, () -> queueFrozenRemoval(store, targetRef, until));
         LoreDebug.logKv("freeze.apply", "durationMs", durationMs);
     }
 
@@ -5434,8 +5386,8 @@ public final class LoreProcHandler {
         if (store == null || targetRef == null) {
             return false;
         }
-        Long until = FROZEN_UNTIL.get(targetRef);
-        if (until != null && until > System.currentTimeMillis()) {
+        LoreEntityStatus status = LoreEntityStatus.get(targetRef);
+        if (status != null && status.frozenUntil > System.currentTimeMillis()) {
             return true;
         }
         return store.getComponent(targetRef, Frozen.getComponentType()) != null;
@@ -5458,7 +5410,10 @@ public final class LoreProcHandler {
         if (store == null || targetRef == null || store.isShutdown()) {
             return;
         }
-        FROZEN_UNTIL.remove(targetRef);
+        LoreEntityStatus status = LoreEntityStatus.get(targetRef);
+        if (status != null) {
+            status.frozenUntil = 0L;
+        }
         if (!isEntityAlive(store, targetRef)) {
             return;
         }
@@ -5481,11 +5436,11 @@ public final class LoreProcHandler {
         if (store == null || targetRef == null || store.isShutdown()) {
             return;
         }
-        Long current = FROZEN_UNTIL.get(targetRef);
-        if (current == null || current > expectedUntil) {
+        LoreEntityStatus status = LoreEntityStatus.get(targetRef);
+        if (status == null || status.frozenUntil == 0L || status.frozenUntil > expectedUntil) {
             return;
         }
-        FROZEN_UNTIL.remove(targetRef);
+        status.frozenUntil = 0L;
         if (!isEntityAlive(store, targetRef)) {
             return;
         }
@@ -5529,10 +5484,8 @@ public final class LoreProcHandler {
         int pulses = (int) Math.max(1, Math.min(FREEZE_MAX_PULSES, durationMs / FREEZE_PULSE_MS));
         for (int i = 1; i < pulses; i++) {
             long delay = FREEZE_PULSE_MS * i;
-            OMNISLASH_SCHEDULER.schedule(
-                    () -> spawnFreezePulse(store, targetRef),
-                    delay,
-                    TimeUnit.MILLISECONDS);
+            LoreTimerWheel.schedule(store, targetRef, delay,
+                    () -> spawnFreezePulse(store, targetRef));
         }
     }
 
@@ -5658,26 +5611,17 @@ public final class LoreProcHandler {
         if (store == null || targetRef == null || totalAmount <= 0f) {
             return;
         }
-        long now = System.currentTimeMillis();
-        Long existing = HEAL_HOT_UNTIL.get(targetRef);
-        if (existing != null && existing > now) {
+        if (LoreDotEngine.isActive(targetRef, LoreDotEngine.Kind.HEAL)) {
             return;
         }
         int ticks = LoreAbility.resolveHotTicks(feedTier);
         long duration = ticks * HEAL_HOT_TICK_MS;
-        long until = now + duration;
-        HEAL_HOT_UNTIL.put(targetRef, until);
-        scheduleHealHotExpiry(targetRef, until, duration);
-
         float perTick = totalAmount / (float) ticks;
         if (perTick <= 0f) {
             return;
         }
-        for (int i = 0; i < ticks; i++) {
-            long delay = i * HEAL_HOT_TICK_MS;
-            OMNISLASH_SCHEDULER.schedule(() -> queueHealTick(store, sourceRef, targetRef, perTick,
-                    requireInRange, until, radiusSq), delay, TimeUnit.MILLISECONDS);
-        }
+        LoreDotEngine.start(store, LoreDotEngine.Kind.HEAL, sourceRef, targetRef, ticks, HEAL_HOT_TICK_MS,
+                duration, perTick, 0f, 0f, 1, feedTier, requireInRange ? radiusSq : 0.0d);
     }
 
     private static boolean applyBleedOverTime(Store<EntityStore> store,
@@ -5730,23 +5674,11 @@ public final class LoreProcHandler {
             return false;
         }
 
-        long now = System.currentTimeMillis();
-        long until = now + duration;
-        BLEED_DOT_UNTIL.put(targetRef, until);
-        scheduleBleedExpiry(targetRef, until, duration);
+        // Tick i deals totalBleed * weight(i) / totalWeight, capped per tick.
+        float basePerTick = (float) (totalBleed / totalWeight);
+        LoreDotEngine.start(store, LoreDotEngine.Kind.BLEED, sourceRef, targetRef, ticks, BLEED_DOT_TICK_MS,
+                duration, basePerTick, (float) bleedRampPerTick, weaponCapPerTick, 1, feedTier, 0.0d);
         onBossCounterAilmentApplied(store, targetRef, "bleed");
-
-        for (int i = 0; i < ticks; i++) {
-            long delay = i * BLEED_DOT_TICK_MS;
-            double weight = Math.max(0.0d, 1.0d + (bleedRampPerTick * i));
-            float perTick = (float) (totalBleed * (weight / totalWeight));
-            if (weaponCapPerTick > 0f) {
-                perTick = Math.min(perTick, weaponCapPerTick);
-            }
-            final float perTickFinal = perTick;
-            OMNISLASH_SCHEDULER.schedule(() -> queueBleedTick(store, sourceRef, targetRef, perTickFinal, until, feedTier),
-                    delay, TimeUnit.MILLISECONDS);
-        }
         return true;
     }
 
@@ -5797,61 +5729,11 @@ public final class LoreProcHandler {
         return (float) LoreAbility.scaleEffectValue(perTickDamage, feedTier);
     }
 
-    private static void scheduleBleedExpiry(Ref<EntityStore> targetRef, long expectedUntil, long delayMs) {
-        if (targetRef == null || delayMs <= 0L) {
-            return;
-        }
-        OMNISLASH_SCHEDULER.schedule(() -> expireBleed(targetRef, expectedUntil), delayMs,
-                TimeUnit.MILLISECONDS);
-    }
-
-    private static void expireBleed(Ref<EntityStore> targetRef, long expectedUntil) {
-        if (targetRef == null) {
-            return;
-        }
-        Long current = BLEED_DOT_UNTIL.get(targetRef);
-        if (current == null || current > expectedUntil) {
-            return;
-        }
-        BLEED_DOT_UNTIL.remove(targetRef);
-    }
-
-    private static void queueBleedTick(Store<EntityStore> store,
-                                       Ref<EntityStore> sourceRef,
-                                       Ref<EntityStore> targetRef,
-                                       float perTick,
-                                       long expectedUntil,
-                                       int feedTier) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            return;
-        }
-        entityStore.getWorld().execute(() -> applyBleedTick(store, sourceRef, targetRef, perTick, expectedUntil, feedTier));
-    }
-
     private static void applyBleedTick(Store<EntityStore> store,
                                        Ref<EntityStore> sourceRef,
                                        Ref<EntityStore> targetRef,
                                        float perTick,
-                                       long expectedUntil,
                                        int feedTier) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        if (!isEntityAlive(store, targetRef)) {
-            clearBleedState(targetRef);
-            return;
-        }
-        Long current = BLEED_DOT_UNTIL.get(targetRef);
-        if (current == null || current.longValue() != expectedUntil) {
-            return;
-        }
-        if (System.currentTimeMillis() > expectedUntil) {
-            return;
-        }
         LoreDamageUtils.applyLoreDamage(store, sourceRef, targetRef, perTick, true,
                 irai.mod.reforge.Util.DamageNumberFormatter.DamageKind.BLEED, feedTier);
         LoreVisuals.spawnBleedParticles(store, sourceRef, targetRef, BLEED_PARTICLE_IDS);
@@ -5893,77 +5775,17 @@ public final class LoreProcHandler {
         if (perTick <= 0f) {
             return false;
         }
-        final float perTickFinal = perTick;
-        long now = System.currentTimeMillis();
-        long until = now + duration;
-        BURN_DOT_UNTIL.put(targetRef, until);
-        scheduleBurnExpiry(targetRef, until, duration);
+        LoreDotEngine.start(store, LoreDotEngine.Kind.BURN, sourceRef, targetRef, ticks, BURN_DOT_TICK_MS,
+                duration, perTick, 0f, 0f, 1, feedTier, 0.0d);
         onBossCounterAilmentApplied(store, targetRef, "burn");
-
-        for (int i = 0; i < ticks; i++) {
-            long delay = i * BURN_DOT_TICK_MS;
-            OMNISLASH_SCHEDULER.schedule(() -> queueBurnTick(store, sourceRef, targetRef, perTickFinal, until, feedTier),
-                    delay, TimeUnit.MILLISECONDS);
-        }
         return true;
     }
 
-    private static void scheduleBurnExpiry(Ref<EntityStore> targetRef, long expectedUntil, long delayMs) {
-        if (targetRef == null || delayMs <= 0L) {
-            return;
-        }
-        OMNISLASH_SCHEDULER.schedule(() -> expireBurn(targetRef, expectedUntil), delayMs,
-                TimeUnit.MILLISECONDS);
-    }
-
-    private static void expireBurn(Ref<EntityStore> targetRef, long expectedUntil) {
-        if (targetRef == null) {
-            return;
-        }
-        Long current = BURN_DOT_UNTIL.get(targetRef);
-        if (current == null || current > expectedUntil) {
-            return;
-        }
-        BURN_DOT_UNTIL.remove(targetRef);
-    }
-
-    private static void queueBurnTick(Store<EntityStore> store,
-                                      Ref<EntityStore> sourceRef,
-                                      Ref<EntityStore> targetRef,
-                                      float perTick,
-                                      long expectedUntil,
-                                      int feedTier) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            return;
-        }
-        entityStore.getWorld().execute(() -> applyBurnTick(store, sourceRef, targetRef, perTick, expectedUntil, feedTier));
-    }
-
     private static void applyBurnTick(Store<EntityStore> store,
                                       Ref<EntityStore> sourceRef,
                                       Ref<EntityStore> targetRef,
                                       float perTick,
-                                      long expectedUntil,
                                       int feedTier) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        if (!isEntityAlive(store, targetRef)) {
-            BURN_DOT_UNTIL.remove(targetRef);
-            clearBossCounterAilmentState(targetRef, "burn");
-            return;
-        }
-        Long current = BURN_DOT_UNTIL.get(targetRef);
-        if (current == null || current.longValue() != expectedUntil) {
-            return;
-        }
-        if (System.currentTimeMillis() > expectedUntil) {
-            return;
-        }
         LoreDamageUtils.applyLoreDamage(store, sourceRef, targetRef, perTick, true,
                 irai.mod.reforge.Util.DamageNumberFormatter.DamageKind.BURN, feedTier);
     }
@@ -5984,7 +5806,7 @@ public final class LoreProcHandler {
             return false;
         }
         long baseDuration = LoreAbility.scaleDurationMs(POISON_BASE_DURATION_MS, feedTier);
-        int currentStacks = POISON_DOT_STACKS.getOrDefault(targetRef, 0);
+        int currentStacks = LoreDotEngine.stacksOf(targetRef, LoreDotEngine.Kind.POISON);
         int stackCount = Math.max(1, Math.min(POISON_DOT_MAX_STACKS, currentStacks + 1));
         long bonusDuration = (long) (Math.max(0, stackCount - 1) * POISON_STACK_BONUS_MS);
         long totalDuration = baseDuration + bonusDuration;
@@ -6008,80 +5830,17 @@ public final class LoreProcHandler {
         if (perTick <= 0f) {
             return false;
         }
-        final float perTickFinal = perTick;
-        long now = System.currentTimeMillis();
-        long until = now + totalDuration;
-        POISON_DOT_UNTIL.put(targetRef, until);
-        POISON_DOT_STACKS.put(targetRef, stackCount);
-        schedulePoisonExpiry(targetRef, until, totalDuration);
+        LoreDotEngine.start(store, LoreDotEngine.Kind.POISON, sourceRef, targetRef, ticks, POISON_DOT_TICK_MS,
+                totalDuration, perTick, 0f, 0f, stackCount, feedTier, 0.0d);
         onBossCounterAilmentApplied(store, targetRef, "poison");
-
-        for (int i = 0; i < ticks; i++) {
-            long delay = i * POISON_DOT_TICK_MS;
-            OMNISLASH_SCHEDULER.schedule(() -> queuePoisonTick(store, sourceRef, targetRef, perTickFinal, until, feedTier),
-                    delay, TimeUnit.MILLISECONDS);
-        }
         return true;
     }
 
-    private static void schedulePoisonExpiry(Ref<EntityStore> targetRef, long expectedUntil, long delayMs) {
-        if (targetRef == null || delayMs <= 0L) {
-            return;
-        }
-        OMNISLASH_SCHEDULER.schedule(() -> expirePoison(targetRef, expectedUntil), delayMs,
-                TimeUnit.MILLISECONDS);
-    }
-
-    private static void expirePoison(Ref<EntityStore> targetRef, long expectedUntil) {
-        if (targetRef == null) {
-            return;
-        }
-        Long current = POISON_DOT_UNTIL.get(targetRef);
-        if (current == null || current > expectedUntil) {
-            return;
-        }
-        POISON_DOT_UNTIL.remove(targetRef);
-        POISON_DOT_STACKS.remove(targetRef);
-    }
-
-    private static void queuePoisonTick(Store<EntityStore> store,
-                                        Ref<EntityStore> sourceRef,
-                                        Ref<EntityStore> targetRef,
-                                        float perTick,
-                                        long expectedUntil,
-                                        int feedTier) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            return;
-        }
-        entityStore.getWorld().execute(() -> applyPoisonTick(store, sourceRef, targetRef, perTick, expectedUntil, feedTier));
-    }
-
     private static void applyPoisonTick(Store<EntityStore> store,
                                         Ref<EntityStore> sourceRef,
                                         Ref<EntityStore> targetRef,
                                         float perTick,
-                                        long expectedUntil,
                                         int feedTier) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        if (!isEntityAlive(store, targetRef)) {
-            POISON_DOT_UNTIL.remove(targetRef);
-            POISON_DOT_STACKS.remove(targetRef);
-            clearBossCounterAilmentState(targetRef, "poison");
-            return;
-        }
-        Long current = POISON_DOT_UNTIL.get(targetRef);
-        if (current == null || current.longValue() != expectedUntil) {
-            return;
-        }
-        if (System.currentTimeMillis() > expectedUntil) {
-            return;
-        }
         LoreDamageUtils.applyLoreDamage(store, sourceRef, targetRef, perTick, true,
                 irai.mod.reforge.Util.DamageNumberFormatter.DamageKind.POISON, true, feedTier);
         DamageNumberEST.queueCombatTextDirect(store, targetRef, perTick,
@@ -6100,9 +5859,7 @@ public final class LoreProcHandler {
         if (!canApplyBossCounterAilment(store, targetRef, "drain")) {
             return false;
         }
-        long now = System.currentTimeMillis();
-        Long existing = DRAIN_DOT_UNTIL.get(targetRef);
-        if (existing != null && existing > now) {
+        if (LoreDotEngine.isActive(targetRef, LoreDotEngine.Kind.DRAIN)) {
             return false;
         }
         long duration = LoreAbility.scaleDurationMs(DRAIN_BASE_DURATION_MS, feedTier);
@@ -6114,89 +5871,43 @@ public final class LoreProcHandler {
         if (perTick <= 0f) {
             return false;
         }
-        final float perTickFinal = perTick;
-        long until = now + duration;
-        DRAIN_DOT_UNTIL.put(targetRef, until);
-        scheduleDrainExpiry(store, targetRef, until, duration);
+        LoreDotEngine.start(store, LoreDotEngine.Kind.DRAIN, sourceRef, targetRef, ticks, DRAIN_DOT_TICK_MS,
+                duration, perTick, 0f, 0f, 1, feedTier, 0.0d);
         queueDrainVisualEffect(store, targetRef, duration);
         onBossCounterAilmentApplied(store, targetRef, "drain");
-
-        for (int i = 0; i < ticks; i++) {
-            long delay = i * DRAIN_DOT_TICK_MS;
-            OMNISLASH_SCHEDULER.schedule(() -> queueDrainTick(store, sourceRef, targetRef, perTickFinal, until, feedTier),
-                    delay, TimeUnit.MILLISECONDS);
-        }
         return true;
     }
 
-    private static void scheduleDrainExpiry(Store<EntityStore> store,
-                                            Ref<EntityStore> targetRef,
-                                            long expectedUntil,
-                                            long delayMs) {
-        if (store == null || targetRef == null || delayMs <= 0L) {
-            return;
-        }
-        OMNISLASH_SCHEDULER.schedule(() -> queueDrainExpiry(store, targetRef, expectedUntil), delayMs,
-                TimeUnit.MILLISECONDS);
-    }
-
-    private static void queueDrainExpiry(Store<EntityStore> store,
-                                         Ref<EntityStore> targetRef,
-                                         long expectedUntil) {
-        if (store == null || targetRef == null || store.isShutdown()) {
-            return;
-        }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            expireDrain(store, targetRef, expectedUntil);
-            return;
-        }
-        entityStore.getWorld().execute(() -> expireDrain(store, targetRef, expectedUntil));
-    }
-
-    private static void expireDrain(Store<EntityStore> store,
-                                    Ref<EntityStore> targetRef,
-                                    long expectedUntil) {
-        if (store == null || targetRef == null || store.isShutdown()) {
-            return;
-        }
-        Long current = DRAIN_DOT_UNTIL.get(targetRef);
-        if (current == null || current > expectedUntil) {
-            return;
-        }
-        DRAIN_DOT_UNTIL.remove(targetRef);
-        LoreVisuals.tryRemoveVisualEffectsById(store, targetRef, DRAIN_EFFECT_IDS);
-    }
-
     private static void queueBurnVisualEffect(Store<EntityStore> store,
                                               Ref<EntityStore> targetRef) {
-        queueTimedLoreVisualEffect(store, targetRef, BURN_VFX_UNTIL, BURN_VFX_DURATION_MS, BURN_VFX_IDS);
+        queueTimedLoreVisualEffect(store, targetRef, LoreEntityStatus.BURN, BURN_VFX_DURATION_MS, BURN_VFX_IDS);
     }
 
     private static void queuePoisonVisualEffect(Store<EntityStore> store,
                                                 Ref<EntityStore> targetRef) {
-        queueTimedLoreVisualEffect(store, targetRef, POISON_VFX_UNTIL, POISON_VFX_DURATION_MS, POISON_VFX_IDS);
+        queueTimedLoreVisualEffect(store, targetRef, LoreEntityStatus.POISON, POISON_VFX_DURATION_MS, POISON_VFX_IDS);
     }
 
     private static void queueTimedLoreVisualEffect(Store<EntityStore> store,
                                                    Ref<EntityStore> targetRef,
-                                                   Map<Ref<EntityStore>, Long> untilMap,
+                                                   int ailment,
                                                    long durationMs,
                                                    String[] effectIds) {
-        if (store == null || targetRef == null || untilMap == null || durationMs <= 0L
+        if (store == null || targetRef == null || durationMs <= 0L
                 || effectIds == null || effectIds.length == 0 || store.isShutdown()) {
             return;
         }
         long now = System.currentTimeMillis();
         long until = now + durationMs;
-        untilMap.merge(targetRef, until, Math::max);
-        scheduleTimedLoreVisualExpiry(store, targetRef, untilMap, until, durationMs, effectIds);
+        LoreEntityStatus status = LoreEntityStatus.getOrCreate(targetRef);
+        status.setVisualUntil(ailment, Math.max(status.visualUntil(ailment), until));
+        scheduleTimedLoreVisualExpiry(store, targetRef, ailment, until, durationMs, effectIds);
         EntityStore entityStore = store.getExternalData();
         if (entityStore == null || entityStore.getWorld() == null) {
             applyTimedLoreVisualEffect(store, targetRef, effectIds);
             return;
         }
-        entityStore.getWorld().execute(() -> applyTimedLoreVisualEffect(store, targetRef, effectIds));
+        LoreWorldTasks.queue(store, () -> applyTimedLoreVisualEffect(store, targetRef, effectIds));
     }
 
     private static void applyTimedLoreVisualEffect(Store<EntityStore> store,
@@ -6214,49 +5925,48 @@ public final class LoreProcHandler {
 
     private static void scheduleTimedLoreVisualExpiry(Store<EntityStore> store,
                                                       Ref<EntityStore> targetRef,
-                                                      Map<Ref<EntityStore>, Long> untilMap,
+                                                      int ailment,
                                                       long expectedUntil,
                                                       long delayMs,
                                                       String[] effectIds) {
-        if (store == null || targetRef == null || untilMap == null || delayMs <= 0L) {
+        if (store == null || targetRef == null || delayMs <= 0L) {
             return;
         }
-        OMNISLASH_SCHEDULER.schedule(
-                () -> queueTimedLoreVisualExpiry(store, targetRef, untilMap, expectedUntil, effectIds),
-                delayMs,
-                TimeUnit.MILLISECONDS);
+        LoreTimerWheel.schedule(store, null, delayMs,
+                () -> queueTimedLoreVisualExpiry(store, targetRef, ailment, expectedUntil, effectIds));
     }
 
     private static void queueTimedLoreVisualExpiry(Store<EntityStore> store,
                                                    Ref<EntityStore> targetRef,
-                                                   Map<Ref<EntityStore>, Long> untilMap,
+                                                   int ailment,
                                                    long expectedUntil,
                                                    String[] effectIds) {
-        if (store == null || targetRef == null || untilMap == null || store.isShutdown()) {
+        if (store == null || targetRef == null || store.isShutdown()) {
             return;
         }
         EntityStore entityStore = store.getExternalData();
         if (entityStore == null || entityStore.getWorld() == null) {
-            expireTimedLoreVisualEffect(store, targetRef, untilMap, expectedUntil, effectIds);
+            expireTimedLoreVisualEffect(store, targetRef, ailment, expectedUntil, effectIds);
             return;
         }
-        entityStore.getWorld().execute(() -> expireTimedLoreVisualEffect(store, targetRef, untilMap,
+        LoreWorldTasks.queue(store, () -> expireTimedLoreVisualEffect(store, targetRef, ailment,
                 expectedUntil, effectIds));
     }
 
     private static void expireTimedLoreVisualEffect(Store<EntityStore> store,
                                                     Ref<EntityStore> targetRef,
-                                                    Map<Ref<EntityStore>, Long> untilMap,
+                                                    int ailment,
                                                     long expectedUntil,
                                                     String[] effectIds) {
-        if (store == null || targetRef == null || untilMap == null || store.isShutdown()) {
+        if (store == null || targetRef == null || store.isShutdown()) {
             return;
         }
-        Long current = untilMap.get(targetRef);
-        if (current == null || current > expectedUntil) {
+        LoreEntityStatus status = LoreEntityStatus.get(targetRef);
+        long current = status == null ? 0L : status.visualUntil(ailment);
+        if (current == 0L || current > expectedUntil) {
             return;
         }
-        untilMap.remove(targetRef);
+        status.setVisualUntil(ailment, 0L);
         LoreVisuals.tryRemoveVisualEffectsById(store, targetRef, effectIds);
     }
 
@@ -6271,7 +5981,7 @@ public final class LoreProcHandler {
             applyDrainVisualEffect(store, targetRef, durationMs);
             return;
         }
-        entityStore.getWorld().execute(() -> applyDrainVisualEffect(store, targetRef, durationMs));
+        LoreWorldTasks.queue(store, () -> applyDrainVisualEffect(store, targetRef, durationMs));
     }
 
     private static void applyDrainVisualEffect(Store<EntityStore> store,
@@ -6287,43 +5997,11 @@ public final class LoreProcHandler {
         LoreVisuals.tryApplyTimedVisualEffectOverride(store, targetRef, durationMs, DRAIN_EFFECT_IDS);
     }
 
-    private static void queueDrainTick(Store<EntityStore> store,
-                                       Ref<EntityStore> sourceRef,
-                                       Ref<EntityStore> targetRef,
-                                       float perTick,
-                                       long expectedUntil,
-                                       int feedTier) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            return;
-        }
-        entityStore.getWorld().execute(() -> applyDrainTick(store, sourceRef, targetRef, perTick, expectedUntil, feedTier));
-    }
-
     private static void applyDrainTick(Store<EntityStore> store,
                                        Ref<EntityStore> sourceRef,
                                        Ref<EntityStore> targetRef,
                                        float perTick,
-                                       long expectedUntil,
                                        int feedTier) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        if (!isEntityAlive(store, targetRef)) {
-            DRAIN_DOT_UNTIL.remove(targetRef);
-            clearBossCounterAilmentState(targetRef, "drain");
-            return;
-        }
-        Long current = DRAIN_DOT_UNTIL.get(targetRef);
-        if (current == null || current.longValue() != expectedUntil) {
-            return;
-        }
-        if (System.currentTimeMillis() > expectedUntil) {
-            return;
-        }
         LoreDamageUtils.applyLoreDamage(store, sourceRef, targetRef, perTick, true, feedTier);
         if (sourceRef != null && isEntityAlive(store, sourceRef)) {
             LoreDamageUtils.applyHeal(store, sourceRef, perTick);
@@ -6754,10 +6432,8 @@ public final class LoreProcHandler {
         if (store == null || playerId == null || targetRef == null || markMap == null) {
             return;
         }
-        OMNISLASH_SCHEDULER.schedule(
-                () -> queueFinaleMarkCheck(store, playerId, targetRef, markMap),
-                FINALE_MARK_CHECK_MS,
-                TimeUnit.MILLISECONDS);
+        LoreTimerWheel.schedule(store, null, FINALE_MARK_CHECK_MS,
+                () -> queueFinaleMarkCheck(store, playerId, targetRef, markMap));
     }
 
     private static void queueFinaleMarkCheck(Store<EntityStore> store,
@@ -6767,11 +6443,7 @@ public final class LoreProcHandler {
         if (store == null || playerId == null || targetRef == null || markMap == null || store.isShutdown()) {
             return;
         }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            return;
-        }
-        entityStore.getWorld().execute(() -> processFinaleMarkCheck(store, playerId, targetRef, markMap));
+        LoreWorldTasks.queue(store, () -> processFinaleMarkCheck(store, playerId, targetRef, markMap));
     }
 
     private static void processFinaleMarkCheck(Store<EntityStore> store,
@@ -6921,10 +6593,8 @@ public final class LoreProcHandler {
         for (int i = 0; i < ticks; i++) {
             long delay = i * Math.max(1L, HEAL_AREA_TICK_MS);
             boolean spawnParticles = false;
-            OMNISLASH_SCHEDULER.schedule(
-                    () -> queueAreaHealPulse(store, sourceRef, scaledAmount, radiusSq, spawnParticles),
-                    delay,
-                    TimeUnit.MILLISECONDS
+            LoreTimerWheel.schedule(store, sourceRef, delay,
+                    () -> queueAreaHealPulse(store, sourceRef, scaledAmount, radiusSq, spawnParticles)
             );
         }
     }
@@ -6954,11 +6624,7 @@ public final class LoreProcHandler {
         if (store == null || sourceRef == null || amount <= 0f || store.isShutdown()) {
             return;
         }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            return;
-        }
-        entityStore.getWorld().execute(() -> applyAreaHealPulse(store, sourceRef, amount, radiusSq, spawnParticles));
+        LoreWorldTasks.queue(store, () -> applyAreaHealPulse(store, sourceRef, amount, radiusSq, spawnParticles));
     }
 
     private static void applyAreaHealPulse(Store<EntityStore> store,
@@ -6983,63 +6649,55 @@ public final class LoreProcHandler {
         }
     }
 
-    private static void scheduleHealHotExpiry(Ref<EntityStore> targetRef, long expectedUntil, long delayMs) {
-        if (targetRef == null || delayMs <= 0L) {
-            return;
+    /**
+     * Applies one due tick of an over-time effect for {@link LoreDotEngine}. Returns false when
+     * the target is gone so the engine drops the effect.
+     */
+    static boolean applyDotTick(Store<EntityStore> store,
+                                LoreDotEngine.Kind kind,
+                                Ref<EntityStore> sourceRef,
+                                Ref<EntityStore> targetRef,
+                                float amount,
+                                int feedTier,
+                                double radiusSq) {
+        if (store == null || targetRef == null || store.isShutdown()) {
+            return false;
         }
-        OMNISLASH_SCHEDULER.schedule(() -> expireHealHot(targetRef, expectedUntil), delayMs,
-                TimeUnit.MILLISECONDS);
-    }
-
-    private static void expireHealHot(Ref<EntityStore> targetRef, long expectedUntil) {
-        if (targetRef == null) {
-            return;
+        if (!isEntityAlive(store, targetRef)) {
+            String ailmentKey = dotAilmentKey(kind);
+            if (ailmentKey != null) {
+                clearBossCounterAilmentState(targetRef, ailmentKey);
+            }
+            return false;
         }
-        Long current = HEAL_HOT_UNTIL.get(targetRef);
-        if (current == null || current > expectedUntil) {
-            return;
+        switch (kind) {
+            case BLEED -> applyBleedTick(store, sourceRef, targetRef, amount, feedTier);
+            case BURN -> applyBurnTick(store, sourceRef, targetRef, amount, feedTier);
+            case POISON -> applyPoisonTick(store, sourceRef, targetRef, amount, feedTier);
+            case DRAIN -> applyDrainTick(store, sourceRef, targetRef, amount, feedTier);
+            case HEAL -> {
+                if (radiusSq <= 0.0d || isWithinHealRange(store, sourceRef, targetRef, radiusSq)) {
+                    LoreDamageUtils.applyHeal(store, targetRef, amount);
+                }
+            }
         }
-        HEAL_HOT_UNTIL.remove(targetRef);
+        return true;
     }
 
-    private static void queueHealTick(Store<EntityStore> store,
-                                      Ref<EntityStore> sourceRef,
-                                      Ref<EntityStore> targetRef,
-                                      float perTick,
-                                      boolean requireInRange,
-                                      long hotUntil,
-                                      double radiusSq) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
+    static void onDotExpired(Store<EntityStore> store, LoreDotEngine.Kind kind, Ref<EntityStore> targetRef) {
+        if (kind == LoreDotEngine.Kind.DRAIN && store != null && targetRef != null && !store.isShutdown()) {
+            LoreVisuals.tryRemoveVisualEffectsById(store, targetRef, DRAIN_EFFECT_IDS);
         }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            return;
-        }
-        entityStore.getWorld().execute(() -> applyHealTick(store, sourceRef, targetRef, perTick, requireInRange,
-                hotUntil, radiusSq));
     }
 
-    private static void applyHealTick(Store<EntityStore> store,
-                                      Ref<EntityStore> sourceRef,
-                                      Ref<EntityStore> targetRef,
-                                      float perTick,
-                                      boolean requireInRange,
-                                      long hotUntil,
-                                      double radiusSq) {
-        if (store == null || targetRef == null || perTick <= 0f || store.isShutdown()) {
-            return;
-        }
-        if (!isEntityAlive(store, targetRef)) {
-            return;
-        }
-        if (requireInRange && !isWithinHealRange(store, sourceRef, targetRef, radiusSq)) {
-            return;
-        }
-        if (System.currentTimeMillis() > hotUntil) {
-            return;
-        }
-        LoreDamageUtils.applyHeal(store, targetRef, perTick);
+    private static String dotAilmentKey(LoreDotEngine.Kind kind) {
+        return switch (kind) {
+            case BLEED -> "bleed";
+            case BURN -> "burn";
+            case POISON -> "poison";
+            case DRAIN -> "drain";
+            case HEAL -> null;
+        };
     }
 
     private static boolean isWithinHealRange(Store<EntityStore> store,
@@ -0,0 +1,204 @@
+package irai.mod.reforge.Lore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * Per-world hashed timer wheel for delayed lore work (multi-hit sequences, DoT ticks,
+ * status expiry, timed visuals).
+ *
+ * The world tick polls its wheel once per tick; everything that came due is dispatched
+ * as one batch on the world thread. Timers can be tagged with an owner ref so they are
+ * dropped together when that entity dies.
+ */
+public final class LoreTimerWheel {
+    private static final long SLOT_MS = 10L;
+    private static final int SLOT_COUNT = 512;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+
+    private static final Map<Store<EntityStore>, Wheel> WHEELS = new ConcurrentHashMap<>();
+
+    private LoreTimerWheel() {}
+
+    /**
+     * Runs {@code task} on the world thread of {@code store} after {@code delayMs}.
+     * Returns false when the store is gone and the task was dropped.
+     */
+    public static boolean schedule(Store<EntityStore> store, Ref<EntityStore> owner, long delayMs, Runnable task) {
+        if (store == null || task == null || store.isShutdown()) {
+            return false;
+        }
+        Wheel wheel = WHEELS.get(store);
+        if (wheel == null) {
+            purgeShutdownStores();
+            wheel = WHEELS.computeIfAbsent(store, ignored -> new Wheel(nowTick()));
+        }
+        long delayTicks = (Math.max(0L, delayMs) + SLOT_MS - 1L) / SLOT_MS;
+        wheel.add(new Timer(owner, task), nowTick() + delayTicks);
+        return true;
+    }
+
+    /** Drops every pending timer owned by {@code owner}. */
+    public static void cancel(Ref<EntityStore> owner) {
+        if (owner == null) {
+            return;
+        }
+        Store<EntityStore> store = owner.getStore();
+        Wheel wheel = store == null ? null : WHEELS.get(store);
+        if (wheel != null) {
+            wheel.cancel(owner);
+        }
+    }
+
+    /**
+     * Collects the timers of {@code store} that are due and queues them as a single world task.
+     * Called from the world tick; cheap when nothing is due.
+     */
+    public static void poll(Store<EntityStore> store) {
+        if (store == null) {
+            return;
+        }
+        Wheel wheel = WHEELS.get(store);
+        if (wheel == null) {
+            return;
+        }
+        if (store.isShutdown()) {
+            WHEELS.remove(store, wheel);
+            return;
+        }
+        List<Timer> due = wheel.advance(nowTick());
+        if (due.isEmpty()) {
+            return;
+        }
+        LoreWorldTasks.queueBatch(store, () -> dispatch(due));
+    }
+
+    public static int pendingCount(Store<EntityStore> store) {
+        Wheel wheel = store == null ? null : WHEELS.get(store);
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    private static void dispatch(List<Timer> due) {
+        for (Timer timer : due) {
+            try {
+                timer.task.run();
+            } catch (Throwable t) {
+                System.err.println("[SocketReforge] Lore timer task failed: " + t.getMessage());
+            }
+        }
+    }
+
+    private static void purgeShutdownStores() {
+        WHEELS.keySet().removeIf(Store::isShutdown);
+    }
+
+    private static long nowTick() {
+        return System.nanoTime() / 1_000_000L / SLOT_MS;
+    }
+
+    private static final class Timer {
+        private final Ref<EntityStore> owner;
+        private final Runnable task;
+        private long dueTick;
+
+        private Timer(Ref<EntityStore> owner, Runnable task) {
+            this.owner = owner;
+            this.task = task;
+        }
+    }
+
+    private static final class Wheel {
+        @SuppressWarnings("unchecked")
+        private final ArrayList<Timer>[] slots = new ArrayList[SLOT_COUNT];
+        private long cursorTick;
+        private int size;
+
+        private Wheel(long startTick) {
+            this.cursorTick = startTick;
+        }
+
+        private synchronized void add(Timer timer, long dueTick) {
+            timer.dueTick = Math.max(dueTick, cursorTick);
+            int index = (int) (timer.dueTick & SLOT_MASK);
+            ArrayList<Timer> slot = slots[index];
+            if (slot == null) {
+                slot = new ArrayList<>(4);
+                slots[index] = slot;
+            }
+            slot.add(timer);
+            size++;
+        }
+
+        /** Removes and returns every timer due at or before {@code nowTick}, oldest first. */
+        private synchronized List<Timer> advance(long nowTick) {
+            if (size == 0 || nowTick < cursorTick) {
+                cursorTick = Math.max(cursorTick, nowTick + 1L);
+                return List.of();
+            }
+            List<Timer> due = new ArrayList<>();
+            long span = nowTick - cursorTick + 1L;
+            if (span >= SLOT_COUNT) {
+                for (ArrayList<Timer> slot : slots) {
+                    drainDue(slot, nowTick, due);
+                }
+                due.sort(Comparator.comparingLong(timer -> timer.dueTick));
+            } else {
+                for (long tick = cursorTick; tick <= nowTick; tick++) {
+                    drainDue(slots[(int) (tick & SLOT_MASK)], nowTick, due);
+                }
+            }
+            cursorTick = nowTick + 1L;
+            size -= due.size();
+            return due;
+        }
+
+        private static void drainDue(ArrayList<Timer> slot, long nowTick, List<Timer> out) {
+            if (slot == null || slot.isEmpty()) {
+                return;
+            }
+            int kept = 0;
+            for (int i = 0, n = slot.size(); i < n; i++) {
+                Timer timer = slot.get(i);
+                if (timer.dueTick <= nowTick) {
+                    out.add(timer);
+                } else {
+                    slot.set(kept++, timer);
+                }
+            }
+            for (int i = slot.size() - 1; i >= kept; i--) {
+                slot.remove(i);
+            }
+        }
+
+        private synchronized void cancel(Ref<EntityStore> owner) {
+            if (size == 0) {
+                return;
+            }
+            for (ArrayList<Timer> slot : slots) {
+                if (slot == null || slot.isEmpty()) {
+                    continue;
+                }
+                Iterator<Timer> it = slot.iterator();
+                while (it.hasNext()) {
+                    Timer timer = it.next();
+                    if (owner.equals(timer.owner)) {
+                        it.remove();
+                        size--;
+                    }
+                }
+            }
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+    }
+}
@@ -2,8 +2,6 @@ package irai.mod.reforge.Lore;
 
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
@@ -27,14 +25,9 @@ import org.joml.Vector3d;
  */
 public final class LoreVisuals {
     private static final boolean DEBUG_LORE_PROCS = LoreDebug.ENABLED;
-    private static volatile ScheduledExecutorService scheduler;
 
     private LoreVisuals() {}
 
-    public static void setScheduler(ScheduledExecutorService service) {
-        scheduler = service;
-    }
-
     public static void tryApplyVisualEffect(Store<EntityStore> store, Ref<EntityStore> targetRef, String... effectIds) {
         if (store == null || targetRef == null || effectIds == null || effectIds.length == 0) {
             LoreDebug.log("vfx.skip", "reason=invalidTargetOrEffects");
@@ -616,18 +609,7 @@ public final class LoreVisuals {
         if (store == null || targetRef == null || delayMs <= 0L) {
             return;
         }
-        ScheduledExecutorService service = scheduler;
-        if (service == null) {
-            return;
-        }
-        EntityStore entityStore = store.getExternalData();
-        if (entityStore == null || entityStore.getWorld() == null) {
-            return;
-        }
-        service.schedule(
-                () -> entityStore.getWorld().execute(() -> removeEffectIfPresent(store, targetRef, effectIndex)),
-                delayMs,
-                TimeUnit.MILLISECONDS);
+        LoreTimerWheel.schedule(store, null, delayMs, () -> removeEffectIfPresent(store, targetRef, effectIndex));
     }
 
     private static void removeEffectIfPresent(Store<EntityStore> store,
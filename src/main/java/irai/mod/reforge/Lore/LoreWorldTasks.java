@@ -7,12 +7,19 @@ import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
  * Shared helper for safely queueing work on the world thread.
  */
 public final class LoreWorldTasks {
+    private static final ThreadLocal<Store<EntityStore>> BATCH_STORE = new ThreadLocal<>();
+
     private LoreWorldTasks() {}
 
     public static boolean queue(Store<EntityStore> store, Runnable task) {
         if (store == null || task == null || store.isShutdown()) {
             return false;
         }
+        if (BATCH_STORE.get() == store) {
+            // Already on this world's thread inside a batch; skip the extra hop.
+            task.run();
+            return true;
+        }
         EntityStore entityStore = store.getExternalData();
         if (entityStore == null || entityStore.getWorld() == null) {
             return false;
@@ -20,4 +27,37 @@ public final class LoreWorldTasks {
         entityStore.getWorld().execute(task);
         return true;
     }
+
+    /**
+     * Runs {@code batch} on the world thread of {@code store}; nested {@link #queue} calls for the
+     * same store inside it run inline instead of hopping again.
+     */
+    static boolean queueBatch(Store<EntityStore> store, Runnable batch) {
+        if (store == null || batch == null || store.isShutdown()) {
+            return false;
+        }
+        EntityStore entityStore = store.getExternalData();
+        if (entityStore == null || entityStore.getWorld() == null) {
+            return false;
+        }
+        entityStore.getWorld().execute(() -> runBatch(store, batch));
+        return true;
+    }
+
+    private static void runBatch(Store<EntityStore> store, Runnable batch) {
+        if (store.isShutdown()) {
+            return;
+        }
+        Store<EntityStore> previous = BATCH_STORE.get();
+        BATCH_STORE.set(store);
+        try {
+            batch.run();
+        } finally {
+            if (previous == null) {
+                BATCH_STORE.remove();
+            } else {
+                BATCH_STORE.set(previous);
+            }
+        }
+    }
 }
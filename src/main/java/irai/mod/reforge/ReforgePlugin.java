@@ -77,6 +77,7 @@ import irai.mod.reforge.Config.RefinementConfig;
 import irai.mod.reforge.Config.SFXConfig;
 import irai.mod.reforge.Config.SocketConfig;
 import irai.mod.reforge.Config.WorldRepairConfig;
+import irai.mod.reforge.Entity.Events.ArmorBonusInventoryChangeEST;
 import irai.mod.reforge.Entity.Events.ChestWindowSocketLootEST;
 import irai.mod.reforge.Entity.Events.DamageNumberEST;
 import irai.mod.reforge.Entity.Events.EnemyElementalShieldEST;
@@ -84,13 +85,17 @@ import irai.mod.reforge.Entity.Events.EquipmentRefineEST;
 import irai.mod.reforge.Entity.Events.HatchetThrowEST;
 import irai.mod.reforge.Entity.Events.LifeHealthSystem;
 import irai.mod.reforge.Entity.Events.LootSocketRoller;
+import irai.mod.reforge.Entity.Events.LoreDotSystem;
 import irai.mod.reforge.Entity.Events.LoreEffectEST;
 import irai.mod.reforge.Entity.Events.LoreKillEST;
 import irai.mod.reforge.Entity.Events.LorePlayerStateEST;
+import irai.mod.reforge.Entity.Events.LoreTimerWheelSystem;
 import irai.mod.reforge.Entity.Events.NPCLootSocketDropEST;
 import irai.mod.reforge.Entity.Events.NativeTooltipInventoryEventEST;
+import irai.mod.reforge.Entity.Events.NativeTooltipRefreshSystem;
 import irai.mod.reforge.Entity.Events.OpenGuiListener;
 import irai.mod.reforge.Entity.Events.SalvageMetadataCompatEST;
+import irai.mod.reforge.Entity.Events.SocketArmorBonusHelper;
 import irai.mod.reforge.Entity.Events.SocketEffectEST;
 import irai.mod.reforge.Entity.Events.SocketStatSystem;
 import irai.mod.reforge.Entity.Events.TreasureChestSocketLootListener;
@@ -106,6 +111,7 @@ import irai.mod.reforge.Interactions.SocketPunchBench;
 import irai.mod.reforge.Lore.LoreAbilityRegistry;
 import irai.mod.reforge.Lore.LoreAbsorptionStore;
 import irai.mod.reforge.Lore.LoreGemRegistry;
+import irai.mod.reforge.Lore.LoreProcHandler;
 import irai.mod.reforge.Lore.LoreSocketManager;
 import irai.mod.reforge.Socket.EssenceRegistry;
 import irai.mod.reforge.Socket.ResonanceSystem;
@@ -148,6 +154,10 @@ public class ReforgePlugin extends JavaPlugin {
     private final NativeTooltipInventoryEventEST nativeTooltipInventoryEventEST;
     private final WeaponAffinityAppearanceInventoryEventEST weaponAffinityAppearanceInventoryEventEST;
     private final WeaponAffinityAppearanceInventoryChangeEST weaponAffinityAppearanceInventoryChangeEST;
+    private final ArmorBonusInventoryChangeEST armorBonusInventoryChangeEST;
+    private final NativeTooltipRefreshSystem nativeTooltipRefreshSystem;
+    private final LoreTimerWheelSystem loreTimerWheelSystem;
+    private final LoreDotSystem loreDotSystem;
     private ReforgeEquip reforgeEquip;
 
     // Static reference for commands to access plugin
@@ -196,6 +206,10 @@ public class ReforgePlugin extends JavaPlugin {
         nativeTooltipInventoryEventEST = new NativeTooltipInventoryEventEST();
         weaponAffinityAppearanceInventoryEventEST = new WeaponAffinityAppearanceInventoryEventEST();
         weaponAffinityAppearanceInventoryChangeEST = new WeaponAffinityAppearanceInventoryChangeEST();
+        armorBonusInventoryChangeEST = new ArmorBonusInventoryChangeEST();
+        nativeTooltipRefreshSystem = new NativeTooltipRefreshSystem();
+        loreTimerWheelSystem = new LoreTimerWheelSystem();
+        loreDotSystem = new LoreDotSystem();
         this.configService = new ConfigService("ReforgePlugin");
         this.sfxconfig = this.withConfig("SFXConfig", SFXConfig.CODEC);
         this.refinementConfig = this.withConfig("RefinementConfig", RefinementConfig.CODEC);
@@ -235,6 +249,8 @@ public class ReforgePlugin extends JavaPlugin {
             EssenceRegistry.initialize();
             ResonanceSystem.setWeaponClassHints(cfg.getResonanceWeaponClassHints());
             ResonanceSystem.setResonanceClassMappings(cfg.getResonanceClassMappings());
+            SocketArmorBonusHelper.invalidateAll();
+            DynamicTooltipUtils.invalidateTooltipCache();
         });
 
         this.configService.register("LootSocketRollConfig", this.lootSocketRollConfig, cfg -> {
@@ -244,10 +260,14 @@ public class ReforgePlugin extends JavaPlugin {
             TreasureChestSocketLootListener.setConfig(cfg);
         });
 
-        this.configService.register("LoreConfig", this.loreConfig, LoreSocketManager::initialize);
+        this.configService.register("LoreConfig", this.loreConfig, cfg -> {
+            LoreSocketManager.initialize(cfg);
+            DynamicTooltipUtils.invalidateTooltipCache();
+        });
         this.configService.register("LoreMappingConfig", this.loreMappingConfig, cfg -> {
             LoreGemRegistry.initialize(cfg);
             LoreAbilityRegistry.initialize(cfg);
+            DynamicTooltipUtils.invalidateTooltipCache();
         });
         this.configService.register("DamageNumberConfig", this.damageNumberConfig, this::applyDamageNumberConfig);
         this.configService.register("WorldRepairConfig", this.worldRepairConfig, cfg -> {});
@@ -276,6 +296,7 @@ public class ReforgePlugin extends JavaPlugin {
         File dataFolder = new File(".");
         ReforgeEquip.initialize(dataFolder);
         LoreAbsorptionStore.initialize(dataFolder);
+        TreasureChestSocketLootListener.initialize(dataFolder);
         // Register interaction
         reforgeEquip = new ReforgeEquip();
 
@@ -306,7 +327,15 @@ public class ReforgePlugin extends JavaPlugin {
             if (event != null) {
                 flushPendingLoreUpdatesOnDisconnect(event.getPlayerRef());
                 SocketBenchUI.closeForDisconnect(event.getPlayerRef());
+                EssenceBenchUI.closeForDisconnect(event.getPlayerRef());
+                ReforgeBenchUI.closeForDisconnect(event.getPlayerRef());
                 EnemyAffinityHudUI.closeForDisconnect(event.getPlayerRef());
+                if (event.getPlayerRef() != null) {
+                    SocketArmorBonusHelper.markDirty(event.getPlayerRef().getUuid());
+                    DynamicTooltipUtils.clearPendingTooltipRefresh(event.getPlayerRef().getUuid());
+                    LoreProcHandler.clearPlayerState(event.getPlayerRef().getUuid());
+                    LangLoader.forgetPlayer(event.getPlayerRef().getUuid());
+                }
             }
         });
         this.getEventRegistry().registerGlobal(EventPriority.FIRST, DamageBlockEvent.class, LeafSaplingDropUtils::onDamageBlock);
@@ -314,6 +343,9 @@ public class ReforgePlugin extends JavaPlugin {
         this.getEventRegistry().registerGlobal(EventPriority.FIRST, DamageBlockEvent.class, CropEssenceDropUtils::onDamageBlock);
         this.getEventRegistry().registerGlobal(EventPriority.FIRST, BreakBlockEvent.class, CropEssenceDropUtils::onBreakBlock);
         this.getEventRegistry().registerGlobal(InventoryChangeEvent.class, DynamicTooltipUtils::onInventoryChange);
+        this.getEventRegistry().registerGlobal(InventoryChangeEvent.class, SocketBenchUI::onInventoryChange);
+        this.getEventRegistry().registerGlobal(InventoryChangeEvent.class, EssenceBenchUI::onInventoryChange);
+        this.getEventRegistry().registerGlobal(InventoryChangeEvent.class, ReforgeBenchUI::onInventoryChange);
         this.getEventRegistry().registerGlobal(InteractivelyPickupItemEvent.class, DynamicTooltipUtils::onInteractivelyPickupItem);
         //this.getEventRegistry().registerGlobal(EventPriority.FIRST, PlayerInteractEvent.class, hatchetThrowEST::onPlayerInteract);
         //this.getEventRegistry().registerGlobal(EventPriority.FIRST, DrainPlayerFromWorldEvent.class, hatchetThrowEST::onDrainPlayerFromWorld);
@@ -361,6 +393,10 @@ public class ReforgePlugin extends JavaPlugin {
         this.getEntityStoreRegistry().registerSystem(nativeTooltipInventoryEventEST);
         this.getEntityStoreRegistry().registerSystem(weaponAffinityAppearanceInventoryEventEST);
         this.getEntityStoreRegistry().registerSystem(weaponAffinityAppearanceInventoryChangeEST);
+        this.getEntityStoreRegistry().registerSystem(armorBonusInventoryChangeEST);
+        this.getEntityStoreRegistry().registerSystem(nativeTooltipRefreshSystem);
+        this.getEntityStoreRegistry().registerSystem(loreTimerWheelSystem);
+        this.getEntityStoreRegistry().registerSystem(loreDotSystem);
 
         systemsRegistered = true;
         
@@ -515,6 +551,10 @@ public class ReforgePlugin extends JavaPlugin {
         if (chunkRemovalTimer != null) {
             chunkRemovalTimer.cancel();
         }
+
+        LoreAbsorptionStore.shutdown();
+        TreasureChestSocketLootListener.shutdown();
+        DamageNumberEST.shutdown();
     }
 
     /**
@@ -166,6 +166,118 @@ public final class ResonanceSystem {
         }
     }
 
+    /**
+     * Definition with its class-mapping override folded in: scope and accepted weapon classes
+     * are resolved once, and results are cached per greater-essence count.
+     */
+    private static final class Candidate {
+        final Definition definition;
+        final Scope scope;
+        final int weaponClassMask;
+        final ResonanceResult[] resultsByGreater;
+
+        Candidate(Definition definition, ScopeOverride override) {
+            this.definition = definition;
+            Scope effectiveScope = override == null ? definition.scope : override.scope();
+            int mask = ALL_WEAPON_CLASSES;
+            if (override != null && effectiveScope == Scope.WEAPON
+                    && override.weaponClasses() != null && !override.weaponClasses().isEmpty()) {
+                mask = 0;
+                for (WeaponClass allowed : override.weaponClasses()) {
+                    mask |= acceptedWeaponClasses(allowed);
+                }
+            }
+            if (override == null && definition.requiredWeaponClass != null) {
+                mask &= acceptedWeaponClasses(definition.requiredWeaponClass);
+            }
+            this.scope = effectiveScope;
+            this.weaponClassMask = mask;
+            this.resultsByGreater = new ResonanceResult[definition.pattern.length + 1];
+        }
+
+        boolean appliesTo(boolean isWeapon, boolean isArmor) {
+            return (scope != Scope.WEAPON || isWeapon) && (scope != Scope.ARMOR || isArmor);
+        }
+
+        /** Result for {@code greater} greater essences out of a fully filled pattern; shared, not to be mutated. */
+        ResonanceResult result(int greater) {
+            int index = Math.max(0, Math.min(greater, resultsByGreater.length - 1));
+            ResonanceResult cached = resultsByGreater[index];
+            if (cached == null) {
+                ResonanceResult base = definition.toResult();
+                double multiplier = 1.0 + (0.5 * ((double) index / (double) Math.max(1, definition.pattern.length)));
+                ResonanceResult scaled = multiplier > 1.0 ? scaleResultBonuses(base, multiplier) : base;
+                cached = new ResonanceResult(scaled.name(), scaled.effect(), scaled.type(),
+                        Collections.unmodifiableMap(scaled.bonuses()));
+                resultsByGreater[index] = cached;
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Candidates keyed by a packed essence sequence (4 bits for the length, then 4 bits per slot),
+     * in an open-addressed table so lookups neither box nor allocate.
+     */
+    private static final class PatternIndex {
+        final int version;
+        private final long[] keys;
+        private final Candidate[][] values;
+        private final int mask;
+
+        PatternIndex(int version, List<Definition> definitions, Map<String, ScopeOverride> overrides) {
+            this.version = version;
+            Map<Long, List<Candidate>> grouped = new java.util.LinkedHashMap<>();
+            for (Definition definition : definitions) {
+                if (definition == null || definition.pattern == null) {
+                    continue;
+                }
+                long key = patternKey(definition.pattern);
+                if (key < 0L) {
+                    continue;
+                }
+                ScopeOverride override = definition.name == null || definition.name.isBlank()
+                        ? null
+                        : overrides.get(resonanceKey(definition.name));
+                grouped.computeIfAbsent(key, ignored -> new ArrayList<>(1)).add(new Candidate(definition, override));
+            }
+            int capacity = Integer.highestOneBit(Math.max(4, grouped.size() * 2 - 1)) << 1;
+            this.keys = new long[capacity];
+            this.values = new Candidate[capacity][];
+            this.mask = capacity - 1;
+            for (Map.Entry<Long, List<Candidate>> entry : grouped.entrySet()) {
+                int slot = slotFor(entry.getKey());
+                keys[slot] = entry.getKey();
+                values[slot] = entry.getValue().toArray(new Candidate[0]);
+            }
+        }
+
+        Candidate[] get(long key) {
+            for (int slot = (int) mix(key) & mask; ; slot = (slot + 1) & mask) {
+                long stored = keys[slot];
+                if (stored == key) {
+                    return values[slot];
+                }
+                if (stored == 0L) {
+                    return null;
+                }
+            }
+        }
+
+        private int slotFor(long key) {
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != 0L && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static long mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return h ^ (h >>> 32);
+        }
+    }
+
     private static final List<Definition> DEFINITIONS = List.of(
             // Sword
             def("Kingsbrand", "Damage and crit enhanced; hits can call a lightning strike.",
@@ -385,6 +497,12 @@ public final class ResonanceSystem {
     private static volatile List<Definition> seededDefinitions = null;
     private static volatile Map<String, ScopeOverride> classMappingOverrides = Map.of();
     private static volatile List<WeaponClassHint> weaponClassHints = List.of();
+    private static volatile int patternIndexVersion = 0;
+    private static volatile PatternIndex patternIndex = null;
+
+    /** Longest pattern a packed sequence key can hold (4 bits of length plus 15 slots). */
+    private static final int MAX_PATTERN_SLOTS = 15;
+    private static final int ALL_WEAPON_CLASSES = (1 << WeaponClass.values().length) - 1;
 
     private static final double RECIPE_WEIGHT_3_SOCKET = 25.0d;
     private static final double RECIPE_WEIGHT_4_SOCKET = 10.0d;
@@ -401,7 +519,9 @@ public final class ResonanceSystem {
             configuredSeed = seed;
             seedConfigured = true;
             seededDefinitions = null;
+            patternIndexVersion++;
         }
+        SocketView.invalidateAll();
     }
 
     public static boolean isResonanceSeedConfigured() {
@@ -411,6 +531,8 @@ public final class ResonanceSystem {
     public static void setResonanceClassMappings(String[] mappings) {
         if (mappings == null || mappings.length == 0) {
             classMappingOverrides = Map.of();
+            invalidatePatternIndex();
+            SocketView.invalidateAll();
             return;
         }
         Map<String, ScopeOverride> parsed = new java.util.HashMap<>();
@@ -421,10 +543,13 @@ public final class ResonanceSystem {
             }
         }
         classMappingOverrides = Map.copyOf(parsed);
+        invalidatePatternIndex();
+        SocketView.invalidateAll();
     }
 
     public static void setWeaponClassHints(String[] hints) {
         weaponClassHints = parseWeaponClassHints(hints);
+        SocketView.invalidateAll();
     }
 
     public static String[] getDefaultWeaponClassHints() {
@@ -462,6 +587,78 @@ public final class ResonanceSystem {
         }
     }
 
+    /**
+     * Returns the pattern index for the current seed and class mappings, rebuilding it after
+     * either changed. The version is read before the inputs, so a build racing a setter is
+     * published stale and replaced on the next call.
+     */
+    private static PatternIndex getPatternIndex() {
+        int version = patternIndexVersion;
+        PatternIndex index = patternIndex;
+        if (index != null && index.version == version) {
+            return index;
+        }
+        index = new PatternIndex(version, getDefinitions(), classMappingOverrides);
+        patternIndex = index;
+        return index;
+    }
+
+    private static void invalidatePatternIndex() {
+        synchronized (SEED_LOCK) {
+            patternIndexVersion++;
+        }
+    }
+
+    private static long patternKey(Essence.Type[] pattern) {
+        int length = pattern.length;
+        if (length == 0 || length > MAX_PATTERN_SLOTS) {
+            return -1L;
+        }
+        long key = length;
+        for (int i = 0; i < length; i++) {
+            if (pattern[i] == null) {
+                return -1L;
+            }
+            key |= (long) (pattern[i].ordinal() + 1) << (4 * (i + 1));
+        }
+        return key;
+    }
+
+    /** Packs the essence sequence of fully filled sockets, or returns -1 when resonance cannot apply. */
+    private static long sequenceKey(SocketData socketData) {
+        List<Socket> sockets = socketData.getSockets();
+        int length = sockets.size();
+        if (length == 0 || length > MAX_PATTERN_SLOTS) {
+            return -1L;
+        }
+        EssenceRegistry registry = EssenceRegistry.get();
+        long key = length;
+        for (int i = 0; i < length; i++) {
+            Socket socket = sockets.get(i);
+            if (socket == null || socket.isBroken() || socket.isLocked() || socket.isEmpty()) {
+                return -1L;
+            }
+            Essence essence = registry.getById(socket.getEssenceId());
+            if (essence == null || essence.getType() == null) {
+                return -1L;
+            }
+            key |= (long) (essence.getType().ordinal() + 1) << (4 * (i + 1));
+        }
+        return key;
+    }
+
+    private static int acceptedWeaponClasses(WeaponClass expected) {
+        if (expected == WeaponClass.GENERIC) {
+            // Generic weapon resonances should apply to any weapon class.
+            return ALL_WEAPON_CLASSES;
+        }
+        if (expected == WeaponClass.BOW) {
+            // Keep existing bow resonances valid for crossbows for backwards compatibility.
+            return (1 << WeaponClass.BOW.ordinal()) | (1 << WeaponClass.CROSSBOW.ordinal());
+        }
+        return 1 << expected.ordinal();
+    }
+
     private static List<Definition> buildSeededDefinitions(long seed) {
         if (DEFINITIONS.isEmpty()) {
             return DEFINITIONS;
@@ -1032,34 +1229,67 @@ public final class ResonanceSystem {
         }
     }
 
+    /**
+     * Returns the resonance matching the socket layout of {@code item}.
+     * The returned result is shared between callers and must not be mutated.
+     */
     public static ResonanceResult evaluate(ItemStack item, SocketData socketData) {
-        if (item == null || item.isEmpty() || socketData == null || socketData.getSockets().isEmpty()) {
+        if (item == null || item.isEmpty() || socketData == null) {
             return ResonanceResult.NONE;
         }
-
-        List<Essence.Type> sequence = extractFilledSequence(socketData);
-        if (sequence.isEmpty()) {
+        Candidate[] candidates = candidatesFor(socketData);
+        if (candidates == null) {
             return ResonanceResult.NONE;
         }
 
         boolean isWeapon = ReforgeEquip.isWeapon(item);
         boolean isArmor = !isWeapon && ReforgeEquip.isArmor(item);
-        if (!isWeapon && !isArmor) {
+        return match(candidates, socketData, isWeapon, isArmor, item.getItemId());
+    }
+
+    /**
+     * Matches an already classified item against the resonance definitions.
+     * Kept separate from the ItemStack overload so the matching can be benchmarked without assets.
+     */
+    static ResonanceResult evaluate(SocketData socketData, boolean isWeapon, boolean isArmor, String itemId) {
+        if (socketData == null) {
             return ResonanceResult.NONE;
         }
+        Candidate[] candidates = candidatesFor(socketData);
+        if (candidates == null) {
+            return ResonanceResult.NONE;
+        }
+        return match(candidates, socketData, isWeapon, isArmor, itemId);
+    }
 
-        WeaponClass weaponClass = classifyWeapon(item.getItemId());
-        for (Definition definition : getDefinitions()) {
-            if (definition.matches(sequence, isWeapon, isArmor, weaponClass)) {
-                ResonanceResult result = definition.toResult();
-                double multiplier = getResonanceGreaterMultiplier(socketData);
-                if (multiplier > 1.0) {
-                    return scaleResultBonuses(result, multiplier);
+    private static Candidate[] candidatesFor(SocketData socketData) {
+        long key = sequenceKey(socketData);
+        return key < 0L ? null : getPatternIndex().get(key);
+    }
+
+    private static ResonanceResult match(Candidate[] candidates,
+                                         SocketData socketData,
+                                         boolean isWeapon,
+                                         boolean isArmor,
+                                         String itemId) {
+        if (!isWeapon && !isArmor) {
+            return ResonanceResult.NONE;
+        }
+        WeaponClass weaponClass = null;
+        for (Candidate candidate : candidates) {
+            if (!candidate.appliesTo(isWeapon, isArmor)) {
+                continue;
+            }
+            if (candidate.weaponClassMask != ALL_WEAPON_CLASSES) {
+                if (weaponClass == null) {
+                    weaponClass = classifyWeapon(itemId);
+                }
+                if ((candidate.weaponClassMask & (1 << weaponClass.ordinal())) == 0) {
+                    continue;
                 }
-                return result;
             }
+            return candidate.result(countGreaterEssences(socketData));
         }
-
         return ResonanceResult.NONE;
     }
 
@@ -1135,24 +1365,6 @@ public final class ResonanceSystem {
         return scaleResultBonuses(resonance, multiplier);
     }
 
-    private static List<Essence.Type> extractFilledSequence(SocketData socketData) {
-        if (socketData == null || socketData.getSockets().isEmpty()) {
-            return List.of();
-        }
-        List<Essence.Type> result = new ArrayList<>();
-        for (Socket socket : socketData.getSockets()) {
-            if (socket == null || socket.isBroken() || socket.isLocked() || socket.isEmpty()) {
-                return List.of();
-            }
-            Essence essence = EssenceRegistry.get().getById(socket.getEssenceId());
-            if (essence == null || essence.getType() == null) {
-                return List.of();
-            }
-            result.add(essence.getType());
-        }
-        return result;
-    }
-
     private static String describeProc(ResonanceType type, boolean isWeapon) {
         if (type == null || type == ResonanceType.NONE) {
             return "";
@@ -1347,6 +1559,19 @@ public final class ResonanceSystem {
         return Character.toUpperCase(raw.charAt(0)) + raw.substring(1);
     }
 
+    private static int countGreaterEssences(SocketData socketData) {
+        List<Socket> sockets = socketData.getSockets();
+        int greater = 0;
+        for (int i = 0, n = sockets.size(); i < n; i++) {
+            Socket socket = sockets.get(i);
+            if (socket != null && !socket.isEmpty() && !socket.isBroken()
+                    && SocketManager.isGreaterEssenceId(socket.getEssenceId())) {
+                greater++;
+            }
+        }
+        return greater;
+    }
+
     private static double getResonanceGreaterMultiplier(SocketData socketData) {
         if (socketData == null || socketData.getSockets().isEmpty()) {
             return 1.0;
@@ -31,12 +31,16 @@ public class SocketManager {
 
     // ── Config ────────────────────────────────────────────────────────────────
 
-    public static void setConfig(SocketConfig cfg) { config = cfg; }
+    public static void setConfig(SocketConfig cfg) {
+        config = cfg;
+        SocketView.invalidateAll();
+    }
     public static SocketConfig getConfig()         { return config; }
 
     /** Initialize the socket system with config. Called from ReforgePlugin. */
     public static void initialize(SocketConfig cfg) {
         config = cfg;
+        SocketView.invalidateAll();
     }
 
     // ── Supporting material modifiers ────────────────────────────────────────
@@ -132,6 +136,12 @@ public class SocketManager {
         boolean isArmor  = !isWeapon && ReforgeEquip.isArmor(item);
         if (!isWeapon && !isArmor) return null;
 
+        SocketData packed = SocketMetadataCodec.decodeSockets(
+                item.getFromMetadataOrNull(MetadataKeys.SOCKET_PACKED, Codec.INT_ARRAY));
+        if (packed != null) {
+            return packed;
+        }
+
         Integer maxFromMeta = item.getFromMetadataOrNull(MetadataKeys.SOCKET_MAX, Codec.INTEGER);
         String[] socketsFromMeta = item.getFromMetadataOrNull(MetadataKeys.SOCKET_VALUES, Codec.STRING_ARRAY);
         String[] mutationsFromMeta = item.getFromMetadataOrNull(MetadataKeys.SOCKET_MUTATIONS, Codec.STRING_ARRAY);
@@ -169,6 +179,15 @@ public class SocketManager {
         return socketData;
     }
 
+    /**
+     * Gets the cached, pre-decoded socket view for an item.
+     * Prefer this over {@link #getSocketData(ItemStack)} on read-only hot paths.
+     * Returns null if item is not socket-compatible.
+     */
+    public static SocketView getSocketView(ItemStack item) {
+        return SocketView.of(item);
+    }
+
     /**
      * Writes socket data into item metadata.
      * Also stores the essence tier effects in metadata for tooltip access.
@@ -177,8 +196,6 @@ public class SocketManager {
     public static ItemStack withSocketData(ItemStack item, SocketData socketData) {
         if (item == null || item.isEmpty() || socketData == null) return item;
 
-        String[] encoded = encodeSockets(socketData);
-        String[] mutations = encodeSocketMutations(socketData);
         boolean isWeapon = ReforgeEquip.isWeapon(item);
 
         // Determine resonance based on current socket layout and unlock metadata.
@@ -219,6 +236,88 @@ public class SocketManager {
 
         // Store deterministic stat bonuses in metadata so runtime systems do not recalculate random values.
         Map<EssenceEffect.StatType, double[]> statBonuses = calculateDeterministicBonuses(item, socketData, isWeapon);
+        int[] packed = config.isCompactSocketMetadataEnabled()
+                ? SocketMetadataCodec.encode(socketData, statBonuses)
+                : null;
+        ItemStack socketed = packed != null
+                ? withPackedSocketMetadata(baseItem, socketData, packed)
+                : withLegacySocketMetadata(baseItem, socketData, statBonuses);
+
+        return socketed
+                .withMetadata(MetadataKeys.ESSENCE_EFFECTS, Codec.STRING_ARRAY, effectTypes)
+                .withMetadata(MetadataKeys.ESSENCE_TIER_MAP, Codec.STRING_ARRAY, effectTiers)
+                .withMetadata(MetadataKeys.ESSENCE_EFFECT_LINES, Codec.STRING_ARRAY, effectLines)
+                .withMetadata(ResonanceSystem.META_RESONANCE_NAME, Codec.STRING, resonance.active() ? resonance.name() : "")
+                .withMetadata(ResonanceSystem.META_RESONANCE_EFFECT, Codec.STRING, resonanceTooltipEffect)
+                .withMetadata(ResonanceSystem.META_RESONANCE_TYPE, Codec.STRING, resonance.active() ? resonance.type().name() : ResonanceSystem.ResonanceType.NONE.name())
+                .withMetadata(ResonanceSystem.META_RESONANCE_QUALITY, Codec.STRING, resonance.active() ? ResonanceSystem.LEGENDARY_QUALITY : "")
+                // Best effort: there is no runtime ItemStack quality setter, so we persist a metadata flag.
+                .withMetadata(ResonanceSystem.META_RESONANCE_QUALITY_INDEX, Codec.INTEGER,
+                        resonance.active() ? ResonanceSystem.LEGENDARY_QUALITY_INDEX : 0);
+    }
+
+    /**
+     * Rewrites legacy string socket metadata into the packed form when compact metadata is
+     * enabled. The stored layout and bonuses are transcoded as they are; nothing is recomputed,
+     * so resonance and effect keys are left untouched. Returns the same stack when there is
+     * nothing to migrate.
+     */
+    public static ItemStack migrateSocketMetadata(ItemStack item) {
+        if (!config.isCompactSocketMetadataEnabled() || item == null || item.isEmpty()) {
+            return item;
+        }
+        String[] legacy = item.getFromMetadataOrNull(MetadataKeys.SOCKET_VALUES, Codec.STRING_ARRAY);
+        if (legacy == null) {
+            return item;
+        }
+        SocketData socketData = getSocketData(item);
+        Map<EssenceEffect.StatType, double[]> storedBonuses = readLegacyStatBonuses(item);
+        int[] packed = socketData == null || storedBonuses == null
+                ? null
+                : SocketMetadataCodec.encode(socketData, storedBonuses);
+        if (packed == null) {
+            // Layouts or bonuses the packed form cannot hold stay on the legacy keys.
+            return item;
+        }
+        return withPackedSocketMetadata(item, socketData, packed);
+    }
+
+    /** Stored legacy bonuses keyed by stat, or null when an entry names an unknown stat. */
+    private static Map<EssenceEffect.StatType, double[]> readLegacyStatBonuses(ItemStack item) {
+        Map<EssenceEffect.StatType, double[]> bonuses = new EnumMap<>(EssenceEffect.StatType.class);
+        String[] statKeys = item.getFromMetadataOrNull(MetadataKeys.ESSENCE_BONUS_STATS, Codec.STRING_ARRAY);
+        String[] flatValues = item.getFromMetadataOrNull(MetadataKeys.ESSENCE_BONUS_FLAT, Codec.STRING_ARRAY);
+        String[] percentValues = item.getFromMetadataOrNull(MetadataKeys.ESSENCE_BONUS_PERCENT, Codec.STRING_ARRAY);
+        if (statKeys == null || flatValues == null || percentValues == null) {
+            return bonuses;
+        }
+        int count = Math.min(statKeys.length, Math.min(flatValues.length, percentValues.length));
+        for (int i = 0; i < count; i++) {
+            EssenceEffect.StatType stat;
+            try {
+                stat = EssenceEffect.StatType.valueOf(statKeys[i]);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                return null;
+            }
+            bonuses.putIfAbsent(stat, new double[] {parseDoubleOrZero(flatValues[i]), parseDoubleOrZero(percentValues[i])});
+        }
+        return bonuses;
+    }
+
+    private static ItemStack withPackedSocketMetadata(ItemStack item, SocketData socketData, int[] packed) {
+        return item
+                .withMetadata(MetadataKeys.SOCKET_MAX, Codec.INTEGER, socketData.getMaxSockets())
+                .withMetadata(MetadataKeys.SOCKET_PACKED, Codec.INT_ARRAY, packed)
+                .withMetadata(MetadataKeys.SOCKET_VALUES, Codec.STRING_ARRAY, null)
+                .withMetadata(MetadataKeys.SOCKET_MUTATIONS, Codec.STRING_ARRAY, null)
+                .withMetadata(MetadataKeys.ESSENCE_BONUS_STATS, Codec.STRING_ARRAY, null)
+                .withMetadata(MetadataKeys.ESSENCE_BONUS_FLAT, Codec.STRING_ARRAY, null)
+                .withMetadata(MetadataKeys.ESSENCE_BONUS_PERCENT, Codec.STRING_ARRAY, null);
+    }
+
+    private static ItemStack withLegacySocketMetadata(ItemStack item,
+                                                      SocketData socketData,
+                                                      Map<EssenceEffect.StatType, double[]> statBonuses) {
         List<String> statKeys = new ArrayList<>();
         List<String> flatValues = new ArrayList<>();
         List<String> percentValues = new ArrayList<>();
@@ -232,24 +331,16 @@ public class SocketManager {
             flatValues.add(String.valueOf(flat));
             percentValues.add(String.valueOf(percent));
         }
-        
-        return baseItem
+        ItemStack base = item.getFromMetadataOrNull(MetadataKeys.SOCKET_PACKED, Codec.INT_ARRAY) == null
+                ? item
+                : item.withMetadata(MetadataKeys.SOCKET_PACKED, Codec.INT_ARRAY, null);
+        return base
                 .withMetadata(MetadataKeys.SOCKET_MAX, Codec.INTEGER, socketData.getMaxSockets())
-                .withMetadata(MetadataKeys.SOCKET_VALUES, Codec.STRING_ARRAY, encoded)
-                .withMetadata(MetadataKeys.SOCKET_MUTATIONS, Codec.STRING_ARRAY, mutations)
-                .withMetadata(MetadataKeys.ESSENCE_EFFECTS, Codec.STRING_ARRAY, effectTypes)
-                .withMetadata(MetadataKeys.ESSENCE_TIER_MAP, Codec.STRING_ARRAY, effectTiers)
-                .withMetadata(MetadataKeys.ESSENCE_EFFECT_LINES, Codec.STRING_ARRAY, effectLines)
+                .withMetadata(MetadataKeys.SOCKET_VALUES, Codec.STRING_ARRAY, encodeSockets(socketData))
+                .withMetadata(MetadataKeys.SOCKET_MUTATIONS, Codec.STRING_ARRAY, encodeSocketMutations(socketData))
                 .withMetadata(MetadataKeys.ESSENCE_BONUS_STATS, Codec.STRING_ARRAY, statKeys.toArray(String[]::new))
                 .withMetadata(MetadataKeys.ESSENCE_BONUS_FLAT, Codec.STRING_ARRAY, flatValues.toArray(String[]::new))
-                .withMetadata(MetadataKeys.ESSENCE_BONUS_PERCENT, Codec.STRING_ARRAY, percentValues.toArray(String[]::new))
-                .withMetadata(ResonanceSystem.META_RESONANCE_NAME, Codec.STRING, resonance.active() ? resonance.name() : "")
-                .withMetadata(ResonanceSystem.META_RESONANCE_EFFECT, Codec.STRING, resonanceTooltipEffect)
-                .withMetadata(ResonanceSystem.META_RESONANCE_TYPE, Codec.STRING, resonance.active() ? resonance.type().name() : ResonanceSystem.ResonanceType.NONE.name())
-                .withMetadata(ResonanceSystem.META_RESONANCE_QUALITY, Codec.STRING, resonance.active() ? ResonanceSystem.LEGENDARY_QUALITY : "")
-                // Best effort: there is no runtime ItemStack quality setter, so we persist a metadata flag.
-                .withMetadata(ResonanceSystem.META_RESONANCE_QUALITY_INDEX, Codec.INTEGER,
-                        resonance.active() ? ResonanceSystem.LEGENDARY_QUALITY_INDEX : 0);
+                .withMetadata(MetadataKeys.ESSENCE_BONUS_PERCENT, Codec.STRING_ARRAY, percentValues.toArray(String[]::new));
     }
 
     public static ResonanceSystem.ResonanceResult evaluateAllowedResonance(ItemStack item, SocketData socketData) {
@@ -300,8 +391,17 @@ public class SocketManager {
         if (essenceId == null || essenceId.isBlank()) {
             return false;
         }
-        String lower = essenceId.trim().toLowerCase(Locale.ROOT);
-        return lower.contains("_concentrated") || lower.contains("greater");
+        // Case-insensitive scan without lowercasing a copy; resonance evaluation calls this per socket.
+        return containsIgnoreCase(essenceId, "_concentrated") || containsIgnoreCase(essenceId, "greater");
+    }
+
+    private static boolean containsIgnoreCase(String value, String needle) {
+        for (int i = 0, last = value.length() - needle.length(); i <= last; i++) {
+            if (value.regionMatches(true, i, needle, 0, needle.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static boolean isGreaterEssenceItemId(String itemId) {
@@ -428,18 +528,18 @@ public class SocketManager {
 
         // Prefer live deterministic recomputation from current socket layout so gameplay
         // stays in sync even if older metadata was generated with previous formulas.
-        SocketData socketData = getSocketData(item);
-        if (socketData != null) {
-            boolean isWeapon = ReforgeEquip.isWeapon(item);
-            Map<EssenceEffect.StatType, double[]> computed = calculateDeterministicBonuses(item, socketData, isWeapon);
-            double[] live = computed.get(stat);
-            if (live != null) {
-                return new double[] {live[0], live[1]};
-            }
-            return new double[] {0.0, 0.0};
+        // The cached view decodes each ItemStack once instead of once per stat lookup.
+        SocketView view = SocketView.of(item);
+        if (view != null) {
+            return view.getStatBonus(stat);
         }
 
         // Fallback: if socket parsing is unavailable, use persisted metadata values.
+        double[] packed = SocketMetadataCodec.statBonus(
+                item.getFromMetadataOrNull(MetadataKeys.SOCKET_PACKED, Codec.INT_ARRAY), stat);
+        if (packed != null) {
+            return packed;
+        }
         String[] statKeys = item.getFromMetadataOrNull(MetadataKeys.ESSENCE_BONUS_STATS, Codec.STRING_ARRAY);
         String[] flatValues = item.getFromMetadataOrNull(MetadataKeys.ESSENCE_BONUS_FLAT, Codec.STRING_ARRAY);
         String[] percentValues = item.getFromMetadataOrNull(MetadataKeys.ESSENCE_BONUS_PERCENT, Codec.STRING_ARRAY);
@@ -494,7 +594,7 @@ public class SocketManager {
         return totals;
     }
 
-    private static Map<EssenceEffect.StatType, double[]> calculateBaseTierBonuses(SocketData socketData, boolean isWeapon) {
+    static Map<EssenceEffect.StatType, double[]> calculateBaseTierBonuses(SocketData socketData, boolean isWeapon) {
         Map<EssenceEffect.StatType, double[]> totals = new EnumMap<>(EssenceEffect.StatType.class);
         if (socketData == null) {
             return totals;
@@ -0,0 +1,224 @@
+package irai.mod.reforge.Socket;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact {@code INT_ARRAY} encoding of an item's socket layout and stored stat bonuses.
+ *
+ * Layout (version 1): {@code [version, maxSockets, socketCount, socket..., statCount,
+ * (statOrdinal, flat, percent)...]}. Each socket word packs the essence type ordinal + 1 in
+ * bits 0-3 (0 = empty), the greater flag in bit 4, the broken flag in bit 5 and the mutation
+ * ordinal + 1 in bits 8-11. Stat values are fixed point scaled by {@link #FIXED_SCALE}.
+ *
+ * Decoding is pure arithmetic. A payload that is malformed or from another version decodes
+ * as absent, so readers fall back to the legacy string keys.
+ */
+public final class SocketMetadataCodec {
+    public static final int VERSION = 1;
+    static final int FIXED_SCALE = 10_000;
+
+    private static final int HEADER = 3;
+    private static final int TYPE_MASK = 0xF;
+    private static final int GREATER_BIT = 1 << 4;
+    private static final int BROKEN_BIT = 1 << 5;
+    private static final int MUTATION_SHIFT = 8;
+
+    private static final Essence.Type[] TYPES = Essence.Type.values();
+    private static final String[][] ESSENCE_IDS = new String[TYPES.length][2];
+
+    static {
+        for (int i = 0; i < TYPES.length; i++) {
+            ESSENCE_IDS[i][0] = SocketManager.buildEssenceId(TYPES[i].name(), false);
+            ESSENCE_IDS[i][1] = SocketManager.buildEssenceId(TYPES[i].name(), true);
+        }
+    }
+
+    private SocketMetadataCodec() {}
+
+    /**
+     * Encodes the layout and the non-zero stat bonuses, or returns null when something
+     * (a non-canonical essence id, an out-of-range value) only fits the legacy keys.
+     */
+    public static int[] encode(SocketData socketData, Map<EssenceEffect.StatType, double[]> statBonuses) {
+        if (socketData == null) {
+            return null;
+        }
+        List<Socket> sockets = socketData.getSockets();
+        int count = socketData.getCurrentSocketCount();
+        int statCount = 0;
+        if (statBonuses != null) {
+            for (double[] values : statBonuses.values()) {
+                if (values != null && (values[0] != 0.0 || values[1] != 0.0)) {
+                    statCount++;
+                }
+            }
+        }
+
+        int[] packed = new int[HEADER + count + 1 + statCount * 3];
+        packed[0] = VERSION;
+        packed[1] = socketData.getMaxSockets();
+        packed[2] = count;
+        for (int i = 0; i < count; i++) {
+            int word = encodeSocket(sockets.get(i));
+            if (word < 0) {
+                return null;
+            }
+            packed[HEADER + i] = word;
+        }
+
+        int pos = HEADER + count;
+        packed[pos++] = statCount;
+        if (statCount > 0) {
+            for (Map.Entry<EssenceEffect.StatType, double[]> entry : statBonuses.entrySet()) {
+                double[] values = entry.getValue();
+                if (values == null || (values[0] == 0.0 && values[1] == 0.0)) {
+                    continue;
+                }
+                long flat = toFixed(values[0]);
+                long percent = toFixed(values[1]);
+                if (flat != (int) flat || percent != (int) percent) {
+                    return null;
+                }
+                packed[pos++] = entry.getKey().ordinal();
+                packed[pos++] = (int) flat;
+                packed[pos++] = (int) percent;
+            }
+        }
+        return packed;
+    }
+
+    /** True when {@code packed} is a well-formed payload of the current version. */
+    public static boolean isValid(int[] packed) {
+        if (packed == null || packed.length < HEADER + 1 || packed[0] != VERSION) {
+            return false;
+        }
+        int count = packed[2];
+        if (packed[1] < 0 || count < 0 || packed.length < HEADER + count + 1) {
+            return false;
+        }
+        int statCount = packed[HEADER + count];
+        return statCount >= 0 && packed.length == HEADER + count + 1 + statCount * 3;
+    }
+
+    /** Rebuilds the socket layout, or returns null when the payload is not valid. */
+    public static SocketData decodeSockets(int[] packed) {
+        if (!isValid(packed)) {
+            return null;
+        }
+        SocketData socketData = new SocketData(packed[1]);
+        int count = Math.min(packed[2], socketData.getMaxSockets());
+        for (int i = 0; i < count; i++) {
+            socketData.addSocket();
+            int word = packed[HEADER + i];
+            if ((word & BROKEN_BIT) != 0) {
+                socketData.getSockets().get(i).setBroken(true);
+                continue;
+            }
+            String essenceId = essenceId(word);
+            if (essenceId == null) {
+                continue;
+            }
+            socketData.setEssenceAt(i, essenceId);
+            Essence.Type mutation = type((word >>> MUTATION_SHIFT) & TYPE_MASK);
+            if (mutation != null) {
+                socketData.getSockets().get(i).setMutationElement(mutation.name());
+            }
+        }
+        return socketData;
+    }
+
+    /** Returns {@code [flat, percent]} for {@code stat}, or null when the payload is not valid. */
+    public static double[] statBonus(int[] packed, EssenceEffect.StatType stat) {
+        if (stat == null || !isValid(packed)) {
+            return null;
+        }
+        int pos = HEADER + packed[2];
+        int statCount = packed[pos++];
+        for (int i = 0; i < statCount; i++, pos += 3) {
+            if (packed[pos] == stat.ordinal()) {
+                return new double[] {
+                        (double) packed[pos + 1] / FIXED_SCALE,
+                        (double) packed[pos + 2] / FIXED_SCALE
+                };
+            }
+        }
+        return new double[] {0.0, 0.0};
+    }
+
+    /** Socket entries in the legacy {@code SOCKET_VALUES} form ("x" broken, "" empty). */
+    public static String[] socketEntries(int[] packed) {
+        if (!isValid(packed)) {
+            return new String[0];
+        }
+        String[] entries = new String[packed[2]];
+        for (int i = 0; i < entries.length; i++) {
+            int word = packed[HEADER + i];
+            String essenceId = essenceId(word);
+            entries[i] = (word & BROKEN_BIT) != 0 ? "x" : essenceId == null ? "" : essenceId;
+        }
+        return entries;
+    }
+
+    /** Mutation names in the legacy {@code SOCKET_MUTATIONS} form ("" for none). */
+    public static String[] socketMutations(int[] packed) {
+        if (!isValid(packed)) {
+            return new String[0];
+        }
+        String[] mutations = new String[packed[2]];
+        for (int i = 0; i < mutations.length; i++) {
+            Essence.Type mutation = type((packed[HEADER + i] >>> MUTATION_SHIFT) & TYPE_MASK);
+            mutations[i] = mutation == null ? "" : mutation.name();
+        }
+        return mutations;
+    }
+
+    private static int encodeSocket(Socket socket) {
+        if (socket == null || socket.isEmpty()) {
+            return socket != null && socket.isBroken() ? BROKEN_BIT : 0;
+        }
+        if (socket.isBroken()) {
+            return BROKEN_BIT;
+        }
+        String essenceId = socket.getEssenceId();
+        if (essenceId.isBlank()) {
+            return 0;
+        }
+        int word = -1;
+        for (int i = 0; i < TYPES.length && word < 0; i++) {
+            if (essenceId.equals(ESSENCE_IDS[i][0])) {
+                word = i + 1;
+            } else if (essenceId.equals(ESSENCE_IDS[i][1])) {
+                word = (i + 1) | GREATER_BIT;
+            }
+        }
+        if (word < 0) {
+            return -1;
+        }
+        String mutation = socket.getMutationElement();
+        if (mutation != null && !mutation.isBlank()) {
+            Essence.Type mutationType = SocketManager.parseEssenceType(mutation);
+            if (mutationType == null) {
+                return -1;
+            }
+            word |= (mutationType.ordinal() + 1) << MUTATION_SHIFT;
+        }
+        return word;
+    }
+
+    private static String essenceId(int word) {
+        Essence.Type type = type(word & TYPE_MASK);
+        return type == null ? null : ESSENCE_IDS[type.ordinal()][(word & GREATER_BIT) != 0 ? 1 : 0];
+    }
+
+    private static Essence.Type type(int code) {
+        return code <= 0 || code > TYPES.length ? null : TYPES[code - 1];
+    }
+
+    private static long toFixed(double value) {
+        if (!Double.isFinite(value)) {
+            return 0L;
+        }
+        return Math.round(value * FIXED_SCALE);
+    }
+}
@@ -0,0 +1,278 @@
+package irai.mod.reforge.Socket;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+
+import irai.mod.reforge.Interactions.ReforgeEquip;
+
+/**
+ * Immutable, pre-decoded view of an item's socket layout for hot read paths.
+ *
+ * ItemStacks are immutable (every metadata write returns a new instance), so a
+ * view is cached against the stack identity in a small direct-mapped table of
+ * weak references. A damage event decodes each held item at most once, and the
+ * table never pins unloaded items. Views are dropped wholesale on config reload
+ * via {@link #invalidateAll()}.
+ */
+public final class SocketView {
+
+    private static final int CACHE_SIZE = 1024; // power of two
+    private static final int CACHE_MASK = CACHE_SIZE - 1;
+    private static final AtomicReferenceArray<CacheEntry> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+    private static volatile int generation = 0;
+
+    private static final Essence.Type[] ESSENCE_TYPES = Essence.Type.values();
+    private static final EssenceEffect.StatType[] STAT_TYPES = EssenceEffect.StatType.values();
+
+    private final boolean weapon;
+    private final int maxSockets;
+    private final String[] essenceIds;
+    private final Essence.Type[] rawTypes;
+    private final Essence.Type[] affinityTypes;
+    private final boolean[] broken;
+    private final int[] tiers;
+    private final int[] rawTiers;
+    private final int[] essenceCounts;
+    private final double[] statFlat;
+    private final double[] statPercent;
+    private final double[] baseFlat;
+    private final double[] basePercent;
+    private final ResonanceSystem.ResonanceType resonanceType;
+
+    private SocketView(boolean weapon,
+                       int maxSockets,
+                       String[] essenceIds,
+                       Essence.Type[] rawTypes,
+                       Essence.Type[] affinityTypes,
+                       boolean[] broken,
+                       int[] tiers,
+                       int[] rawTiers,
+                       int[] essenceCounts,
+                       double[] statFlat,
+                       double[] statPercent,
+                       double[] baseFlat,
+                       double[] basePercent,
+                       ResonanceSystem.ResonanceType resonanceType) {
+        this.weapon = weapon;
+        this.maxSockets = maxSockets;
+        this.essenceIds = essenceIds;
+        this.rawTypes = rawTypes;
+        this.affinityTypes = affinityTypes;
+        this.broken = broken;
+        this.tiers = tiers;
+        this.rawTiers = rawTiers;
+        this.essenceCounts = essenceCounts;
+        this.statFlat = statFlat;
+        this.statPercent = statPercent;
+        this.baseFlat = baseFlat;
+        this.basePercent = basePercent;
+        this.resonanceType = resonanceType;
+    }
+
+    // ── Lookup ────────────────────────────────────────────────────────────────
+
+    /**
+     * Returns the decoded view for an item, or null if the item is not socket-compatible.
+     */
+    public static SocketView of(ItemStack item) {
+        if (item == null || item.isEmpty()) {
+            return null;
+        }
+        int gen = generation;
+        int slot = mix(System.identityHashCode(item)) & CACHE_MASK;
+        CacheEntry entry = CACHE.get(slot);
+        if (entry != null && entry.generation == gen && entry.item.get() == item) {
+            return entry.view;
+        }
+
+        SocketView view = decode(item);
+        if (view != null) {
+            CACHE.set(slot, new CacheEntry(item, view, gen));
+        }
+        return view;
+    }
+
+    /** Drops every cached view. Call after socket, essence or resonance config changes. */
+    public static synchronized void invalidateAll() {
+        generation++;
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            CACHE.set(i, null);
+        }
+    }
+
+    private static SocketView decode(ItemStack item) {
+        SocketData socketData = SocketManager.getSocketData(item);
+        if (socketData == null) {
+            return null;
+        }
+        boolean isWeapon = ReforgeEquip.isWeapon(item);
+
+        List<Socket> sockets = socketData.getSockets();
+        int count = sockets.size();
+        String[] essenceIds = new String[count];
+        Essence.Type[] rawTypes = new Essence.Type[count];
+        Essence.Type[] affinityTypes = new Essence.Type[count];
+        boolean[] broken = new boolean[count];
+        int[] essenceCounts = new int[ESSENCE_TYPES.length];
+        for (int i = 0; i < count; i++) {
+            Socket socket = sockets.get(i);
+            if (socket == null) {
+                continue;
+            }
+            broken[i] = socket.isBroken();
+            if (socket.isBroken() || socket.isEmpty()) {
+                continue;
+            }
+            essenceIds[i] = socket.getEssenceId();
+            Essence essence = EssenceRegistry.get().getById(socket.getEssenceId());
+            rawTypes[i] = essence != null ? essence.getType() : null;
+            affinityTypes[i] = SocketManager.getSocketAffinityType(socket);
+            if (rawTypes[i] != null && !socket.isLocked()) {
+                essenceCounts[rawTypes[i].ordinal()]++;
+            }
+        }
+
+        ResonanceSystem.ResonanceResult resonance = SocketManager.evaluateAllowedResonance(item, socketData);
+        Map<EssenceEffect.StatType, double[]> base = SocketManager.calculateBaseTierBonuses(socketData, isWeapon);
+        double[] baseFlat = new double[STAT_TYPES.length];
+        double[] basePercent = new double[STAT_TYPES.length];
+        copyBonuses(base, baseFlat, basePercent);
+
+        double[] statFlat = baseFlat.clone();
+        double[] statPercent = basePercent.clone();
+        if (resonance != null && resonance.active()) {
+            copyBonuses(resonance.bonuses(), statFlat, statPercent);
+        }
+
+        return new SocketView(
+                isWeapon,
+                socketData.getMaxSockets(),
+                essenceIds,
+                rawTypes,
+                affinityTypes,
+                broken,
+                toTierArray(SocketManager.calculateConsecutiveTiers(socketData)),
+                toTierArray(SocketManager.calculateRawConsecutiveTiers(socketData)),
+                essenceCounts,
+                statFlat,
+                statPercent,
+                baseFlat,
+                basePercent,
+                resonance != null && resonance.active() ? resonance.type() : ResonanceSystem.ResonanceType.NONE);
+    }
+
+    private static void copyBonuses(Map<EssenceEffect.StatType, double[]> source, double[] flat, double[] percent) {
+        if (source == null) {
+            return;
+        }
+        for (Map.Entry<EssenceEffect.StatType, double[]> entry : source.entrySet()) {
+            double[] values = entry.getValue();
+            if (entry.getKey() == null || values == null || values.length < 2) {
+                continue;
+            }
+            int ordinal = entry.getKey().ordinal();
+            flat[ordinal] += values[0];
+            percent[ordinal] += values[1];
+        }
+    }
+
+    private static int[] toTierArray(Map<Essence.Type, Integer> tierMap) {
+        int[] result = new int[ESSENCE_TYPES.length];
+        if (tierMap == null) {
+            return result;
+        }
+        for (Map.Entry<Essence.Type, Integer> entry : tierMap.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
+            }
+            result[entry.getKey().ordinal()] = Math.max(0, Math.min(5, entry.getValue()));
+        }
+        return result;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // ── Accessors ─────────────────────────────────────────────────────────────
+
+    public boolean isWeapon()      { return weapon; }
+    public int getMaxSockets()     { return maxSockets; }
+    public int getSocketCount()    { return essenceIds.length; }
+
+    public String getEssenceIdAt(int index) {
+        return index >= 0 && index < essenceIds.length ? essenceIds[index] : null;
+    }
+
+    public Essence.Type getRawTypeAt(int index) {
+        return index >= 0 && index < rawTypes.length ? rawTypes[index] : null;
+    }
+
+    public Essence.Type getAffinityTypeAt(int index) {
+        return index >= 0 && index < affinityTypes.length ? affinityTypes[index] : null;
+    }
+
+    public boolean isBrokenAt(int index) {
+        return index >= 0 && index < broken.length && broken[index];
+    }
+
+    /** Consecutive tier using mutation-aware affinity types (matches calculateConsecutiveTiers). */
+    public int getTier(Essence.Type type) {
+        return type == null ? 0 : tiers[type.ordinal()];
+    }
+
+    /** Consecutive tier using raw essence types (matches calculateRawConsecutiveTiers). */
+    public int getRawTier(Essence.Type type) {
+        return type == null ? 0 : rawTiers[type.ordinal()];
+    }
+
+    /** Number of intact, unlocked sockets holding an essence of the given raw type. */
+    public int getEssenceCount(Essence.Type type) {
+        return type == null ? 0 : essenceCounts[type.ordinal()];
+    }
+
+    /** Deterministic flat bonus including an unlocked resonance (matches getStoredStatBonus()[0]). */
+    public double getFlat(EssenceEffect.StatType stat) {
+        return stat == null ? 0.0 : statFlat[stat.ordinal()];
+    }
+
+    /** Deterministic percent bonus including an unlocked resonance (matches getStoredStatBonus()[1]). */
+    public double getPercent(EssenceEffect.StatType stat) {
+        return stat == null ? 0.0 : statPercent[stat.ordinal()];
+    }
+
+    /** Tier-only flat bonus without resonance (matches calculateTieredBonus()[0]). */
+    public double getBaseFlat(EssenceEffect.StatType stat) {
+        return stat == null ? 0.0 : baseFlat[stat.ordinal()];
+    }
+
+    /** Tier-only percent bonus without resonance (matches calculateTieredBonus()[1]). */
+    public double getBasePercent(EssenceEffect.StatType stat) {
+        return stat == null ? 0.0 : basePercent[stat.ordinal()];
+    }
+
+    /** Returns a fresh [flat, percent] pair for callers that expect the legacy array shape. */
+    public double[] getStatBonus(EssenceEffect.StatType stat) {
+        return new double[] {getFlat(stat), getPercent(stat)};
+    }
+
+    public ResonanceSystem.ResonanceType getResonanceType() {
+        return resonanceType;
+    }
+
+    private static final class CacheEntry {
+        private final WeakReference<ItemStack> item;
+        private final SocketView view;
+        private final int generation;
+
+        private CacheEntry(ItemStack item, SocketView view, int generation) {
+            this.item = new WeakReference<>(item);
+            this.view = view;
+            this.generation = generation;
+        }
+    }
+}
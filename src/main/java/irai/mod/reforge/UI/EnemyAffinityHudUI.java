@@ -25,6 +25,7 @@ import com.hypixel.hytale.server.npc.role.Role;
 
 import irai.mod.reforge.Common.ElementalAffinityUtils;
 import irai.mod.reforge.Common.EnemyElementalShieldUtils;
+import irai.mod.reforge.Entity.Events.CombatContext;
 import irai.mod.reforge.Lore.LoreDamageUtils;
 import irai.mod.reforge.Socket.Essence;
 
@@ -57,8 +58,7 @@ public final class EnemyAffinityHudUI {
     }
 
     public static void showDamage(Store<EntityStore> store,
-                                  Ref<EntityStore> attackerRef,
-                                  Ref<EntityStore> targetRef,
+                                  CombatContext combat,
                                   float damageAmount,
                                   String damageKindId,
                                   float shieldDamageAmount,
@@ -66,23 +66,18 @@ public final class EnemyAffinityHudUI {
         if (!ENABLED) {
             return;
         }
-        if (store == null || attackerRef == null || targetRef == null
+        if (store == null || combat == null || combat.attackerRef() == null || combat.targetRef() == null
                 || (damageAmount <= 0f && shieldDamageAmount <= 0f && !shieldActiveHit)) {
             return;
         }
-        Player attacker;
-        try {
-            attacker = store.getComponent(attackerRef, Player.getComponentType());
-        } catch (IllegalStateException ignored) {
-            return;
-        }
+        Player attacker = combat.attacker();
         if (attacker == null || attacker.getPlayerRef() == null || NPCEntity.getComponentType() == null) {
             return;
         }
-        NPCEntity npc = getNpcOrNull(store, targetRef);
-        if (npc == null) {
+        if (combat.targetNpc() == null) {
             return;
         }
+        Ref<EntityStore> targetRef = combat.targetRef();
 
         PlayerRef playerRef = attacker.getPlayerRef();
         UUID playerUuid = playerRef.getUuid();
@@ -1,8 +1,8 @@
 package irai.mod.reforge.UI;
 
-import java.lang.reflect.Method;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -18,8 +18,10 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import irai.mod.reforge.Common.ArmorAffinityResistanceUtils;
 import irai.mod.reforge.Common.EquipmentDamageTooltipMath;
 import irai.mod.reforge.Common.PlayerInventoryUtils;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UIItemUtils;
+import irai.mod.reforge.Common.UI.UITemplate;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Common.WeaponElementalDamageUtils;
 import irai.mod.reforge.Entity.Events.SocketStatSystem;
@@ -34,8 +36,6 @@ import irai.mod.reforge.Util.LangLoader;
  * Read-only equipment stat summary UI.
  */
 public final class EquipmentStatsUI {
-    private static final String HYUI_PAGE_BUILDER = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN = "au.ellie.hyui.HyUIPlugin";
     private static final String TEMPLATE_PATH = "Common/UI/Custom/Pages/EquipmentStats.html";
     private static final DecimalFormat NUMBER_FORMAT =
             new DecimalFormat("0.##", DecimalFormatSymbols.getInstance(Locale.ROOT));
@@ -46,7 +46,7 @@ public final class EquipmentStatsUI {
     private EquipmentStatsUI() {}
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "EquipmentStatsUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("EquipmentStatsUI");
     }
 
     public static boolean isAvailable() {
@@ -68,17 +68,11 @@ public final class EquipmentStatsUI {
 
     private static void openWithSync(Player player) {
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open", Class.forName("com.hypixel.hytale.component.Store"));
-
             PlayerRef ref = player.getPlayerRef();
-            Object pageBuilder = pageForPlayer.invoke(null, ref);
-            pageBuilder = fromHtml.invoke(pageBuilder, buildHtml(player));
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
-            Object page = openMethod.invoke(pageBuilder, HyUIReflectionUtils.getStore(ref));
+            Object pageBuilder = HyUIBindings.pageForPlayer(ref);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, buildHtml(player));
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
+            Object page = HyUIBindings.open(pageBuilder, HyUIReflectionUtils.getStore(ref));
             openPages.put(ref, page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] EquipmentStatsUI open error: " + e.getMessage());
@@ -89,28 +83,28 @@ public final class EquipmentStatsUI {
     private static String buildHtml(Player player) {
         WeaponView weaponView = buildWeaponView(player);
         ArmorView armorView = buildArmorView(player);
-        String html = loadTemplate();
-        html = html.replace("{{title}}", esc("Equipment Stats"));
-        html = html.replace("{{subtitle}}", esc("Calculated from your held weapon, equipped armor, refinement, sockets, resonance, and mutations."));
-        html = html.replace("{{weaponTitle}}", esc("Held Weapon"));
-        html = html.replace("{{weaponIcon}}", weaponView.iconHtml);
-        html = html.replace("{{weaponName}}", esc(weaponView.name));
-        html = html.replace("{{weaponSummary}}", esc(weaponView.summary));
-        html = html.replace("{{weaponCritLine}}", esc(weaponView.critLine));
-        html = html.replace("{{weaponBreakdownTitle}}", esc("Damage Breakdown"));
-        html = html.replace("{{weaponRows}}", weaponView.rows);
-        html = html.replace("{{weaponElementTitle}}", esc("Elemental Damage"));
-        html = html.replace("{{weaponElementRows}}", weaponView.elementRows);
-        html = html.replace("{{armorTitle}}", esc("Equipped Armor"));
-        html = html.replace("{{armorSummary}}", esc(armorView.summary));
-        html = html.replace("{{armorBonusLine}}", esc(armorView.bonusLine));
-        html = html.replace("{{defensiveCacheLine}}", esc(armorView.cacheLine));
-        html = html.replace("{{armorPiecesTitle}}", esc("Armor Pieces"));
-        html = html.replace("{{armorRows}}", armorView.rows);
-        html = html.replace("{{resistanceTitle}}", esc("Element Resistances"));
-        html = html.replace("{{resistanceRows}}", armorView.resistanceRows);
-        html = html.replace("{{footerText}}", esc("Use /equipmentstats again after swapping gear to refresh this panel."));
-        return LangLoader.replaceUiTokens(player, html);
+        Map<String, String> values = new HashMap<>(64);
+        values.put("title", esc("Equipment Stats"));
+        values.put("subtitle", esc("Calculated from your held weapon, equipped armor, refinement, sockets, resonance, and mutations."));
+        values.put("weaponTitle", esc("Held Weapon"));
+        values.put("weaponIcon", weaponView.iconHtml);
+        values.put("weaponName", esc(weaponView.name));
+        values.put("weaponSummary", esc(weaponView.summary));
+        values.put("weaponCritLine", esc(weaponView.critLine));
+        values.put("weaponBreakdownTitle", esc("Damage Breakdown"));
+        values.put("weaponRows", weaponView.rows);
+        values.put("weaponElementTitle", esc("Elemental Damage"));
+        values.put("weaponElementRows", weaponView.elementRows);
+        values.put("armorTitle", esc("Equipped Armor"));
+        values.put("armorSummary", esc(armorView.summary));
+        values.put("armorBonusLine", esc(armorView.bonusLine));
+        values.put("defensiveCacheLine", esc(armorView.cacheLine));
+        values.put("armorPiecesTitle", esc("Armor Pieces"));
+        values.put("armorRows", armorView.rows);
+        values.put("resistanceTitle", esc("Element Resistances"));
+        values.put("resistanceRows", armorView.resistanceRows);
+        values.put("footerText", esc("Use /equipmentstats again after swapping gear to refresh this panel."));
+        return loadTemplate().render(player, values);
     }
 
     private static WeaponView buildWeaponView(Player player) {
@@ -449,8 +443,8 @@ public final class EquipmentStatsUI {
         };
     }
 
-    private static String loadTemplate() {
-        return UITemplateUtils.loadTemplate(
+    private static UITemplate loadTemplate() {
+        return UITemplateUtils.loadCompiledTemplate(
                 EquipmentStatsUI.class,
                 TEMPLATE_PATH,
                 "<div><p>Equipment Stats UI template missing.</p></div>",
@@ -1,8 +1,8 @@
 package irai.mod.reforge.UI;
 
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -16,17 +16,21 @@ import com.hypixel.hytale.codec.Codec;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.asset.type.item.config.Item;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.ecs.InventoryChangeEvent;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.protocol.packets.interface_.CustomPageLifetime;
 
+import irai.mod.reforge.Common.UI.BenchInventoryTracker;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIEditUtils;
 import irai.mod.reforge.Common.UI.UIHtmlUtils;
 import irai.mod.reforge.Common.UI.UIInventoryUtils;
 import irai.mod.reforge.Common.UI.UIItemUtils;
 import irai.mod.reforge.Common.UI.UISocketVisualUtils;
+import irai.mod.reforge.Common.UI.UITemplate;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Common.ResonantRecipeUtils;
 import irai.mod.reforge.Common.WeaponAffinityAppearanceState;
@@ -51,9 +55,6 @@ import irai.mod.reforge.Util.LangLoader;
 public final class EssenceBenchUI {
     private EssenceBenchUI() {}
 
-    private static final String HYUI_PAGE_BUILDER  = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN        = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String LAYOUT_TEMPLATE_PATH = "Common/UI/Custom/Pages/EssenceBenchLayout.html";
     private static final String TEMPLATE_PATH = "Common/UI/Custom/Pages/EssenceBench.html";
     private static final String EQUIPMENT_TEMPLATE_PATH = "Common/UI/Custom/Pages/EssenceBenchEquipment.html";
@@ -90,6 +91,7 @@ public final class EssenceBenchUI {
     private static final Map<PlayerRef, Object> openPages = new ConcurrentHashMap<>();
     private static final Map<PlayerRef, SelectionState> pendingSelections = new ConcurrentHashMap<>();
     private static final Map<PlayerRef, Boolean> processingPlayers = new ConcurrentHashMap<>();
+    private static final BenchInventoryTracker<SlotRow> inventoryTracker = new BenchInventoryTracker<>();
     private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
     private static final int PROCESS_DURATION_MS = 1000;
     private static final int PROGRESS_TICK_MS = 250;
@@ -129,6 +131,21 @@ public final class EssenceBenchUI {
         }
     }
 
+    /** A tracked inventory slot and the bench lists it belongs to. */
+    private static final class SlotRow {
+        final Entry entry;
+        final boolean equipment;
+        final boolean essence;
+        final boolean support;
+
+        SlotRow(Entry entry, boolean equipment, boolean essence, boolean support) {
+            this.entry = entry;
+            this.equipment = equipment;
+            this.essence = essence;
+            this.support = support;
+        }
+    }
+
     private static final class Snapshot {
         final List<Entry> equipments;
         final List<Entry> armorSlots;
@@ -253,7 +270,7 @@ public final class EssenceBenchUI {
     }
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "EssenceBenchUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("EssenceBenchUI");
     }
 
     public static boolean isAvailable() {
@@ -285,8 +302,25 @@ public final class EssenceBenchUI {
         List<Entry> armorSlots = collectEquippedArmorSlots(player, equipments);
         List<Entry> essences = new ArrayList<>();
         List<Entry> voidhearts = new ArrayList<>();
-        collectFromContainer(player, player.getInventory().getHotbar(), ContainerKind.HOTBAR, equipments, essences, voidhearts);
-        collectFromContainer(player, player.getInventory().getStorage(), ContainerKind.STORAGE, equipments, essences, voidhearts);
+        List<SlotRow> rows = inventoryTracker.rows(
+                player.getPlayerRef(),
+                (containerIndex, slot, stack) -> createRow(player,
+                        containerIndex == 0 ? ContainerKind.HOTBAR : ContainerKind.STORAGE,
+                        containerIndex == 0 ? player.getInventory().getHotbar() : player.getInventory().getStorage(),
+                        slot, stack),
+                player.getInventory().getHotbar(),
+                player.getInventory().getStorage());
+        for (SlotRow row : rows) {
+            if (row.equipment) {
+                equipments.add(row.entry);
+            }
+            if (row.essence) {
+                essences.add(row.entry);
+            }
+            if (row.support) {
+                voidhearts.add(row.entry);
+            }
+        }
         return new Snapshot(equipments, armorSlots, essences, voidhearts);
     }
 
@@ -335,39 +369,31 @@ public final class EssenceBenchUI {
         return effective;
     }
 
-    private static void collectFromContainer(
-            Player player,
-            ItemContainer container,
-            ContainerKind kind,
-            List<Entry> equipments,
-            List<Entry> essences,
-            List<Entry> voidhearts) {
-        if (container == null) return;
-        for (short slot = 0; slot < container.getCapacity(); slot++) {
-            ItemStack stack = container.getItemStack(slot);
-            if (stack == null || stack.isEmpty()) continue;
-            boolean equipmentItem = ReforgeEquip.isWeapon(stack) || ReforgeEquip.isArmor(stack);
-            ItemStack effective = equipmentItem ? syncLoreSocketsIfNeeded(container, slot, stack) : stack;
-            String itemId = effective.getItemId();
-            if (itemId == null || itemId.isEmpty()) continue;
-            String name = UIItemUtils.displayNameOrItemId(effective, player);
-            Entry entry = new Entry(kind, slot, effective, itemId, effective.getQuantity(), name);
-
-            if (equipmentItem) {
-                SocketData sd = SocketManager.getSocketData(effective);
-                LoreSocketData loreData = LoreSocketManager.getLoreSocketData(effective);
-                if ((sd != null && sd.getMaxSockets() > 0)
-                        || (loreData != null && loreData.getSocketCount() > 0)) {
-                    equipments.add(entry);
-                }
-            }
-            if (isEssenceItem(itemId)) {
-                essences.add(entry);
-            }
-            if (isVoidheartItem(itemId) || isHammerItem(itemId) || isMutationSupportItem(itemId) || isCompletedRecipeSupport(stack)) {
-                voidhearts.add(entry);
-            }
+    private static SlotRow createRow(Player player, ContainerKind kind, ItemContainer container, short slot, ItemStack stack) {
+        boolean equipmentItem = ReforgeEquip.isWeapon(stack) || ReforgeEquip.isArmor(stack);
+        ItemStack effective = equipmentItem ? syncLoreSocketsIfNeeded(container, slot, stack) : stack;
+        String itemId = effective.getItemId();
+        if (itemId == null || itemId.isEmpty()) {
+            return null;
+        }
+        boolean equipment = false;
+        if (equipmentItem) {
+            SocketData sd = SocketManager.getSocketData(effective);
+            LoreSocketData loreData = LoreSocketManager.getLoreSocketData(effective);
+            equipment = (sd != null && sd.getMaxSockets() > 0)
+                    || (loreData != null && loreData.getSocketCount() > 0);
         }
+        boolean essence = isEssenceItem(itemId);
+        boolean support = isVoidheartItem(itemId) || isHammerItem(itemId) || isMutationSupportItem(itemId) || isCompletedRecipeSupport(stack);
+        if (!equipment && !essence && !support) {
+            return null;
+        }
+        String name = UIItemUtils.displayNameOrItemId(effective, player);
+        return new SlotRow(new Entry(kind, slot, effective, itemId, effective.getQuantity(), name), equipment, essence, support);
+    }
+
+    public static void onInventoryChange(InventoryChangeEvent event) {
+        inventoryTracker.onInventoryChange(event);
     }
 
     private static boolean isEssenceItem(String itemId) {
@@ -425,34 +451,24 @@ public final class EssenceBenchUI {
     private static void openPage(Player player, Snapshot snapshot, SelectionState state) {
         PlayerRef playerRef = player.getPlayerRef();
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eventBindingClass = Class.forName(HYUI_EVENT_BINDING);
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method addListener = pageBuilderClass.getMethod("addEventListener", String.class, eventBindingClass, java.util.function.BiConsumer.class);
-            Method enablePersistentElementEdits = pageBuilderClass.getMethod("enablePersistentElementEdits", boolean.class);
-            Method enableAsyncImageLoading = pageBuilderClass.getMethod("enableAsyncImageLoading", boolean.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open", Class.forName("com.hypixel.hytale.component.Store"));
-
-	            Object activating = eventBindingClass.getField("Activating").get(null);
+	            Object activating = HyUIBindings.activating();
 
             String html = buildPageHtml(player, snapshot, state);
-            Object pageBuilder = pageForPlayer.invoke(null, playerRef);
-            pageBuilder = enablePersistentElementEdits.invoke(pageBuilder, true);
-            pageBuilder = enableAsyncImageLoading.invoke(pageBuilder, true);
-            pageBuilder = fromHtml.invoke(pageBuilder, html);
+            Object pageBuilder = HyUIBindings.pageForPlayer(playerRef);
+            pageBuilder = HyUIBindings.enablePersistentElementEdits(pageBuilder, true);
+            pageBuilder = HyUIBindings.enableAsyncImageLoading(pageBuilder, true);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, html);
 
 	            final Player finalPlayer = player;
 	            final Snapshot finalSnapshot = snapshot;
 	            final SelectionState finalState = state;
-			            registerEquipmentSocketCardListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, state);
-		            registerMaterialCardListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, state);
-		            registerSocketPreviewListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, state);
-		            registerLoreOverlayCloseListener(pageBuilder, addListener, activating, finalPlayer, state);
-            registerExtractPromptListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, state);
+			            registerEquipmentSocketCardListeners(pageBuilder, activating, finalPlayer, finalSnapshot, state);
+		            registerMaterialCardListeners(pageBuilder, activating, finalPlayer, finalSnapshot, state);
+		            registerSocketPreviewListeners(pageBuilder, activating, finalPlayer, finalSnapshot, state);
+		            registerLoreOverlayCloseListener(pageBuilder, activating, finalPlayer, state);
+            registerExtractPromptListeners(pageBuilder, activating, finalPlayer, finalSnapshot, state);
 
-	            addListener.invoke(pageBuilder, "processButton", activating,
+	            HyUIBindings.addEventListener(pageBuilder, "processButton", activating,
 	                    (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         if (Boolean.TRUE.equals(processingPlayers.get(finalPlayer.getPlayerRef()))) {
                             return;
@@ -501,12 +517,13 @@ public final class EssenceBenchUI {
 	                                                result.status, result.progress, false));
                             } finally {
                                 processingPlayers.remove(finalPlayer.getPlayerRef());
+                                inventoryTracker.invalidate(finalPlayer.getPlayerRef());
                                 openWithSync(finalPlayer);
                             }
                         }), PROCESS_DURATION_MS, TimeUnit.MILLISECONDS);
                     });
 
-            addListener.invoke(pageBuilder, "extractButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "extractButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         if (Boolean.TRUE.equals(processingPlayers.get(finalPlayer.getPlayerRef()))) {
                             return;
@@ -521,9 +538,9 @@ public final class EssenceBenchUI {
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-	            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
+	            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
 	            Object store = getStore(playerRef);
-	            Object page = openMethod.invoke(pageBuilder, store);
+	            Object page = HyUIBindings.open(pageBuilder, store);
 	            openPages.put(playerRef, page);
 	        } catch (Exception e) {
             System.err.println("[SocketReforge] EssenceBenchUI open error: " + e.getMessage());
@@ -533,7 +550,6 @@ public final class EssenceBenchUI {
 
 	    private static void registerEquipmentSocketCardListeners(
 		            Object pageBuilder,
-		            Method addListener,
 	            Object activating,
 	            Player player,
             Snapshot snapshot,
@@ -547,7 +563,7 @@ public final class EssenceBenchUI {
                 continue;
             }
 	            final String equipmentKey = String.valueOf(equipmentIndex);
-	            addListener.invoke(pageBuilder, equipmentCardButtonId(equipmentIndex), activating,
+	            HyUIBindings.addEventListener(pageBuilder, equipmentCardButtonId(equipmentIndex), activating,
 	                    (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             SelectionState current = currentSelectionState(player, state);
 	                        String essenceVal = current != null ? current.essenceKey : null;
@@ -565,7 +581,7 @@ public final class EssenceBenchUI {
             if (loreData != null && loreData.getSocketCount() > 0) {
                 for (int loreIndex = 0; loreIndex < Math.min(3, loreData.getSocketCount()); loreIndex++) {
 	                    final String loreSocketKey = String.valueOf(loreIndex);
-	                    addListener.invoke(pageBuilder, loreSocketButtonId(equipmentIndex, loreIndex), activating,
+	                    HyUIBindings.addEventListener(pageBuilder, loreSocketButtonId(equipmentIndex, loreIndex), activating,
 	                            (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                                     SelectionState current = currentSelectionState(player, state);
 		                                String essenceVal = current != null ? current.essenceKey : null;
@@ -599,7 +615,7 @@ public final class EssenceBenchUI {
                     continue;
                 }
 	                final String slotKey = String.valueOf(socket.getSlotIndex());
-	                addListener.invoke(pageBuilder, equipmentSocketButtonId(equipmentIndex, socket.getSlotIndex()), activating,
+	                HyUIBindings.addEventListener(pageBuilder, equipmentSocketButtonId(equipmentIndex, socket.getSlotIndex()), activating,
 	                        (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                                 SelectionState current = currentSelectionState(player, state);
 		                            String essenceVal = current != null ? current.essenceKey : null;
@@ -712,14 +728,13 @@ public final class EssenceBenchUI {
 
 	    private static void registerLoreOverlayCloseListener(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Player player,
             SelectionState state) throws Exception {
         if (state == null || state.loreEquipmentKey == null || state.loreSocketKey == null) {
             return;
         }
-	        addListener.invoke(pageBuilder, "loreOverlayClose", activating,
+	        HyUIBindings.addEventListener(pageBuilder, "loreOverlayClose", activating,
 	                (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
 	                    pendingSelections.put(player.getPlayerRef(),
 	                            new SelectionState(state.equipmentKey, state.essenceKey, state.supportKey, state.slotKey, null, 0, false,
@@ -731,7 +746,6 @@ public final class EssenceBenchUI {
 
 	    private static void registerSocketPreviewListeners(
 	            Object pageBuilder,
-	            Method addListener,
 	            Object activating,
 	            Player player,
 	            Snapshot snapshot,
@@ -742,7 +756,7 @@ public final class EssenceBenchUI {
 		        for (int socketIndex = 0; socketIndex < 5; socketIndex++) {
                     final int previewIndex = socketIndex;
 			            final String slotKey = String.valueOf(previewIndex);
-			            addListener.invoke(pageBuilder, socketPreviewButtonId(previewIndex), activating,
+			            HyUIBindings.addEventListener(pageBuilder, socketPreviewButtonId(previewIndex), activating,
 			                    (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
 	                                SelectionState current = currentSelectionState(player, state);
                                 if (current == null || current.equipmentKey == null || current.equipmentKey.isBlank()) {
@@ -767,20 +781,18 @@ public final class EssenceBenchUI {
 
     private static void registerMaterialCardListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Player player,
             Snapshot snapshot,
             SelectionState state) throws Exception {
-        registerVisibleMaterialCardListeners(pageBuilder, addListener, activating, player, snapshot, state,
+        registerVisibleMaterialCardListeners(pageBuilder, activating, player, snapshot, state,
                 snapshot != null ? snapshot.essences : List.of(), true, 0);
-        registerVisibleMaterialCardListeners(pageBuilder, addListener, activating, player, snapshot, state,
+        registerVisibleMaterialCardListeners(pageBuilder, activating, player, snapshot, state,
                 snapshot != null ? snapshot.voidhearts : List.of(), false, 0);
     }
 
     private static void registerVisibleMaterialCardListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Player player,
             Snapshot snapshot,
@@ -796,7 +808,7 @@ public final class EssenceBenchUI {
             final boolean noneSupport = !essence && visibleIndex == 0;
             final int entryIndex = essence ? visibleIndex : visibleIndex - 1;
             final String materialKey = noneSupport ? "" : String.valueOf(entryIndex);
-            addListener.invoke(pageBuilder, noneSupport ? supportNoneCardButtonId() : materialCardButtonId(essence, entryIndex), activating,
+            HyUIBindings.addEventListener(pageBuilder, noneSupport ? supportNoneCardButtonId() : materialCardButtonId(essence, entryIndex), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             SelectionState current = currentSelectionState(player, state);
 		                        String equipmentVal = current != null ? current.equipmentKey : null;
@@ -813,7 +825,6 @@ public final class EssenceBenchUI {
 
     private static void registerExtractPromptListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Player player,
             Snapshot snapshot,
@@ -821,12 +832,12 @@ public final class EssenceBenchUI {
         if (state == null || !state.extractPrompt) {
             return;
         }
-        addListener.invoke(pageBuilder, "extractCancelButton", activating,
+        HyUIBindings.addEventListener(pageBuilder, "extractCancelButton", activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                     pendingSelections.put(player.getPlayerRef(), selectionWithExtractPrompt(state, false));
                     player.getWorld().execute(() -> openWithSync(player));
                 });
-        addListener.invoke(pageBuilder, "extractConfirmButton", activating,
+        HyUIBindings.addEventListener(pageBuilder, "extractConfirmButton", activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                     if (Boolean.TRUE.equals(processingPlayers.get(player.getPlayerRef()))) {
                         return;
@@ -883,6 +894,7 @@ public final class EssenceBenchUI {
                                 result.status, result.progress, false));
             } finally {
                 processingPlayers.remove(player.getPlayerRef());
+                inventoryTracker.invalidate(player.getPlayerRef());
                 openWithSync(player);
             }
         }), PROCESS_DURATION_MS, TimeUnit.MILLISECONDS);
@@ -931,13 +943,13 @@ public final class EssenceBenchUI {
     }
 
 	    private static String buildPageHtml(Player player, Snapshot snapshot, SelectionState state) {
-	        String html = loadLayoutTemplate();
-	        html = html.replace("{{equipmentPanel}}", buildEquipmentHtml(player, snapshot, state));
-		html = html.replace("{{benchPanel}}", buildHtml(player, snapshot, state));
-		html = html.replace("{{materialsPanel}}", buildMaterialsHtml(player, snapshot, state));
-		html = html.replace("{{loreOverlayPanel}}", buildLoreOverlayHtml(player, snapshot, state));
-        html = html.replace("{{extractOverlayPanel}}", buildExtractOverlayHtml(player, snapshot, state));
-		return LangLoader.replaceUiTokens(player, html);
+        Map<String, String> values = new HashMap<>(8);
+        values.put("equipmentPanel", buildEquipmentHtml(player, snapshot, state));
+        values.put("benchPanel", buildHtml(player, snapshot, state));
+        values.put("materialsPanel", buildMaterialsHtml(player, snapshot, state));
+        values.put("loreOverlayPanel", buildLoreOverlayHtml(player, snapshot, state));
+        values.put("extractOverlayPanel", buildExtractOverlayHtml(player, snapshot, state));
+        return loadLayoutTemplate().render(player, values);
 	    }
 
     private static String buildLoreOverlayHtml(Player player, Snapshot snapshot, SelectionState state) {
@@ -1076,36 +1088,34 @@ public final class EssenceBenchUI {
         boolean showExtract = hasExtractableResonance(selectedEquipment, player);
 	        boolean extractDisabled = processing || !showExtract;
 
-	        String html = loadTemplate();
-        html = html.replace("{{selectedEquipmentText}}", escapeHtml(selectedEquipment != null
+        Map<String, String> values = new HashMap<>(24);
+        values.put("selectedEquipmentText", escapeHtml(selectedEquipment != null
                 ? selectedEquipment.displayName
                 : LangLoader.getUITranslation(player, "ui.essence_bench.option_no_equipment")));
-        html = html.replace("{{selectedEssenceText}}", escapeHtml(selectedEssence != null
+        values.put("selectedEssenceText", escapeHtml(selectedEssence != null
                 ? selectedEssence.displayName
                 : LangLoader.getUITranslation(player, "ui.essence_bench.option_no_essence")));
-        html = html.replace("{{selectedSupportText}}", escapeHtml(selectedSupport != null
+        values.put("selectedSupportText", escapeHtml(selectedSupport != null
                 ? selectedSupport.displayName
                 : LangLoader.getUITranslation(player, "ui.essence_bench.option_no_support")));
-	        html = html.replace("{{supportDurabilityText}}", escapeHtml(buildSupportDurabilityText(player, selectedSupport)));
-	        html = html.replace("{{supportRecipeText}}", escapeHtml(buildSupportRecipeText(player, selectedSupport)));
-	        html = html.replace("{{effectPreviewText}}", escapeHtml(buildEffectPreviewText(player, selectedEquipment, selectedSupport)));
-		        html = html.replace("{{socketIcons}}", buildSocketIconsHtml(selectedEquipment, slotKey));
-	        html = html.replace("{{socketSummary}}", escapeHtml(buildSocketSummary(player, selectedEquipment)));
-	        html = html.replace("{{selectedSocketDetails}}", escapeHtml(buildSelectedSocketDetails(player, selectedEquipment, slotKey)));
-	        html = html.replace("{{socketProgressBar}}", buildSocketProgressBarHtml(progress));
-	        html = html.replace("{{statusText}}", escapeHtml(status));
-	        html = html.replace("{{processButton}}", buildActionButtonsHtml(player, processDisabled, extractDisabled, showExtract));
-        html = html.replace("{{extractSection}}", "");
-	        return LangLoader.replaceUiTokens(player, html);
+        values.put("supportDurabilityText", escapeHtml(buildSupportDurabilityText(player, selectedSupport)));
+        values.put("supportRecipeText", escapeHtml(buildSupportRecipeText(player, selectedSupport)));
+        values.put("effectPreviewText", escapeHtml(buildEffectPreviewText(player, selectedEquipment, selectedSupport)));
+        values.put("socketIcons", buildSocketIconsHtml(selectedEquipment, slotKey));
+        values.put("socketSummary", escapeHtml(buildSocketSummary(player, selectedEquipment)));
+        values.put("selectedSocketDetails", escapeHtml(buildSelectedSocketDetails(player, selectedEquipment, slotKey)));
+        values.put("socketProgressBar", buildSocketProgressBarHtml(progress));
+        values.put("statusText", escapeHtml(status));
+        values.put("processButton", buildActionButtonsHtml(player, processDisabled, extractDisabled, showExtract));
+        values.put("extractSection", "");
+        return loadTemplate().render(player, values);
 	    }
 
     private static String buildEquipmentHtml(Player player, Snapshot snapshot, SelectionState state) {
 	        String equipmentKey = state != null ? state.equipmentKey : null;
 	        String slotKey = state != null ? state.slotKey : null;
-	        String html = loadEquipmentTemplate();
-	        html = html.replace("{{equipmentSocketCards}}",
-	                buildEquipmentSocketCardsHtml(player, snapshot, equipmentKey, slotKey, 0, 0));
-	        return LangLoader.replaceUiTokens(player, html);
+        return loadEquipmentTemplate().render(player, Map.of("equipmentSocketCards",
+                buildEquipmentSocketCardsHtml(player, snapshot, equipmentKey, slotKey, 0, 0)));
 		    }
 
     private static String buildExtractSectionHtml(Player player, boolean disabled) {
@@ -1182,10 +1192,8 @@ public final class EssenceBenchUI {
 	    private static String buildMaterialsHtml(Player player, Snapshot snapshot, SelectionState state) {
 	        String essenceKey = state != null ? state.essenceKey : null;
 	        String supportKey = state != null ? state.supportKey : null;
-	        String html = loadMaterialsTemplate();
-	        html = html.replace("{{materialsCards}}", buildMaterialsCardsHtml(player, snapshot, essenceKey, supportKey,
-	                0, 0));
-	        return LangLoader.replaceUiTokens(player, html);
+        return loadMaterialsTemplate().render(player, Map.of("materialsCards",
+                buildMaterialsCardsHtml(player, snapshot, essenceKey, supportKey, 0, 0)));
 	    }
 
 	    private static String buildMaterialsCardsHtml(Player player, Snapshot snapshot, String essenceKey, String supportKey,
@@ -1526,7 +1534,7 @@ public final class EssenceBenchUI {
 	            appendEquipmentSocketCardHtml(player, cardsHtml, card.entry, card.equipmentIndex, selectedEquipmentKey,
 	                    selectedSlotKey, card.placeholderSlotNumber);
 	        }
-	        sb.append(renderTemplate(loadEquipmentSectionTemplate(), Map.of(
+	        sb.append(loadEquipmentSectionTemplate().render(player, Map.of(
 	                "sectionTitle", escapeHtml(LangLoader.getUITranslation(player, titleKey)),
 	                "pager", "",
 	                "cards", cardsHtml.toString()
@@ -1612,7 +1620,7 @@ public final class EssenceBenchUI {
         }
         String essenceSocketsBlock = essenceSockets.toString();
         String selectedLayerId = equipmentCardSelectedLayerId(equipmentIndex);
-        sb.append(renderTemplate(loadEquipmentCardTemplate(), Map.of(
+        sb.append(loadEquipmentCardTemplate().render(player, Map.of(
                 "cardId", equipmentCardRootId(equipmentIndex),
                 "selectedLayerId", selectedLayerId,
                 "selectedLayerImageId", selectedLayerImageId(selectedLayerId),
@@ -2933,6 +2941,7 @@ public final class EssenceBenchUI {
             ItemContainer container = getContainer(player, ContainerKind.ARMOR);
             if (container != null) {
                 container.setItemStackForSlot(entry.slot, stack);
+                DynamicTooltipUtils.markSlotDirty(player, container, entry.slot);
             }
             WeaponAffinityAppearanceState.refresh(player);
             return;
@@ -3255,66 +3264,54 @@ public final class EssenceBenchUI {
         return translated;
     }
 
-	    private static String loadTemplate() {
-	        return UITemplateUtils.loadTemplate(
+	    private static UITemplate loadTemplate() {
+	        return UITemplateUtils.loadCompiledTemplate(
 	                EssenceBenchUI.class,
 	                TEMPLATE_PATH,
 	                "<div><p>Essence Bench UI template missing.</p></div>",
 	                "EssenceBenchUI");
 	    }
 
-	    private static String loadLayoutTemplate() {
-	        return UITemplateUtils.loadTemplate(
+	    private static UITemplate loadLayoutTemplate() {
+	        return UITemplateUtils.loadCompiledTemplate(
 	                EssenceBenchUI.class,
 	                LAYOUT_TEMPLATE_PATH,
 	                "<div class=\"page-overlay\">{{equipmentPanel}}{{benchPanel}}</div>",
 	                "EssenceBenchLayoutUI");
 	    }
 
-	    private static String loadEquipmentTemplate() {
-	        return UITemplateUtils.loadTemplate(
+	    private static UITemplate loadEquipmentTemplate() {
+	        return UITemplateUtils.loadCompiledTemplate(
 	                EssenceBenchUI.class,
 	                EQUIPMENT_TEMPLATE_PATH,
 	                "<div><p>Essence Bench equipment UI template missing.</p></div>",
 	                "EssenceBenchEquipmentUI");
 	    }
 
-	    private static String loadEquipmentSectionTemplate() {
-	        return UITemplateUtils.loadTemplate(
+	    private static UITemplate loadEquipmentSectionTemplate() {
+	        return UITemplateUtils.loadCompiledTemplate(
 	                EssenceBenchUI.class,
 	                EQUIPMENT_SECTION_TEMPLATE_PATH,
 	                "<div style=\"anchor-width:450; layout-mode:top; spacing:4;\"><p>{{sectionTitle}}</p>{{cards}}</div>",
 	                "EssenceBenchEquipmentSectionUI");
 	    }
 
-	    private static String loadEquipmentCardTemplate() {
-	        return UITemplateUtils.loadTemplate(
+	    private static UITemplate loadEquipmentCardTemplate() {
+	        return UITemplateUtils.loadCompiledTemplate(
 	                EssenceBenchUI.class,
 	                EQUIPMENT_CARD_TEMPLATE_PATH,
 	                "<div><p>{{displayName}}</p>{{iconCell}}<p>{{locationText}}</p><p>{{summaryText}}</p>{{essenceSocketsBlock}}{{loreSocketsBlock}}</div>",
 	                "EssenceBenchEquipmentCardUI");
 	    }
 
-	    private static String loadMaterialsTemplate() {
-	        return UITemplateUtils.loadTemplate(
+	    private static UITemplate loadMaterialsTemplate() {
+	        return UITemplateUtils.loadCompiledTemplate(
 	                EssenceBenchUI.class,
 	                MATERIALS_TEMPLATE_PATH,
 	                "<div><p>{{ui.essence_bench.materials_list_title}}</p>{{materialsCards}}</div>",
 	                "EssenceBenchMaterialsUI");
 	    }
 
-	    private static String renderTemplate(String template, Map<String, String> values) {
-	        String rendered = template == null ? "" : template;
-	        if (values == null || values.isEmpty()) {
-	            return rendered;
-	        }
-	        for (Map.Entry<String, String> entry : values.entrySet()) {
-	            rendered = rendered.replace("{{" + entry.getKey() + "}}",
-	                    entry.getValue() != null ? entry.getValue() : "");
-	        }
-	        return rendered;
-	    }
-
     private static Entry findByKey(List<Entry> entries, String key) {
         return resolveSelection(entries, key);
     }
@@ -3438,6 +3435,21 @@ public final class EssenceBenchUI {
 	        HyUIReflectionUtils.closePageIfOpen(openPages, playerRef);
 	    }
 
+    /**
+     * Drops the player's bench state. The inventory session is kept across page reopens (every
+     * selection click reopens the page) and only released here.
+     */
+    public static void closeForDisconnect(PlayerRef playerRef) {
+        if (playerRef == null) {
+            return;
+        }
+        closePageIfOpen(playerRef);
+        openPages.remove(playerRef);
+        pendingSelections.remove(playerRef);
+        processingPlayers.remove(playerRef);
+        inventoryTracker.forget(playerRef);
+    }
+
     private static String escapeHtml(String text) {
         return UITemplateUtils.escapeHtml(text);
     }
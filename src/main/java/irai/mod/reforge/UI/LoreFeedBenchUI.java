@@ -1,7 +1,7 @@
 package irai.mod.reforge.UI;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -20,8 +20,10 @@ import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
 import irai.mod.reforge.Common.PlayerInventoryUtils;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UIItemUtils;
+import irai.mod.reforge.Common.UI.UITemplate;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Lore.LoreSocketData;
 import irai.mod.reforge.Lore.LoreHeldItemUpdateManager;
@@ -29,6 +31,7 @@ import irai.mod.reforge.Lore.LoreSocketManager;
 import irai.mod.reforge.Lore.LoreAbility;
 import irai.mod.reforge.Lore.LoreAbilityRegistry;
 import irai.mod.reforge.Lore.LoreEffectType;
+import irai.mod.reforge.Util.DynamicTooltipUtils;
 import irai.mod.reforge.Util.LangLoader;
 
 /**
@@ -49,9 +52,6 @@ public final class LoreFeedBenchUI {
     private static final int CHARGE_ATTACK_BASE_HITS = 1;
     private static final int CHARGE_ATTACK_MAX_HITS = 3;
 
-    private static final String HYUI_PAGE_BUILDER = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String UI_COMMAND_BUILDER = "com.hypixel.hytale.server.core.ui.builder.UICommandBuilder";
     private static final String TEMPLATE_PATH = "Common/UI/Custom/Pages/LoreFeedBench.html";
 
@@ -135,7 +135,7 @@ public final class LoreFeedBenchUI {
     }
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "LoreFeedBenchUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("LoreFeedBenchUI");
     }
 
     public static boolean isAvailable() {
@@ -202,6 +202,7 @@ public final class LoreFeedBenchUI {
                     if (LoreSocketManager.syncSocketColors(stack, data)) {
                         effective = LoreSocketManager.withLoreSocketData(stack, data);
                         container.setItemStackForSlot(slot, effective);
+                        DynamicTooltipUtils.markSlotDirty(player, container, slot);
                     }
                     String name = UIItemUtils.displayNameOrItemId(effective, player);
                     equipments.add(new Entry(kind, slot, effective, itemId, effective.getQuantity(), name));
@@ -274,26 +275,17 @@ public final class LoreFeedBenchUI {
     private static void openPage(Player player, Snapshot snapshot, SelectionState selectionState) {
         PlayerRef playerRef = player.getPlayerRef();
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eventBindingClass = Class.forName(HYUI_EVENT_BINDING);
-
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method addListener = pageBuilderClass.getMethod("addEventListener", String.class, eventBindingClass, java.util.function.BiConsumer.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open", Class.forName("com.hypixel.hytale.component.Store"));
-
-            Object valueChanged = eventBindingClass.getField("ValueChanged").get(null);
-            Object activating = eventBindingClass.getField("Activating").get(null);
+            Object valueChanged = HyUIBindings.valueChanged();
+            Object activating = HyUIBindings.activating();
 
             String html = buildHtml(player, snapshot, selectionState);
-            Object pageBuilder = pageForPlayer.invoke(null, playerRef);
-            pageBuilder = fromHtml.invoke(pageBuilder, html);
+            Object pageBuilder = HyUIBindings.pageForPlayer(playerRef);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, html);
 
             final Player finalPlayer = player;
             final Snapshot finalSnapshot = snapshot;
 
-            addListener.invoke(pageBuilder, "equipmentDropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "equipmentDropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         String equipmentVal = extractEventValue(eventObj);
                         String slotVal = getContextValue(ctxObj, "slotDropdown", "#slotDropdown.value");
@@ -303,7 +295,7 @@ public final class LoreFeedBenchUI {
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-            addListener.invoke(pageBuilder, "slotDropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "slotDropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         String equipmentVal = getContextValue(ctxObj, "equipmentDropdown", "#equipmentDropdown.value");
                         String slotVal = extractEventValue(eventObj);
@@ -313,7 +305,7 @@ public final class LoreFeedBenchUI {
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-            addListener.invoke(pageBuilder, "actionDropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "actionDropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         String equipmentVal = getContextValue(ctxObj, "equipmentDropdown", "#equipmentDropdown.value");
                         String slotVal = getContextValue(ctxObj, "slotDropdown", "#slotDropdown.value");
@@ -323,7 +315,7 @@ public final class LoreFeedBenchUI {
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-            addListener.invoke(pageBuilder, "processButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "processButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         String equipmentVal = getContextValue(ctxObj, "equipmentDropdown", "#equipmentDropdown.value");
                         String slotVal = getContextValue(ctxObj, "slotDropdown", "#slotDropdown.value");
@@ -336,7 +328,7 @@ public final class LoreFeedBenchUI {
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-            addListener.invoke(pageBuilder, "navSocketButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "navSocketButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         PlayerRef ref = finalPlayer.getPlayerRef();
                         LoreUiState.setActive(ref, LoreUiState.Page.SOCKET);
@@ -352,8 +344,7 @@ public final class LoreFeedBenchUI {
                         }, 100, TimeUnit.MILLISECONDS);
                     });
 
-            Method onDismiss = pageBuilderClass.getMethod("onDismiss", java.util.function.BiConsumer.class);
-            pageBuilder = onDismiss.invoke(pageBuilder,
+            pageBuilder = HyUIBindings.onDismiss(pageBuilder,
                     (java.util.function.BiConsumer<Object, Object>) (pageObj, dismissedByPlayer) -> {
                         PlayerRef ref = finalPlayer.getPlayerRef();
                         Object current = openPages.get(ref);
@@ -367,9 +358,9 @@ public final class LoreFeedBenchUI {
                         }
                     });
 
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
             Object store = getStore(playerRef);
-            Object page = openMethod.invoke(pageBuilder, store);
+            Object page = HyUIBindings.open(pageBuilder, store);
             openPages.put(playerRef, page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] LoreFeedBenchUI open error: " + e.getMessage());
@@ -387,18 +378,17 @@ public final class LoreFeedBenchUI {
 
         Entry selectedEquipment = findByKey(snapshot.equipments, equipmentKey);
 
-        String html = loadTemplate();
-        html = html.replace("{{equipmentOptions}}",
-                buildOptions(snapshot.equipments,
-                        LangLoader.getUITranslation(player, "ui.lore_feed.option_no_equipment"),
-                        equipmentKey));
-        html = html.replace("{{slotOptions}}", buildSlotOptions(player, selectedEquipment, slotKey));
-        html = html.replace("{{actionOptions}}", buildActionOptions(player, actionKey));
-        html = html.replace("{{statusText}}", escapeHtml(status));
-        html = html.replace("{{spiritPreview}}", escapeHtml(buildSpiritPreview(player, selectedEquipment, slotKey)));
-        html = html.replace("{{progressBars}}", buildProgressBars(player, selectedEquipment));
-        html = html.replace("{{processDisabledAttr}}", shouldDisable(selectedEquipment) ? "disabled=\"true\"" : "");
-        return LangLoader.replaceUiTokens(player, html);
+        Map<String, String> values = new HashMap<>(16);
+        values.put("equipmentOptions", buildOptions(snapshot.equipments,
+                LangLoader.getUITranslation(player, "ui.lore_feed.option_no_equipment"),
+                equipmentKey));
+        values.put("slotOptions", buildSlotOptions(player, selectedEquipment, slotKey));
+        values.put("actionOptions", buildActionOptions(player, actionKey));
+        values.put("statusText", escapeHtml(status));
+        values.put("spiritPreview", escapeHtml(buildSpiritPreview(player, selectedEquipment, slotKey)));
+        values.put("progressBars", buildProgressBars(player, selectedEquipment));
+        values.put("processDisabledAttr", shouldDisable(selectedEquipment) ? "disabled=\"true\"" : "");
+        return loadTemplate().render(player, values);
     }
 
     private static String buildActionOptions(Player player, String selectedKey) {
@@ -1132,6 +1122,7 @@ public final class LoreFeedBenchUI {
         ItemContainer equipmentContainer = getContainer(player, equipment.kind);
         if (equipmentContainer != null) {
             equipmentContainer.setItemStackForSlot(equipment.slot, updated);
+            DynamicTooltipUtils.markSlotDirty(player, equipmentContainer, equipment.slot);
             player.markNeedsSave();
             LoreHeldItemUpdateManager.clearPending(player, sectionIdFor(equipment.kind), equipment.slot, updated);
         }
@@ -1256,8 +1247,8 @@ public final class LoreFeedBenchUI {
         return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
     }
 
-    private static String loadTemplate() {
-        return UITemplateUtils.loadTemplate(
+    private static UITemplate loadTemplate() {
+        return UITemplateUtils.loadCompiledTemplate(
                 LoreFeedBenchUI.class,
                 TEMPLATE_PATH,
                 "<div style=\"padding:20px;\">Lore feed UI template missing.</div>",
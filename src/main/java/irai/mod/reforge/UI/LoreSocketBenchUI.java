@@ -1,7 +1,7 @@
 package irai.mod.reforge.UI;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -20,10 +20,12 @@ import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
 import irai.mod.reforge.Common.PlayerInventoryUtils;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UIHtmlUtils;
 import irai.mod.reforge.Common.UI.UIItemUtils;
 import irai.mod.reforge.Common.UI.UISocketVisualUtils;
+import irai.mod.reforge.Common.UI.UITemplate;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Lore.LoreAbility;
 import irai.mod.reforge.Lore.LoreAbilityRegistry;
@@ -34,6 +36,7 @@ import irai.mod.reforge.Lore.LoreSocketManager;
 import irai.mod.reforge.Socket.Socket;
 import irai.mod.reforge.Socket.SocketData;
 import irai.mod.reforge.Socket.SocketManager;
+import irai.mod.reforge.Util.DynamicTooltipUtils;
 import irai.mod.reforge.Util.LangLoader;
 
 /**
@@ -43,9 +46,6 @@ import irai.mod.reforge.Util.LangLoader;
 public final class LoreSocketBenchUI {
     private LoreSocketBenchUI() {}
 
-    private static final String HYUI_PAGE_BUILDER = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String UI_COMMAND_BUILDER = "com.hypixel.hytale.server.core.ui.builder.UICommandBuilder";
     private static final String TEMPLATE_PATH = "Common/UI/Custom/Pages/LoreSocketBench.html";
     private static final String SUPPORT_REROLL_ITEM_ID = "Ingredient_Resonant_Essence";
@@ -150,7 +150,7 @@ public final class LoreSocketBenchUI {
     }
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "LoreSocketBenchUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("LoreSocketBenchUI");
     }
 
     public static boolean isAvailable() {
@@ -223,6 +223,7 @@ public final class LoreSocketBenchUI {
                     if (LoreSocketManager.syncSocketColors(stack, data)) {
                         effective = LoreSocketManager.withLoreSocketData(stack, data);
                         container.setItemStackForSlot(slot, effective);
+                        DynamicTooltipUtils.markSlotDirty(player, container, slot);
                     }
                     String name = UIItemUtils.displayNameOrItemId(effective, player);
                     equipments.add(new Entry(kind, slot, effective, itemId, effective.getQuantity(), name));
@@ -265,29 +266,20 @@ public final class LoreSocketBenchUI {
     private static void openPage(Player player, Snapshot snapshot, SelectionState selectionState) {
         PlayerRef playerRef = player.getPlayerRef();
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eventBindingClass = Class.forName(HYUI_EVENT_BINDING);
-
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method addListener = pageBuilderClass.getMethod("addEventListener", String.class, eventBindingClass, java.util.function.BiConsumer.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open", Class.forName("com.hypixel.hytale.component.Store"));
-
-            Object activating = eventBindingClass.getField("Activating").get(null);
+            Object activating = HyUIBindings.activating();
 
             String html = buildHtml(player, snapshot, selectionState);
-            Object pageBuilder = pageForPlayer.invoke(null, playerRef);
-            pageBuilder = fromHtml.invoke(pageBuilder, html);
+            Object pageBuilder = HyUIBindings.pageForPlayer(playerRef);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, html);
 
             final Player finalPlayer = player;
             final Snapshot finalSnapshot = snapshot;
 
-            registerEquipmentCardListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, selectionState);
-            registerMaterialCardListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, selectionState);
-            registerSocketPreviewListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, selectionState);
+            registerEquipmentCardListeners(pageBuilder, activating, finalPlayer, finalSnapshot, selectionState);
+            registerMaterialCardListeners(pageBuilder, activating, finalPlayer, finalSnapshot, selectionState);
+            registerSocketPreviewListeners(pageBuilder, activating, finalPlayer, finalSnapshot, selectionState);
 
-            addListener.invoke(pageBuilder, "processButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "processButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         String equipmentVal = selectionState != null ? selectionState.equipmentKey : null;
                         String gemVal = selectionState != null ? selectionState.gemKey : null;
@@ -304,8 +296,7 @@ public final class LoreSocketBenchUI {
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-            Method onDismiss = pageBuilderClass.getMethod("onDismiss", java.util.function.BiConsumer.class);
-            pageBuilder = onDismiss.invoke(pageBuilder,
+            pageBuilder = HyUIBindings.onDismiss(pageBuilder,
                     (java.util.function.BiConsumer<Object, Object>) (pageObj, dismissedByPlayer) -> {
                         PlayerRef ref = finalPlayer.getPlayerRef();
                         Object current = openPages.get(ref);
@@ -316,9 +307,9 @@ public final class LoreSocketBenchUI {
                         pendingNavToFeed.remove(ref);
                     });
 
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
             Object store = getStore(playerRef);
-            Object page = openMethod.invoke(pageBuilder, store);
+            Object page = HyUIBindings.open(pageBuilder, store);
             openPages.put(playerRef, page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] LoreSocketBenchUI open error: " + e.getMessage());
@@ -339,27 +330,27 @@ public final class LoreSocketBenchUI {
         Entry selectedGem = findByKey(snapshot.gems, gemKey);
         Entry selectedSupport = findByKey(snapshot.supports, supportKey);
 
-        String html = loadTemplate();
-        html = html.replace("{{equipmentCards}}", buildEquipmentCardsHtml(player, snapshot, state));
-        html = html.replace("{{materialsCards}}", buildMaterialsCardsHtml(player, snapshot, state));
-        html = html.replace("{{selectedEquipmentLabel}}", escapeHtml(selectedEquipment != null
+        Map<String, String> values = new HashMap<>(32);
+        values.put("equipmentCards", buildEquipmentCardsHtml(player, snapshot, state));
+        values.put("materialsCards", buildMaterialsCardsHtml(player, snapshot, state));
+        values.put("selectedEquipmentLabel", escapeHtml(selectedEquipment != null
                 ? selectedEquipment.displayName
                 : LangLoader.getUITranslation(player, "ui.lore_socket.metadata_no_equipment")));
-        html = html.replace("{{selectedGemLabel}}", escapeHtml(selectedGem != null
+        values.put("selectedGemLabel", escapeHtml(selectedGem != null
                 ? selectedGem.displayName
                 : LangLoader.getUITranslation(player, "ui.lore_socket.option_none")));
-        html = html.replace("{{selectedSupportLabel}}", escapeHtml(selectedSupport != null
+        values.put("selectedSupportLabel", escapeHtml(selectedSupport != null
                 ? selectedSupport.displayName
                 : LangLoader.getUITranslation(player, "ui.lore_socket.option_none")));
-        html = html.replace("{{slotLabel}}", escapeHtml(buildSelectedSlotLabel(player, selectedEquipment, slotKey)));
-        html = html.replace("{{socketIcons}}", buildSocketPreview(player, selectedEquipment, slotKey));
-        html = html.replace("{{slotDetails}}", buildSelectedSlotSummaryHtml(player, selectedEquipment, slotKey));
-        html = html.replace("{{statusText}}", escapeHtml(status));
-        html = html.replace("{{metadataText}}", escapeHtml(buildMetadata(player, selectedEquipment)));
-        html = html.replace("{{processDisabledAttr}}", shouldDisable(selectedEquipment, selectedGem, selectedSupport, slotKey) ? "disabled=\"true\"" : "");
-        html = html.replace("{{processButtonLabel}}", escapeHtml(resolveProcessButtonLabel(player, selectedEquipment, selectedGem, selectedSupport, slotKey)));
-        html = html.replace("{{detailOverlay}}", "");
-        return LangLoader.replaceUiTokens(player, html);
+        values.put("slotLabel", escapeHtml(buildSelectedSlotLabel(player, selectedEquipment, slotKey)));
+        values.put("socketIcons", buildSocketPreview(player, selectedEquipment, slotKey));
+        values.put("slotDetails", buildSelectedSlotSummaryHtml(player, selectedEquipment, slotKey));
+        values.put("statusText", escapeHtml(status));
+        values.put("metadataText", escapeHtml(buildMetadata(player, selectedEquipment)));
+        values.put("processDisabledAttr", shouldDisable(selectedEquipment, selectedGem, selectedSupport, slotKey) ? "disabled=\"true\"" : "");
+        values.put("processButtonLabel", escapeHtml(resolveProcessButtonLabel(player, selectedEquipment, selectedGem, selectedSupport, slotKey)));
+        values.put("detailOverlay", "");
+        return loadTemplate().render(player, values);
     }
 
     private static SelectionState stateWith(SelectionState state,
@@ -1061,7 +1052,6 @@ public final class LoreSocketBenchUI {
     }
 
     private static void registerEquipmentCardListeners(Object pageBuilder,
-                                                       Method addListener,
                                                        Object activating,
                                                        Player player,
                                                        Snapshot snapshot,
@@ -1069,12 +1059,12 @@ public final class LoreSocketBenchUI {
         List<Entry> entries = snapshot != null ? snapshot.equipments : List.of();
         int pageCount = cardPageCount(entries.size(), EQUIPMENT_CARDS_PER_PAGE);
         int page = clampPage(state != null ? state.equipmentPage : 0, pageCount);
-        registerPager(pageBuilder, addListener, activating, player, state, "equipmentCardsPrev", "equipmentCardsNext", page, pageCount, 0);
+        registerPager(pageBuilder, activating, player, state, "equipmentCardsPrev", "equipmentCardsNext", page, pageCount, 0);
         int start = page * EQUIPMENT_CARDS_PER_PAGE;
         int end = Math.min(entries.size(), start + EQUIPMENT_CARDS_PER_PAGE);
         for (int i = start; i < end; i++) {
             final String equipmentKey = String.valueOf(i);
-            addListener.invoke(pageBuilder, equipmentCardButtonId(i), activating,
+            HyUIBindings.addEventListener(pageBuilder, equipmentCardButtonId(i), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         pendingSelections.put(player.getPlayerRef(),
                                 stateWith(state, equipmentKey, state != null ? state.gemKey : null,
@@ -1085,7 +1075,6 @@ public final class LoreSocketBenchUI {
     }
 
     private static void registerMaterialCardListeners(Object pageBuilder,
-                                                      Method addListener,
                                                       Object activating,
                                                       Player player,
                                                       Snapshot snapshot,
@@ -1096,14 +1085,13 @@ public final class LoreSocketBenchUI {
         int supportPageCount = cardPageCount(supports.size() + 1, MATERIAL_CARDS_PER_PAGE);
         int gemPage = clampPage(state != null ? state.gemPage : 0, gemPageCount);
         int supportPage = clampPage(state != null ? state.supportPage : 0, supportPageCount);
-        registerPager(pageBuilder, addListener, activating, player, state, "gemCardsPrev", "gemCardsNext", gemPage, gemPageCount, 1);
-        registerPager(pageBuilder, addListener, activating, player, state, "supportCardsPrev", "supportCardsNext", supportPage, supportPageCount, 2);
-        registerVisibleMaterialCards(pageBuilder, addListener, activating, player, state, gems, gemPage, true);
-        registerVisibleMaterialCards(pageBuilder, addListener, activating, player, state, supports, supportPage, false);
+        registerPager(pageBuilder, activating, player, state, "gemCardsPrev", "gemCardsNext", gemPage, gemPageCount, 1);
+        registerPager(pageBuilder, activating, player, state, "supportCardsPrev", "supportCardsNext", supportPage, supportPageCount, 2);
+        registerVisibleMaterialCards(pageBuilder, activating, player, state, gems, gemPage, true);
+        registerVisibleMaterialCards(pageBuilder, activating, player, state, supports, supportPage, false);
     }
 
     private static void registerVisibleMaterialCards(Object pageBuilder,
-                                                     Method addListener,
                                                      Object activating,
                                                      Player player,
                                                      SelectionState state,
@@ -1120,7 +1108,7 @@ public final class LoreSocketBenchUI {
             final boolean noneSupport = !gemSection && visibleIndex == 0;
             final int entryIndex = gemSection ? visibleIndex : visibleIndex - 1;
             final String key = noneSupport ? "" : String.valueOf(entryIndex);
-            addListener.invoke(pageBuilder, noneSupport ? supportNoneCardButtonId() : materialCardButtonId(gemSection, entryIndex), activating,
+            HyUIBindings.addEventListener(pageBuilder, noneSupport ? supportNoneCardButtonId() : materialCardButtonId(gemSection, entryIndex), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         String gemKey = gemSection ? key : null;
                         String supportKey = gemSection ? null : key;
@@ -1133,7 +1121,6 @@ public final class LoreSocketBenchUI {
     }
 
     private static void registerSocketPreviewListeners(Object pageBuilder,
-                                                       Method addListener,
                                                        Object activating,
                                                        Player player,
                                                        Snapshot snapshot,
@@ -1148,7 +1135,7 @@ public final class LoreSocketBenchUI {
         }
         for (int i = 0; i < data.getSocketCount(); i++) {
             final String slotKey = String.valueOf(i);
-            addListener.invoke(pageBuilder, loreSlotButtonId(i), activating,
+            HyUIBindings.addEventListener(pageBuilder, loreSlotButtonId(i), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         pendingSelections.put(player.getPlayerRef(),
                                 stateWith(state, state.equipmentKey, state.gemKey, state.supportKey, slotKey,
@@ -1157,7 +1144,7 @@ public final class LoreSocketBenchUI {
                     });
             LoreSocketData.LoreSocket socket = data.getSocket(i);
             if (socket != null && socket.hasSpirit() && LoreSocketManager.needsFeed(socket)) {
-                addListener.invoke(pageBuilder, feedButtonId(i), activating,
+                HyUIBindings.addEventListener(pageBuilder, feedButtonId(i), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             ProcessResult result = processFeed(player, equipment, slotKey);
                             pendingSelections.put(player.getPlayerRef(),
@@ -1170,7 +1157,6 @@ public final class LoreSocketBenchUI {
     }
 
     private static void registerPager(Object pageBuilder,
-                                      Method addListener,
                                       Object activating,
                                       Player player,
                                       SelectionState state,
@@ -1182,7 +1168,7 @@ public final class LoreSocketBenchUI {
         if (pageCount <= 1) {
             return;
         }
-        addListener.invoke(pageBuilder, prevId, activating,
+        HyUIBindings.addEventListener(pageBuilder, prevId, activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                     if (page <= 0) {
                         return;
@@ -1190,7 +1176,7 @@ public final class LoreSocketBenchUI {
                     pendingSelections.put(player.getPlayerRef(), pageState(state, pageKind, page - 1));
                     player.getWorld().execute(() -> openWithSync(player));
                 });
-        addListener.invoke(pageBuilder, nextId, activating,
+        HyUIBindings.addEventListener(pageBuilder, nextId, activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                     if (page >= pageCount - 1) {
                         return;
@@ -1608,6 +1594,7 @@ public final class LoreSocketBenchUI {
         ItemContainer equipmentContainer = getContainer(player, equipment.kind);
         if (equipmentContainer != null) {
             equipmentContainer.setItemStackForSlot(equipment.slot, updated);
+            DynamicTooltipUtils.markSlotDirty(player, equipmentContainer, equipment.slot);
             player.markNeedsSave();
             LoreHeldItemUpdateManager.clearPending(player, sectionIdFor(equipment.kind), equipment.slot, updated);
         }
@@ -1794,8 +1781,8 @@ public final class LoreSocketBenchUI {
         return kind == ContainerKind.HOTBAR ? player.getInventory().getHotbar() : player.getInventory().getStorage();
     }
 
-    private static String loadTemplate() {
-        return UITemplateUtils.loadTemplate(
+    private static UITemplate loadTemplate() {
+        return UITemplateUtils.loadCompiledTemplate(
                 LoreSocketBenchUI.class,
                 TEMPLATE_PATH,
                 "<div style=\"padding:20px;\">Lore socket UI template missing.</div>",
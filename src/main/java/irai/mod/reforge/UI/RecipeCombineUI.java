@@ -1,6 +1,5 @@
 package irai.mod.reforge.UI;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -21,6 +20,7 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import irai.mod.reforge.Common.ResonantRecipeUtils;
 import irai.mod.reforge.Common.ResonantCompendiumUtils;
 import irai.mod.reforge.Common.ResonantCompendiumUtils.CompendiumEntry;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UIItemUtils;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
@@ -36,9 +36,6 @@ import irai.mod.reforge.Util.LangLoader;
 public final class RecipeCombineUI {
     private RecipeCombineUI() {}
 
-    private static final String HYUI_PAGE_BUILDER  = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN        = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String TEMPLATE_PATH      = "Common/UI/Custom/Pages/RecipeCombineBench.html";
     private static final boolean DEBUG = Boolean.parseBoolean(
             System.getProperty("socketreforge.debug.combine", "false"));
@@ -167,7 +164,7 @@ public final class RecipeCombineUI {
     // ═══════════════════════════════════════════════════════════════
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "RecipeCombineUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("RecipeCombineUI");
     }
 
     public static boolean isAvailable() {
@@ -308,22 +305,11 @@ public final class RecipeCombineUI {
     private static void openPage(Player player, Snapshot snapshot, SelectionState state) {
         PlayerRef playerRef = player.getPlayerRef();
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eventBindingClass = Class.forName(HYUI_EVENT_BINDING);
-
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method addListener = pageBuilderClass.getMethod("addEventListener", String.class,
-                    eventBindingClass, java.util.function.BiConsumer.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open",
-                    Class.forName("com.hypixel.hytale.component.Store"));
-
-            Object valueChanged = eventBindingClass.getField("ValueChanged").get(null);
-            Object activating = eventBindingClass.getField("Activating").get(null);
+            Object valueChanged = HyUIBindings.valueChanged();
+            Object activating = HyUIBindings.activating();
             String html = buildHtml(player, snapshot, state);
-            Object pageBuilder = pageForPlayer.invoke(null, playerRef);
-            pageBuilder = fromHtml.invoke(pageBuilder, html);
+            Object pageBuilder = HyUIBindings.pageForPlayer(playerRef);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, html);
 
             final Player finalPlayer = player;
             final Snapshot finalSnapshot = snapshot;
@@ -336,7 +322,7 @@ public final class RecipeCombineUI {
             int effectivePickerPage = Math.min(pickerPage, maxPickerPage);
 
             // Base recipe dropdown change
-            addListener.invoke(pageBuilder, "baseRecipeDropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "baseRecipeDropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         try {
                             String baseVal = extractEventValue(eventObj);
@@ -356,7 +342,7 @@ public final class RecipeCombineUI {
                     });
 
             // Merge recipe dropdown change
-            addListener.invoke(pageBuilder, "mergeRecipeDropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "mergeRecipeDropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         try {
                             String mergeVal = extractEventValue(eventObj);
@@ -376,7 +362,7 @@ public final class RecipeCombineUI {
                         }
                     });
 
-            addListener.invoke(pageBuilder, "openBasePicker", activating,
+            HyUIBindings.addEventListener(pageBuilder, "openBasePicker", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         pendingSelections.put(finalPlayer.getPlayerRef(),
                                 new SelectionState(resolved.baseKey, resolved.mergeKey, null, 0, false,
@@ -384,7 +370,7 @@ public final class RecipeCombineUI {
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-            addListener.invoke(pageBuilder, "openMergePicker", activating,
+            HyUIBindings.addEventListener(pageBuilder, "openMergePicker", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         pendingSelections.put(finalPlayer.getPlayerRef(),
                                 new SelectionState(resolved.baseKey, resolved.mergeKey, null, 0, false,
@@ -393,7 +379,7 @@ public final class RecipeCombineUI {
                     });
 
             if (picker != PickerMode.NONE) {
-                addListener.invoke(pageBuilder, "pickerCloseButton", activating,
+                HyUIBindings.addEventListener(pageBuilder, "pickerCloseButton", activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             pendingSelections.put(finalPlayer.getPlayerRef(),
                                     new SelectionState(resolved.baseKey, resolved.mergeKey, null, 0, false,
@@ -403,7 +389,7 @@ public final class RecipeCombineUI {
 
                 int maxPage = maxPickerPage;
                 if (effectivePickerPage > 0) {
-                    addListener.invoke(pageBuilder, "pickerPrevButton", activating,
+                    HyUIBindings.addEventListener(pageBuilder, "pickerPrevButton", activating,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                                 pendingSelections.put(finalPlayer.getPlayerRef(),
                                         new SelectionState(resolved.baseKey, resolved.mergeKey, null, 0, false,
@@ -412,7 +398,7 @@ public final class RecipeCombineUI {
                             });
                 }
                 if (effectivePickerPage < maxPage) {
-                    addListener.invoke(pageBuilder, "pickerNextButton", activating,
+                    HyUIBindings.addEventListener(pageBuilder, "pickerNextButton", activating,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                                 pendingSelections.put(finalPlayer.getPlayerRef(),
                                         new SelectionState(resolved.baseKey, resolved.mergeKey, null, 0, false,
@@ -426,7 +412,7 @@ public final class RecipeCombineUI {
                         effectivePickerPage);
                 for (Integer index : pickerIndices) {
                     final String selectKey = String.valueOf(index);
-                    addListener.invoke(pageBuilder, "pickerEntry_" + index, activating,
+                    HyUIBindings.addEventListener(pageBuilder, "pickerEntry_" + index, activating,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                                 SelectionState next;
                                 if (picker == PickerMode.BASE) {
@@ -441,7 +427,7 @@ public final class RecipeCombineUI {
             }
 
             // Combine button
-            addListener.invoke(pageBuilder, "combineButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "combineButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         PlayerRef ref = finalPlayer.getPlayerRef();
                         if (Boolean.TRUE.equals(processingPlayers.get(ref))) return;
@@ -489,17 +475,16 @@ public final class RecipeCombineUI {
                         }), PROCESS_DURATION_MS, TimeUnit.MILLISECONDS);
                     });
 
-            Method onDismiss = pageBuilderClass.getMethod("onDismiss", java.util.function.BiConsumer.class);
-            pageBuilder = onDismiss.invoke(pageBuilder,
+            pageBuilder = HyUIBindings.onDismiss(pageBuilder,
                     (java.util.function.BiConsumer<Object, Object>) (pageObj, dismissedByPlayer) -> {
                         if (Boolean.TRUE.equals(dismissedByPlayer)) {
                             cleanupPlayerState(finalPlayer);
                         }
                     });
 
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
             Object store = getStore(playerRef);
-            Object page = openMethod.invoke(pageBuilder, store);
+            Object page = HyUIBindings.open(pageBuilder, store);
             openPages.put(playerRef, page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] RecipeCombineUI open error: " + e.getMessage());
@@ -938,6 +923,7 @@ public final class RecipeCombineUI {
             ItemStack updated = ResonantRecipeUtils.withRecipePattern(baseStack, mergedPattern);
             updated = ResonantRecipeUtils.ensureRecipeUsages(updated);
             baseContainer.setItemStackForSlot(baseEntry.slot, updated);
+            DynamicTooltipUtils.markSlotDirty(player, baseContainer, baseEntry.slot);
         }
 
         // Consume merge entry
@@ -975,6 +961,7 @@ public final class RecipeCombineUI {
             ItemContainer hotbar = player.getInventory().getHotbar();
             if (hotbar != null) {
                 hotbar.setItemStackForSlot(compendiumContext.slot, updatedCompendium);
+                DynamicTooltipUtils.markSlotDirty(player, hotbar, compendiumContext.slot);
             }
         }
 
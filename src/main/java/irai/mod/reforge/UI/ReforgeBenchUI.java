@@ -1,12 +1,12 @@
 package irai.mod.reforge.UI;
 
 import java.io.InputStream;
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -23,6 +23,7 @@ import com.hypixel.hytale.codec.Codec;
 import com.hypixel.hytale.protocol.packets.interface_.CustomPageLifetime;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.ecs.InventoryChangeEvent;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
@@ -30,10 +31,13 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import irai.mod.reforge.Common.EquipmentDamageTooltipMath;
 import irai.mod.reforge.Common.ArmorAffinityResistanceUtils;
 import irai.mod.reforge.Common.WeaponElementalDamageUtils;
+import irai.mod.reforge.Common.UI.BenchInventoryTracker;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIEditUtils;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UIInventoryUtils;
 import irai.mod.reforge.Common.UI.UIItemUtils;
+import irai.mod.reforge.Common.UI.UITemplate;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Common.SmithyLegacyUtils;
 import irai.mod.reforge.Common.SmithyLegacyUtils.Bonuses;
@@ -54,9 +58,6 @@ import irai.mod.reforge.Util.LangLoader;
 public final class ReforgeBenchUI {
     private ReforgeBenchUI() {}
 
-    private static final String HYUI_PAGE_BUILDER  = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN        = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String TEMPLATE_PATH      = "Common/UI/Custom/Pages/ReforgeBench.html";
 
     private static final String DEFAULT_MATERIAL_ID = "Refinement_Glob";
@@ -90,6 +91,7 @@ public final class ReforgeBenchUI {
     private static boolean hyuiAvailable = false;
 
     private static final Map<PlayerRef, Object> openPages = new ConcurrentHashMap<>();
+    private static final BenchInventoryTracker<SlotRow> inventoryTracker = new BenchInventoryTracker<>();
     private static final Map<PlayerRef, SelectionState> pendingSelections = new ConcurrentHashMap<>();
     private static final Map<PlayerRef, Boolean> processingPlayers = new ConcurrentHashMap<>();
     private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
@@ -133,6 +135,21 @@ public final class ReforgeBenchUI {
         }
     }
 
+    /** A tracked inventory slot and the bench lists it belongs to. */
+    private static final class SlotRow {
+        final Entry entry;
+        final boolean equipment;
+        final boolean material;
+        final boolean support;
+
+        SlotRow(Entry entry, boolean equipment, boolean material, boolean support) {
+            this.entry = entry;
+            this.equipment = equipment;
+            this.material = material;
+            this.support = support;
+        }
+    }
+
     private static final class Snapshot {
         final List<Entry> equipments;
         final List<Entry> materials;
@@ -273,7 +290,7 @@ public final class ReforgeBenchUI {
     }
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "ReforgeBenchUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("ReforgeBenchUI");
     }
 
     public static boolean isAvailable() {
@@ -328,66 +345,52 @@ public final class ReforgeBenchUI {
         List<Entry> equipments = new ArrayList<>();
         List<Entry> materials = new ArrayList<>();
         List<Entry> supports = new ArrayList<>();
-        collectFromContainer(player, player.getInventory().getHotbar(), ContainerKind.HOTBAR, equipments, materials, supports);
-        collectFromContainer(player, player.getInventory().getStorage(), ContainerKind.STORAGE, equipments, materials, supports);
+        List<SlotRow> rows = inventoryTracker.rows(
+                player.getPlayerRef(),
+                (containerIndex, slot, stack) -> createRow(player, containerIndex == 0 ? ContainerKind.HOTBAR : ContainerKind.STORAGE, slot, stack),
+                player.getInventory().getHotbar(),
+                player.getInventory().getStorage());
+        for (SlotRow row : rows) {
+            if (row.equipment) equipments.add(row.entry);
+            if (row.material) materials.add(row.entry);
+            if (row.support) supports.add(row.entry);
+        }
         int total = 0;
         for (Entry e : materials) total += e.quantity;
         return new Snapshot(equipments, materials, supports, total);
     }
 
-    private static void collectFromContainer(
-            Player player,
-            ItemContainer container,
-            ContainerKind kind,
-            List<Entry> equipments,
-            List<Entry> materials,
-            List<Entry> supports) {
-        if (container == null) return;
-        for (short slot = 0; slot < container.getCapacity(); slot++) {
-            ItemStack stack = container.getItemStack(slot);
-            if (stack == null || stack.isEmpty()) continue;
-            String itemId = stack.getItemId();
-            if (itemId == null || itemId.isEmpty()) continue;
+    private static SlotRow createRow(Player player, ContainerKind kind, short slot, ItemStack stack) {
+        String itemId = stack.getItemId();
+        if (itemId == null || itemId.isEmpty()) return null;
+        boolean equipment = ReforgeEquip.isWeapon(stack) || ReforgeEquip.isArmor(stack);
+        boolean material = isRefinementMaterial(itemId);
+        boolean support = isReforgeSupportItem(itemId);
+        if (!equipment && !material && !support) return null;
 
-            String name = UIItemUtils.displayNameOrItemId(stack, player);
+        String name = UIItemUtils.displayNameOrItemId(stack, player);
+        return new SlotRow(new Entry(kind, slot, stack, itemId, stack.getQuantity(), name), equipment, material, support);
+    }
 
-            Entry entry = new Entry(kind, slot, stack, itemId, stack.getQuantity(), name);
-            if (ReforgeEquip.isWeapon(stack) || ReforgeEquip.isArmor(stack)) {
-                equipments.add(entry);
-            }
-            if (isRefinementMaterial(itemId)) {
-                materials.add(entry);
-            }
-            if (isReforgeSupportItem(itemId)) {
-                supports.add(entry);
-            }
-        }
+    public static void onInventoryChange(InventoryChangeEvent event) {
+        inventoryTracker.onInventoryChange(event);
     }
 
     private static void openPage(Player player, Snapshot snapshot, SelectionState state) {
         PlayerRef playerRef = player.getPlayerRef();
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eventBindingClass = Class.forName(HYUI_EVENT_BINDING);
-
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method addListener = pageBuilderClass.getMethod("addEventListener", String.class, eventBindingClass, java.util.function.BiConsumer.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open", Class.forName("com.hypixel.hytale.component.Store"));
-
-            Object activating = eventBindingClass.getField("Activating").get(null);
+            Object activating = HyUIBindings.activating();
 
             String html = buildHtml(player, snapshot, state);
-            Object pageBuilder = pageForPlayer.invoke(null, playerRef);
-            pageBuilder = fromHtml.invoke(pageBuilder, html);
+            Object pageBuilder = HyUIBindings.pageForPlayer(playerRef);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, html);
 
             final Player finalPlayer = player;
             final Snapshot finalSnapshot = snapshot;
 
             for (int i = 0; i < finalSnapshot.equipments.size(); i++) {
                 final int index = i;
-                addListener.invoke(pageBuilder, equipmentCardButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, equipmentCardButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             SelectionState current = pendingSelections.get(finalPlayer.getPlayerRef());
                             pendingSelections.put(finalPlayer.getPlayerRef(), new SelectionState(
@@ -404,7 +407,7 @@ public final class ReforgeBenchUI {
             List<RefinementConfig.MaterialTier> materialTiers = materialTierCards();
             for (int i = 0; i < materialTiers.size(); i++) {
                 final String materialId = materialTiers.get(i).itemId;
-                addListener.invoke(pageBuilder, materialCardButtonId(i), activating,
+                HyUIBindings.addEventListener(pageBuilder, materialCardButtonId(i), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             SelectionState current = pendingSelections.get(finalPlayer.getPlayerRef());
                             pendingSelections.put(finalPlayer.getPlayerRef(), new SelectionState(
@@ -418,7 +421,7 @@ public final class ReforgeBenchUI {
                         });
             }
 
-            addListener.invoke(pageBuilder, supportNoneButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, supportNoneButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         SelectionState current = pendingSelections.get(finalPlayer.getPlayerRef());
                         pendingSelections.put(finalPlayer.getPlayerRef(), new SelectionState(
@@ -434,7 +437,7 @@ public final class ReforgeBenchUI {
             List<Entry> supportCards = combinedSupports(finalSnapshot.supports);
             for (int i = 0; i < supportCards.size(); i++) {
                 final String supportId = supportCards.get(i).itemId;
-                addListener.invoke(pageBuilder, supportCardButtonId(i), activating,
+                HyUIBindings.addEventListener(pageBuilder, supportCardButtonId(i), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             SelectionState current = pendingSelections.get(finalPlayer.getPlayerRef());
                             pendingSelections.put(finalPlayer.getPlayerRef(), new SelectionState(
@@ -448,7 +451,7 @@ public final class ReforgeBenchUI {
                         });
             }
 
-            addListener.invoke(pageBuilder, "processButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "processButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         PlayerRef ref = finalPlayer.getPlayerRef();
                         if (Boolean.TRUE.equals(processingPlayers.get(ref))) return;
@@ -487,14 +490,15 @@ public final class ReforgeBenchUI {
                                 pendingSelections.put(ref, new SelectionState(eqVal, matVal, supVal, result.status, result.progress, false));
                             } finally {
                                 processingPlayers.remove(ref);
+                                inventoryTracker.invalidate(ref);
                                 openWithSync(finalPlayer);
                             }
                         }), PROCESS_DURATION_MS, TimeUnit.MILLISECONDS);
                     });
 
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
             Object store = getStore(playerRef);
-            Object page = openMethod.invoke(pageBuilder, store);
+            Object page = HyUIBindings.open(pageBuilder, store);
             openPages.put(playerRef, page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] ReforgeBenchUI open error: " + e.getMessage());
@@ -547,65 +551,66 @@ public final class ReforgeBenchUI {
             }
         }
 
-        String html = loadTemplate();
+        Map<String, String> values = new HashMap<>(64);
         
         // UI translations
-        html = html.replace("{{title}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.title")));
-        html = html.replace("{{equipmentPanelTitle}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.equipment")));
-        html = html.replace("{{equipmentPanelHint}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.equipment")));
-        html = html.replace("{{supportPanelTitle}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.support")));
-        html = html.replace("{{chancePanelTitle}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.expected_outcome")));
-        html = html.replace("{{equipmentLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.equipment")));
-        html = html.replace("{{materialLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.material")));
-        html = html.replace("{{supportLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.support")));
-        html = html.replace("{{metadataLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_name")));
-        html = html.replace("{{currentDamageLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.current_damage")));
-        html = html.replace("{{metadataNameLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_name")));
-        html = html.replace("{{metadataLevelLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_level")));
-        html = html.replace("{{metadataCurrentStatLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_current_stat")));
-        html = html.replace("{{metadataBaseStatLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_base_stat")));
-        html = html.replace("{{expectedOutcomeLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.expected_outcome")));
-        html = html.replace("{{expectedDamageLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.expected_damage")));
-        html = html.replace("{{refineProgressLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.refine_progress")));
-        html = html.replace("{{consumesMaterialText}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.consumes_material", materialCost, materialName)));
-        html = html.replace("{{ironHammerInfoText}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.iron_hammer_info")));
-        html = html.replace("{{thoriumHammerInfoText}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.thorium_hammer_info")));
-        html = html.replace("{{refineButtonText}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.button_refine")));
+        values.put("title", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.title")));
+        values.put("equipmentPanelTitle", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.equipment")));
+        values.put("equipmentPanelHint", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.equipment")));
+        values.put("supportPanelTitle", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.support")));
+        values.put("chancePanelTitle", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.expected_outcome")));
+        values.put("equipmentLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.equipment")));
+        values.put("materialLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.material")));
+        values.put("supportLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.support")));
+        values.put("metadataLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_name")));
+        values.put("currentDamageLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.current_damage")));
+        values.put("metadataNameLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_name")));
+        values.put("metadataLevelLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_level")));
+        values.put("metadataCurrentStatLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_current_stat")));
+        values.put("metadataBaseStatLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.metadata_base_stat")));
+        values.put("expectedOutcomeLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.expected_outcome")));
+        values.put("expectedDamageLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.expected_damage")));
+        values.put("refineProgressLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.refine_progress")));
+        values.put("consumesMaterialText", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.consumes_material", materialCost, materialName)));
+        values.put("ironHammerInfoText", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.iron_hammer_info")));
+        values.put("thoriumHammerInfoText", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.thorium_hammer_info")));
+        values.put("refineButtonText", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.button_refine")));
         
         // Dynamic content
-        html = html.replace("{{equipmentCards}}", buildEquipmentCards(player, snapshot.equipments, eqKey));
-        html = html.replace("{{materialCards}}", buildMaterialCards(player, snapshot.materials, matKey));
-        html = html.replace("{{supportCards}}", buildSupportCards(player, snapshot.supports, supKey));
-        html = html.replace("{{selectedEquipmentIcon}}", buildSelectedEquipmentIcon(selectedEquipment));
-        html = html.replace("{{supportDurabilityText}}", escapeHtml(buildSupportDurabilityText(player, selectedBreakSupport(selectedSupports))));
-        html = html.replace("{{materialCountText}}", LangLoader.getUITranslation(player, "ui.reforge.material_count", materialName, selectedMaterialCount));
-        html = html.replace("{{currentStatsText}}", escapeHtml(preview.currentStats));
-        html = html.replace("{{expectedStatsText}}", escapeHtml(preview.expectedStats));
-        html = html.replace("{{chanceBreakLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_break")));
-        html = html.replace("{{chanceDegradeLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_degrade")));
-        html = html.replace("{{chanceSameLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_same")));
-        html = html.replace("{{chanceUpgradeLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_upgrade")));
-        html = html.replace("{{chanceJackpotLabel}}", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_jackpot")));
-        html = html.replace("{{chanceBreakText}}", escapeHtml(preview.chanceBreak));
-        html = html.replace("{{chanceDegradeText}}", escapeHtml(preview.chanceDegrade));
-        html = html.replace("{{chanceSameText}}", escapeHtml(preview.chanceSame));
-        html = html.replace("{{chanceUpgradeText}}", escapeHtml(preview.chanceUpgrade));
-        html = html.replace("{{chanceJackpotText}}", escapeHtml(preview.chanceJackpot));
-        html = html.replace("{{chanceNoteText}}", escapeHtml(preview.chanceNote));
-        html = html.replace("{{expectedDamageText}}", escapeHtml(preview.expectedDamage));
-        html = html.replace("{{expectedDamageLine1Text}}", escapeHtml(preview.expectedDamageLine1));
-        html = html.replace("{{expectedDamageLine2Text}}", escapeHtml(preview.expectedDamageLine2));
-        html = html.replace("{{expectedDamageLine3Text}}", escapeHtml(preview.expectedDamageLine3));
-        html = html.replace("{{currentDamageRows}}", buildCurrentDamageRowsHtml(player, selectedEquipment));
-        html = html.replace("{{expectedDamageRows}}", buildExpectedDamageRowsHtml(player, selectedEquipment));
-        html = html.replace("{{metadataNameText}}", escapeHtml(buildMetadataName(selectedEquipment)));
-        html = html.replace("{{metadataLevelText}}", escapeHtml(buildMetadataLevel(selectedEquipment)));
-        html = html.replace("{{metadataCurrentStatText}}", escapeHtml(buildMetadataCurrentStat(player, selectedEquipment)));
-        html = html.replace("{{metadataBaseStatText}}", escapeHtml(buildMetadataBaseStat(player, selectedEquipment)));
-        html = html.replace("{{metadataText}}", escapeHtml(buildMetadata(player, selectedEquipment)));
-        html = html.replace("{{progressValue}}", String.valueOf(progress));
-        html = html.replace("{{statusText}}", escapeHtml(status));
-        html = html.replace("{{processDisabledAttr}}", shouldDisable(processing, selectedEquipment, selectedMaterialCount, materialCost) ? "disabled=\"true\"" : "");
+        values.put("equipmentCards", buildEquipmentCards(player, snapshot.equipments, eqKey));
+        values.put("materialCards", buildMaterialCards(player, snapshot.materials, matKey));
+        values.put("supportCards", buildSupportCards(player, snapshot.supports, supKey));
+        values.put("selectedEquipmentIcon", buildSelectedEquipmentIcon(selectedEquipment));
+        values.put("supportDurabilityText", escapeHtml(buildSupportDurabilityText(player, selectedBreakSupport(selectedSupports))));
+        values.put("materialCountText", LangLoader.getUITranslation(player, "ui.reforge.material_count", materialName, selectedMaterialCount));
+        values.put("currentStatsText", escapeHtml(preview.currentStats));
+        values.put("expectedStatsText", escapeHtml(preview.expectedStats));
+        values.put("chanceBreakLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_break")));
+        values.put("chanceDegradeLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_degrade")));
+        values.put("chanceSameLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_same")));
+        values.put("chanceUpgradeLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_upgrade")));
+        values.put("chanceJackpotLabel", escapeHtml(LangLoader.getUITranslation(player, "ui.reforge.chance_jackpot")));
+        values.put("chanceBreakText", escapeHtml(preview.chanceBreak));
+        values.put("chanceDegradeText", escapeHtml(preview.chanceDegrade));
+        values.put("chanceSameText", escapeHtml(preview.chanceSame));
+        values.put("chanceUpgradeText", escapeHtml(preview.chanceUpgrade));
+        values.put("chanceJackpotText", escapeHtml(preview.chanceJackpot));
+        values.put("chanceNoteText", escapeHtml(preview.chanceNote));
+        values.put("expectedDamageText", escapeHtml(preview.expectedDamage));
+        values.put("expectedDamageLine1Text", escapeHtml(preview.expectedDamageLine1));
+        values.put("expectedDamageLine2Text", escapeHtml(preview.expectedDamageLine2));
+        values.put("expectedDamageLine3Text", escapeHtml(preview.expectedDamageLine3));
+        values.put("currentDamageRows", buildCurrentDamageRowsHtml(player, selectedEquipment));
+        values.put("expectedDamageRows", buildExpectedDamageRowsHtml(player, selectedEquipment));
+        values.put("metadataNameText", escapeHtml(buildMetadataName(selectedEquipment)));
+        values.put("metadataLevelText", escapeHtml(buildMetadataLevel(selectedEquipment)));
+        values.put("metadataCurrentStatText", escapeHtml(buildMetadataCurrentStat(player, selectedEquipment)));
+        values.put("metadataBaseStatText", escapeHtml(buildMetadataBaseStat(player, selectedEquipment)));
+        values.put("metadataText", escapeHtml(buildMetadata(player, selectedEquipment)));
+        values.put("progressValue", String.valueOf(progress));
+        values.put("statusText", escapeHtml(status));
+        values.put("processDisabledAttr", shouldDisable(processing, selectedEquipment, selectedMaterialCount, materialCost) ? "disabled=\"true\"" : "");
+        String html = loadTemplate().render(player, values);
         pendingSelections.put(player.getPlayerRef(), new SelectionState(eqKey, matKey, supKey == null ? "" : supKey, status, progress, processing));
         return html;
     }
@@ -2180,8 +2185,8 @@ public final class ReforgeBenchUI {
                 formatDamageValue(summary.getBuffedValue()));
     }
 
-    private static String loadTemplate() {
-        return UITemplateUtils.loadTemplate(
+    private static UITemplate loadTemplate() {
+        return UITemplateUtils.loadCompiledTemplate(
                 ReforgeBenchUI.class,
                 TEMPLATE_PATH,
                 "<div><p>Reforge Bench UI template missing.</p></div>",
@@ -2208,6 +2213,21 @@ public final class ReforgeBenchUI {
         HyUIReflectionUtils.closePageIfOpen(openPages, playerRef);
     }
 
+    /**
+     * Drops the player's bench state. The inventory session is kept across page reopens (every
+     * selection click reopens the page) and only released here.
+     */
+    public static void closeForDisconnect(PlayerRef playerRef) {
+        if (playerRef == null) {
+            return;
+        }
+        closePageIfOpen(playerRef);
+        openPages.remove(playerRef);
+        pendingSelections.remove(playerRef);
+        processingPlayers.remove(playerRef);
+        inventoryTracker.forget(playerRef);
+    }
+
     private static String escapeHtml(String text) {
         return UITemplateUtils.escapeHtml(text);
     }
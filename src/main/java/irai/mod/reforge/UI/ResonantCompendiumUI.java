@@ -1,10 +1,10 @@
 package irai.mod.reforge.UI;
 
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -24,8 +24,10 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import irai.mod.reforge.Common.ResonantCompendiumUtils;
 import irai.mod.reforge.Common.ResonantCompendiumUtils.CompendiumEntry;
 import irai.mod.reforge.Common.ResonantRecipeUtils;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UIInventoryUtils;
+import irai.mod.reforge.Common.UI.UITemplate;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Socket.ResonanceSystem;
 import irai.mod.reforge.UI.RecipeCombineUI;
@@ -40,9 +42,6 @@ import irai.mod.reforge.Util.LangLoader;
 public final class ResonantCompendiumUI {
     private ResonantCompendiumUI() {}
 
-    private static final String HYUI_PAGE_BUILDER = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String TEMPLATE_PATH = "Common/UI/Custom/Pages/ResonantCompendium.html";
 
     private static boolean hyuiAvailable = false;
@@ -120,7 +119,7 @@ public final class ResonantCompendiumUI {
     }
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "ResonantCompendiumUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("ResonantCompendiumUI");
     }
 
     public static boolean isAvailable() {
@@ -204,34 +203,23 @@ public final class ResonantCompendiumUI {
     private static void openPage(Player player, Snapshot snapshot, SelectionState state) {
         PlayerRef playerRef = player.getPlayerRef();
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eventBindingClass = Class.forName(HYUI_EVENT_BINDING);
-
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method addListener = pageBuilderClass.getMethod("addEventListener", String.class,
-                    eventBindingClass, java.util.function.BiConsumer.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open",
-                    Class.forName("com.hypixel.hytale.component.Store"));
-
-            Object valueChanged = eventBindingClass.getField("ValueChanged").get(null);
-            Object activating = eventBindingClass.getField("Activating").get(null);
+            Object valueChanged = HyUIBindings.valueChanged();
+            Object activating = HyUIBindings.activating();
             String html = buildHtml(player, snapshot, state);
-            Object pageBuilder = pageForPlayer.invoke(null, playerRef);
-            pageBuilder = fromHtml.invoke(pageBuilder, html);
+            Object pageBuilder = HyUIBindings.pageForPlayer(playerRef);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, html);
 
             final Player finalPlayer = player;
             final Snapshot finalSnapshot = snapshot;
 
-            addListener.invoke(pageBuilder, "recipeDropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "recipeDropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         String selected = extractEventValue(eventObj);
                         pendingSelections.put(finalPlayer.getPlayerRef(), new SelectionState(selected, null));
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-            addListener.invoke(pageBuilder, "extractButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "extractButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         String selection = getContextValue(ctxObj, "recipeDropdown", "#recipeDropdown.value");
                         ProcessResult result = processExtract(finalPlayer, finalSnapshot, selection);
@@ -240,7 +228,7 @@ public final class ResonantCompendiumUI {
                         finalPlayer.getWorld().execute(() -> openWithSync(finalPlayer));
                     });
 
-            addListener.invoke(pageBuilder, "openCombineButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "openCombineButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         CompendiumContext context = resolveCompendium(finalPlayer);
                         if (context == null) {
@@ -268,8 +256,7 @@ public final class ResonantCompendiumUI {
                         }
                     });
 
-            Method onDismiss = pageBuilderClass.getMethod("onDismiss", java.util.function.BiConsumer.class);
-            pageBuilder = onDismiss.invoke(pageBuilder,
+            pageBuilder = HyUIBindings.onDismiss(pageBuilder,
                     (java.util.function.BiConsumer<Object, Object>) (pageObj, dismissedByPlayer) -> {
                         PlayerRef ref = finalPlayer.getPlayerRef();
                         Object current = openPages.get(ref);
@@ -288,9 +275,9 @@ public final class ResonantCompendiumUI {
                         }
                     });
 
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
             Object store = getStore(playerRef);
-            Object page = openMethod.invoke(pageBuilder, store);
+            Object page = HyUIBindings.open(pageBuilder, store);
             openPages.put(playerRef, page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] ResonantCompendiumUI open error: " + e.getMessage());
@@ -338,18 +325,18 @@ public final class ResonantCompendiumUI {
         boolean canExtract = selected != null;
         String extractDisabledAttr = canExtract ? "" : "disabled=\"true\"";
 
-        String html = loadTemplate();
-        html = html.replace("{{recipeOptions}}", recipeOptions);
-        html = html.replace("{{summaryText}}", escapeHtml(summaryText));
-        html = html.replace("{{recipeName}}", escapeHtml(recipeName));
-        html = html.replace("{{recipeType}}", escapeHtml(recipeType));
-        html = html.replace("{{recipeProgress}}", escapeHtml(recipeProgress));
-        html = html.replace("{{recipeQuantity}}", escapeHtml(recipeQuantity));
-        html = html.replace("{{recipeUsages}}", escapeHtml(recipeUsages));
-        html = html.replace("{{patternPreview}}", patternPreview);
-        html = html.replace("{{statusText}}", escapeHtml(status));
-        html = html.replace("{{extractDisabledAttr}}", extractDisabledAttr);
-        return LangLoader.replaceUiTokens(player, html);
+        Map<String, String> values = new HashMap<>(32);
+        values.put("recipeOptions", recipeOptions);
+        values.put("summaryText", escapeHtml(summaryText));
+        values.put("recipeName", escapeHtml(recipeName));
+        values.put("recipeType", escapeHtml(recipeType));
+        values.put("recipeProgress", escapeHtml(recipeProgress));
+        values.put("recipeQuantity", escapeHtml(recipeQuantity));
+        values.put("recipeUsages", escapeHtml(recipeUsages));
+        values.put("patternPreview", patternPreview);
+        values.put("statusText", escapeHtml(status));
+        values.put("extractDisabledAttr", extractDisabledAttr);
+        return loadTemplate().render(player, values);
     }
 
     private static ProcessResult processExtract(Player player, Snapshot snapshot, String selectionKey) {
@@ -391,6 +378,7 @@ public final class ResonantCompendiumUI {
         ItemContainer hotbar = player.getInventory().getHotbar();
         if (hotbar != null) {
             hotbar.setItemStackForSlot(context.slot, updated);
+            DynamicTooltipUtils.markSlotDirty(player, hotbar, context.slot);
         }
         if (DynamicTooltipUtils.isAvailable()) {
             DynamicTooltipUtils.refreshPlayerTooltips(player.getPlayerRef());
@@ -603,8 +591,8 @@ public final class ResonantCompendiumUI {
         return "slot_bg.png";
     }
 
-    private static String loadTemplate() {
-        return UITemplateUtils.loadTemplate(
+    private static UITemplate loadTemplate() {
+        return UITemplateUtils.loadCompiledTemplate(
                 ResonantCompendiumUI.class,
                 TEMPLATE_PATH,
                 "<div><p>Compendium UI template missing.</p></div>",
@@ -1,6 +1,5 @@
 package irai.mod.reforge.UI;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -16,6 +15,7 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
 import irai.mod.DynamicFloatingDamageFormatter.DamageNumberConfig;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Common.LootInjectionUtils;
@@ -37,9 +37,6 @@ import irai.mod.reforge.Util.LangLoader;
 public final class RuntimeConfigUI {
     private RuntimeConfigUI() {}
 
-    private static final String HYUI_PAGE_BUILDER = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String TEMPLATE_PATH = "Common/UI/Custom/Pages/RuntimeConfigEditor.html";
     private static final String RESET_DEFAULTS_BUTTON = "resetDefaultsButton";
     private static final String REFINE_RECALCULATE_WEIGHTS_BUTTON = "recalculateWeightsButton";
@@ -444,7 +441,7 @@ public final class RuntimeConfigUI {
 
     public static void initialize(ReforgePlugin pluginInstance) {
         plugin = pluginInstance;
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "RuntimeConfigUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("RuntimeConfigUI");
         registerControls();
     }
 
@@ -482,23 +479,9 @@ public final class RuntimeConfigUI {
     private static void openPage(Player player, ViewState state) {
         PlayerRef playerRef = player.getPlayerRef();
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eventBindingClass = Class.forName(HYUI_EVENT_BINDING);
-
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method addListener = pageBuilderClass.getMethod(
-                    "addEventListener",
-                    String.class,
-                    eventBindingClass,
-                    java.util.function.BiConsumer.class);
-            Method onDismiss = pageBuilderClass.getMethod("onDismiss", java.util.function.BiConsumer.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open", Class.forName("com.hypixel.hytale.component.Store"));
-
-            Object activating = eventBindingClass.getField("Activating").get(null);
-            Object valueChanged = eventBindingClass.getField("ValueChanged").get(null);
-            Object validating = eventBindingClass.getField("Validating").get(null);
+            Object activating = HyUIBindings.activating();
+            Object valueChanged = HyUIBindings.valueChanged();
+            Object validating = HyUIBindings.validating();
 
             String html = loadTemplate();
             CategorySection activeCategory = resolveActiveCategory(state);
@@ -511,27 +494,27 @@ public final class RuntimeConfigUI {
             html = html.replace("{{controlsHtml}}", buildControlsHtml(player, activeCategory, activeGroup, state));
             html = LangLoader.replaceUiTokens(player, html);
 
-            Object pageBuilder = pageForPlayer.invoke(null, playerRef);
-            pageBuilder = fromHtml.invoke(pageBuilder, html);
+            Object pageBuilder = HyUIBindings.pageForPlayer(playerRef);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, html);
 
             final Player finalPlayer = player;
             final ViewState finalState = state;
 
-            addListener.invoke(pageBuilder, "reloadAllButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "reloadAllButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReload(finalPlayer, finalState));
-            addListener.invoke(pageBuilder, RESET_DEFAULTS_BUTTON, activating,
+            HyUIBindings.addEventListener(pageBuilder, RESET_DEFAULTS_BUTTON, activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleResetDefaults(finalPlayer, finalState));
-            addListener.invoke(pageBuilder, "applyChangesButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "applyChangesButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) ->
                             handleApplyVisibleInputs(finalPlayer, finalState, activeCategory, activeGroup, ctxObj));
             if (activeGroup != null && "refine_limits".equals(activeGroup.id)) {
-                addListener.invoke(pageBuilder, REFINE_RECALCULATE_WEIGHTS_BUTTON, activating,
+                HyUIBindings.addEventListener(pageBuilder, REFINE_RECALCULATE_WEIGHTS_BUTTON, activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) ->
                                 handleRecalculateRefinementWeights(finalPlayer, finalState, ctxObj));
             }
 
             for (CategorySection category : categories) {
-                addListener.invoke(pageBuilder, category.toggleButtonId, activating,
+                HyUIBindings.addEventListener(pageBuilder, category.toggleButtonId, activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             selectCategory(finalState, category.id);
                             finalState.picker = PickerMode.NONE;
@@ -543,7 +526,7 @@ public final class RuntimeConfigUI {
 
             if (activeCategory != null) {
                 for (ControlGroup group : activeCategory.groups) {
-                    addListener.invoke(pageBuilder, group.buttonId(activeCategory.id), activating,
+                    HyUIBindings.addEventListener(pageBuilder, group.buttonId(activeCategory.id), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             finalState.activeGroupId = group.id;
                             finalState.picker = PickerMode.NONE;
@@ -557,26 +540,26 @@ public final class RuntimeConfigUI {
             for (ControlEntry entry : visibleControls(activeCategory, activeGroup, finalState)) {
                 if (entry instanceof NumericControl control) {
                     if (control.displayKind == DisplayKind.TOGGLE) {
-                        registerToggleListener(pageBuilder, addListener, activating, control, finalPlayer, finalState);
+                        registerToggleListener(pageBuilder, activating, control, finalPlayer, finalState);
                     } else {
-                        registerValueListener(pageBuilder, addListener, valueChanged, control, finalPlayer, finalState);
-                        registerValueListener(pageBuilder, addListener, validating, control, finalPlayer, finalState);
+                        registerValueListener(pageBuilder, valueChanged, control, finalPlayer, finalState);
+                        registerValueListener(pageBuilder, validating, control, finalPlayer, finalState);
                     }
                 } else if (entry instanceof TextControl control) {
-                    registerTextListener(pageBuilder, addListener, valueChanged, control, finalPlayer, finalState);
+                    registerTextListener(pageBuilder, valueChanged, control, finalPlayer, finalState);
                 }
             }
-            registerLoreMappingListeners(pageBuilder, addListener, activating, valueChanged, validating, activeGroup, finalPlayer, finalState);
-            registerLootInjectionListeners(pageBuilder, addListener, activating, valueChanged, validating, activeGroup, finalPlayer, finalState);
-            registerAffinityMappingListeners(pageBuilder, addListener, activating, valueChanged, validating, activeGroup, finalPlayer, finalState);
-            registerReforgeSupportMaterialListeners(pageBuilder, addListener, activating, valueChanged, validating, activeGroup, finalPlayer, finalState);
-            registerResonanceClassMappingListeners(pageBuilder, addListener, activating, valueChanged, activeGroup, finalPlayer, finalState);
+            registerLoreMappingListeners(pageBuilder, activating, valueChanged, validating, activeGroup, finalPlayer, finalState);
+            registerLootInjectionListeners(pageBuilder, activating, valueChanged, validating, activeGroup, finalPlayer, finalState);
+            registerAffinityMappingListeners(pageBuilder, activating, valueChanged, validating, activeGroup, finalPlayer, finalState);
+            registerReforgeSupportMaterialListeners(pageBuilder, activating, valueChanged, validating, activeGroup, finalPlayer, finalState);
+            registerResonanceClassMappingListeners(pageBuilder, activating, valueChanged, activeGroup, finalPlayer, finalState);
 
-            pageBuilder = onDismiss.invoke(pageBuilder,
+            pageBuilder = HyUIBindings.onDismiss(pageBuilder,
                     (java.util.function.BiConsumer<Object, Object>) (pageObj, dismissedByServer) ->
                             openPages.remove(playerRef, pageObj));
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
-            Object page = openMethod.invoke(pageBuilder, getStore(playerRef));
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
+            Object page = HyUIBindings.open(pageBuilder, getStore(playerRef));
             openPages.put(playerRef, page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] RuntimeConfigUI open error: " + e.getMessage());
@@ -586,67 +569,61 @@ public final class RuntimeConfigUI {
 
     private static void registerAdjustmentListener(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             NumericControl control,
             double delta,
             Player player,
             ViewState state) throws Exception {
         String buttonId = buttonIdForDelta(control, delta);
-        addListener.invoke(pageBuilder, buttonId, activating,
+        HyUIBindings.addEventListener(pageBuilder, buttonId, activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAdjustment(player, state, control, delta));
     }
 
     private static void registerValueListener(
             Object pageBuilder,
-            Method addListener,
             Object validating,
             NumericControl control,
             Player player,
             ViewState state) throws Exception {
         String inputId = control.inputElementId();
-        addListener.invoke(pageBuilder, inputId, validating,
+        HyUIBindings.addEventListener(pageBuilder, inputId, validating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleValueChange(player, state, control, eventObj, ctxObj));
     }
 
     private static void registerToggleListener(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             NumericControl control,
             Player player,
             ViewState state) throws Exception {
         String buttonId = control.plusButtonId();
-        addListener.invoke(pageBuilder, buttonId, activating,
+        HyUIBindings.addEventListener(pageBuilder, buttonId, activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleToggle(player, state, control));
     }
 
     private static void registerTextListener(
             Object pageBuilder,
-            Method addListener,
             Object validating,
             TextControl control,
             Player player,
             ViewState state) throws Exception {
         String inputId = control.inputElementId();
-        addListener.invoke(pageBuilder, inputId, validating,
+        HyUIBindings.addEventListener(pageBuilder, inputId, validating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleTextChange(player, state, control, eventObj, ctxObj));
     }
 
     private static void registerDraftValueListener(
             Object pageBuilder,
-            Method addListener,
             Object valueChanged,
             String elementId,
             ViewState state) throws Exception {
-        addListener.invoke(pageBuilder, elementId, valueChanged,
+        HyUIBindings.addEventListener(pageBuilder, elementId, valueChanged,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) ->
                         handleDraftValueChange(state, elementId, eventObj, ctxObj));
     }
 
     private static void registerLoreMappingListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Object valueChanged,
             Object validating,
@@ -659,13 +636,13 @@ public final class RuntimeConfigUI {
         if (GROUP_LORE_MAPPING_GEMS.equals(activeGroup.id)) {
             String[] entries = loreMappingConfig().getGemColorEntries();
             for (String color : LORE_COLORS) {
-                addListener.invoke(pageBuilder, coreColorToggleButtonId(color), activating,
+                HyUIBindings.addEventListener(pageBuilder, coreColorToggleButtonId(color), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleToggleCoreColor(player, state, color));
             }
             for (int i = 0; i < entries.length; i++) {
                 int index = i;
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, gemMappingTokenInputId(index), state);
-                addListener.invoke(pageBuilder, gemMappingTokenInputId(index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, gemMappingTokenInputId(index), state);
+                HyUIBindings.addEventListener(pageBuilder, gemMappingTokenInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleGemMappingTokenChange(player, state, index, eventObj, ctxObj));
             }
             return;
@@ -673,13 +650,13 @@ public final class RuntimeConfigUI {
         if (GROUP_LORE_MAPPING_SPIRITS.equals(activeGroup.id)) {
             for (String color : LORE_COLORS) {
                 List<String> spirits = spiritsForColor(color);
-                addListener.invoke(pageBuilder, spiritMappingAddButtonId(color), activating,
+                HyUIBindings.addEventListener(pageBuilder, spiritMappingAddButtonId(color), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddSpiritMapping(player, state, color));
                 for (int i = 0; i < spirits.size(); i++) {
                     int index = i;
-                    addListener.invoke(pageBuilder, spiritMappingSelectId(color, index), valueChanged,
+                    HyUIBindings.addEventListener(pageBuilder, spiritMappingSelectId(color, index), valueChanged,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleSpiritMappingChange(player, state, color, index, eventObj, ctxObj));
-                    addListener.invoke(pageBuilder, spiritMappingDeleteButtonId(color, index), activating,
+                    HyUIBindings.addEventListener(pageBuilder, spiritMappingDeleteButtonId(color, index), activating,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteSpiritMapping(player, state, color, index));
                 }
             }
@@ -687,31 +664,31 @@ public final class RuntimeConfigUI {
         }
         if (GROUP_LORE_MAPPING_ABILITIES.equals(activeGroup.id)) {
             String[] entries = loreMappingConfig().getAbilityEntries();
-            addListener.invoke(pageBuilder, abilityMappingAddButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, abilityMappingAddButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddAbilityMapping(player, state));
             for (int i = 0; i < entries.length; i++) {
                 int index = i;
                 AbilityEntry ability = parseAbilityEntry(entries[i]);
-                addListener.invoke(pageBuilder, abilitySpiritSelectId(index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, abilitySpiritSelectId(index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAbilitySpiritChange(player, state, index, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, abilityTriggerSelectId(index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, abilityTriggerSelectId(index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAbilityTriggerChange(player, state, index, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, abilityDeleteButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, abilityDeleteButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteAbilityMapping(player, state, index));
                 if (!ability.signature()) {
-                    registerDraftValueListener(pageBuilder, addListener, valueChanged, abilityChanceInputId(index), state);
-                    addListener.invoke(pageBuilder, abilityChanceInputId(index), validating,
+                    registerDraftValueListener(pageBuilder, valueChanged, abilityChanceInputId(index), state);
+                    HyUIBindings.addEventListener(pageBuilder, abilityChanceInputId(index), validating,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAbilityFieldChange(player, state, index, AbilityField.CHANCE, eventObj, ctxObj));
-                    registerDraftValueListener(pageBuilder, addListener, valueChanged, abilityCooldownInputId(index), state);
-                    addListener.invoke(pageBuilder, abilityCooldownInputId(index), validating,
+                    registerDraftValueListener(pageBuilder, valueChanged, abilityCooldownInputId(index), state);
+                    HyUIBindings.addEventListener(pageBuilder, abilityCooldownInputId(index), validating,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAbilityFieldChange(player, state, index, AbilityField.COOLDOWN, eventObj, ctxObj));
-                    addListener.invoke(pageBuilder, abilityEffectSelectId(index), valueChanged,
+                    HyUIBindings.addEventListener(pageBuilder, abilityEffectSelectId(index), valueChanged,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAbilityFieldChange(player, state, index, AbilityField.EFFECT, eventObj, ctxObj));
-                    registerDraftValueListener(pageBuilder, addListener, valueChanged, abilityBaseInputId(index), state);
-                    addListener.invoke(pageBuilder, abilityBaseInputId(index), validating,
+                    registerDraftValueListener(pageBuilder, valueChanged, abilityBaseInputId(index), state);
+                    HyUIBindings.addEventListener(pageBuilder, abilityBaseInputId(index), validating,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAbilityFieldChange(player, state, index, AbilityField.BASE, eventObj, ctxObj));
-                    registerDraftValueListener(pageBuilder, addListener, valueChanged, abilityPerLevelInputId(index), state);
-                    addListener.invoke(pageBuilder, abilityPerLevelInputId(index), validating,
+                    registerDraftValueListener(pageBuilder, valueChanged, abilityPerLevelInputId(index), state);
+                    HyUIBindings.addEventListener(pageBuilder, abilityPerLevelInputId(index), validating,
                             (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAbilityFieldChange(player, state, index, AbilityField.PER_LEVEL, eventObj, ctxObj));
                 }
             }
@@ -719,61 +696,61 @@ public final class RuntimeConfigUI {
         }
         if (GROUP_LORE_STATUS_RULES.equals(activeGroup.id)) {
             List<StatusRuleEntry> reapplyRules = parseStatusRuleEntries(loreConfig().getStatusBossReapplyRules());
-            addListener.invoke(pageBuilder, statusRuleAddButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, statusRuleAddButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddStatusRule(player, state));
             for (int i = 0; i < reapplyRules.size(); i++) {
                 int index = i;
-                addListener.invoke(pageBuilder, statusRuleStatusSelectId(index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, statusRuleStatusSelectId(index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleStatusRuleChange(player, state, index, StatusRuleField.STATUS, eventObj, ctxObj));
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, statusRuleStepInputId(index), state);
-                addListener.invoke(pageBuilder, statusRuleStepInputId(index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, statusRuleStepInputId(index), state);
+                HyUIBindings.addEventListener(pageBuilder, statusRuleStepInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleStatusRuleChange(player, state, index, StatusRuleField.STEP, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, statusRulePatternSelectId(index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, statusRulePatternSelectId(index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleStatusRuleChange(player, state, index, StatusRuleField.PATTERN, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, statusRuleDeleteButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, statusRuleDeleteButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteStatusRule(player, state, index));
             }
 
             List<StatusResistanceEntry> resistances = parseStatusResistanceEntries(loreConfig().getNpcStatusResistanceEntries());
-            addListener.invoke(pageBuilder, statusResistanceAddButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, statusResistanceAddButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddStatusResistance(player, state));
             for (int i = 0; i < resistances.size(); i++) {
                 int index = i;
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, statusResistanceNpcInputId(index), state);
-                addListener.invoke(pageBuilder, statusResistanceNpcInputId(index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, statusResistanceNpcInputId(index), state);
+                HyUIBindings.addEventListener(pageBuilder, statusResistanceNpcInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleStatusResistanceChange(player, state, index, StatusResistanceField.NPC, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, statusResistanceStatusSelectId(index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, statusResistanceStatusSelectId(index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleStatusResistanceChange(player, state, index, StatusResistanceField.STATUS, eventObj, ctxObj));
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, statusResistanceValueInputId(index), state);
-                addListener.invoke(pageBuilder, statusResistanceValueInputId(index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, statusResistanceValueInputId(index), state);
+                HyUIBindings.addEventListener(pageBuilder, statusResistanceValueInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleStatusResistanceChange(player, state, index, StatusResistanceField.VALUE, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, statusResistanceDeleteButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, statusResistanceDeleteButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteStatusResistance(player, state, index));
             }
 
             List<StatusCounterEntry> counters = parseStatusCounterEntries(loreConfig().getStatusBossCounterNpcIds());
-            addListener.invoke(pageBuilder, statusCounterAddButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, statusCounterAddButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddStatusCounter(player, state));
             for (int i = 0; i < counters.size(); i++) {
                 int index = i;
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, statusCounterNpcInputId(index), state);
-                addListener.invoke(pageBuilder, statusCounterNpcInputId(index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, statusCounterNpcInputId(index), state);
+                HyUIBindings.addEventListener(pageBuilder, statusCounterNpcInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleStatusCounterChange(player, state, index, StatusCounterField.NPC, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, statusCounterStatusSelectId(index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, statusCounterStatusSelectId(index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleStatusCounterChange(player, state, index, StatusCounterField.STATUS, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, statusCounterDeleteButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, statusCounterDeleteButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteStatusCounter(player, state, index));
             }
 
             List<String> bleedCounters = mutableList(loreConfig().getBleedBossCounterNpcIds());
-            addListener.invoke(pageBuilder, bleedCounterAddButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, bleedCounterAddButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddBleedCounter(player, state));
             for (int i = 0; i < bleedCounters.size(); i++) {
                 int index = i;
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, bleedCounterNpcInputId(index), state);
-                addListener.invoke(pageBuilder, bleedCounterNpcInputId(index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, bleedCounterNpcInputId(index), state);
+                HyUIBindings.addEventListener(pageBuilder, bleedCounterNpcInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleBleedCounterChange(player, state, index, eventObj, ctxObj));
-                addListener.invoke(pageBuilder, bleedCounterDeleteButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, bleedCounterDeleteButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteBleedCounter(player, state, index));
             }
         }
@@ -781,7 +758,6 @@ public final class RuntimeConfigUI {
 
     private static void registerLootInjectionListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Object valueChanged,
             Object validating,
@@ -792,35 +768,34 @@ public final class RuntimeConfigUI {
             return;
         }
         String[] entries = lootInjectionEntries(activeGroup.id);
-        addListener.invoke(pageBuilder, lootInjectionAddButtonId(activeGroup.id), activating,
+        HyUIBindings.addEventListener(pageBuilder, lootInjectionAddButtonId(activeGroup.id), activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddLootInjectionRule(player, state, activeGroup.id));
         for (int i = 0; i < entries.length; i++) {
             int index = i;
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, lootInjectionItemInputId(activeGroup.id, index), state);
-            addListener.invoke(pageBuilder, lootInjectionItemInputId(activeGroup.id, index), validating,
+            registerDraftValueListener(pageBuilder, valueChanged, lootInjectionItemInputId(activeGroup.id, index), state);
+            HyUIBindings.addEventListener(pageBuilder, lootInjectionItemInputId(activeGroup.id, index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleLootInjectionRuleChange(player, state, activeGroup.id, index, ctxObj));
             if (isNpcLootInjectionGroup(activeGroup.id)) {
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, lootInjectionTargetInputId(activeGroup.id, index), state);
-                addListener.invoke(pageBuilder, lootInjectionTargetInputId(activeGroup.id, index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, lootInjectionTargetInputId(activeGroup.id, index), state);
+                HyUIBindings.addEventListener(pageBuilder, lootInjectionTargetInputId(activeGroup.id, index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleLootInjectionRuleChange(player, state, activeGroup.id, index, ctxObj));
             }
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, lootInjectionChanceInputId(activeGroup.id, index), state);
-            addListener.invoke(pageBuilder, lootInjectionChanceInputId(activeGroup.id, index), validating,
+            registerDraftValueListener(pageBuilder, valueChanged, lootInjectionChanceInputId(activeGroup.id, index), state);
+            HyUIBindings.addEventListener(pageBuilder, lootInjectionChanceInputId(activeGroup.id, index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleLootInjectionRuleChange(player, state, activeGroup.id, index, ctxObj));
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, lootInjectionMinInputId(activeGroup.id, index), state);
-            addListener.invoke(pageBuilder, lootInjectionMinInputId(activeGroup.id, index), validating,
+            registerDraftValueListener(pageBuilder, valueChanged, lootInjectionMinInputId(activeGroup.id, index), state);
+            HyUIBindings.addEventListener(pageBuilder, lootInjectionMinInputId(activeGroup.id, index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleLootInjectionRuleChange(player, state, activeGroup.id, index, ctxObj));
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, lootInjectionMaxInputId(activeGroup.id, index), state);
-            addListener.invoke(pageBuilder, lootInjectionMaxInputId(activeGroup.id, index), validating,
+            registerDraftValueListener(pageBuilder, valueChanged, lootInjectionMaxInputId(activeGroup.id, index), state);
+            HyUIBindings.addEventListener(pageBuilder, lootInjectionMaxInputId(activeGroup.id, index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleLootInjectionRuleChange(player, state, activeGroup.id, index, ctxObj));
-            addListener.invoke(pageBuilder, lootInjectionDeleteButtonId(activeGroup.id, index), activating,
+            HyUIBindings.addEventListener(pageBuilder, lootInjectionDeleteButtonId(activeGroup.id, index), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteLootInjectionRule(player, state, activeGroup.id, index));
         }
     }
 
     private static void registerReforgeSupportMaterialListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Object valueChanged,
             Object validating,
@@ -831,45 +806,44 @@ public final class RuntimeConfigUI {
             return;
         }
         String[] entries = refinementConfig().getSupportMaterialEntries();
-        addListener.invoke(pageBuilder, reforgeSupportAddButtonId(), activating,
+        HyUIBindings.addEventListener(pageBuilder, reforgeSupportAddButtonId(), activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddReforgeSupportMaterial(player, state));
         for (int i = 0; i < entries.length; i++) {
             int index = i;
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportItemInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportBreakInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportDurabilityInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportAntiInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportConsumeInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportUpgradeGuaranteeInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportJackpotGuaranteeInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportUpgradeWeightInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportJackpotWeightInputId(index), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, reforgeSupportDescriptionInputId(index), state);
-            addListener.invoke(pageBuilder, reforgeSupportItemInputId(index), validating,
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportItemInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportBreakInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportDurabilityInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportAntiInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportConsumeInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportUpgradeGuaranteeInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportJackpotGuaranteeInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportUpgradeWeightInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportJackpotWeightInputId(index), state);
+            registerDraftValueListener(pageBuilder, valueChanged, reforgeSupportDescriptionInputId(index), state);
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportItemInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportBreakInputId(index), validating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportBreakInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportDurabilityInputId(index), validating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportDurabilityInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportAntiInputId(index), validating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportAntiInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportUpgradeGuaranteeInputId(index), validating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportUpgradeGuaranteeInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportJackpotGuaranteeInputId(index), validating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportJackpotGuaranteeInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportUpgradeWeightInputId(index), validating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportUpgradeWeightInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportJackpotWeightInputId(index), validating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportJackpotWeightInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportDescriptionInputId(index), validating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportDescriptionInputId(index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleReforgeSupportMaterialChange(player, state, index, ctxObj));
-            addListener.invoke(pageBuilder, reforgeSupportDeleteButtonId(index), activating,
+            HyUIBindings.addEventListener(pageBuilder, reforgeSupportDeleteButtonId(index), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteReforgeSupportMaterial(player, state, index));
         }
     }
 
     private static void registerResonanceClassMappingListeners(Object pageBuilder,
-                                                               Method addListener,
                                                                Object activating,
                                                                Object valueChanged,
                                                                ControlGroup activeGroup,
@@ -882,45 +856,44 @@ public final class RuntimeConfigUI {
             return;
         }
         if (GROUP_CLOCKWORK_AMMO_HINTS.equals(activeGroup.id)) {
-            addListener.invoke(pageBuilder, clockworkAmmoHintAddButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, clockworkAmmoHintAddButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddClockworkAmmoHint(player, state));
             String[] hints = socketConfig().getClockworkAmmoItemHints();
             for (int i = 0; i < hints.length; i++) {
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, clockworkAmmoHintInputId(i), state);
+                registerDraftValueListener(pageBuilder, valueChanged, clockworkAmmoHintInputId(i), state);
                 final int index = i;
-                addListener.invoke(pageBuilder, clockworkAmmoHintDeleteButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, clockworkAmmoHintDeleteButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteClockworkAmmoHint(player, state, index));
             }
             return;
         }
         if (GROUP_RESONANCE_CLASS_HINTS.equals(activeGroup.id)) {
-            addListener.invoke(pageBuilder, resonanceHintAddButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, resonanceHintAddButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddResonanceHint(player, state));
             String[] hints = socketConfig().getResonanceWeaponClassHints();
             for (int i = 0; i < hints.length; i++) {
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, resonanceHintClassInputId(i), state);
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, resonanceHintTokensInputId(i), state);
+                registerDraftValueListener(pageBuilder, valueChanged, resonanceHintClassInputId(i), state);
+                registerDraftValueListener(pageBuilder, valueChanged, resonanceHintTokensInputId(i), state);
                 final int index = i;
-                addListener.invoke(pageBuilder, resonanceHintDeleteButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, resonanceHintDeleteButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteResonanceHint(player, state, index));
             }
             return;
         }
-        addListener.invoke(pageBuilder, resonanceMappingAddButtonId(), activating,
+        HyUIBindings.addEventListener(pageBuilder, resonanceMappingAddButtonId(), activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddResonanceMapping(player, state));
         String[] entries = resonanceMappingDisplayEntries();
         for (int i = 0; i < entries.length; i++) {
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, resonanceMappingNameInputId(i), state);
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, resonanceMappingClassesInputId(i), state);
+            registerDraftValueListener(pageBuilder, valueChanged, resonanceMappingNameInputId(i), state);
+            registerDraftValueListener(pageBuilder, valueChanged, resonanceMappingClassesInputId(i), state);
             final int index = i;
-            addListener.invoke(pageBuilder, resonanceMappingDeleteButtonId(index), activating,
+            HyUIBindings.addEventListener(pageBuilder, resonanceMappingDeleteButtonId(index), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteResonanceMapping(player, state, index));
         }
     }
 
     private static void registerAffinityMappingListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Object valueChanged,
             Object validating,
@@ -932,18 +905,18 @@ public final class RuntimeConfigUI {
         }
         if (isAffinityRuleGroup(activeGroup.id)) {
             String[] entries = affinityRuleEntries(activeGroup.id);
-            addListener.invoke(pageBuilder, affinityRuleAddButtonId(activeGroup.id), activating,
+            HyUIBindings.addEventListener(pageBuilder, affinityRuleAddButtonId(activeGroup.id), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddAffinityRule(player, state, activeGroup.id));
             for (int i = 0; i < entries.length; i++) {
                 int index = i;
-                addListener.invoke(pageBuilder, affinityRuleModeSelectId(activeGroup.id, index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, affinityRuleModeSelectId(activeGroup.id, index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityRuleChange(player, state, activeGroup.id, index, ctxObj));
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, affinityRuleTargetInputId(activeGroup.id, index), state);
-                addListener.invoke(pageBuilder, affinityRuleTargetInputId(activeGroup.id, index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, affinityRuleTargetInputId(activeGroup.id, index), state);
+                HyUIBindings.addEventListener(pageBuilder, affinityRuleTargetInputId(activeGroup.id, index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityRuleChange(player, state, activeGroup.id, index, ctxObj));
-                addListener.invoke(pageBuilder, affinityRuleElementSelectId(activeGroup.id, index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, affinityRuleElementSelectId(activeGroup.id, index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityRuleChange(player, state, activeGroup.id, index, ctxObj));
-                addListener.invoke(pageBuilder, affinityRuleDeleteButtonId(activeGroup.id, index), activating,
+                HyUIBindings.addEventListener(pageBuilder, affinityRuleDeleteButtonId(activeGroup.id, index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteAffinityRule(player, state, activeGroup.id, index));
             }
             return;
@@ -951,49 +924,49 @@ public final class RuntimeConfigUI {
 
         if (GROUP_AFFINITY_SHIELDS.equals(activeGroup.id)) {
             String[] shieldEntries = elementalAffinityConfig().getElementShields();
-            addListener.invoke(pageBuilder, affinityShieldAddButtonId(), activating,
+            HyUIBindings.addEventListener(pageBuilder, affinityShieldAddButtonId(), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddAffinityShield(player, state));
             for (int i = 0; i < shieldEntries.length; i++) {
                 int index = i;
-                addListener.invoke(pageBuilder, affinityShieldModeSelectId(index), valueChanged,
+                HyUIBindings.addEventListener(pageBuilder, affinityShieldModeSelectId(index), valueChanged,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityShieldChange(player, state, index, ctxObj));
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, affinityShieldTargetInputId(index), state);
-                addListener.invoke(pageBuilder, affinityShieldTargetInputId(index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, affinityShieldTargetInputId(index), state);
+                HyUIBindings.addEventListener(pageBuilder, affinityShieldTargetInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityShieldChange(player, state, index, ctxObj));
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, affinityShieldValueInputId(index), state);
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, affinityShieldDelayInputId(index), state);
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, affinityShieldRateInputId(index), state);
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, affinityShieldDurationInputId(index), state);
-                addListener.invoke(pageBuilder, affinityShieldValueInputId(index), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, affinityShieldValueInputId(index), state);
+                registerDraftValueListener(pageBuilder, valueChanged, affinityShieldDelayInputId(index), state);
+                registerDraftValueListener(pageBuilder, valueChanged, affinityShieldRateInputId(index), state);
+                registerDraftValueListener(pageBuilder, valueChanged, affinityShieldDurationInputId(index), state);
+                HyUIBindings.addEventListener(pageBuilder, affinityShieldValueInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityShieldChange(player, state, index, ctxObj));
-                addListener.invoke(pageBuilder, affinityShieldDelayInputId(index), validating,
+                HyUIBindings.addEventListener(pageBuilder, affinityShieldDelayInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityShieldChange(player, state, index, ctxObj));
-                addListener.invoke(pageBuilder, affinityShieldRateInputId(index), validating,
+                HyUIBindings.addEventListener(pageBuilder, affinityShieldRateInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityShieldChange(player, state, index, ctxObj));
-                addListener.invoke(pageBuilder, affinityShieldDurationInputId(index), validating,
+                HyUIBindings.addEventListener(pageBuilder, affinityShieldDurationInputId(index), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityShieldChange(player, state, index, ctxObj));
-                addListener.invoke(pageBuilder, affinityShieldDeleteButtonId(index), activating,
+                HyUIBindings.addEventListener(pageBuilder, affinityShieldDeleteButtonId(index), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteAffinityShield(player, state, index));
             }
             return;
         }
 
         String[] entries = elementalAffinityConfig().getElementMultipliers();
-        addListener.invoke(pageBuilder, affinityMultiplierAddButtonId(activeGroup.id), activating,
+        HyUIBindings.addEventListener(pageBuilder, affinityMultiplierAddButtonId(activeGroup.id), activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAddAffinityMultiplier(player, state, activeGroup.id));
         for (int i = 0; i < entries.length; i++) {
             int index = i;
-            addListener.invoke(pageBuilder, affinityMultiplierModeSelectId(activeGroup.id, index), valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, affinityMultiplierModeSelectId(activeGroup.id, index), valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityMultiplierChange(player, state, activeGroup.id, index, ctxObj));
-            registerDraftValueListener(pageBuilder, addListener, valueChanged, affinityMultiplierTargetInputId(activeGroup.id, index), state);
-            addListener.invoke(pageBuilder, affinityMultiplierTargetInputId(activeGroup.id, index), validating,
+            registerDraftValueListener(pageBuilder, valueChanged, affinityMultiplierTargetInputId(activeGroup.id, index), state);
+            HyUIBindings.addEventListener(pageBuilder, affinityMultiplierTargetInputId(activeGroup.id, index), validating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityMultiplierChange(player, state, activeGroup.id, index, ctxObj));
             for (String element : AFFINITY_ELEMENTS) {
-                registerDraftValueListener(pageBuilder, addListener, valueChanged, affinityMultiplierElementInputId(activeGroup.id, index, element), state);
-                addListener.invoke(pageBuilder, affinityMultiplierElementInputId(activeGroup.id, index, element), validating,
+                registerDraftValueListener(pageBuilder, valueChanged, affinityMultiplierElementInputId(activeGroup.id, index, element), state);
+                HyUIBindings.addEventListener(pageBuilder, affinityMultiplierElementInputId(activeGroup.id, index, element), validating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleAffinityMultiplierChange(player, state, activeGroup.id, index, ctxObj));
             }
-            addListener.invoke(pageBuilder, affinityMultiplierDeleteButtonId(activeGroup.id, index), activating,
+            HyUIBindings.addEventListener(pageBuilder, affinityMultiplierDeleteButtonId(activeGroup.id, index), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> handleDeleteAffinityMultiplier(player, state, activeGroup.id, index));
         }
     }
@@ -3,6 +3,7 @@ package irai.mod.reforge.UI;
 import java.nio.charset.StandardCharsets;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
@@ -19,15 +20,19 @@ import com.hypixel.hytale.protocol.packets.interface_.CustomPageLifetime;
 import com.hypixel.hytale.server.core.asset.type.item.config.Item;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.ecs.InventoryChangeEvent;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
+import irai.mod.reforge.Common.UI.BenchInventoryTracker;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIEditUtils;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UIInventoryUtils;
 import irai.mod.reforge.Common.UI.UIItemUtils;
 import irai.mod.reforge.Common.UI.UISocketVisualUtils;
+import irai.mod.reforge.Common.UI.UITemplate;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Config.SFXConfig;
 import irai.mod.reforge.Interactions.ReforgeEquip;
@@ -49,9 +54,6 @@ import irai.mod.reforge.Util.LangLoader;
  */
 public class SocketBenchUI {
 
-    private static final String HYUI_PAGE_BUILDER  = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN        = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String HYUI_TEMPLATE_PROCESSOR = "au.ellie.hyui.html.TemplateProcessor";
     private static final String SOCKET_BENCH_TEMPLATE_PATH = "Common/UI/Custom/Pages/SocketBench.html";
 
@@ -65,6 +67,7 @@ public class SocketBenchUI {
     private static final Map<PlayerRef, Object> openPages = new ConcurrentHashMap<>();
     private static final Map<PlayerRef, SelectionState> pendingSelections = new ConcurrentHashMap<>();
     private static final Map<PlayerRef, Boolean> processingPlayers = new ConcurrentHashMap<>();
+    private static final BenchInventoryTracker<SlotRow> inventoryTracker = new BenchInventoryTracker<>();
     private static final ScheduledExecutorService processScheduler = Executors.newSingleThreadScheduledExecutor();
     private static final int PROCESS_DURATION_MS = 1000;
     private static final int PROGRESS_TICK_MS = 200;
@@ -130,6 +133,9 @@ public class SocketBenchUI {
         final String displayName;
         final String selectionKey;
         final List<SourceRef> sources;
+        private SocketData socketData;
+        private LoreSocketData loreSocketData;
+        private boolean loreDecoded;
 
         Entry(ContainerKind containerKind, short slot, ItemStack item, String itemId, int quantity, String displayName) {
             this(containerKind, slot, item, itemId, quantity, displayName,
@@ -148,6 +154,41 @@ public class SocketBenchUI {
             this.selectionKey = selectionKey;
             this.sources = sources == null ? List.of() : sources;
         }
+
+        /** Decoded once per row; defaults when the item has no socket metadata. Read-only. */
+        SocketData socketData() {
+            if (socketData == null) {
+                SocketData decoded = SocketManager.getSocketData(item);
+                socketData = decoded != null
+                        ? decoded
+                        : SocketData.fromDefaults(ReforgeEquip.isWeapon(item) ? "weapon" : "armor");
+            }
+            return socketData;
+        }
+
+        /** Decoded once per row; null when the item has no lore sockets. Read-only. */
+        LoreSocketData loreSocketData() {
+            if (!loreDecoded) {
+                loreSocketData = LoreSocketManager.getLoreSocketData(item);
+                loreDecoded = true;
+            }
+            return loreSocketData;
+        }
+    }
+
+    /** A tracked inventory slot and the bench lists it belongs to. */
+    private static final class SlotRow {
+        final Entry entry;
+        final boolean equipment;
+        final boolean puncher;
+        final boolean support;
+
+        SlotRow(Entry entry, boolean equipment, boolean puncher, boolean support) {
+            this.entry = entry;
+            this.equipment = equipment;
+            this.puncher = puncher;
+            this.support = support;
+        }
     }
 
     private static final class BenchSnapshot {
@@ -181,7 +222,7 @@ public class SocketBenchUI {
     }
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "SocketBenchUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("SocketBenchUI");
     }
 
     public static boolean isAvailable() {
@@ -213,52 +254,46 @@ public class SocketBenchUI {
         List<Entry> rawPunchers = new ArrayList<>();
         List<Entry> rawSupports = new ArrayList<>();
 
-        collectFromContainer(player, player.getInventory().getHotbar(), ContainerKind.HOTBAR, equipments, rawPunchers, rawSupports);
-        collectFromContainer(player, player.getInventory().getStorage(), ContainerKind.STORAGE, equipments, rawPunchers, rawSupports);
+        List<SlotRow> rows = inventoryTracker.rows(
+                player.getPlayerRef(),
+                (containerIndex, slot, stack) -> createRow(player, containerIndex == 0 ? ContainerKind.HOTBAR : ContainerKind.STORAGE, slot, stack),
+                player.getInventory().getHotbar(),
+                player.getInventory().getStorage());
+        for (SlotRow row : rows) {
+            if (row.equipment) {
+                // Only scanning hotbar/storage so equipped armor is naturally excluded.
+                equipments.add(row.entry);
+            }
+            if (row.puncher) {
+                rawPunchers.add(row.entry);
+            }
+            if (row.support) {
+                rawSupports.add(row.entry);
+            }
+        }
         return new BenchSnapshot(
                 equipments,
                 mergeConsumableEntries(rawPunchers, "puncher"),
                 mergeConsumableEntries(rawSupports, "support"));
     }
 
-    private static void collectFromContainer(
-            Player player,
-            ItemContainer container,
-            ContainerKind kind,
-            List<Entry> equipments,
-            List<Entry> punchers,
-            List<Entry> supports) {
-        if (container == null) {
-            return;
+    private static SlotRow createRow(Player player, ContainerKind kind, short slot, ItemStack stack) {
+        String itemId = stack.getItemId();
+        if (itemId == null || itemId.isEmpty()) {
+            return null;
         }
-
-        for (short slot = 0; slot < container.getCapacity(); slot++) {
-            ItemStack stack = container.getItemStack(slot);
-            if (stack == null || stack.isEmpty()) {
-                continue;
-            }
-
-            String itemId = stack.getItemId();
-            if (itemId == null || itemId.isEmpty()) {
-                continue;
-            }
-
-            String name = UIItemUtils.displayNameOrItemId(stack, player);
-
-            Entry entry = new Entry(kind, slot, stack, itemId, stack.getQuantity(), name);
-
-            if (ReforgeEquip.isWeapon(stack) || ReforgeEquip.isArmor(stack)) {
-                // Only scanning hotbar/storage so equipped armor is naturally excluded.
-                equipments.add(entry);
-            }
-
-            if (PUNCHER_ITEM_ID.equalsIgnoreCase(itemId)) {
-                punchers.add(entry);
-            }
-            if (SocketManager.isSupportMaterial(itemId)) {
-                supports.add(entry);
-            }
+        boolean equipment = ReforgeEquip.isWeapon(stack) || ReforgeEquip.isArmor(stack);
+        boolean puncher = PUNCHER_ITEM_ID.equalsIgnoreCase(itemId);
+        boolean support = SocketManager.isSupportMaterial(itemId);
+        if (!equipment && !puncher && !support) {
+            return null;
         }
+        String name = UIItemUtils.displayNameOrItemId(stack, player);
+        return new SlotRow(new Entry(kind, slot, stack, itemId, stack.getQuantity(), name), equipment, puncher, support);
+    }
+
+    public static void onInventoryChange(InventoryChangeEvent event) {
+        inventoryTracker.onInventoryChange(event);
     }
 
     private static List<Entry> mergeConsumableEntries(List<Entry> entries, String keyPrefix) {
@@ -303,37 +338,23 @@ public class SocketBenchUI {
         PlayerRef playerRef = player.getPlayerRef();
 
         try {
-            Class<?> pageBuilderClass = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eventBindingClass = Class.forName(HYUI_EVENT_BINDING);
-            Method pageForPlayer = pageBuilderClass.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pageBuilderClass.getMethod("fromHtml", String.class);
-            Method addListener = pageBuilderClass.getMethod(
-                    "addEventListener",
-                    String.class,
-                    eventBindingClass,
-                    java.util.function.BiConsumer.class);
-            Method enablePersistentElementEdits = pageBuilderClass.getMethod("enablePersistentElementEdits", boolean.class);
-            Method enableAsyncImageLoading = pageBuilderClass.getMethod("enableAsyncImageLoading", boolean.class);
-            Method withLifetime = pageBuilderClass.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pageBuilderClass.getMethod("open", Class.forName("com.hypixel.hytale.component.Store"));
-
-            Object valueChanged = eventBindingClass.getField("ValueChanged").get(null);
-            Object activating = eventBindingClass.getField("Activating").get(null);
+            Object valueChanged = HyUIBindings.valueChanged();
+            Object activating = HyUIBindings.activating();
 
             SelectionState effectiveState = normalizeSelectionState(snapshot, selectionState);
-            Object pageBuilder = pageForPlayer.invoke(null, playerRef);
-            pageBuilder = enablePersistentElementEdits.invoke(pageBuilder, true);
-            pageBuilder = enableAsyncImageLoading.invoke(pageBuilder, true);
+            Object pageBuilder = HyUIBindings.pageForPlayer(playerRef);
+            pageBuilder = HyUIBindings.enablePersistentElementEdits(pageBuilder, true);
+            pageBuilder = HyUIBindings.enableAsyncImageLoading(pageBuilder, true);
             String html = buildHtml(player, snapshot, effectiveState);
-            pageBuilder = fromHtml.invoke(pageBuilder, html);
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, html);
 
             final Player finalPlayer = player;
             final BenchSnapshot finalSnapshot = snapshot;
 
-            registerEquipmentCardListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, effectiveState);
-            registerMaterialCardListeners(pageBuilder, addListener, activating, finalPlayer, finalSnapshot, effectiveState);
+            registerEquipmentCardListeners(pageBuilder, activating, finalPlayer, finalSnapshot, effectiveState);
+            registerMaterialCardListeners(pageBuilder, activating, finalPlayer, finalSnapshot, effectiveState);
 
-            addListener.invoke(pageBuilder, "processButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "processButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         try {
                             if (Boolean.TRUE.equals(processingPlayers.get(finalPlayer.getPlayerRef()))) {
@@ -399,6 +420,7 @@ public class SocketBenchUI {
                                                     result.progressValue,
                                                     false));
                                     processingPlayers.remove(finalPlayer.getPlayerRef());
+                                    inventoryTracker.invalidate(finalPlayer.getPlayerRef());
                                     BenchSnapshot refreshedSnapshot = collectSnapshot(finalPlayer);
                                     SelectionState completedState = normalizeSelectionState(refreshedSnapshot,
                                             pendingSelections.get(finalPlayer.getPlayerRef()));
@@ -422,14 +444,13 @@ public class SocketBenchUI {
                         }
                     });
 
-            Method onDismiss = pageBuilderClass.getMethod("onDismiss", java.util.function.BiConsumer.class);
-            pageBuilder = onDismiss.invoke(pageBuilder,
+            pageBuilder = HyUIBindings.onDismiss(pageBuilder,
                     (java.util.function.BiConsumer<Object, Object>) (pageObj, dismissedByPlayer) ->
                             cleanupDismissedPage(playerRef, pageObj));
 
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
             Object store = getStore(playerRef);
-            Object page = openMethod.invoke(pageBuilder, store);
+            Object page = HyUIBindings.open(pageBuilder, store);
             openPages.put(playerRef, page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] SocketBenchUI open error: " + e.getMessage());
@@ -439,7 +460,6 @@ public class SocketBenchUI {
 
     private static void registerEquipmentCardListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Player player,
             BenchSnapshot snapshot,
@@ -453,7 +473,7 @@ public class SocketBenchUI {
                 continue;
             }
             final String equipmentKey = keyOf(equipment);
-            addListener.invoke(pageBuilder, equipmentCardButtonId(i), activating,
+            HyUIBindings.addEventListener(pageBuilder, equipmentCardButtonId(i), activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         try {
                             SelectionState current = currentSelection(player, snapshot, state);
@@ -478,7 +498,6 @@ public class SocketBenchUI {
 
     private static void registerMaterialCardListeners(
             Object pageBuilder,
-            Method addListener,
             Object activating,
             Player player,
             BenchSnapshot snapshot,
@@ -490,7 +509,7 @@ public class SocketBenchUI {
                     continue;
                 }
                 final String puncherKey = keyOf(puncher);
-                addListener.invoke(pageBuilder, puncherCardButtonId(i), activating,
+                HyUIBindings.addEventListener(pageBuilder, puncherCardButtonId(i), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             SelectionState current = currentSelection(player, snapshot, state);
                             applySelectionEdits(ctxObj, player, snapshot, current,
@@ -505,7 +524,7 @@ public class SocketBenchUI {
             }
         }
 
-        addListener.invoke(pageBuilder, supportNoneCardButtonId(), activating,
+        HyUIBindings.addEventListener(pageBuilder, supportNoneCardButtonId(), activating,
                 (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                     SelectionState current = currentSelection(player, snapshot, state);
                     applySelectionEdits(ctxObj, player, snapshot, current,
@@ -525,7 +544,7 @@ public class SocketBenchUI {
                     continue;
                 }
                 final String supportKey = keyOf(support);
-                addListener.invoke(pageBuilder, supportCardButtonId(i), activating,
+                HyUIBindings.addEventListener(pageBuilder, supportCardButtonId(i), activating,
                         (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                             SelectionState current = currentSelection(player, snapshot, state);
                             String nextSupportKeys = toggleSupportKey(current != null ? current.supportKey : null, supportKey);
@@ -678,10 +697,7 @@ public class SocketBenchUI {
             }
             return;
         }
-        SocketData socketData = SocketManager.getSocketData(equipment.item);
-        if (socketData == null) {
-            socketData = SocketData.fromDefaults(ReforgeEquip.isWeapon(equipment.item) ? "weapon" : "armor");
-        }
+        SocketData socketData = equipment.socketData();
         int punchedSockets = Math.max(0, socketData.getCurrentSocketCount());
         List<Socket> sockets = socketData.getSockets();
         String brokenIconName = resolveBrokenSocketIconName();
@@ -706,7 +722,7 @@ public class SocketBenchUI {
     private static void updateEquipmentCardLoreSocketVisuals(Object ctxObj, Entry equipment, int equipmentIndex) {
         LoreSocketData data = equipment == null || equipment.item == null || equipment.item.isEmpty()
                 ? null
-                : LoreSocketManager.getLoreSocketData(equipment.item);
+                : equipment.loreSocketData();
         int count = data == null ? 0 : Math.max(0, data.getSocketCount());
         String baseIcon = UITemplateUtils.resolveCustomUiAsset("GemSlotEmpty.png", "GemSlotEmpty.png");
         for (int i = 0; i < 3; i++) {
@@ -866,10 +882,7 @@ public class SocketBenchUI {
     private static void updateEssenceSocketPreviewVisuals(Object ctxObj, Entry equipment) {
         SocketData socketData = null;
         if (equipment != null && equipment.item != null && !equipment.item.isEmpty()) {
-            socketData = SocketManager.getSocketData(equipment.item);
-            if (socketData == null) {
-                socketData = SocketData.fromDefaults(ReforgeEquip.isWeapon(equipment.item) ? "weapon" : "armor");
-            }
+            socketData = equipment.socketData();
         }
 
         int punchedSockets = socketData == null ? 0 : Math.max(0, socketData.getCurrentSocketCount());
@@ -902,7 +915,7 @@ public class SocketBenchUI {
     private static void updateLoreSocketPreviewVisuals(Object ctxObj, Entry equipment) {
         LoreSocketData loreData = equipment == null || equipment.item == null || equipment.item.isEmpty()
                 ? null
-                : LoreSocketManager.getLoreSocketData(equipment.item);
+                : equipment.loreSocketData();
         int count = loreData == null ? 0 : Math.max(0, loreData.getSocketCount());
         boolean hasLoreSockets = count > 0;
         safeEditVisible(ctxObj, "loreSocketSectionInner", hasLoreSockets);
@@ -927,11 +940,8 @@ public class SocketBenchUI {
     }
 
     private static String buildRuntimeTemplate(Player player) {
-        String template = loadTemplate(SOCKET_BENCH_TEMPLATE_PATH);
-        if (template == null || template.isBlank()) {
-            return null;
-        }
-        return LangLoader.replaceUiTokens(player, template);
+        UITemplate template = loadCompiledTemplate(SOCKET_BENCH_TEMPLATE_PATH);
+        return template == null ? null : template.render(player);
     }
 
     private static Object createTemplateProcessor(
@@ -1170,22 +1180,22 @@ public class SocketBenchUI {
         String loreSocketSection = buildLoreSocketSection(player, selectedEquipment);
         StatPreview defaultStats = calculatePreview(snapshot, selectedEquipmentKey, selectedSupportKey);
 
-        String template = loadTemplate(SOCKET_BENCH_TEMPLATE_PATH);
-	        if (template != null && !template.isBlank()) {
-            String html = template
-                    .replace("{{equipmentCards}}", buildEquipmentCardsHtml(player, snapshot.equipments, selectedEquipmentKey))
-                    .replace("{{puncherCards}}", puncherCards)
-                    .replace("{{supportCards}}", supportCards)
-                    .replace("{{successText}}", escapeHtml(defaultStats.successText))
-                    .replace("{{breakText}}", escapeHtml(defaultStats.breakText))
-                    .replace("{{socketsText}}", escapeHtml(defaultStats.socketsText))
-                    .replace("{{socketIcons}}", socketIcons)
-                    .replace("{{loreSocketSection}}", loreSocketSection)
-                    .replace("{{progressValue}}", String.valueOf(progressValue))
-                    .replace("{{statusText}}", escapeHtml(statusText))
-                    .replace("{{processDisabledAttr}}", processDisabledAttr)
-                    .replace("{{metadataText}}", "");
-            return LangLoader.replaceUiTokens(player, html);
+        UITemplate template = loadCompiledTemplate(SOCKET_BENCH_TEMPLATE_PATH);
+        if (template != null) {
+            Map<String, String> values = new HashMap<>(24);
+            values.put("equipmentCards", buildEquipmentCardsHtml(player, snapshot.equipments, selectedEquipmentKey));
+            values.put("puncherCards", puncherCards);
+            values.put("supportCards", supportCards);
+            values.put("successText", escapeHtml(defaultStats.successText));
+            values.put("breakText", escapeHtml(defaultStats.breakText));
+            values.put("socketsText", escapeHtml(defaultStats.socketsText));
+            values.put("socketIcons", socketIcons);
+            values.put("loreSocketSection", loreSocketSection);
+            values.put("progressValue", String.valueOf(progressValue));
+            values.put("statusText", escapeHtml(statusText));
+            values.put("processDisabledAttr", processDisabledAttr);
+            values.put("metadataText", "");
+            return template.render(player, values);
         }
 
         return LangLoader.replaceUiTokens(player,
@@ -1243,6 +1253,14 @@ public class SocketBenchUI {
 	        return UITemplateUtils.loadTemplate(SocketBenchUI.class, path, null, "SocketBenchUI");
 	    }
 
+    private static UITemplate loadCompiledTemplate(String path) {
+        String template = loadTemplate(path);
+        if (template == null || template.isBlank()) {
+            return null;
+        }
+        return UITemplateUtils.loadCompiledTemplate(SocketBenchUI.class, path, null, "SocketBenchUI");
+    }
+
     private static String buildEquipmentCardsHtml(Player player, List<Entry> equipments, String selectedKey) {
         if (equipments == null || equipments.isEmpty()) {
             return "<p style=\"text-align:center;\">" + escapeHtml(LangLoader.getUITranslation(player, "ui.socket_bench.option_no_equipment")) + "</p>";
@@ -1331,15 +1349,12 @@ public class SocketBenchUI {
         if (equipment == null || equipment.item == null || equipment.item.isEmpty()) {
             return false;
         }
-        LoreSocketData data = LoreSocketManager.getLoreSocketData(equipment.item);
+        LoreSocketData data = equipment.loreSocketData();
         return data != null && data.getSocketCount() > 0;
     }
 
     private static void appendCompactSocketPreviewHtml(StringBuilder sb, Entry equipment, int equipmentIndex) {
-        SocketData socketData = SocketManager.getSocketData(equipment.item);
-        if (socketData == null) {
-            socketData = SocketData.fromDefaults(ReforgeEquip.isWeapon(equipment.item) ? "weapon" : "armor");
-        }
+        SocketData socketData = equipment.socketData();
         int punchedSockets = Math.max(0, socketData.getCurrentSocketCount());
         List<Socket> sockets = socketData.getSockets();
         String brokenIconName = resolveBrokenSocketIconName();
@@ -1379,7 +1394,7 @@ public class SocketBenchUI {
     }
 
     private static void appendCompactLoreSocketPreviewHtml(StringBuilder sb, Entry equipment, int equipmentIndex) {
-        LoreSocketData data = LoreSocketManager.getLoreSocketData(equipment.item);
+        LoreSocketData data = equipment.loreSocketData();
         int count = data == null ? 0 : Math.max(0, data.getSocketCount());
         String baseIcon = UITemplateUtils.resolveCustomUiAsset("GemSlotEmpty.png", "GemSlotEmpty.png");
         for (int i = 0; i < 3; i++) {
@@ -1797,10 +1812,7 @@ public class SocketBenchUI {
         StringBuilder sb = new StringBuilder();
         sb.append(entry.displayName).append("\n");
 
-        SocketData socketData = SocketManager.getSocketData(entry.item);
-        if (socketData == null) {
-            socketData = SocketData.fromDefaults(ReforgeEquip.isWeapon(entry.item) ? "weapon" : "armor");
-        }
+        SocketData socketData = entry.socketData();
         int filled = 0;
         int broken = 0;
         int empty = 0;
@@ -1839,7 +1851,7 @@ public class SocketBenchUI {
             sb.append("\n");
         }
 
-        LoreSocketData loreData = LoreSocketManager.getLoreSocketData(entry.item);
+        LoreSocketData loreData = entry.loreSocketData();
         if (loreData != null && loreData.getSocketCount() > 0) {
             sb.append("Lore sockets: ").append(loreData.getSocketCount()).append("\n");
             for (int i = 0; i < loreData.getSocketCount(); i++) {
@@ -1876,10 +1888,7 @@ public class SocketBenchUI {
         if (equipment == null || equipment.item == null || equipment.item.isEmpty()) {
             return false;
         }
-        SocketData socketData = SocketManager.getSocketData(equipment.item);
-        if (socketData == null) {
-            socketData = SocketData.fromDefaults(ReforgeEquip.isWeapon(equipment.item) ? "weapon" : "armor");
-        }
+        SocketData socketData = equipment.socketData();
         int max = socketData.getMaxSockets();
         return max > 0 && socketData.getCurrentSocketCount() >= max;
     }
@@ -1887,10 +1896,7 @@ public class SocketBenchUI {
     private static String buildSocketIconsHtml(Player player, Entry equipment) {
         SocketData socketData = null;
         if (equipment != null && equipment.item != null && !equipment.item.isEmpty()) {
-            socketData = SocketManager.getSocketData(equipment.item);
-            if (socketData == null) {
-                socketData = SocketData.fromDefaults(ReforgeEquip.isWeapon(equipment.item) ? "weapon" : "armor");
-            }
+            socketData = equipment.socketData();
         }
 
         int punchedSockets = socketData == null ? 0 : Math.max(0, socketData.getCurrentSocketCount());
@@ -1950,7 +1956,7 @@ public class SocketBenchUI {
     private static String buildLoreSocketIconsHtml(Player player, Entry equipment) {
         LoreSocketData data = equipment == null || equipment.item == null || equipment.item.isEmpty()
                 ? null
-                : LoreSocketManager.getLoreSocketData(equipment.item);
+                : equipment.loreSocketData();
         int count = data == null ? 0 : Math.max(0, data.getSocketCount());
 
         String baseIcon = UITemplateUtils.resolveCustomUiAsset("GemSlotEmpty.png", "GemSlotEmpty.png");
@@ -2530,13 +2536,10 @@ public class SocketBenchUI {
             return new StatPreview("0%", "0%", "0 / 0");
         }
 
-        SocketData data = SocketManager.getSocketData(equipment.item);
-        if (data == null) {
-            data = SocketData.fromDefaults(ReforgeEquip.isWeapon(equipment.item) ? "weapon" : "armor");
-        }
+        SocketData data = equipment.socketData();
 
         if (hasSupportMaterial(supports, SupportMaterial.GHASTLY_ESSENCE)) {
-            LoreSocketData loreData = LoreSocketManager.getLoreSocketData(equipment.item);
+            LoreSocketData loreData = equipment.loreSocketData();
             int loreCurrent = 0;
             if (loreData != null) {
                 loreCurrent = Math.max(loreData.getSocketCount(), loreData.getMaxSockets());
@@ -2610,6 +2613,7 @@ public class SocketBenchUI {
         openPages.remove(playerRef);
         pendingSelections.remove(playerRef);
         processingPlayers.remove(playerRef);
+        inventoryTracker.forget(playerRef);
     }
 
     private static void closePageIfOpen(PlayerRef playerRef) {
@@ -1,12 +1,12 @@
 package irai.mod.reforge.UI;
 
 import java.io.InputStream;
-import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -23,9 +23,11 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 
 import irai.mod.reforge.Common.ItemTypeUtils;
 import irai.mod.reforge.Common.ToolAbilityUtils;
+import irai.mod.reforge.Common.UI.HyUIBindings;
 import irai.mod.reforge.Common.UI.HyUIReflectionUtils;
 import irai.mod.reforge.Common.UI.UIInventoryUtils;
 import irai.mod.reforge.Common.UI.UIItemUtils;
+import irai.mod.reforge.Common.UI.UITemplate;
 import irai.mod.reforge.Common.UI.UITemplateUtils;
 import irai.mod.reforge.Util.DynamicTooltipUtils;
 import irai.mod.reforge.Util.LangLoader;
@@ -33,9 +35,6 @@ import irai.mod.reforge.Util.LangLoader;
 public final class ToolPartsUI {
     private ToolPartsUI() {}
 
-    private static final String HYUI_PAGE_BUILDER = "au.ellie.hyui.builders.PageBuilder";
-    private static final String HYUI_PLUGIN = "au.ellie.hyui.HyUIPlugin";
-    private static final String HYUI_EVENT_BINDING = "com.hypixel.hytale.protocol.packets.interface_.CustomUIEventBindingType";
     private static final String TEMPLATE_PATH = "Common/UI/Custom/Pages/ToolPartsBench.html";
 
     private static final String META_PARTS_TYPE = "SocketReforge.Parts.ProfileType";
@@ -106,7 +105,7 @@ public final class ToolPartsUI {
     }
 
     public static void initialize() {
-        hyuiAvailable = HyUIReflectionUtils.detectHyUi(HYUI_PAGE_BUILDER, HYUI_PLUGIN, "ToolPartsUI");
+        hyuiAvailable = HyUIReflectionUtils.detectHyUi("ToolPartsUI");
     }
 
     public static void open(Player player) {
@@ -199,21 +198,13 @@ public final class ToolPartsUI {
     private static boolean containsAny(String v, String... terms) { for (String t : terms) if (v.contains(t)) return true; return false; }
     private static void openPage(Player player, Snapshot snap, SelectionState state, String statusText) {
         try {
-            Class<?> pb = Class.forName(HYUI_PAGE_BUILDER);
-            Class<?> eb = Class.forName(HYUI_EVENT_BINDING);
-            Method pageForPlayer = pb.getMethod("pageForPlayer", PlayerRef.class);
-            Method fromHtml = pb.getMethod("fromHtml", String.class);
-            Method addListener = pb.getMethod("addEventListener", String.class, eb, java.util.function.BiConsumer.class);
-            Method withLifetime = pb.getMethod("withLifetime", CustomPageLifetime.class);
-            Method openMethod = pb.getMethod("open", Class.forName("com.hypixel.hytale.component.Store"));
-
-            Object valueChanged = eb.getField("ValueChanged").get(null);
-            Object activating = eb.getField("Activating").get(null);
-            Object pageBuilder = pageForPlayer.invoke(null, player.getPlayerRef());
-            pageBuilder = fromHtml.invoke(pageBuilder, buildHtml(player, snap, state, statusText));
+            Object valueChanged = HyUIBindings.valueChanged();
+            Object activating = HyUIBindings.activating();
+            Object pageBuilder = HyUIBindings.pageForPlayer(player.getPlayerRef());
+            pageBuilder = HyUIBindings.fromHtml(pageBuilder, buildHtml(player, snap, state, statusText));
 
             final Player fp = player;
-            addListener.invoke(pageBuilder, "equipmentDropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "equipmentDropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         PlayerRef ref = fp.getPlayerRef();
                         pendingSelections.put(ref, new SelectionState(extractEventValue(eventObj), null, null, null));
@@ -221,7 +212,7 @@ public final class ToolPartsUI {
                         fp.getWorld().execute(() -> openWithSync(fp));
                     });
 
-            addListener.invoke(pageBuilder, "slot1Dropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "slot1Dropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         PlayerRef ref = fp.getPlayerRef();
                         SelectionState base = stateFromContext(ctxObj, pendingSelections.get(ref));
@@ -230,7 +221,7 @@ public final class ToolPartsUI {
                         fp.getWorld().execute(() -> openWithSync(fp));
                     });
 
-            addListener.invoke(pageBuilder, "slot2Dropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "slot2Dropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         PlayerRef ref = fp.getPlayerRef();
                         SelectionState base = stateFromContext(ctxObj, pendingSelections.get(ref));
@@ -239,7 +230,7 @@ public final class ToolPartsUI {
                         fp.getWorld().execute(() -> openWithSync(fp));
                     });
 
-            addListener.invoke(pageBuilder, "slot3Dropdown", valueChanged,
+            HyUIBindings.addEventListener(pageBuilder, "slot3Dropdown", valueChanged,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         PlayerRef ref = fp.getPlayerRef();
                         SelectionState base = stateFromContext(ctxObj, pendingSelections.get(ref));
@@ -248,7 +239,7 @@ public final class ToolPartsUI {
                         fp.getWorld().execute(() -> openWithSync(fp));
                     });
 
-            addListener.invoke(pageBuilder, "applyPartsButton", activating,
+            HyUIBindings.addEventListener(pageBuilder, "applyPartsButton", activating,
                     (java.util.function.BiConsumer<Object, Object>) (eventObj, ctxObj) -> {
                         PlayerRef ref = fp.getPlayerRef();
                         SelectionState current = stateFromContext(ctxObj, pendingSelections.get(ref));
@@ -258,8 +249,8 @@ public final class ToolPartsUI {
                         fp.getWorld().execute(() -> openWithSync(fp));
                     });
 
-            pageBuilder = withLifetime.invoke(pageBuilder, CustomPageLifetime.CanDismiss);
-            Object page = openMethod.invoke(pageBuilder, getStore(player.getPlayerRef()));
+            pageBuilder = HyUIBindings.withLifetime(pageBuilder, CustomPageLifetime.CanDismiss);
+            Object page = HyUIBindings.open(pageBuilder, getStore(player.getPlayerRef()));
             openPages.put(player.getPlayerRef(), page);
         } catch (Exception e) {
             System.err.println("[SocketReforge] ToolPartsUI open error: " + e.getMessage());
@@ -292,27 +283,27 @@ public final class ToolPartsUI {
         int t2 = m2 != null ? m2.tier : clampTier(eq.part2Tier);
         int t3 = m3 != null ? m3.tier : clampTier(eq.part3Tier);
 
-        String tpl = LangLoader.replaceUiTokens(player, loadTemplate());
-        return tpl
-                .replace("{{equipmentOptions}}", equipmentOptions(snap.equipments, equipmentKeyOf(eq)))
-                .replace("{{toolName}}", esc(eq.name))
-                .replace("{{toolType}}", esc(toolKindLabel(player, p.kind)))
-                .replace("{{slot1Label}}", esc(slotLabel(player, p.slot1)))
-                .replace("{{slot2Label}}", esc(slotLabel(player, p.slot2)))
-                .replace("{{slot3Label}}", esc(slotLabel(player, p.slot3)))
-                .replace("{{slot1Image}}", "hilt.png")
-                .replace("{{slot2Image}}", "guard.png")
-                .replace("{{slot3Image}}", "blade.png")
-                .replace("{{slot1Options}}", materialOptions(player, snap.materials, p.slot1.kind, s1))
-                .replace("{{slot2Options}}", materialOptions(player, snap.materials, p.slot2.kind, s2))
-                .replace("{{slot3Options}}", materialOptions(player, snap.materials, p.slot3.kind, s3))
-                .replace("{{slot1Tier}}", formatTier(player, t1))
-                .replace("{{slot2Tier}}", formatTier(player, t2))
-                .replace("{{slot3Tier}}", formatTier(player, t3))
-                .replace("{{slot1Color}}", tierColor(t1))
-                .replace("{{slot2Color}}", tierColor(t2))
-                .replace("{{slot3Color}}", tierColor(t3))
-                .replace("{{statusText}}", esc(statusText));
+        Map<String, String> values = new HashMap<>(32);
+        values.put("equipmentOptions", equipmentOptions(snap.equipments, equipmentKeyOf(eq)));
+        values.put("toolName", esc(eq.name));
+        values.put("toolType", esc(toolKindLabel(player, p.kind)));
+        values.put("slot1Label", esc(slotLabel(player, p.slot1)));
+        values.put("slot2Label", esc(slotLabel(player, p.slot2)));
+        values.put("slot3Label", esc(slotLabel(player, p.slot3)));
+        values.put("slot1Image", "hilt.png");
+        values.put("slot2Image", "guard.png");
+        values.put("slot3Image", "blade.png");
+        values.put("slot1Options", materialOptions(player, snap.materials, p.slot1.kind, s1));
+        values.put("slot2Options", materialOptions(player, snap.materials, p.slot2.kind, s2));
+        values.put("slot3Options", materialOptions(player, snap.materials, p.slot3.kind, s3));
+        values.put("slot1Tier", formatTier(player, t1));
+        values.put("slot2Tier", formatTier(player, t2));
+        values.put("slot3Tier", formatTier(player, t3));
+        values.put("slot1Color", tierColor(t1));
+        values.put("slot2Color", tierColor(t2));
+        values.put("slot3Color", tierColor(t3));
+        values.put("statusText", esc(statusText));
+        return loadTemplate().render(player, values);
     }
 
     private static String resolveSlotSelectionKey(List<MaterialEntry> mats, MaterialKind kind, String selectedKey, String existingItemId) {
@@ -483,8 +474,8 @@ public final class ToolPartsUI {
         return UIInventoryUtils.consumeItem(p, m.container == ContainerKind.HOTBAR, m.slot, m.itemId, amount);
     }
 
-    private static String loadTemplate() {
-        return UITemplateUtils.loadTemplate(
+    private static UITemplate loadTemplate() {
+        return UITemplateUtils.loadCompiledTemplate(
                 ToolPartsUI.class,
                 TEMPLATE_PATH,
                 "<div><p>Tool parts UI template missing.</p></div>",
@@ -8,8 +8,6 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
@@ -97,32 +95,7 @@ public class DynamicTooltipUtils {
     private static final String LORE_SOCKET_EMPTY = "{ }";
     private static final String LORE_SOCKET_LOCKED = "{ø}";
 
-    // Parts metadata keys
-    private static final String META_PARTS_PROFILE_TYPE = "SocketReforge.Parts.ProfileType";
-    private static final String META_PARTS_WEAPON_TYPE = "SocketReforge.Parts.WeaponType";
-    private static final String META_PART1_TIER = "SocketReforge.Parts.Part1Tier";
-    private static final String META_PART2_TIER = "SocketReforge.Parts.Part2Tier";
-    private static final String META_PART3_TIER = "SocketReforge.Parts.Part3Tier";
-    private static final String META_PARTS_DAMAGE_MULTIPLIER = "SocketReforge.Parts.DamageMultiplier";
-    private static final String META_ESSENCE_EFFECT_LINES = "SocketReforge.Essence.EffectLines";
     private static final String BLOOD_PACT_PREFIX = "Blood Pact ";
-    private static final String META_RESONANCE_NAME = "SocketReforge.Resonance.Name";
-    private static final String META_RESONANCE_EFFECT = "SocketReforge.Resonance.Effect";
-    private static final String META_RESONANCE_QUALITY = "SocketReforge.Resonance.Quality";
-    private static final String META_RESONANCE_RECIPE_NAME = "SocketReforge.Resonance.RecipeName";
-    private static final String META_RECIPE_PATTERN = "SocketReforge.Recipe.Pattern";
-    private static final String META_RECIPE_TYPE = "SocketReforge.Recipe.Type";
-    private static final String META_RECIPE_USAGES = "SocketReforge.Recipe.Usages";
-    private static final String META_RECIPE_NAME = "SocketReforge.Recipe.ResonanceName";
-    private static final String META_REFINEMENT_NAME_KEY = "SocketReforge.Refinement.DisplayNameKey";
-    private static final String META_LORE_SOCKET_MAX = "SocketReforge.Lore.Socket.Max";
-    private static final String META_LORE_SOCKET_VALUES = "SocketReforge.Lore.Socket.Values";
-    private static final String META_LORE_SOCKET_SPIRITS = "SocketReforge.Lore.Socket.Spirits";
-    private static final String META_LORE_SOCKET_LEVELS = "SocketReforge.Lore.Socket.Levels";
-    private static final String META_LORE_SOCKET_FEED_TIERS = "SocketReforge.Lore.Socket.FeedTiers";
-    private static final String META_LORE_SOCKET_COLORS = "SocketReforge.Lore.Socket.Colors";
-    private static final String META_LORE_SOCKET_LOCKED = "SocketReforge.Lore.Socket.Locked";
-    private static final String META_LORE_SOCKET_EFFECTS = "SocketReforge.Lore.Socket.Effects";
     
     // ==================== Reforge Level ====================
     
@@ -180,8 +153,17 @@ public class DynamicTooltipUtils {
     private static Class<?> tooltipDataClass = null;
     private static Class<?> tooltipProviderClass = null;
     
-    // Tooltip data storage - maps item ID + metadata -> tooltip lines
-    private static final ConcurrentMap<String, String[]> tooltipDataCache = new ConcurrentHashMap<>();
+    // Tooltip data storage - maps hash(item ID, metadata) -> tooltip lines
+    private static final int TOOLTIP_CACHE_MAX_ENTRIES = 4096;
+    private static final long TOOLTIP_CACHE_MAX_BYTES = 8L * 1024L * 1024L;
+    private static final TooltipPayloadCache<String[]> tooltipDataCache = new TooltipPayloadCache<>(
+            TOOLTIP_CACHE_MAX_ENTRIES, TOOLTIP_CACHE_MAX_BYTES, DynamicTooltipUtils::estimateLinesBytes);
+    // Built payloads - maps hash(item ID, metadata, language) -> payload (or NO_TOOLTIP)
+    private static final TooltipPayloadCache<TooltipPayload> payloadCache = new TooltipPayloadCache<>(
+            TOOLTIP_CACHE_MAX_ENTRIES, TOOLTIP_CACHE_MAX_BYTES, TooltipPayload::estimateBytes);
+    private static volatile int payloadCacheLangGeneration = -1;
+    // Dirty slots and queued full sweeps, drained by NativeTooltipRefreshSystem
+    private static final TooltipRefreshTracker refreshTracker = new TooltipRefreshTracker();
     
     private static Logger logger = DEFAULT_LOGGER;
     private static boolean debugMode = false;
@@ -204,6 +186,20 @@ public class DynamicTooltipUtils {
 
     public static void setRefinementConfig(RefinementConfig config) {
         refinementConfig = config;
+        invalidateTooltipCache();
+    }
+
+    /**
+     * Drops every cached tooltip payload. Call after any config that feeds tooltip text
+     * is (re)loaded; language reloads are picked up automatically.
+     */
+    public static void invalidateTooltipCache() {
+        payloadCache.clear();
+    }
+
+    /** Hit/miss/eviction counters for the built-payload cache, for diagnostics. */
+    public static String getTooltipCacheStats() {
+        return payloadCache.describe();
     }
     
     private static void initialize() {
@@ -328,7 +324,7 @@ public class DynamicTooltipUtils {
         if (!isAvailable) return;
         if (!isValidItemId(baseItemId)) return;
         
-        String cacheKey = baseItemId + "::" + (metadata != null ? metadata : "");
+        long cacheKey = TooltipPayloadCache.key(baseItemId, metadata, null);
         
         if (lines == null || lines.length == 0) {
             tooltipDataCache.remove(cacheKey);
@@ -342,7 +338,7 @@ public class DynamicTooltipUtils {
         }
         
         if (debugMode) {
-            logger.info("Registered tooltip for " + cacheKey + " with " + lines.length + " lines");
+            logger.info("Registered tooltip for " + baseItemId + "::" + metadata + " with " + lines.length + " lines");
         }
     }
     
@@ -395,8 +391,7 @@ public class DynamicTooltipUtils {
         
         String line = COLOR_CYAN + "Sockets: " + COLOR_WHITE + socketDisplay.toString();
         
-        String cacheKey = baseItemId + "::" + (metadata != null ? metadata : "");
-        String[] existing = tooltipDataCache.get(cacheKey);
+        String[] existing = tooltipDataCache.get(TooltipPayloadCache.key(baseItemId, metadata, null));
         
         String[] combined;
         if (existing != null) {
@@ -440,8 +435,7 @@ public class DynamicTooltipUtils {
         
         String line = "<color is=\"#55FFFF\">Sockets: </color>" + socketDisplay.toString();
         
-        String cacheKey = baseItemId + "::" + (metadata != null ? metadata : "");
-        String[] existing = tooltipDataCache.get(cacheKey);
+        String[] existing = tooltipDataCache.get(TooltipPayloadCache.key(baseItemId, metadata, null));
         
         String[] combined;
         if (existing != null) {
@@ -463,8 +457,7 @@ public class DynamicTooltipUtils {
         
         String line1 = COLOR_PURPLE + "Essence: " + COLOR_WHITE + essenceName;
         
-        String cacheKey = baseItemId + "::" + (metadata != null ? metadata : "");
-        String[] existing = tooltipDataCache.get(cacheKey);
+        String[] existing = tooltipDataCache.get(TooltipPayloadCache.key(baseItemId, metadata, null));
         
         int startIdx = existing != null ? existing.length : 0;
         String[] lines;
@@ -491,16 +484,14 @@ public class DynamicTooltipUtils {
      * Clear tooltip for an item
      */
     public static void clearTooltip(String baseItemId, String metadata) {
-        String cacheKey = baseItemId + "::" + (metadata != null ? metadata : "");
-        tooltipDataCache.remove(cacheKey);
+        tooltipDataCache.remove(TooltipPayloadCache.key(baseItemId, metadata, null));
     }
     
     /**
      * Get cached tooltip data
      */
     public static String[] getTooltipData(String baseItemId, String metadata) {
-        String cacheKey = baseItemId + "::" + (metadata != null ? metadata : "");
-        return tooltipDataCache.get(cacheKey);
+        return tooltipDataCache.get(TooltipPayloadCache.key(baseItemId, metadata, null));
     }
 
     // ==================== Provider Implementation ====================
@@ -609,7 +600,10 @@ public class DynamicTooltipUtils {
         }
     }
 
-    private static final class TooltipPayload {
+    static final class TooltipPayload {
+        // Cached marker for items that produce no tooltip, so misses are not rebuilt either.
+        private static final TooltipPayload NO_TOOLTIP = new TooltipPayload(null, false, List.of());
+
         private final String displayName;
         private final boolean shouldOverrideName;
         private final List<String> lines;
@@ -619,27 +613,62 @@ public class DynamicTooltipUtils {
             this.shouldOverrideName = shouldOverrideName;
             this.lines = lines;
         }
+
+        private long estimateBytes() {
+            long bytes = 64L + (displayName == null ? 0L : 40L + 2L * displayName.length());
+            for (String line : lines) {
+                bytes += line == null ? 8L : 48L + 2L * line.length();
+            }
+            return bytes;
+        }
+    }
+
+    private static long estimateLinesBytes(String[] lines) {
+        long bytes = 16L;
+        for (String line : lines) {
+            bytes += line == null ? 8L : 48L + 2L * line.length();
+        }
+        return bytes;
     }
     
     /**
-     * Build native tooltip payload for an item from its serialized metadata.
+     * Returns the tooltip payload for (itemId, metadata, language), building it at most once
+     * per cache generation. Payloads depend only on the serialized metadata, loaded config/lang
+     * data and whether a live stack was supplied, so identical requests are a lookup.
      */
-    private static TooltipPayload buildTooltipPayload(String itemId, String metadata, String locale) {
-        return buildTooltipPayload(null, itemId, metadata, locale);
+    private static TooltipPayload cachedTooltipPayload(ItemStack item, String itemId, String metadata, String locale) {
+        int langGeneration = LangLoader.getReloadGeneration();
+        if (payloadCacheLangGeneration != langGeneration) {
+            payloadCache.clear();
+            payloadCacheLangGeneration = langGeneration;
+        }
+        long cacheKey = TooltipPayloadCache.key(itemId, metadata, resolveLangCode(locale), item != null);
+        TooltipPayload cached = payloadCache.get(cacheKey);
+        if (cached != null) {
+            return cached == TooltipPayload.NO_TOOLTIP ? null : cached;
+        }
+        TooltipPayload payload = buildTooltipPayload(item, itemId, metadata, locale);
+        payloadCache.put(cacheKey, payload == null ? TooltipPayload.NO_TOOLTIP : payload);
+        return payload;
     }
 
-    private static TooltipPayload buildTooltipPayload(ItemStack item, String itemId, String metadata, String locale) {
+    /**
+     * Build native tooltip payload for an item from its serialized metadata.
+     * Package-private so the uncached build can be benchmarked; {@code item} may be null.
+     */
+    static TooltipPayload buildTooltipPayload(ItemStack item, String itemId, String metadata, String locale) {
         String langCode = resolveLangCode(locale);
         String normalizedItemId = normalizeItemId(itemId);
         if (normalizedItemId != null && !normalizedItemId.isBlank()) {
             itemId = normalizedItemId;
         }
-        // Parse the JSON metadata to extract reforge level
-        int reforgeLevel = extractReforgeLevel(metadata);
+        // Tokenize the metadata once; every field below reads from the view.
+        TooltipMetadataView meta = TooltipMetadataView.parse(metadata);
+        int reforgeLevel = meta.reforgeLevel;
         
         // Parse socket data from metadata
-        int socketMax = extractSocketMax(metadata);
-        int socketFilled = extractSocketFilled(metadata);
+        int socketMax = meta.socketMax;
+        int socketFilled = meta.socketFilled();
         SocketData itemSocketData = item == null ? null : SocketManager.getSocketData(item);
         if (itemSocketData != null) {
             socketMax = Math.max(socketMax, itemSocketData.getMaxSockets());
@@ -647,48 +676,38 @@ public class DynamicTooltipUtils {
         }
 
         // Parse modular parts metadata
-        String partsProfileType = extractStringValue(metadata, META_PARTS_PROFILE_TYPE);
-        if (partsProfileType == null || partsProfileType.isBlank()) {
-            partsProfileType = extractStringValue(metadata, META_PARTS_WEAPON_TYPE);
-        }
-        int part1Tier = extractIntValue(metadata, META_PART1_TIER);
-        int part2Tier = extractIntValue(metadata, META_PART2_TIER);
-        int part3Tier = extractIntValue(metadata, META_PART3_TIER);
-        double partsDamageMultiplier = extractDoubleValue(metadata, META_PARTS_DAMAGE_MULTIPLIER, 1.0);
-        int softcoreBreakCount = extractIntValue(metadata, MetadataKeys.REFINEMENT_SOFTCORE_BREAKS);
-        double softcoreStatMultiplier = extractDoubleValue(
-                metadata,
-                MetadataKeys.REFINEMENT_SOFTCORE_STAT_MULTIPLIER,
+        String partsProfileType = meta.partsProfileType;
+        int part1Tier = meta.part1Tier;
+        int part2Tier = meta.part2Tier;
+        int part3Tier = meta.part3Tier;
+        double partsDamageMultiplier = meta.partsDamageMultiplier;
+        int softcoreBreakCount = meta.softcoreBreaks;
+        double softcoreStatMultiplier = meta.softcoreStatMultiplier(
                 resolveSoftcoreStatMultiplierFromBreaks(softcoreBreakCount));
         softcoreStatMultiplier = clampSoftcoreStatMultiplier(softcoreStatMultiplier);
-        String resonanceName = extractStringValue(metadata, META_RESONANCE_NAME);
-        String resonanceRecipeName = extractStringValue(metadata, META_RESONANCE_RECIPE_NAME);
-        String resonanceEffect = extractStringValue(metadata, META_RESONANCE_EFFECT);
-        String resonanceQuality = extractStringValue(metadata, META_RESONANCE_QUALITY);
+        String resonanceName = meta.resonanceName;
+        String resonanceRecipeName = meta.resonanceRecipeName;
+        String resonanceEffect = meta.resonanceEffect;
+        String resonanceQuality = meta.resonanceQuality;
         boolean hasResonance = resonanceName != null && !resonanceName.isBlank()
                 && resonanceRecipeName != null && !resonanceRecipeName.isBlank();
-        String recipePattern = extractStringValue(metadata, META_RECIPE_PATTERN);
+        String recipePattern = meta.recipePattern;
         boolean hasRecipePattern = recipePattern != null && !recipePattern.isBlank();
-        String recipeType = extractStringValue(metadata, META_RECIPE_TYPE);
+        String recipeType = meta.recipeType;
         boolean hasRecipeType = recipeType != null && !recipeType.isBlank();
-        String recipeUsages = extractStringValue(metadata, META_RECIPE_USAGES);
+        String recipeUsages = meta.recipeUsages;
         boolean hasRecipeUsages = recipeUsages != null && !recipeUsages.isBlank();
-        String recipeName = extractStringValue(metadata, META_RECIPE_NAME);
+        String recipeName = meta.recipeName;
         boolean hasRecipeName = recipeName != null && !recipeName.isBlank();
-        Legacy smithyLegacy = SmithyLegacyUtils.fromId(extractStringValue(metadata, MetadataKeys.SMITHY_LEGACY));
+        Legacy smithyLegacy = SmithyLegacyUtils.fromId(meta.smithyLegacy);
         Bonuses smithyBonuses = SmithyLegacyUtils.fromMetadata(
                 smithyLegacy,
-                extractDoubleValue(metadata, MetadataKeys.SMITHY_LEGACY_BREAK_MULTIPLIER,
-                        smithyLegacy == null ? 1.0 : smithyLegacy.breakMultiplier()),
-                extractDoubleValue(metadata, MetadataKeys.SMITHY_LEGACY_DEGRADE_MULTIPLIER,
-                        smithyLegacy == null ? 1.0 : smithyLegacy.degradeMultiplier()),
-                extractDoubleValue(metadata, MetadataKeys.SMITHY_LEGACY_SAME_MULTIPLIER,
-                        smithyLegacy == null ? 1.0 : smithyLegacy.sameMultiplier()),
-                extractDoubleValue(metadata, MetadataKeys.SMITHY_LEGACY_UPGRADE_MULTIPLIER,
-                        smithyLegacy == null ? 1.0 : smithyLegacy.upgradeMultiplier()),
-                extractDoubleValue(metadata, MetadataKeys.SMITHY_LEGACY_JACKPOT_MULTIPLIER,
-                        smithyLegacy == null ? 1.0 : smithyLegacy.jackpotMultiplier()));
-        String baseItemId = extractBaseItemId(metadata);
+                meta.smithyBreakMultiplier(smithyLegacy == null ? 1.0 : smithyLegacy.breakMultiplier()),
+                meta.smithyDegradeMultiplier(smithyLegacy == null ? 1.0 : smithyLegacy.degradeMultiplier()),
+                meta.smithySameMultiplier(smithyLegacy == null ? 1.0 : smithyLegacy.sameMultiplier()),
+                meta.smithyUpgradeMultiplier(smithyLegacy == null ? 1.0 : smithyLegacy.upgradeMultiplier()),
+                meta.smithyJackpotMultiplier(smithyLegacy == null ? 1.0 : smithyLegacy.jackpotMultiplier()));
+        String baseItemId = meta.baseItemId;
         String effectiveItemId = baseItemId != null && !baseItemId.isBlank() ? baseItemId : itemId;
         boolean isSmithyChest = SmithyLegacyUtils.isSmithyChestId(effectiveItemId);
         boolean isEquipmentItem = ItemTypeUtils.isEquipmentItemId(effectiveItemId);
@@ -703,9 +722,9 @@ public class DynamicTooltipUtils {
         }
         
         List<String> tooltipLines = new ArrayList<>();
-        String metadataName = extractDisplayName(metadata);
-        String metadataNameKey = extractDisplayNameKey(metadata);
-        boolean shouldBloodPrefix = shouldPrefixBloodPact(itemId, baseItemId, metadata);
+        String metadataName = meta.displayName;
+        String metadataNameKey = meta.displayNameKey;
+        boolean shouldBloodPrefix = shouldPrefixBloodPact(itemId, baseItemId, meta);
         boolean hasStoredName = metadataName != null && !metadataName.isBlank();
         boolean hasStoredKey = metadataNameKey != null && !metadataNameKey.isBlank();
 
@@ -792,8 +811,8 @@ public class DynamicTooltipUtils {
             shouldOverrideName = true;
         }
         boolean isArmorItem = isArmorType(baseItemId, itemId);
-        String[] socketEntries = extractSocketEntries(metadata);
-        String[] socketMutations = extractSocketMutations(metadata);
+        String[] socketEntries = meta.socketEntries;
+        String[] socketMutations = meta.socketMutations;
         SocketData parsedSocketData = itemSocketData != null
                 ? itemSocketData
                 : buildSocketDataFromMetadata(socketMax, socketFilled, socketEntries, socketMutations);
@@ -944,14 +963,14 @@ public class DynamicTooltipUtils {
             tooltipLines.add(socketLine);
         }
 
-        int loreMax = extractLoreSocketMax(metadata);
-        String[] loreEntries = extractLoreSocketEntries(metadata);
-        String[] loreColors = extractLoreSocketColors(metadata);
-        String[] loreSpirits = extractLoreSocketSpirits(metadata);
-        String[] loreEffects = extractLoreSocketEffects(metadata);
-        int[] loreLevels = extractLoreSocketLevels(metadata);
-        int[] loreFeedTiers = extractLoreSocketFeedTiers(metadata);
-        int[] loreLocked = extractLoreSocketLocked(metadata);
+        int loreMax = meta.loreSocketMax;
+        String[] loreEntries = meta.loreEntries;
+        String[] loreColors = meta.loreColors;
+        String[] loreSpirits = meta.loreSpirits;
+        String[] loreEffects = meta.loreEffects;
+        int[] loreLevels = meta.loreLevels;
+        int[] loreFeedTiers = meta.loreFeedTiers;
+        int[] loreLocked = meta.loreLocked;
         int loreCount = maxArrayLength(loreEntries, loreColors, loreSpirits, loreEffects, loreLevels, loreFeedTiers, loreLocked);
         if (loreMax > loreCount) {
             loreCount = loreMax;
@@ -1120,7 +1139,7 @@ public class DynamicTooltipUtils {
      * Get TooltipData for legacy DynamicTooltipsLib integrations using reflection.
      */
     private static Object getTooltipDataForItem(String itemId, String metadata, String locale) {
-        TooltipPayload payload = buildTooltipPayload(itemId, metadata, locale);
+        TooltipPayload payload = cachedTooltipPayload(null, itemId, metadata, locale);
         if (payload == null) {
             return null;
         }
@@ -1184,127 +1203,9 @@ public class DynamicTooltipUtils {
         }
     }
     
-    /**
-     * Extract reforge level from JSON metadata
-     */
-    private static int extractReforgeLevel(String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
-            return 0;
-        }
-        
-        // Look for "SocketReforge.Refinement.Level": X pattern
-        try {
-            // Simple string search for the level value
-            String searchKey = "SocketReforge.Refinement.Level";
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) {
-                // Try alternate key
-                searchKey = "Refinement.Level";
-                keyIndex = metadata.indexOf(searchKey);
-            }
-            if (keyIndex < 0) {
-                return 0;
-            }
-            
-            // Find the colon after the key
-            int colonIndex = metadata.indexOf(":", keyIndex);
-            if (colonIndex < 0) {
-                return 0;
-            }
-            
-            // Find the number after the colon
-            int numberStart = colonIndex + 1;
-            while (numberStart < metadata.length() && 
-                   (metadata.charAt(numberStart) == ' ' || metadata.charAt(numberStart) == '"')) {
-                numberStart++;
-            }
-            
-            // Parse the number
-            int numberEnd = numberStart;
-            while (numberEnd < metadata.length() && 
-                   Character.isDigit(metadata.charAt(numberEnd))) {
-                numberEnd++;
-            }
-            
-            if (numberEnd > numberStart) {
-                return Integer.parseInt(metadata.substring(numberStart, numberEnd));
-            }
-        } catch (Exception e) {
-            if (debugMode) {
-                logger.warn("Error parsing metadata: " + e.getMessage());
-            }
-        }
-        
-        return 0;
-    }
     
-    /**
-     * Extract socket max count from JSON metadata
-     */
-    private static int extractSocketMax(String metadata) {
-        return extractFirstIntegerNearKey(metadata, "SocketReforge.Socket.Max");
-    }
     
-    /**
-     * Extract socket count from Values array in JSON metadata
-     */
-    private static int extractSocketFilled(String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
-            return 0;
-        }
-        
-        try {
-            String searchKey = "SocketReforge.Socket.Values";
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) {
-                return 0;
-            }
-            
-            // Find the array bracket
-            int bracketStart = metadata.indexOf("[", keyIndex);
-            int bracketEnd = metadata.indexOf("]", bracketStart);
-            if (bracketStart < 0 || bracketEnd < 0) {
-                return 0;
-            }
-            
-            String arrayContent = metadata.substring(bracketStart + 1, bracketEnd);
-            // Count entries (both empty and non-empty)
-            if (arrayContent.trim().isEmpty()) {
-                return 0;
-            }
-            String[] entries = arrayContent.split(",");
-            return entries.length;
-        } catch (Exception e) {
-            // Ignore
-        }
-        
-        return 0;
-    }
 
-    private static String[] extractSocketEntries(String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
-            return new String[0];
-        }
-        try {
-            String searchKey = "SocketReforge.Socket.Values";
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) {
-                return new String[0];
-            }
-            int bracketStart = metadata.indexOf("[", keyIndex);
-            int bracketEnd = metadata.indexOf("]", bracketStart);
-            if (bracketStart < 0 || bracketEnd < 0) {
-                return new String[0];
-            }
-            String arrayContent = metadata.substring(bracketStart + 1, bracketEnd);
-            if (arrayContent.trim().isEmpty()) {
-                return new String[0];
-            }
-            return arrayContent.split(",");
-        } catch (Exception e) {
-            return new String[0];
-        }
-    }
 
     private static String normalizeSocketEntry(String entry) {
         if (entry == null) {
@@ -1345,10 +1246,6 @@ public class DynamicTooltipUtils {
         return false;
     }
 
-    private static String[] extractSocketMutations(String metadata) {
-        String[] values = extractStringArray(metadata, MetadataKeys.SOCKET_MUTATIONS);
-        return values == null ? new String[0] : values;
-    }
 
     private static SocketData buildSocketDataFromMetadata(int socketMax, int socketFilled, String[] socketEntries, String[] socketMutations) {
         int resolvedMax = Math.max(0, socketMax);
@@ -1380,118 +1277,9 @@ public class DynamicTooltipUtils {
         return socketData;
     }
 
-    /**
-     * Extracts the first positive integer near a metadata key.
-     * Works with both plain values and BSON extended JSON wrappers.
-     */
-    private static int extractFirstIntegerNearKey(String metadata, String key) {
-        if (metadata == null || metadata.isEmpty() || key == null || key.isEmpty()) {
-            return 0;
-        }
-        int keyIndex = metadata.indexOf(key);
-        if (keyIndex < 0) {
-            return 0;
-        }
-
-        int start = Math.min(metadata.length(), keyIndex + key.length());
-        int end = Math.min(metadata.length(), start + 96);
-        for (int i = start; i < end; i++) {
-            char c = metadata.charAt(i);
-            if (!Character.isDigit(c)) {
-                continue;
-            }
-            int numberEnd = i + 1;
-            while (numberEnd < end && Character.isDigit(metadata.charAt(numberEnd))) {
-                numberEnd++;
-            }
-            try {
-                return Integer.parseInt(metadata.substring(i, numberEnd));
-            } catch (Exception ignored) {
-                return 0;
-            }
-        }
-        return 0;
-    }
 
-    private static String[] extractEssenceEffectLines(String metadata) {
-        return extractStringArray(metadata, META_ESSENCE_EFFECT_LINES);
-    }
     
-    /**
-     * Extract essence effects from JSON metadata
-     */
-    private static String[] extractEssenceEffects(String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
-            return null;
-        }
-        
-        try {
-            String searchKey = "SocketReforge.Essence.Effects";
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) {
-                return null;
-            }
-            
-            int bracketStart = metadata.indexOf("[", keyIndex);
-            int bracketEnd = metadata.indexOf("]", bracketStart);
-            if (bracketStart < 0 || bracketEnd < 0) {
-                return null;
-            }
-            
-            String arrayContent = metadata.substring(bracketStart + 1, bracketEnd);
-            if (arrayContent.trim().isEmpty()) {
-                return null;
-            }
-            
-            String[] entries = arrayContent.split(",");
-            for (int i = 0; i < entries.length; i++) {
-                entries[i] = entries[i].trim().replace("\"", "");
-            }
-            return entries;
-        } catch (Exception e) {
-            // Ignore
-        }
-        
-        return null;
-    }
     
-    /**
-     * Extract essence tiers from JSON metadata
-     */
-    private static String[] extractEssenceTiers(String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
-            return null;
-        }
-        
-        try {
-            String searchKey = "SocketReforge.Essence.TierMap";
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) {
-                return null;
-            }
-            
-            int bracketStart = metadata.indexOf("[", keyIndex);
-            int bracketEnd = metadata.indexOf("]", bracketStart);
-            if (bracketStart < 0 || bracketEnd < 0) {
-                return null;
-            }
-            
-            String arrayContent = metadata.substring(bracketStart + 1, bracketEnd);
-            if (arrayContent.trim().isEmpty()) {
-                return null;
-            }
-            
-            String[] entries = arrayContent.split(",");
-            for (int i = 0; i < entries.length; i++) {
-                entries[i] = entries[i].trim().replace("\"", "");
-            }
-            return entries;
-        } catch (Exception e) {
-            // Ignore
-        }
-        
-        return null;
-    }
 
     private static String buildFallbackDisplayName(String baseItemId, String itemId, String langCode) {
         String source = baseItemId;
@@ -1521,8 +1309,8 @@ public class DynamicTooltipUtils {
         return null;
     }
 
-    private static boolean shouldPrefixBloodPact(String itemId, String baseItemId, String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
+    private static boolean shouldPrefixBloodPact(String itemId, String baseItemId, TooltipMetadataView meta) {
+        if (meta == null || meta == TooltipMetadataView.EMPTY) {
             return false;
         }
         String base = baseItemId;
@@ -1534,10 +1322,10 @@ public class DynamicTooltipUtils {
         }
 
         SocketData socketData = buildSocketDataFromMetadata(
-                extractSocketMax(metadata),
-                extractSocketFilled(metadata),
-                extractSocketEntries(metadata),
-                extractSocketMutations(metadata));
+                meta.socketMax,
+                meta.socketFilled(),
+                meta.socketEntries,
+                meta.socketMutations);
         if (socketData != null) {
             Integer rawVoidTier = SocketManager.calculateRawConsecutiveTiers(socketData).get(Essence.Type.VOID);
             if (rawVoidTier != null && rawVoidTier >= 5) {
@@ -1545,11 +1333,8 @@ public class DynamicTooltipUtils {
             }
         }
 
-        String[] effects = extractEssenceEffects(metadata);
-        String[] tiers = extractEssenceTiers(metadata);
-        if (effects == null || tiers == null) {
-            return false;
-        }
+        String[] effects = meta.essenceEffects;
+        String[] tiers = meta.essenceTiers;
         int count = Math.min(effects.length, tiers.length);
         for (int i = 0; i < count; i++) {
             String effect = effects[i];
@@ -1588,84 +1373,8 @@ public class DynamicTooltipUtils {
         }
     }
 
-    private static String[] extractStringArray(String metadata, String searchKey) {
-        try {
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) return null;
-            int bracketStart = metadata.indexOf("[", keyIndex);
-            int bracketEnd = metadata.indexOf("]", bracketStart);
-            if (bracketStart < 0 || bracketEnd < 0) return null;
-            String arrayContent = metadata.substring(bracketStart + 1, bracketEnd);
-            if (arrayContent.trim().isEmpty()) return new String[0];
-            String[] entries = arrayContent.split(",");
-            for (int i = 0; i < entries.length; i++) {
-                entries[i] = entries[i].trim().replace("\"", "");
-            }
-            return entries;
-        } catch (Exception e) {
-            return null;
-        }
-    }
     
-    /**
-     * Extract base item ID from JSON metadata
-     */
-    private static String extractBaseItemId(String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
-            return null;
-        }
-        
-        try {
-            String searchKey = "SocketReforge.Refinement.BaseItemId";
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) return null;
-            
-            int colonIndex = metadata.indexOf(":", keyIndex);
-            if (colonIndex < 0) return null;
-            
-            // Find the opening quote
-            int quoteStart = metadata.indexOf("\"", colonIndex);
-            if (quoteStart < 0) return null;
-            
-            // Find the closing quote
-            int quoteEnd = metadata.indexOf("\"", quoteStart + 1);
-            if (quoteEnd < 0) return null;
-            
-            return metadata.substring(quoteStart + 1, quoteEnd);
-        } catch (Exception e) {
-            return null;
-        }
-    }
     
-    /**
-     * Extract display name from JSON metadata
-     */
-    private static String extractDisplayName(String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
-            return null;
-        }
-        
-        try {
-            String searchKey = "SocketReforge.Refinement.DisplayName";
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) return null;
-            
-            int colonIndex = metadata.indexOf(":", keyIndex);
-            if (colonIndex < 0) return null;
-            
-            // Find the opening quote
-            int quoteStart = metadata.indexOf("\"", colonIndex);
-            if (quoteStart < 0) return null;
-            
-            // Find the closing quote
-            int quoteEnd = metadata.indexOf("\"", quoteStart + 1);
-            if (quoteEnd < 0) return null;
-            
-            return metadata.substring(quoteStart + 1, quoteEnd);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 
     private static void registerLanguageResolver() {
         if (!isAvailable || tooltipApi == null || languageResolverRegistered) {
@@ -1699,40 +1408,6 @@ public class DynamicTooltipUtils {
         }
     }
 
-    private static int[] extractIntArray(String metadata, String searchKey) {
-        try {
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) return null;
-            int bracketStart = metadata.indexOf("[", keyIndex);
-            int bracketEnd = metadata.indexOf("]", bracketStart);
-            if (bracketStart < 0 || bracketEnd < 0) return null;
-            String arrayContent = metadata.substring(bracketStart + 1, bracketEnd);
-            if (arrayContent.trim().isEmpty()) return new int[0];
-            String[] entries = arrayContent.split(",");
-            int[] values = new int[entries.length];
-            for (int i = 0; i < entries.length; i++) {
-                String entry = entries[i] == null ? "" : entries[i].trim();
-                entry = entry.replace("\"", "");
-                try {
-                    values[i] = Integer.parseInt(entry);
-                } catch (NumberFormatException ignored) {
-                    try {
-                        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile("-?\\d+").matcher(entry);
-                        if (matcher.find()) {
-                            values[i] = Integer.parseInt(matcher.group());
-                        } else {
-                            values[i] = 0;
-                        }
-                    } catch (Exception ignoredToo) {
-                        values[i] = 0;
-                    }
-                }
-            }
-            return values;
-        } catch (Exception e) {
-            return null;
-        }
-    }
 
     private static int maxArrayLength(String[] a, String[] b, String[] c, String[] d, int[] e, int[] f, int[] g) {
         int max = 0;
@@ -1746,68 +1421,14 @@ public class DynamicTooltipUtils {
         return max;
     }
 
-    private static int extractLoreSocketMax(String metadata) {
-        return extractFirstIntegerNearKey(metadata, META_LORE_SOCKET_MAX);
-    }
 
-    private static String[] extractLoreSocketEntries(String metadata) {
-        String[] entries = extractStringArray(metadata, META_LORE_SOCKET_VALUES);
-        return entries == null ? new String[0] : entries;
-    }
 
-    private static String[] extractLoreSocketColors(String metadata) {
-        String[] entries = extractStringArray(metadata, META_LORE_SOCKET_COLORS);
-        return entries == null ? new String[0] : entries;
-    }
 
-    private static String[] extractLoreSocketSpirits(String metadata) {
-        String[] entries = extractStringArray(metadata, META_LORE_SOCKET_SPIRITS);
-        return entries == null ? new String[0] : entries;
-    }
 
-    private static String[] extractLoreSocketEffects(String metadata) {
-        String[] entries = extractStringArray(metadata, META_LORE_SOCKET_EFFECTS);
-        return entries == null ? new String[0] : entries;
-    }
 
-    private static int[] extractLoreSocketLevels(String metadata) {
-        int[] values = extractIntArray(metadata, META_LORE_SOCKET_LEVELS);
-        return values == null ? new int[0] : values;
-    }
 
-    private static int[] extractLoreSocketFeedTiers(String metadata) {
-        int[] values = extractIntArray(metadata, META_LORE_SOCKET_FEED_TIERS);
-        return values == null ? new int[0] : values;
-    }
 
-    private static int[] extractLoreSocketLocked(String metadata) {
-        int[] values = extractIntArray(metadata, META_LORE_SOCKET_LOCKED);
-        return values == null ? new int[0] : values;
-    }
 
-    private static String extractDisplayNameKey(String metadata) {
-        if (metadata == null || metadata.isEmpty()) {
-            return null;
-        }
-        try {
-            String searchKey = META_REFINEMENT_NAME_KEY;
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) return null;
-
-            int colonIndex = metadata.indexOf(":", keyIndex);
-            if (colonIndex < 0) return null;
-
-            int quoteStart = metadata.indexOf("\"", colonIndex);
-            if (quoteStart < 0) return null;
-
-            int quoteEnd = metadata.indexOf("\"", quoteStart + 1);
-            if (quoteEnd < 0) return null;
-
-            return metadata.substring(quoteStart + 1, quoteEnd);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 
     private static String normalizeItemId(String itemId) {
         if (itemId == null) {
@@ -1824,25 +1445,6 @@ public class DynamicTooltipUtils {
         return trimmed;
     }
 
-    private static String extractStringValue(String metadata, String searchKey) {
-        if (metadata == null || metadata.isEmpty() || searchKey == null || searchKey.isBlank()) {
-            return null;
-        }
-        try {
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) return null;
-            int colonIndex = metadata.indexOf(":", keyIndex);
-            if (colonIndex < 0) return null;
-            int quoteStart = metadata.indexOf("\"", colonIndex);
-            if (quoteStart < 0) return null;
-            int quoteEnd = metadata.indexOf("\"", quoteStart + 1);
-            if (quoteEnd < 0) return null;
-            String value = metadata.substring(quoteStart + 1, quoteEnd).trim();
-            return value.isEmpty() ? null : value;
-        } catch (Exception e) {
-            return null;
-        }
-    }
 
     private static String resolveLangCode(String locale) {
         String fallback = LangLoader.getFallbackLanguage();
@@ -2412,35 +2014,6 @@ public class DynamicTooltipUtils {
         return desiredPrefix + value;
     }
 
-    private static int extractIntValue(String metadata, String searchKey) {
-        if (metadata == null || metadata.isEmpty() || searchKey == null || searchKey.isBlank()) {
-            return 0;
-        }
-        try {
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) return 0;
-            int colonIndex = metadata.indexOf(":", keyIndex);
-            if (colonIndex < 0) return 0;
-            int numberStart = colonIndex + 1;
-            while (numberStart < metadata.length() &&
-                    (metadata.charAt(numberStart) == ' ' || metadata.charAt(numberStart) == '"')) {
-                numberStart++;
-            }
-            int numberEnd = numberStart;
-            if (numberEnd < metadata.length() && metadata.charAt(numberEnd) == '-') {
-                numberEnd++;
-            }
-            while (numberEnd < metadata.length() && Character.isDigit(metadata.charAt(numberEnd))) {
-                numberEnd++;
-            }
-            if (numberEnd > numberStart) {
-                return Integer.parseInt(metadata.substring(numberStart, numberEnd));
-            }
-        } catch (Exception e) {
-            return 0;
-        }
-        return 0;
-    }
 
     private static double resolveSoftcoreStatMultiplierFromBreaks(int breakCount) {
         if (breakCount <= 0) {
@@ -2463,45 +2036,6 @@ public class DynamicTooltipUtils {
         return Math.max(DEFAULT_SOFTCORE_MIN_STAT_MULTIPLIER, Math.min(1.0, value));
     }
 
-    private static double extractDoubleValue(String metadata, String searchKey, double defaultValue) {
-        if (metadata == null || metadata.isEmpty() || searchKey == null || searchKey.isBlank()) {
-            return defaultValue;
-        }
-        try {
-            int keyIndex = metadata.indexOf(searchKey);
-            if (keyIndex < 0) return defaultValue;
-            int colonIndex = metadata.indexOf(":", keyIndex);
-            if (colonIndex < 0) return defaultValue;
-            int numberStart = colonIndex + 1;
-            while (numberStart < metadata.length()
-                    && (metadata.charAt(numberStart) == ' ' || metadata.charAt(numberStart) == '"')) {
-                numberStart++;
-            }
-            int numberEnd = numberStart;
-            if (numberEnd < metadata.length() && metadata.charAt(numberEnd) == '-') {
-                numberEnd++;
-            }
-            while (numberEnd < metadata.length()) {
-                char c = metadata.charAt(numberEnd);
-                if (Character.isDigit(c) || c == '.') {
-                    numberEnd++;
-                    continue;
-                }
-                break;
-            }
-            if (numberEnd > numberStart) {
-                double result = Double.parseDouble(metadata.substring(numberStart, numberEnd));
-                // Check for Infinity or NaN and return default
-                if (Double.isInfinite(result) || Double.isNaN(result)) {
-                    return defaultValue;
-                }
-                return result;
-            }
-        } catch (Exception ignored) {
-            // Keep default
-        }
-        return defaultValue;
-    }
 
     private static String formatDamageValue(double value) {
         double safe = Math.max(0.0, value);
@@ -2701,7 +2235,8 @@ public class DynamicTooltipUtils {
     }
     
     /**
-     * Refreshes native tooltip metadata for all connected players.
+     * Queues a native tooltip refresh of every connected player's inventory.
+     * The sweep is spread over several ticks by {@code NativeTooltipRefreshSystem}.
      */
     public static void refreshAllPlayers() {
         Universe universe = Universe.get();
@@ -2710,7 +2245,7 @@ public class DynamicTooltipUtils {
         }
 
         for (PlayerRef playerRef : universe.getPlayers()) {
-            refreshPlayer(playerRef);
+            queueFullTooltipRefresh(playerRef);
         }
     }
 
@@ -2724,7 +2259,7 @@ public class DynamicTooltipUtils {
         }
 
         String metadata = item.getMetadata() == null ? null : item.getMetadata().toJson();
-        TooltipPayload payload = buildTooltipPayload(item, item.getItemId(), metadata, locale);
+        TooltipPayload payload = cachedTooltipPayload(item, item.getItemId(), metadata, locale);
         BsonDocument state = item.getFromMetadataOrNull(NATIVE_TOOLTIP_STATE_KEY, Codec.BSON_DOCUMENT);
         ItemDisplayMetadata display = item.getFromMetadataOrNull(ItemDisplayMetadata.KEYED_CODEC);
         Message currentName = display == null ? null : display.getName();
@@ -2784,9 +2319,16 @@ public class DynamicTooltipUtils {
         World world = store.getExternalData().getWorld();
         Runnable refresh = () -> {
             Player player = store.getComponent(ref, Player.getComponentType());
-            if (player != null) {
-                refreshInventory(player.getInventory(), LangLoader.getPlayerLanguage(player));
+            if (player == null) {
+                return;
+            }
+            TooltipRefreshTracker.PlayerState state = refreshTracker.get(player.getUuid());
+            if (state != null && state.hasDirty()) {
+                flushDirtySlots(player, state, Integer.MAX_VALUE);
             }
+            // Not every writer marks its slots (inventory adds land in unknown slots), so a
+            // budgeted sweep always follows as a backstop.
+            refreshTracker.requestSweep(player.getUuid());
         };
         if (world != null && world.isAlive() && !world.isInThread()) {
             world.execute(refresh);
@@ -2795,10 +2337,80 @@ public class DynamicTooltipUtils {
         }
     }
 
+    /**
+     * Rebuilds the slots marked dirty for this player since the last refresh right away, then
+     * queues a budgeted sweep of the whole inventory for anything written without a mark.
+     */
     public static void refreshPlayerTooltips(PlayerRef playerRef) {
         refreshPlayer(playerRef);
     }
 
+    /**
+     * Queues a budgeted sweep of the player's whole inventory, e.g. after a language change.
+     */
+    public static void queueFullTooltipRefresh(PlayerRef playerRef) {
+        if (playerRef != null) {
+            refreshTracker.requestSweep(playerRef.getUuid());
+        }
+    }
+
+    /**
+     * Records that a bench or command rewrote one of the player's slots, so the next
+     * {@link #refreshPlayerTooltips(PlayerRef)} rebuilds just that slot.
+     */
+    public static void markSlotDirty(Player player, ItemContainer container, short slot) {
+        if (player != null) {
+            refreshTracker.markDirty(player.getUuid(), container, slot);
+        }
+    }
+
+    public static boolean hasPendingTooltipRefresh(Player player) {
+        return player != null && refreshTracker.hasPending(player.getUuid());
+    }
+
+    /**
+     * Rebuilds up to {@code budget} pending slots for the player, dirty slots first, then
+     * the queued sweep. Must run on the player's world thread.
+     *
+     * @return the number of slots visited
+     */
+    public static int drainPendingTooltipRefresh(Player player, int budget) {
+        if (player == null || budget <= 0) {
+            return 0;
+        }
+        TooltipRefreshTracker.PlayerState state = refreshTracker.get(player.getUuid());
+        if (state == null) {
+            return 0;
+        }
+        int used = flushDirtySlots(player, state, budget);
+        if (used < budget) {
+            ItemContainer[] containers = inventoryContainers(player.getInventory());
+            String locale = LangLoader.getPlayerLanguage(player);
+            TooltipRefreshTracker.DirtySlot next;
+            while (used < budget && (next = state.pollSweep(containers)) != null) {
+                refreshContainerSlot(next.container(), next.slot(), locale);
+                used++;
+            }
+        }
+        refreshTracker.removeIfIdle(player.getUuid(), state);
+        return used;
+    }
+
+    public static void clearPendingTooltipRefresh(java.util.UUID playerUuid) {
+        refreshTracker.forget(playerUuid);
+    }
+
+    private static int flushDirtySlots(Player player, TooltipRefreshTracker.PlayerState state, int budget) {
+        String locale = LangLoader.getPlayerLanguage(player);
+        int used = 0;
+        TooltipRefreshTracker.DirtySlot next;
+        while (used < budget && (next = state.pollDirty()) != null) {
+            refreshContainerSlot(next.container(), next.slot(), locale);
+            used++;
+        }
+        return used;
+    }
+
     public static void onInventoryChange(InventoryChangeEvent event) {
         if (event == null || event.getItemContainer() == null) {
             return;
@@ -2824,16 +2436,18 @@ public class DynamicTooltipUtils {
         }
     }
 
-    private static void refreshInventory(Inventory inventory, String locale) {
+    private static ItemContainer[] inventoryContainers(Inventory inventory) {
         if (inventory == null) {
-            return;
-        }
-        refreshContainerTooltips(inventory.getHotbar(), locale);
-        refreshContainerTooltips(inventory.getStorage(), locale);
-        refreshContainerTooltips(inventory.getBackpack(), locale);
-        refreshContainerTooltips(inventory.getArmor(), locale);
-        refreshContainerTooltips(inventory.getUtility(), locale);
-        refreshContainerTooltips(inventory.getTools(), locale);
+            return new ItemContainer[0];
+        }
+        return new ItemContainer[] {
+                inventory.getHotbar(),
+                inventory.getStorage(),
+                inventory.getBackpack(),
+                inventory.getArmor(),
+                inventory.getUtility(),
+                inventory.getTools()
+        };
     }
 
     public static int refreshContainerTooltips(ItemContainer container) {
@@ -2861,8 +2475,10 @@ public class DynamicTooltipUtils {
         if (ItemStack.isEmpty(item)) {
             return false;
         }
-        ItemStack updated = applyNativeTooltip(item, locale);
-        if (!updated.isEquivalentType(item) || hasNativeTooltipMetadataChanged(item, updated)) {
+        // Lazily move legacy socket keys to the packed form while the slot is being rewritten anyway.
+        ItemStack migrated = SocketManager.migrateSocketMetadata(item);
+        ItemStack updated = applyNativeTooltip(migrated, locale);
+        if (migrated != item || !updated.isEquivalentType(item) || hasNativeTooltipMetadataChanged(item, updated)) {
             container.setItemStackForSlot(slot, updated, false);
             return true;
         }
@@ -2968,12 +2584,13 @@ public class DynamicTooltipUtils {
             return null;
         }
         String langCode = resolveLangCode(locale);
-        String baseItemId = extractBaseItemId(metadata);
+        TooltipMetadataView meta = TooltipMetadataView.parse(metadata);
+        String baseItemId = meta.baseItemId;
         String effectiveItemId = baseItemId != null && !baseItemId.isBlank() ? baseItemId : itemId;
-        int reforgeLevel = extractReforgeLevel(metadata);
-        String resonanceName = extractStringValue(metadata, META_RESONANCE_NAME);
+        int reforgeLevel = meta.reforgeLevel;
+        String resonanceName = meta.resonanceName;
         boolean hasResonance = resonanceName != null && !resonanceName.isBlank();
-        boolean shouldBloodPrefix = shouldPrefixBloodPact(itemId, baseItemId, metadata);
+        boolean shouldBloodPrefix = shouldPrefixBloodPact(itemId, baseItemId, meta);
         boolean isArmor = isArmorType(baseItemId, effectiveItemId);
 
         String merged = stripSocketReforgeNameAffixes(baseName, reforgeLevel, isArmor, resonanceName, langCode);
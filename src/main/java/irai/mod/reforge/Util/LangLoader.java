@@ -4,6 +4,9 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
@@ -50,6 +53,9 @@ public final class LangLoader {
     // Per-player language cache (tracked from UpdateLanguage packets)
     private static final Map<PlayerRef, String> playerLanguageCache = new ConcurrentHashMap<>();
     private static final Map<java.util.UUID, String> playerUuidLanguageCache = new ConcurrentHashMap<>();
+    // Fully resolved language per player, so hot paths skip the Kyuubi lookups
+    private static final Map<java.util.UUID, ResolvedLanguage> resolvedLanguageCache = new ConcurrentHashMap<>();
+    private static final long RESOLVED_LANGUAGE_TTL_MS = 5000L;
 
     private static final AtomicBoolean languageWatcherRegistered = new AtomicBoolean(false);
     private static final AtomicBoolean i18nSyncAttempted = new AtomicBoolean(false);
@@ -74,26 +80,27 @@ public final class LangLoader {
     private static final AtomicBoolean kyuubiAttempted = new AtomicBoolean(false);
     private static final AtomicBoolean kyuubiRegistered = new AtomicBoolean(false);
     private static volatile boolean kyuubiMissing = false;
-    private static volatile java.lang.reflect.Method kyuubiIsAvailable;
-    private static volatile java.lang.reflect.Method kyuubiGetInstance;
-    private static volatile java.lang.reflect.Method kyuubiTranslate;
-    private static volatile java.lang.reflect.Method kyuubiGetPlayerLanguage;
-    private static volatile java.lang.reflect.Method kyuubiGetPlayerLanguageMod;
-    private static volatile java.lang.reflect.Method kyuubiI18nRun;
-    private static volatile java.lang.reflect.Method kyuubiI18nRunWithLanguage;
-    private static volatile java.lang.reflect.Method kyuubiRegisterMod;
-    private static volatile java.lang.reflect.Method kyuubiGetPlayerPreferences;
-    private static volatile java.lang.reflect.Method kyuubiSetPlayerModLanguageOverride;
-    private static volatile java.lang.reflect.Method kyuubiPrefsGetModLanguageOverride;
-    private static volatile java.lang.reflect.Method kyuubiPrefsGetLanguageOverride;
+    private static volatile MethodHandle kyuubiIsAvailable;
+    private static volatile MethodHandle kyuubiGetInstance;
+    private static volatile MethodHandle kyuubiTranslate;
+    private static volatile MethodHandle kyuubiGetPlayerLanguage;
+    private static volatile MethodHandle kyuubiGetPlayerLanguageMod;
+    private static volatile MethodHandle kyuubiI18nRun;
+    private static volatile MethodHandle kyuubiI18nRunWithLanguage;
+    private static volatile MethodHandle kyuubiRegisterMod;
+    private static volatile MethodHandle kyuubiGetPlayerPreferences;
+    private static volatile MethodHandle kyuubiSetPlayerModLanguageOverride;
+    private static volatile MethodHandle kyuubiPrefsGetModLanguageOverride;
+    private static volatile MethodHandle kyuubiPrefsGetLanguageOverride;
 
     // Most recent player language observed (best-effort fallback for contexts without player info)
     private static volatile String lastKnownLanguage = null;
     
     // Loaded flag
     private static boolean initialized = false;
+    // Bumped whenever translations are (re)loaded so dependent caches can drop stale text
+    private static volatile int reloadGeneration = 0;
 
-    private static final Pattern UI_TOKEN_PATTERN = Pattern.compile("\\{\\{\\s*(ui\\.[^}\\s]+)\\s*}}");
     
     /**
      * Sets the default UI language.
@@ -492,97 +499,84 @@ public final class LangLoader {
     
     /**
      * Gets the player's preferred language code.
-     * TODO: Implement actual player locale detection when Hytale API supports it.
-     * For now, returns the default UI language (configurable via system property "reforge.ui.language").
-     * 
-     * @param player The player (currently unused)
+     * Resolved once per player and cached until the client reports a language change,
+     * translations reload, or {@link #RESOLVED_LANGUAGE_TTL_MS} passes (to pick up
+     * KyuubiSoftCore preference changes, which raise no event here).
+     *
+     * @param player The {@link Player} or {@link PlayerRef}
      * @return The language code (e.g., "en-US", "pt-BR")
      */
     public static String getPlayerLanguage(Object player) {
-        if (player instanceof PlayerRef ref) {
-            String refLang = resolveLanguageCode(ref.getLanguage());
-            String kyuubiLang = getKyuubiPlayerLanguage(ref);
-            if (kyuubiLang != null && !kyuubiLang.isBlank()) {
-                String normalizedKyuubi = resolveLanguageCode(kyuubiLang);
-                if (refLang != null && !refLang.isBlank()
-                        && normalizedKyuubi != null && !normalizedKyuubi.isBlank()
-                        && "en-US".equalsIgnoreCase(normalizedKyuubi)
-                        && !refLang.equalsIgnoreCase(normalizedKyuubi)) {
-                    setPlayerLanguage(ref, refLang);
-                    return refLang;
-                }
-                setPlayerLanguage(ref, kyuubiLang);
-                return resolveLanguageCode(kyuubiLang);
-            }
-            String cached = playerLanguageCache.get(ref);
-            if (cached != null) {
-                String resolved = resolveLanguageCode(cached);
-                if (resolved != null && !resolved.isBlank() && !resolved.equals(cached)) {
-                    playerLanguageCache.put(ref, resolved);
-                    playerUuidLanguageCache.put(ref.getUuid(), resolved);
-                    lastKnownLanguage = resolved;
-                    return resolved;
-                }
-                return cached;
+        PlayerRef ref = null;
+        if (player instanceof PlayerRef refValue) {
+            ref = refValue;
+        } else if (player instanceof Player ply) {
+            ref = ply.getPlayerRef();
+        }
+        if (ref == null) {
+            return defaultUILang;
+        }
+        java.util.UUID uuid = ref.getUuid();
+        if (uuid == null) {
+            return resolvePlayerLanguage(ref);
+        }
+        long now = System.currentTimeMillis();
+        ResolvedLanguage cached = resolvedLanguageCache.get(uuid);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.language;
+        }
+        String resolved = resolvePlayerLanguage(ref);
+        resolvedLanguageCache.put(uuid, new ResolvedLanguage(resolved, now + RESOLVED_LANGUAGE_TTL_MS));
+        return resolved;
+    }
+
+    /** Drops the cached language of a player that left. */
+    public static void forgetPlayer(java.util.UUID uuid) {
+        if (uuid == null) {
+            return;
+        }
+        resolvedLanguageCache.remove(uuid);
+        playerLanguageCache.keySet().removeIf(ref -> uuid.equals(ref.getUuid()));
+    }
+
+    private static String resolvePlayerLanguage(PlayerRef ref) {
+        String refLang = resolveLanguageCode(ref.getLanguage());
+        String kyuubiLang = getKyuubiPlayerLanguage(ref);
+        if (kyuubiLang != null && !kyuubiLang.isBlank()) {
+            String normalizedKyuubi = resolveLanguageCode(kyuubiLang);
+            if (refLang != null && !refLang.isBlank()
+                    && normalizedKyuubi != null && !normalizedKyuubi.isBlank()
+                    && "en-US".equalsIgnoreCase(normalizedKyuubi)
+                    && !refLang.equalsIgnoreCase(normalizedKyuubi)) {
+                setPlayerLanguage(ref, refLang);
+                return refLang;
             }
-            if (refLang != null && !refLang.isBlank()) {
-                String resolved = resolveLanguageCode(refLang);
-                if (resolved == null || resolved.isBlank()) {
-                    resolved = refLang;
-                }
+            setPlayerLanguage(ref, kyuubiLang);
+            return resolveLanguageCode(kyuubiLang);
+        }
+        String cached = playerLanguageCache.get(ref);
+        if (cached != null) {
+            String resolved = resolveLanguageCode(cached);
+            if (resolved != null && !resolved.isBlank() && !resolved.equals(cached)) {
                 playerLanguageCache.put(ref, resolved);
                 playerUuidLanguageCache.put(ref.getUuid(), resolved);
                 lastKnownLanguage = resolved;
-                if (!UI_LANGUAGE_CONFIGURED && DEFAULT_LANG.equalsIgnoreCase(defaultUILang)) {
-                    defaultUILang = resolved;
-                }
                 return resolved;
             }
-            return defaultUILang;
+            return cached;
         }
-        if (player instanceof Player ply) {
-            PlayerRef ref = ply.getPlayerRef();
-            if (ref != null) {
-                String refLang = resolveLanguageCode(ref.getLanguage());
-                String kyuubiLang = getKyuubiPlayerLanguage(ref);
-                if (kyuubiLang != null && !kyuubiLang.isBlank()) {
-                    String normalizedKyuubi = resolveLanguageCode(kyuubiLang);
-                    if (refLang != null && !refLang.isBlank()
-                            && normalizedKyuubi != null && !normalizedKyuubi.isBlank()
-                            && "en-US".equalsIgnoreCase(normalizedKyuubi)
-                            && !refLang.equalsIgnoreCase(normalizedKyuubi)) {
-                        setPlayerLanguage(ref, refLang);
-                        return refLang;
-                    }
-                    setPlayerLanguage(ref, kyuubiLang);
-                    return resolveLanguageCode(kyuubiLang);
-                }
-                String cached = playerLanguageCache.get(ref);
-                if (cached != null) {
-                    String resolved = resolveLanguageCode(cached);
-                    if (resolved != null && !resolved.isBlank() && !resolved.equals(cached)) {
-                        playerLanguageCache.put(ref, resolved);
-                        playerUuidLanguageCache.put(ref.getUuid(), resolved);
-                        lastKnownLanguage = resolved;
-                        return resolved;
-                    }
-                    return cached;
-                }
-                if (refLang != null && !refLang.isBlank()) {
-                    String resolved = resolveLanguageCode(refLang);
-                    if (resolved == null || resolved.isBlank()) {
-                        resolved = refLang;
-                    }
-                    playerLanguageCache.put(ref, resolved);
-                    playerUuidLanguageCache.put(ref.getUuid(), resolved);
-                    lastKnownLanguage = resolved;
-                    if (!UI_LANGUAGE_CONFIGURED && DEFAULT_LANG.equalsIgnoreCase(defaultUILang)) {
-                        defaultUILang = resolved;
-                    }
-                    return resolved;
-                }
+        if (refLang != null && !refLang.isBlank()) {
+            String resolved = resolveLanguageCode(refLang);
+            if (resolved == null || resolved.isBlank()) {
+                resolved = refLang;
             }
-            return defaultUILang;
+            playerLanguageCache.put(ref, resolved);
+            playerUuidLanguageCache.put(ref.getUuid(), resolved);
+            lastKnownLanguage = resolved;
+            if (!UI_LANGUAGE_CONFIGURED && DEFAULT_LANG.equalsIgnoreCase(defaultUILang)) {
+                defaultUILang = resolved;
+            }
+            return resolved;
         }
         return defaultUILang;
     }
@@ -691,16 +685,44 @@ public final class LangLoader {
         if (html == null || html.isEmpty()) {
             return html;
         }
-        Matcher matcher = UI_TOKEN_PATTERN.matcher(html);
-        StringBuffer sb = new StringBuffer();
-        while (matcher.find()) {
-            String key = matcher.group(1);
-            String replacement = getUITranslation(player, key);
-            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        StringBuilder sb = null;
+        int copied = 0;
+        int pos = 0;
+        while (true) {
+            int open = html.indexOf("{{", pos);
+            if (open < 0) {
+                break;
+            }
+            int keyStart = skipWhitespace(html, open + 2);
+            int keyEnd = keyStart;
+            while (keyEnd < html.length() && html.charAt(keyEnd) != '}' && !Character.isWhitespace(html.charAt(keyEnd))) {
+                keyEnd++;
+            }
+            int close = skipWhitespace(html, keyEnd);
+            if (keyEnd - keyStart <= 3 || !html.startsWith("ui.", keyStart) || !html.startsWith("}}", close)) {
+                pos = open + 1;
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(html.length() + 64);
+            }
+            sb.append(html, copied, open).append(getUITranslation(player, html.substring(keyStart, keyEnd)));
+            copied = close + 2;
+            pos = copied;
+        }
+        if (sb == null) {
+            return html;
         }
-        matcher.appendTail(sb);
+        sb.append(html, copied, html.length());
         return sb.toString();
     }
+
+    private static int skipWhitespace(String text, int pos) {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
     
     /**
      * Resolves a translation key to its localized value.
@@ -852,9 +874,18 @@ public final class LangLoader {
      */
     public static synchronized void reload() {
         translationCache.clear();
+        resolvedLanguageCache.clear();
         initialized = false;
         i18nSyncAttempted.set(false);
         initialize();
+        reloadGeneration++;
+    }
+
+    /**
+     * Returns a counter that changes every time language files are reloaded.
+     */
+    public static int getReloadGeneration() {
+        return reloadGeneration;
     }
     
     /**
@@ -884,49 +915,49 @@ public final class LangLoader {
         if (kyuubiAttempted.compareAndSet(false, true)) {
             try {
                 Class<?> coreApi = Class.forName(KYUUBI_CORE_API);
-                kyuubiIsAvailable = coreApi.getMethod("isAvailable");
-                kyuubiGetInstance = coreApi.getMethod("getInstance");
-                kyuubiTranslate = coreApi.getMethod("translate", String.class);
-                kyuubiGetPlayerLanguage = coreApi.getMethod("getPlayerLanguage", PlayerRef.class);
+                kyuubiIsAvailable = unreflect(coreApi.getMethod("isAvailable"));
+                kyuubiGetInstance = unreflect(coreApi.getMethod("getInstance"));
+                kyuubiTranslate = unreflect(coreApi.getMethod("translate", String.class));
+                kyuubiGetPlayerLanguage = unreflect(coreApi.getMethod("getPlayerLanguage", PlayerRef.class));
                 try {
-                    kyuubiGetPlayerLanguageMod = coreApi.getMethod("getPlayerLanguage", PlayerRef.class, String.class);
+                    kyuubiGetPlayerLanguageMod = unreflect(coreApi.getMethod("getPlayerLanguage", PlayerRef.class, String.class));
                 } catch (NoSuchMethodException ignored) {
                     kyuubiGetPlayerLanguageMod = null;
                 }
                 try {
-                    kyuubiGetPlayerPreferences = coreApi.getMethod("getPlayerPreferences", java.util.UUID.class);
+                    kyuubiGetPlayerPreferences = unreflect(coreApi.getMethod("getPlayerPreferences", java.util.UUID.class));
                 } catch (NoSuchMethodException ignored) {
                     kyuubiGetPlayerPreferences = null;
                 }
                 try {
-                    kyuubiSetPlayerModLanguageOverride = coreApi.getMethod(
+                    kyuubiSetPlayerModLanguageOverride = unreflect(coreApi.getMethod(
                             "setPlayerModLanguageOverride",
                             java.util.UUID.class,
                             String.class,
                             String.class,
                             String.class
-                    );
+                    ));
                 } catch (NoSuchMethodException ignored) {
                     kyuubiSetPlayerModLanguageOverride = null;
                 }
                 try {
                     Class<?> helper = Class.forName(KYUUBI_LANG_HELPER);
-                    kyuubiRegisterMod = helper.getMethod("registerMod", String.class, String.class);
+                    kyuubiRegisterMod = unreflect(helper.getMethod("registerMod", String.class, String.class));
                 } catch (Exception ignored) {
                     kyuubiRegisterMod = null;
                 }
                 try {
                     Class<?> ctx = Class.forName(KYUUBI_I18N_CONTEXT);
-                    kyuubiI18nRun = ctx.getMethod("run", PlayerRef.class, Runnable.class);
-                    kyuubiI18nRunWithLanguage = ctx.getMethod("runWithLanguage", String.class, Runnable.class);
+                    kyuubiI18nRun = unreflect(ctx.getMethod("run", PlayerRef.class, Runnable.class));
+                    kyuubiI18nRunWithLanguage = unreflect(ctx.getMethod("runWithLanguage", String.class, Runnable.class));
                 } catch (Exception ignored) {
                     kyuubiI18nRun = null;
                     kyuubiI18nRunWithLanguage = null;
                 }
                 try {
                     Class<?> prefs = Class.forName("com.kyuubisoft.core.i18n.PlayerPreferences");
-                    kyuubiPrefsGetModLanguageOverride = prefs.getMethod("getModLanguageOverride", String.class);
-                    kyuubiPrefsGetLanguageOverride = prefs.getMethod("getLanguageOverride");
+                    kyuubiPrefsGetModLanguageOverride = unreflect(prefs.getMethod("getModLanguageOverride", String.class));
+                    kyuubiPrefsGetLanguageOverride = unreflect(prefs.getMethod("getLanguageOverride"));
                 } catch (Exception ignored) {
                     kyuubiPrefsGetModLanguageOverride = null;
                     kyuubiPrefsGetLanguageOverride = null;
@@ -942,21 +973,25 @@ public final class LangLoader {
         }
         if (kyuubiRegistered.compareAndSet(false, true) && kyuubiRegisterMod != null) {
             try {
-                kyuubiRegisterMod.invoke(null, KYUUBI_MOD_ID, KYUUBI_MOD_NAME);
-            } catch (Exception ignored) {
+                kyuubiRegisterMod.invoke(KYUUBI_MOD_ID, KYUUBI_MOD_NAME);
+            } catch (Throwable ignored) {
                 // Optional integration; ignore failures
             }
         }
     }
 
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        return MethodHandles.publicLookup().unreflect(method);
+    }
+
     private static boolean isKyuubiAvailable() {
         if (kyuubiMissing || kyuubiIsAvailable == null) {
             return false;
         }
         try {
-            Object value = kyuubiIsAvailable.invoke(null);
+            Object value = kyuubiIsAvailable.invoke();
             return value instanceof Boolean && (Boolean) value;
-        } catch (Exception ignored) {
+        } catch (Throwable ignored) {
             return false;
         }
     }
@@ -971,16 +1006,16 @@ public final class LangLoader {
         }
         try {
             if (kyuubiGetPlayerLanguageMod != null) {
-                Object modLang = kyuubiGetPlayerLanguageMod.invoke(null, ref, KYUUBI_MOD_ID);
+                Object modLang = kyuubiGetPlayerLanguageMod.invoke(ref, KYUUBI_MOD_ID);
                 if (modLang instanceof String lang && !lang.isBlank()) {
                     return lang;
                 }
             }
-            Object lang = kyuubiGetPlayerLanguage.invoke(null, ref);
+            Object lang = kyuubiGetPlayerLanguage.invoke(ref);
             if (lang instanceof String value && !value.isBlank()) {
                 return value;
             }
-        } catch (Exception ignored) {
+        } catch (Throwable ignored) {
             return null;
         }
         return null;
@@ -995,7 +1030,7 @@ public final class LangLoader {
             return null;
         }
         try {
-            Object api = kyuubiGetInstance.invoke(null);
+            Object api = kyuubiGetInstance.invoke();
             if (api == null) {
                 return null;
             }
@@ -1006,20 +1041,20 @@ public final class LangLoader {
                     if (value instanceof String text && !text.isBlank() && !text.equals(key)) {
                         result[0] = text;
                     }
-                } catch (Exception ignored) {
+                } catch (Throwable ignored) {
                     // Optional integration; ignore failures
                 }
             };
 
             if (ref != null && kyuubiI18nRun != null) {
-                kyuubiI18nRun.invoke(null, ref, task);
+                kyuubiI18nRun.invoke(ref, task);
             } else if (langCode != null && !langCode.isBlank() && kyuubiI18nRunWithLanguage != null) {
-                kyuubiI18nRunWithLanguage.invoke(null, langCode, task);
+                kyuubiI18nRunWithLanguage.invoke(langCode, task);
             } else {
                 task.run();
             }
             return result[0];
-        } catch (Exception ignored) {
+        } catch (Throwable ignored) {
             return null;
         }
     }
@@ -1033,7 +1068,7 @@ public final class LangLoader {
             return null;
         }
         try {
-            Object prefs = kyuubiGetPlayerPreferences.invoke(null, ref.getUuid());
+            Object prefs = kyuubiGetPlayerPreferences.invoke(ref.getUuid());
             if (prefs == null) {
                 return null;
             }
@@ -1041,7 +1076,7 @@ public final class LangLoader {
             if (value instanceof String lang && !lang.isBlank()) {
                 return lang;
             }
-        } catch (Exception ignored) {
+        } catch (Throwable ignored) {
             return null;
         }
         return null;
@@ -1056,7 +1091,7 @@ public final class LangLoader {
             return null;
         }
         try {
-            Object prefs = kyuubiGetPlayerPreferences.invoke(null, uuid);
+            Object prefs = kyuubiGetPlayerPreferences.invoke(uuid);
             if (prefs == null) {
                 return null;
             }
@@ -1064,7 +1099,7 @@ public final class LangLoader {
             if (value instanceof String lang && !lang.isBlank()) {
                 return lang;
             }
-        } catch (Exception ignored) {
+        } catch (Throwable ignored) {
             return null;
         }
         return null;
@@ -1089,8 +1124,8 @@ public final class LangLoader {
             return;
         }
         try {
-            kyuubiSetPlayerModLanguageOverride.invoke(null, ref.getUuid(), KYUUBI_MOD_ID, desiredLang, "auto");
-        } catch (Exception ignored) {
+            kyuubiSetPlayerModLanguageOverride.invoke(ref.getUuid(), KYUUBI_MOD_ID, desiredLang, "auto");
+        } catch (Throwable ignored) {
             // Optional integration; ignore failures
         }
     }
@@ -1124,6 +1159,9 @@ public final class LangLoader {
         }
         String previous = playerLanguageCache.get(ref);
         playerLanguageCache.put(ref, normalized);
+        if ((previous == null || !previous.equalsIgnoreCase(normalized)) && ref.getUuid() != null) {
+            resolvedLanguageCache.remove(ref.getUuid());
+        }
         playerUuidLanguageCache.put(ref.getUuid(), normalized);
         lastKnownLanguage = normalized;
         if (!UI_LANGUAGE_CONFIGURED && DEFAULT_LANG.equalsIgnoreCase(defaultUILang)) {
@@ -1132,7 +1170,7 @@ public final class LangLoader {
         ensureKyuubiModLanguage(ref, normalized);
         syncTranslationsToI18n();
         if (previous != null && !previous.equalsIgnoreCase(normalized)) {
-            DynamicTooltipUtils.refreshPlayerTooltips(ref);
+            DynamicTooltipUtils.queueFullTooltipRefresh(ref);
         }
     }
 
@@ -1364,4 +1402,14 @@ public final class LangLoader {
         }
         return normalized != null ? normalized : DEFAULT_LANG;
     }
+
+    private static final class ResolvedLanguage {
+        private final String language;
+        private final long expiresAt;
+
+        private ResolvedLanguage(String language, long expiresAt) {
+            this.language = language;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
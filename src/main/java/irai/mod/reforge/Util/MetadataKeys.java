@@ -26,6 +26,7 @@ public final class MetadataKeys {
     public static final String SOCKET_VALUES = "SocketReforge.Socket.Values";
     public static final String SOCKET_MUTATIONS = "SocketReforge.Socket.Mutations";
     public static final String SOCKET_EFFECTS = "SocketReforge.Socket.Effects";
+    public static final String SOCKET_PACKED = "SocketReforge.Socket.Packed";
 
     // Essence system
     public static final String ESSENCE_EFFECTS = "SocketReforge.Essence.Effects";
@@ -40,6 +41,20 @@ public final class MetadataKeys {
     public static final String RESONANCE = "SocketReforge.Resonance";
     public static final String RESONANCE_RECIPE_NAME = "SocketReforge.Resonance.RecipeName";
 
+    // Resonant recipe items
+    public static final String RECIPE_NAME = "SocketReforge.Recipe.ResonanceName";
+    public static final String RECIPE_PATTERN = "SocketReforge.Recipe.Pattern";
+    public static final String RECIPE_TYPE = "SocketReforge.Recipe.Type";
+    public static final String RECIPE_USAGES = "SocketReforge.Recipe.Usages";
+
+    // Modular parts
+    public static final String PARTS_PROFILE_TYPE = "SocketReforge.Parts.ProfileType";
+    public static final String PARTS_WEAPON_TYPE = "SocketReforge.Parts.WeaponType";
+    public static final String PARTS_PART1_TIER = "SocketReforge.Parts.Part1Tier";
+    public static final String PARTS_PART2_TIER = "SocketReforge.Parts.Part2Tier";
+    public static final String PARTS_PART3_TIER = "SocketReforge.Parts.Part3Tier";
+    public static final String PARTS_DAMAGE_MULTIPLIER = "SocketReforge.Parts.DamageMultiplier";
+
     // Lore socket system (separate from essence sockets)
     public static final String LORE_SOCKET_MAX = "SocketReforge.Lore.Socket.Max";
     public static final String LORE_SOCKET_VALUES = "SocketReforge.Lore.Socket.Values";
@@ -0,0 +1,442 @@
+package irai.mod.reforge.Util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import irai.mod.reforge.Socket.ResonanceSystem;
+import irai.mod.reforge.Socket.SocketMetadataCodec;
+
+/**
+ * Flat, typed view of the SocketReforge keys in an item's serialized metadata JSON.
+ *
+ * Built by a single forward pass over the string, so tooltip building reads every
+ * field without re-scanning the metadata once per key. Only keys in the
+ * {@code SocketReforge.*} namespace are retained. BSON extended-JSON wrappers such as
+ * {@code {"$numberInt": "3"}} are unwrapped to their scalar. Malformed input keeps
+ * whatever was read before the error.
+ */
+final class TooltipMetadataView {
+
+    private static final String KEY_PREFIX = "SocketReforge";
+    private static final String LEGACY_REFINEMENT_LEVEL = "Refinement.Level";
+    private static final int MAX_DEPTH = 16;
+    private static final String[] NO_STRINGS = new String[0];
+    private static final int[] NO_INTS = new int[0];
+
+    static final TooltipMetadataView EMPTY = new TooltipMetadataView(new HashMap<>());
+
+    // ── Refinement ────────────────────────────────────────────────────────────
+    final int reforgeLevel;
+    final String baseItemId;
+    final String displayName;
+    final String displayNameKey;
+    final int softcoreBreaks;
+    private final double softcoreStatMultiplier;
+
+    // ── Smithy legacy ─────────────────────────────────────────────────────────
+    final String smithyLegacy;
+    private final double smithyBreakMultiplier;
+    private final double smithyDegradeMultiplier;
+    private final double smithySameMultiplier;
+    private final double smithyUpgradeMultiplier;
+    private final double smithyJackpotMultiplier;
+
+    // ── Sockets / essences ────────────────────────────────────────────────────
+    final int socketMax;
+    final String[] socketEntries;
+    final String[] socketMutations;
+    final String[] essenceEffects;
+    final String[] essenceTiers;
+
+    // ── Resonance / recipes ───────────────────────────────────────────────────
+    final String resonanceName;
+    final String resonanceEffect;
+    final String resonanceType;
+    final String resonanceQuality;
+    final String resonanceRecipeName;
+    final String recipeName;
+    final String recipePattern;
+    final String recipeType;
+    final String recipeUsages;
+
+    // ── Modular parts ─────────────────────────────────────────────────────────
+    final String partsProfileType;
+    final int part1Tier;
+    final int part2Tier;
+    final int part3Tier;
+    final double partsDamageMultiplier;
+
+    // ── Lore sockets ──────────────────────────────────────────────────────────
+    final int loreSocketMax;
+    final String[] loreEntries;
+    final String[] loreColors;
+    final String[] loreSpirits;
+    final String[] loreEffects;
+    final int[] loreLevels;
+    final int[] loreFeedTiers;
+    final int[] loreLocked;
+
+    private TooltipMetadataView(Map<String, Object> values) {
+        int level = intValue(values.get(MetadataKeys.REFINEMENT_LEVEL));
+        if (!values.containsKey(MetadataKeys.REFINEMENT_LEVEL)) {
+            level = intValue(values.get(LEGACY_REFINEMENT_LEVEL));
+        }
+        reforgeLevel = Math.max(0, level);
+        baseItemId = rawString(values.get(MetadataKeys.REFINEMENT_BASE_ITEM_ID));
+        displayName = rawString(values.get(MetadataKeys.REFINEMENT_DISPLAY_NAME));
+        displayNameKey = rawString(values.get(MetadataKeys.REFINEMENT_DISPLAY_NAME_KEY));
+        softcoreBreaks = intValue(values.get(MetadataKeys.REFINEMENT_SOFTCORE_BREAKS));
+        softcoreStatMultiplier = doubleValue(values.get(MetadataKeys.REFINEMENT_SOFTCORE_STAT_MULTIPLIER), Double.NaN);
+
+        smithyLegacy = stringValue(values.get(MetadataKeys.SMITHY_LEGACY));
+        smithyBreakMultiplier = doubleValue(values.get(MetadataKeys.SMITHY_LEGACY_BREAK_MULTIPLIER), Double.NaN);
+        smithyDegradeMultiplier = doubleValue(values.get(MetadataKeys.SMITHY_LEGACY_DEGRADE_MULTIPLIER), Double.NaN);
+        smithySameMultiplier = doubleValue(values.get(MetadataKeys.SMITHY_LEGACY_SAME_MULTIPLIER), Double.NaN);
+        smithyUpgradeMultiplier = doubleValue(values.get(MetadataKeys.SMITHY_LEGACY_UPGRADE_MULTIPLIER), Double.NaN);
+        smithyJackpotMultiplier = doubleValue(values.get(MetadataKeys.SMITHY_LEGACY_JACKPOT_MULTIPLIER), Double.NaN);
+
+        socketMax = Math.max(0, intValue(values.get(MetadataKeys.SOCKET_MAX)));
+        int[] socketPacked = intArray(values.get(MetadataKeys.SOCKET_PACKED));
+        if (SocketMetadataCodec.isValid(socketPacked)) {
+            socketEntries = SocketMetadataCodec.socketEntries(socketPacked);
+            socketMutations = SocketMetadataCodec.socketMutations(socketPacked);
+        } else {
+            socketEntries = stringArray(values.get(MetadataKeys.SOCKET_VALUES));
+            socketMutations = stringArray(values.get(MetadataKeys.SOCKET_MUTATIONS));
+        }
+        essenceEffects = stringArray(values.get(MetadataKeys.ESSENCE_EFFECTS));
+        essenceTiers = stringArray(values.get(MetadataKeys.ESSENCE_TIER_MAP));
+
+        resonanceName = stringValue(values.get(ResonanceSystem.META_RESONANCE_NAME));
+        resonanceEffect = stringValue(values.get(ResonanceSystem.META_RESONANCE_EFFECT));
+        resonanceType = stringValue(values.get(ResonanceSystem.META_RESONANCE_TYPE));
+        resonanceQuality = stringValue(values.get(ResonanceSystem.META_RESONANCE_QUALITY));
+        resonanceRecipeName = stringValue(values.get(MetadataKeys.RESONANCE_RECIPE_NAME));
+        recipeName = stringValue(values.get(MetadataKeys.RECIPE_NAME));
+        recipePattern = stringValue(values.get(MetadataKeys.RECIPE_PATTERN));
+        recipeType = stringValue(values.get(MetadataKeys.RECIPE_TYPE));
+        recipeUsages = stringValue(values.get(MetadataKeys.RECIPE_USAGES));
+
+        String profileType = stringValue(values.get(MetadataKeys.PARTS_PROFILE_TYPE));
+        partsProfileType = profileType != null ? profileType : stringValue(values.get(MetadataKeys.PARTS_WEAPON_TYPE));
+        part1Tier = intValue(values.get(MetadataKeys.PARTS_PART1_TIER));
+        part2Tier = intValue(values.get(MetadataKeys.PARTS_PART2_TIER));
+        part3Tier = intValue(values.get(MetadataKeys.PARTS_PART3_TIER));
+        partsDamageMultiplier = doubleValue(values.get(MetadataKeys.PARTS_DAMAGE_MULTIPLIER), 1.0);
+
+        loreSocketMax = Math.max(0, intValue(values.get(MetadataKeys.LORE_SOCKET_MAX)));
+        loreEntries = stringArray(values.get(MetadataKeys.LORE_SOCKET_VALUES));
+        loreColors = stringArray(values.get(MetadataKeys.LORE_SOCKET_COLORS));
+        loreSpirits = stringArray(values.get(MetadataKeys.LORE_SOCKET_SPIRITS));
+        loreEffects = stringArray(values.get(MetadataKeys.LORE_SOCKET_EFFECTS));
+        loreLevels = intArray(values.get(MetadataKeys.LORE_SOCKET_LEVELS));
+        loreFeedTiers = intArray(values.get(MetadataKeys.LORE_SOCKET_FEED_TIERS));
+        loreLocked = intArray(values.get(MetadataKeys.LORE_SOCKET_LOCKED));
+    }
+
+    /**
+     * Parses serialized metadata in one pass. Never returns null.
+     */
+    static TooltipMetadataView parse(String metadata) {
+        if (metadata == null || metadata.isEmpty()) {
+            return EMPTY;
+        }
+        Tokenizer tokenizer = new Tokenizer(metadata);
+        try {
+            tokenizer.skipWhitespace();
+            tokenizer.readValue(null, 0);
+        } catch (RuntimeException ignored) {
+            // Malformed tail; keep the keys read so far.
+        }
+        return tokenizer.values.isEmpty() ? EMPTY : new TooltipMetadataView(tokenizer.values);
+    }
+
+    /** Number of serialized essence socket slots (entries in the Values array). */
+    int socketFilled() {
+        return socketEntries.length;
+    }
+
+    double softcoreStatMultiplier(double fallback) {
+        return Double.isNaN(softcoreStatMultiplier) ? fallback : softcoreStatMultiplier;
+    }
+
+    double smithyBreakMultiplier(double fallback) {
+        return Double.isNaN(smithyBreakMultiplier) ? fallback : smithyBreakMultiplier;
+    }
+
+    double smithyDegradeMultiplier(double fallback) {
+        return Double.isNaN(smithyDegradeMultiplier) ? fallback : smithyDegradeMultiplier;
+    }
+
+    double smithySameMultiplier(double fallback) {
+        return Double.isNaN(smithySameMultiplier) ? fallback : smithySameMultiplier;
+    }
+
+    double smithyUpgradeMultiplier(double fallback) {
+        return Double.isNaN(smithyUpgradeMultiplier) ? fallback : smithyUpgradeMultiplier;
+    }
+
+    double smithyJackpotMultiplier(double fallback) {
+        return Double.isNaN(smithyJackpotMultiplier) ? fallback : smithyJackpotMultiplier;
+    }
+
+    // ── Value coercion ────────────────────────────────────────────────────────
+
+    private static String rawString(Object value) {
+        return value instanceof String s ? s : null;
+    }
+
+    private static String stringValue(Object value) {
+        if (!(value instanceof String s)) {
+            return null;
+        }
+        String trimmed = s.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof String s ? parseLeadingInt(s) : 0;
+    }
+
+    private static double doubleValue(Object value, double defaultValue) {
+        if (!(value instanceof String s)) {
+            return defaultValue;
+        }
+        try {
+            double result = Double.parseDouble(s.trim());
+            return Double.isInfinite(result) || Double.isNaN(result) ? defaultValue : result;
+        } catch (NumberFormatException ignored) {
+            return defaultValue;
+        }
+    }
+
+    private static String[] stringArray(Object value) {
+        if (!(value instanceof String[] array) || array.length == 0) {
+            return NO_STRINGS;
+        }
+        String[] result = new String[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i] == null ? "" : array[i].trim();
+        }
+        return result;
+    }
+
+    private static int[] intArray(Object value) {
+        if (!(value instanceof String[] array) || array.length == 0) {
+            return NO_INTS;
+        }
+        int[] result = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            result[i] = array[i] == null ? 0 : parseLeadingInt(array[i]);
+        }
+        return result;
+    }
+
+    /** Parses the first (optionally negative) integer run in the text, or 0 if none. */
+    private static int parseLeadingInt(String text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length && !Character.isDigit(text.charAt(i))) {
+            i++;
+        }
+        if (i >= length) {
+            return 0;
+        }
+        boolean negative = i > 0 && text.charAt(i - 1) == '-';
+        long result = 0L;
+        while (i < length && Character.isDigit(text.charAt(i))) {
+            result = result * 10L + (text.charAt(i) - '0');
+            if (result > Integer.MAX_VALUE) {
+                return 0;
+            }
+            i++;
+        }
+        return (int) (negative ? -result : result);
+    }
+
+    // ── Tokenizer ─────────────────────────────────────────────────────────────
+
+    /**
+     * Minimal JSON reader that records SocketReforge keys at any depth.
+     * Scalars are kept as their text; arrays as {@code String[]} of element text.
+     * The first occurrence of a key wins.
+     */
+    private static final class Tokenizer {
+        private final String text;
+        private final int length;
+        private final Map<String, Object> values = new HashMap<>(64);
+        private int pos;
+
+        private Tokenizer(String text) {
+            this.text = text;
+            this.length = text.length();
+        }
+
+        /**
+         * Reads one value. Returns its scalar text, a {@code String[]} for arrays, the
+         * unwrapped scalar for BSON wrapper objects, or null for other objects and null.
+         */
+        private Object readValue(String key, int depth) {
+            if (depth > MAX_DEPTH || pos >= length) {
+                throw new IllegalStateException("metadata too deep or truncated");
+            }
+            char c = text.charAt(pos);
+            Object value;
+            if (c == '"') {
+                value = readString();
+            } else if (c == '[') {
+                value = readArray(depth);
+            } else if (c == '{') {
+                value = readObject(depth);
+            } else {
+                value = readLiteral();
+            }
+            if (key != null && value != null && isTracked(key)) {
+                values.putIfAbsent(key, value);
+            }
+            return value;
+        }
+
+        private Object readObject(int depth) {
+            pos++; // '{'
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return null;
+            }
+            Object wrapped = null;
+            boolean first = true;
+            while (true) {
+                skipWhitespace();
+                String key = readString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                Object value = readValue(key, depth + 1);
+                if (first && key.startsWith("$") && value instanceof String) {
+                    wrapped = value;
+                }
+                first = false;
+                skipWhitespace();
+                char c = peek();
+                pos++;
+                if (c == '}') {
+                    return wrapped;
+                }
+                if (c != ',') {
+                    throw new IllegalStateException("expected , or }");
+                }
+            }
+        }
+
+        private String[] readArray(int depth) {
+            pos++; // '['
+            List<String> elements = new ArrayList<>();
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return NO_STRINGS;
+            }
+            while (true) {
+                skipWhitespace();
+                Object element = readValue(null, depth + 1);
+                elements.add(element instanceof String s ? s : "");
+                skipWhitespace();
+                char c = peek();
+                pos++;
+                if (c == ']') {
+                    return elements.toArray(NO_STRINGS);
+                }
+                if (c != ',') {
+                    throw new IllegalStateException("expected , or ]");
+                }
+            }
+        }
+
+        private String readString() {
+            expect('"');
+            int start = pos;
+            StringBuilder escaped = null;
+            while (pos < length) {
+                char c = text.charAt(pos);
+                if (c == '"') {
+                    String result = escaped == null
+                            ? text.substring(start, pos)
+                            : escaped.append(text, start, pos).toString();
+                    pos++;
+                    return result;
+                }
+                if (c == '\\') {
+                    if (escaped == null) {
+                        escaped = new StringBuilder();
+                    }
+                    escaped.append(text, start, pos);
+                    pos++;
+                    escaped.append(readEscape());
+                    start = pos;
+                    continue;
+                }
+                pos++;
+            }
+            throw new IllegalStateException("unterminated string");
+        }
+
+        private char readEscape() {
+            char c = text.charAt(pos++);
+            switch (c) {
+                case 'n': return '\n';
+                case 't': return '\t';
+                case 'r': return '\r';
+                case 'b': return '\b';
+                case 'f': return '\f';
+                case 'u':
+                    char decoded = (char) Integer.parseInt(text.substring(pos, pos + 4), 16);
+                    pos += 4;
+                    return decoded;
+                default: return c;
+            }
+        }
+
+        private String readLiteral() {
+            int start = pos;
+            while (pos < length) {
+                char c = text.charAt(pos);
+                if (c == ',' || c == '}' || c == ']' || Character.isWhitespace(c)) {
+                    break;
+                }
+                pos++;
+            }
+            if (pos == start) {
+                throw new IllegalStateException("expected value");
+            }
+            String literal = text.substring(start, pos);
+            return "null".equals(literal) ? null : literal;
+        }
+
+        private void skipWhitespace() {
+            while (pos < length && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private char peek() {
+            if (pos >= length) {
+                throw new IllegalStateException("truncated metadata");
+            }
+            return text.charAt(pos);
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw new IllegalStateException("expected " + expected);
+            }
+            pos++;
+        }
+
+        private static boolean isTracked(String key) {
+            return key.startsWith(KEY_PREFIX) || LEGACY_REFINEMENT_LEVEL.equals(key);
+        }
+    }
+}
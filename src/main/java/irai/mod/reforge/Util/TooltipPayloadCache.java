@@ -0,0 +1,151 @@
+package irai.mod.reforge.Util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded LRU cache for built tooltip data, keyed by a 64-bit hash of
+ * (item id, serialized metadata, language).
+ *
+ * Entries are evicted least-recently-used first once either the entry count or the
+ * estimated retained size is exceeded, so unique rolled items cannot grow it without
+ * limit. Hit, miss and eviction counts are kept for diagnostics.
+ */
+final class TooltipPayloadCache<V> {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<Long, Entry<V>> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long retainedBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    TooltipPayloadCache(int maxEntries, long maxBytes, ToLongFunction<V> weigher) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxBytes = Math.max(1L, maxBytes);
+        this.weigher = weigher;
+    }
+
+    /** FNV-1a over the three key parts, with a separator so ("ab","c") differs from ("a","bc"). */
+    static long key(String itemId, String metadata, String langCode) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, itemId);
+        hash = mix(hash, metadata);
+        hash = mix(hash, langCode);
+        return hash;
+    }
+
+    /**
+     * Key that also records whether the build saw the live stack; payloads built from a stack can
+     * widen socket counts beyond what the metadata alone says.
+     */
+    static long key(String itemId, String metadata, String langCode, boolean withItem) {
+        long hash = key(itemId, metadata, langCode);
+        hash ^= withItem ? 0x01 : 0x02;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
+    private static long mix(long hash, String part) {
+        if (part != null) {
+            for (int i = 0, n = part.length(); i < n; i++) {
+                hash ^= part.charAt(i);
+                hash *= FNV_PRIME;
+            }
+        }
+        hash ^= 0x1F;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
+    /** Returns the cached value, or null on a miss. */
+    synchronized V get(long key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.value;
+    }
+
+    synchronized void put(long key, V value) {
+        if (value == null) {
+            remove(key);
+            return;
+        }
+        long weight = Math.max(1L, weigher.applyAsLong(value));
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight));
+        if (previous != null) {
+            retainedBytes -= previous.weight;
+        }
+        retainedBytes += weight;
+        evictIfNeeded();
+    }
+
+    synchronized void remove(long key) {
+        Entry<V> previous = entries.remove(key);
+        if (previous != null) {
+            retainedBytes -= previous.weight;
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        retainedBytes = 0L;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, Entry<V>>> it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || retainedBytes > maxBytes) && it.hasNext()) {
+            retainedBytes -= it.next().getValue().weight;
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long retainedBytes() {
+        return retainedBytes;
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    long evictions() {
+        return evictions.get();
+    }
+
+    String describe() {
+        return "entries=" + size() + "/" + maxEntries
+                + " bytes=" + retainedBytes() + "/" + maxBytes
+                + " hits=" + hits() + " misses=" + misses() + " evictions=" + evictions();
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+
+        private Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package irai.mod.reforge.Util;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hypixel.hytale.server.core.inventory.container.ItemContainer;
+
+/**
+ * Per-player record of inventory slots whose native tooltip needs rebuilding.
+ *
+ * Bench writes mark single slots dirty so a refresh rebuilds only those. Full-inventory
+ * refreshes are queued as a sweep cursor that the tick system advances a few slots at a
+ * time, so a global refresh is spread over several ticks.
+ */
+final class TooltipRefreshTracker {
+
+    record DirtySlot(ItemContainer container, short slot) {}
+
+    private final Map<UUID, PlayerState> players = new ConcurrentHashMap<>();
+
+    void markDirty(UUID playerUuid, ItemContainer container, short slot) {
+        if (playerUuid == null || container == null || slot < 0) {
+            return;
+        }
+        players.computeIfAbsent(playerUuid, ignored -> new PlayerState()).markDirty(container, slot);
+    }
+
+    void requestSweep(UUID playerUuid) {
+        if (playerUuid == null) {
+            return;
+        }
+        players.computeIfAbsent(playerUuid, ignored -> new PlayerState()).requestSweep();
+    }
+
+    PlayerState get(UUID playerUuid) {
+        return playerUuid == null ? null : players.get(playerUuid);
+    }
+
+    boolean hasPending(UUID playerUuid) {
+        PlayerState state = get(playerUuid);
+        return state != null && !state.isIdle();
+    }
+
+    void removeIfIdle(UUID playerUuid, PlayerState state) {
+        if (state != null && state.isIdle()) {
+            players.remove(playerUuid, state);
+        }
+    }
+
+    void forget(UUID playerUuid) {
+        if (playerUuid != null) {
+            players.remove(playerUuid);
+        }
+    }
+
+    static final class PlayerState {
+        private final Map<ItemContainer, BitSet> dirty = new IdentityHashMap<>();
+        private boolean sweepPending;
+        private int sweepContainer;
+        private int sweepSlot;
+
+        synchronized void markDirty(ItemContainer container, short slot) {
+            dirty.computeIfAbsent(container, ignored -> new BitSet()).set(slot);
+        }
+
+        /** Starts (or restarts) a full sweep from the first container. */
+        synchronized void requestSweep() {
+            sweepPending = true;
+            sweepContainer = 0;
+            sweepSlot = 0;
+        }
+
+        synchronized boolean hasDirty() {
+            return !dirty.isEmpty();
+        }
+
+        synchronized boolean isIdle() {
+            return dirty.isEmpty() && !sweepPending;
+        }
+
+        /** Removes and returns one dirty slot, or null when none remain. */
+        synchronized DirtySlot pollDirty() {
+            Iterator<Map.Entry<ItemContainer, BitSet>> it = dirty.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<ItemContainer, BitSet> entry = it.next();
+                BitSet slots = entry.getValue();
+                int slot = slots.nextSetBit(0);
+                if (slot < 0) {
+                    it.remove();
+                    continue;
+                }
+                slots.clear(slot);
+                if (slots.isEmpty()) {
+                    it.remove();
+                }
+                return new DirtySlot(entry.getKey(), (short) slot);
+            }
+            return null;
+        }
+
+        /** Advances the sweep cursor over the given containers, or returns null once it is done. */
+        synchronized DirtySlot pollSweep(ItemContainer[] containers) {
+            if (!sweepPending) {
+                return null;
+            }
+            while (sweepContainer < containers.length) {
+                ItemContainer container = containers[sweepContainer];
+                if (container == null || sweepSlot >= container.getCapacity()) {
+                    sweepContainer++;
+                    sweepSlot = 0;
+                    continue;
+                }
+                return new DirtySlot(container, (short) sweepSlot++);
+            }
+            sweepPending = false;
+            return null;
+        }
+    }
+}